@@ -0,0 +1,69 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE file at the root of the source
+ * tree and available online at
+ *
+ * https://github.com/keeps/commons-ip
+ */
+package org.roda_project.commons_ip2.benchmarks;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.roda_project.commons_ip2.cli.model.enums.WriteStrategyEnum;
+import org.roda_project.commons_ip2.cli.utils.SIPBuilderUtils;
+import org.roda_project.commons_ip2.utils.Utils;
+
+/**
+ * Throughput of {@code EARKSIP.build} with the zip and folder write strategies.
+ * The built SIP is deleted after each invocation, which is negligible next to
+ * the build itself and keeps the disk usage bounded.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class BuildBenchmark extends SyntheticSIPState {
+  @Param({"ZIP", "FOLDER"})
+  public WriteStrategyEnum strategy;
+
+  private Path outputDir;
+
+  @Setup(Level.Trial)
+  public void setup() throws Exception {
+    generate("build-bench");
+    outputDir = Files.createDirectories(workDir.resolve("output"));
+  }
+
+  @TearDown(Level.Invocation)
+  public void deleteOutput() throws Exception {
+    Utils.deletePath(outputDir);
+    Files.createDirectories(outputDir);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    delete();
+  }
+
+  @Benchmark
+  public Path build() throws Exception {
+    return sip.buildSIP(SIPBuilderUtils.getWriteStrategy(strategy, outputDir), "sip");
+  }
+}
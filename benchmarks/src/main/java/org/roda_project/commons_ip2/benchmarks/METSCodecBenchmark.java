@@ -0,0 +1,120 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE file at the root of the source
+ * tree and available online at
+ *
+ * https://github.com/keeps/commons-ip
+ */
+package org.roda_project.commons_ip2.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.XMLConstants;
+import javax.xml.transform.stream.StreamSource;
+import javax.xml.validation.Schema;
+import javax.xml.validation.SchemaFactory;
+
+import org.glassfish.jaxb.runtime.v2.JAXBContextFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.roda_project.commons_ip2.mets_v1_12.beans.Mets;
+import org.roda_project.commons_ip2.model.IPConstants;
+import org.roda_project.commons_ip2.utils.METSUtils;
+import org.roda_project.commons_ip2.utils.ResourceResolver;
+import org.roda_project.commons_ip2.utils.Utils;
+
+import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.Marshaller;
+import jakarta.xml.bind.Unmarshaller;
+
+/**
+ * Per-METS cost of (un)marshalling a representation METS, with a new
+ * {@link JAXBContext} and compiled schema per call ({@code uncached*}, the
+ * behaviour before {@code METSCodec}) and with the shared codec
+ * ({@code codec*}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class METSCodecBenchmark {
+  private static final String SCHEMA_LOCATION = "http://www.loc.gov/METS/ ../../schemas/"
+    + IPConstants.SCHEMA_METS_FILENAME_WITH_VERSION;
+
+  @Param({"10", "1000"})
+  public int files;
+
+  private Path workDir;
+  private byte[] metsBytes;
+  private Mets mets;
+
+  @Setup(Level.Trial)
+  public void setup() throws Exception {
+    workDir = Files.createTempDirectory("mets-codec-bench");
+    Path sip = SyntheticSIP.buildFolderSIP(workDir, files, 16);
+    Path representationMets = sip.resolve(IPConstants.REPRESENTATIONS).resolve("rep1")
+      .resolve(IPConstants.METS_FILE);
+    metsBytes = Files.readAllBytes(representationMets);
+    mets = METSUtils.getCodec().unmarshal(new ByteArrayInputStream(metsBytes));
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    Utils.deletePath(workDir);
+  }
+
+  @Benchmark
+  public Mets uncachedUnmarshal() throws Exception {
+    JAXBContext context = new JAXBContextFactory().createContext(new Class[] {Mets.class}, null);
+    Unmarshaller unmarshaller = context.createUnmarshaller();
+    SchemaFactory factory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
+    factory.setResourceResolver(new ResourceResolver());
+    try (InputStream schemaStream = METSUtils.class
+      .getResourceAsStream(IPConstants.SCHEMA_METS_RELATIVE_PATH_FROM_RESOURCES)) {
+      Schema schema = factory.newSchema(new StreamSource(schemaStream));
+      unmarshaller.setSchema(schema);
+    }
+    return (Mets) unmarshaller.unmarshal(new ByteArrayInputStream(metsBytes));
+  }
+
+  @Benchmark
+  public Mets codecUnmarshal() throws Exception {
+    return METSUtils.getCodec().unmarshal(new ByteArrayInputStream(metsBytes));
+  }
+
+  @Benchmark
+  public int uncachedMarshal() throws Exception {
+    JAXBContext context = JAXBContext.newInstance(Mets.class);
+    Marshaller marshaller = context.createMarshaller();
+    marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+    marshaller.setProperty(Marshaller.JAXB_SCHEMA_LOCATION, SCHEMA_LOCATION);
+    ByteArrayOutputStream out = new ByteArrayOutputStream(metsBytes.length);
+    marshaller.marshal(mets, out);
+    return out.size();
+  }
+
+  @Benchmark
+  public int codecMarshal() throws Exception {
+    ByteArrayOutputStream out = new ByteArrayOutputStream(metsBytes.length);
+    METSUtils.getCodec().marshal(mets, out, SCHEMA_LOCATION);
+    return out.size();
+  }
+}
@@ -0,0 +1,91 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE file at the root of the source
+ * tree and available online at
+ *
+ * https://github.com/keeps/commons-ip
+ */
+package org.roda_project.commons_ip2.benchmarks;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.roda_project.commons_ip2.cli.model.enums.WriteStrategyEnum;
+import org.roda_project.commons_ip2.cli.utils.SIPBuilderUtils;
+import org.roda_project.commons_ip2.model.AIP;
+import org.roda_project.commons_ip2.model.SIP;
+import org.roda_project.commons_ip2.model.impl.BasicAIP;
+import org.roda_project.commons_ip2.model.impl.eark.EARKAIP;
+import org.roda_project.commons_ip2.model.impl.eark.EARKSIP;
+import org.roda_project.commons_ip2.utils.Utils;
+import org.roda_project.commons_ip2.utils.ZIPUtils;
+
+/**
+ * Throughput of {@code EARKSIP.parse} of a zipped SIP, extracting it and
+ * reading it directly from the zip, and of {@code EARKAIP.parse} of an AIP in
+ * folder format.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ParseBenchmark extends SyntheticSIPState {
+  private static final String VERSION = "2.2.0";
+
+  private Path sipZip;
+  private Path aipFolder;
+  private Path extractDir;
+
+  @Setup(Level.Trial)
+  public void setup() throws Exception {
+    generate("parse-bench");
+    final Path outputDir = Files.createDirectories(workDir.resolve("output"));
+    sipZip = sip.buildSIP(SIPBuilderUtils.getWriteStrategy(WriteStrategyEnum.ZIP, outputDir), "sip");
+    aipFolder = sip.buildAIP(outputDir, "aip");
+    extractDir = workDir.resolve("extracted");
+  }
+
+  @TearDown(Level.Invocation)
+  public void deleteExtracted() throws Exception {
+    if (Files.exists(extractDir)) {
+      Utils.deletePath(extractDir);
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    delete();
+  }
+
+  @Benchmark
+  public SIP parseSIP() throws Exception {
+    return new EARKSIP().parse(sipZip, Files.createDirectories(extractDir));
+  }
+
+  @Benchmark
+  public SIP parseSIPWithoutExtraction() throws Exception {
+    final SIP parsed = new EARKSIP().parseWithoutExtraction(sipZip);
+    ZIPUtils.closeIPInZipFormat(parsed.getBasePath());
+    return parsed;
+  }
+
+  @Benchmark
+  public AIP parseAIP() throws Exception {
+    return new EARKAIP(new BasicAIP(), VERSION).parse(aipFolder, VERSION);
+  }
+}
@@ -0,0 +1,59 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE file at the root of the source
+ * tree and available online at
+ *
+ * https://github.com/keeps/commons-ip
+ */
+package org.roda_project.commons_ip2.benchmarks;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.Collection;
+import java.util.Collections;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.profile.InternalProfiler;
+import org.openjdk.jmh.results.AggregationPolicy;
+import org.openjdk.jmh.results.IterationResult;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.ScalarResult;
+
+/**
+ * JMH profiler reporting, per iteration, the peak heap usage, i.e. the sum of
+ * the peak usage of every heap memory pool. The pools may peak at different
+ * moments, so it is an upper bound of the real peak, but a stable one, fit to
+ * compare runs. Enable it with
+ * {@code -prof org.roda_project.commons_ip2.benchmarks.PeakHeapProfiler}.
+ */
+public class PeakHeapProfiler implements InternalProfiler {
+  private static final double MB = 1024d * 1024d;
+
+  @Override
+  public String getDescription() {
+    return "Peak heap usage";
+  }
+
+  @Override
+  public void beforeIteration(final BenchmarkParams benchmarkParams, final IterationParams iterationParams) {
+    for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+      if (pool.getType() == MemoryType.HEAP) {
+        pool.resetPeakUsage();
+      }
+    }
+  }
+
+  @Override
+  public Collection<? extends Result> afterIteration(final BenchmarkParams benchmarkParams,
+    final IterationParams iterationParams, final IterationResult result) {
+    long peak = 0;
+    for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+      if (pool.getType() == MemoryType.HEAP && pool.getPeakUsage() != null) {
+        peak += pool.getPeakUsage().getUsed();
+      }
+    }
+    return Collections.singletonList(new ScalarResult("heap.peak", peak / MB, "MB", AggregationPolicy.MAX));
+  }
+}
@@ -0,0 +1,213 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE file at the root of the source
+ * tree and available online at
+ *
+ * https://github.com/keeps/commons-ip
+ */
+package org.roda_project.commons_ip2.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import javax.xml.datatype.DatatypeConfigurationException;
+
+import org.roda_project.commons_ip.utils.IPEnums;
+import org.roda_project.commons_ip.utils.IPException;
+import org.roda_project.commons_ip2.mets_v1_12.beans.FileType;
+import org.roda_project.commons_ip2.model.AIP;
+import org.roda_project.commons_ip2.model.IP;
+import org.roda_project.commons_ip2.model.IPConstants;
+import org.roda_project.commons_ip2.model.IPContentInformationType;
+import org.roda_project.commons_ip2.model.IPContentType;
+import org.roda_project.commons_ip2.model.IPFile;
+import org.roda_project.commons_ip2.model.IPFileShallow;
+import org.roda_project.commons_ip2.model.IPRepresentation;
+import org.roda_project.commons_ip2.model.SIP;
+import org.roda_project.commons_ip2.model.impl.BasicAIP;
+import org.roda_project.commons_ip2.model.impl.eark.EARKAIP;
+import org.roda_project.commons_ip2.model.impl.eark.EARKSIP;
+import org.roda_project.commons_ip2.model.impl.eark.out.writers.factory.FolderWriteStrategyFactory;
+import org.roda_project.commons_ip2.model.impl.eark.out.writers.strategy.WriteStrategy;
+import org.roda_project.commons_ip2.utils.Utils;
+
+/**
+ * Generates synthetic E-ARK SIPs and AIPs to be used as benchmark fixtures.
+ *
+ * <p>
+ * The random data files are written once, by {@link #generate}, and every
+ * representation of the generated IPs references the same files, so that the
+ * cost of creating a fixture doesn't grow with the number of representations.
+ * In a shallow SIP (E-ARK SIP-S) the data files are referenced by URI, with
+ * their size and checksum computed at generation time, instead of being copied
+ * into the package.
+ * </p>
+ */
+public final class SyntheticSIP {
+  private static final long SEED = 42L;
+  private static final String VERSION = "2.2.0";
+  /**
+   * Number of sibling folders at each level of the data folder tree.
+   */
+  private static final int FOLDERS_PER_LEVEL = 4;
+
+  private final List<DataFile> dataFiles;
+  private final int representations;
+  private final boolean shallow;
+
+  private SyntheticSIP(final List<DataFile> dataFiles, final int representations, final boolean shallow) {
+    this.dataFiles = dataFiles;
+    this.representations = representations;
+    this.shallow = shallow;
+  }
+
+  /**
+   * Writes {@code files} random files of {@code fileSize} bytes into
+   * {@code dataDir}, spread over a folder tree {@code folderDepth} levels deep.
+   *
+   * @param dataDir
+   *          the {@link Path} where the data files are written
+   * @param representations
+   *          the number of representations of the generated IPs
+   * @param files
+   *          the number of data files of each representation
+   * @param fileSize
+   *          the size, in bytes, of each data file
+   * @param folderDepth
+   *          the number of folders between the representation data folder and
+   *          each file
+   * @param shallow
+   *          generate SIP-S packages, referencing the data files instead of
+   *          holding them
+   * @return the {@link SyntheticSIP}
+   */
+  public static SyntheticSIP generate(final Path dataDir, final int representations, final int files,
+    final int fileSize, final int folderDepth, final boolean shallow)
+    throws IOException, NoSuchAlgorithmException, DatatypeConfigurationException {
+    final Random random = new Random(SEED);
+    final byte[] content = new byte[fileSize];
+    final List<DataFile> dataFiles = new ArrayList<>(files);
+    for (int i = 0; i < files; i++) {
+      final List<String> relativeFolders = new ArrayList<>(folderDepth);
+      int index = i;
+      for (int level = 0; level < folderDepth; level++) {
+        relativeFolders.add(String.format("folder_%d_%d", level, index % FOLDERS_PER_LEVEL));
+        index /= FOLDERS_PER_LEVEL;
+      }
+      final Path folder = dataDir.resolve(String.join("/", relativeFolders));
+      Files.createDirectories(folder);
+      final Path file = folder.resolve(String.format("file_%06d.bin", i));
+      random.nextBytes(content);
+      Files.write(file, content);
+
+      FileType fileType = null;
+      if (shallow) {
+        fileType = new FileType();
+        fileType.setMIMETYPE("application/octet-stream");
+        fileType.setSIZE((long) fileSize);
+        fileType.setCREATED(Utils.getCurrentCalendar());
+        fileType.setCHECKSUM(Utils.calculateChecksum(Files.newInputStream(file), IPConstants.CHECKSUM_ALGORITHM));
+        fileType.setCHECKSUMTYPE(IPConstants.CHECKSUM_ALGORITHM);
+      }
+      dataFiles.add(new DataFile(file, relativeFolders, fileType));
+    }
+    return new SyntheticSIP(dataFiles, representations, shallow);
+  }
+
+  /**
+   * Creates a new, not yet built, SIP.
+   *
+   * @param version
+   *          the E-ARK SIP version
+   * @return the {@link SIP}
+   */
+  public SIP newSIP(final String version) throws IPException {
+    final SIP sip = new EARKSIP("SIP_BENCH", IPContentType.getMIXED(), IPContentInformationType.getMIXED(),
+      version);
+    sip.addCreatorSoftwareAgent("RODA Commons IP", "benchmark");
+    addRepresentations(sip);
+    return sip;
+  }
+
+  /**
+   * Builds a new SIP.
+   *
+   * @param writeStrategy
+   *          the {@link WriteStrategy}
+   * @param name
+   *          the name of the SIP file or folder, without extension
+   * @return the {@link Path} of the built SIP
+   */
+  public Path buildSIP(final WriteStrategy writeStrategy, final String name)
+    throws IPException, InterruptedException {
+    return newSIP(VERSION).build(writeStrategy, name,
+      shallow ? IPEnums.SipType.EARK2S : IPEnums.SipType.EARK2);
+  }
+
+  /**
+   * Builds a new AIP in folder format. AIPs are never shallow.
+   *
+   * @param outputDir
+   *          the {@link Path} where the AIP folder is created
+   * @param name
+   *          the name of the AIP folder
+   * @return the {@link Path} of the built AIP
+   */
+  public Path buildAIP(final Path outputDir, final String name) throws IPException, InterruptedException {
+    final AIP aip = new EARKAIP(new BasicAIP("AIP_BENCH", IPContentType.getMIXED()), VERSION);
+    aip.setContentInformationType(IPContentInformationType.getMIXED());
+    for (int r = 1; r <= representations; r++) {
+      final IPRepresentation representation = new IPRepresentation("rep" + r);
+      for (DataFile dataFile : dataFiles) {
+        representation.addFile(new IPFile(dataFile.path, dataFile.relativeFolders));
+      }
+      aip.addRepresentation(representation);
+    }
+    return aip.build(new FolderWriteStrategyFactory().create(outputDir), name);
+  }
+
+  private void addRepresentations(final IP ip) throws IPException {
+    for (int r = 1; r <= representations; r++) {
+      final IPRepresentation representation = new IPRepresentation("rep" + r);
+      for (DataFile dataFile : dataFiles) {
+        if (shallow) {
+          representation.addFile(
+            new IPFileShallow(dataFile.path.toUri(), dataFile.fileType, new ArrayList<>(dataFile.relativeFolders)));
+        } else {
+          representation.addFile(new IPFile(dataFile.path, dataFile.relativeFolders));
+        }
+      }
+      ip.addRepresentation(representation);
+    }
+  }
+
+  /**
+   * Builds, in folder format, a SIP with a single representation holding
+   * {@code files} data files.
+   *
+   * @return the {@link Path} of the built SIP folder
+   */
+  static Path buildFolderSIP(Path workDir, int files, int fileSize) throws IOException, IPException,
+    InterruptedException, NoSuchAlgorithmException, DatatypeConfigurationException {
+    final SyntheticSIP sip = generate(workDir.resolve("data"), 1, files, fileSize, 0, false);
+    final Path output = Files.createDirectories(workDir.resolve("output"));
+    return sip.buildSIP(new FolderWriteStrategyFactory().create(output), null);
+  }
+
+  private static final class DataFile {
+    private final Path path;
+    private final List<String> relativeFolders;
+    private final FileType fileType;
+
+    private DataFile(final Path path, final List<String> relativeFolders, final FileType fileType) {
+      this.path = path;
+      this.relativeFolders = relativeFolders;
+      this.fileType = fileType;
+    }
+  }
+}
@@ -0,0 +1,57 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE file at the root of the source
+ * tree and available online at
+ *
+ * https://github.com/keeps/commons-ip
+ */
+package org.roda_project.commons_ip2.benchmarks;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.roda_project.commons_ip2.utils.Utils;
+
+/**
+ * Shape of the {@link SyntheticSIP} fixture, shared by the benchmarks of the
+ * build, parse and validate paths. Every parameter can be overridden from the
+ * command line, e.g. {@code -p files=10000 -p fileSize=1048576}.
+ */
+@State(Scope.Benchmark)
+public abstract class SyntheticSIPState {
+  @Param({"1"})
+  public int representations;
+
+  @Param({"10", "1000"})
+  public int files;
+
+  @Param({"1024"})
+  public int fileSize;
+
+  @Param({"0", "3"})
+  public int folderDepth;
+
+  @Param({"false"})
+  public boolean shallow;
+
+  protected Path workDir;
+  protected SyntheticSIP sip;
+
+  /**
+   * Creates the work directory and writes the data files of the fixture.
+   */
+  protected void generate(final String prefix) throws Exception {
+    workDir = Files.createTempDirectory(prefix);
+    sip = SyntheticSIP.generate(workDir.resolve("data"), representations, files, fileSize, folderDepth, shallow);
+  }
+
+  /**
+   * Deletes the work directory.
+   */
+  protected void delete() throws Exception {
+    Utils.deletePath(workDir);
+  }
+}
@@ -0,0 +1,67 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE file at the root of the source
+ * tree and available online at
+ *
+ * https://github.com/keeps/commons-ip
+ */
+package org.roda_project.commons_ip2.benchmarks;
+
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.roda_project.commons_ip2.cli.model.enums.WriteStrategyEnum;
+import org.roda_project.commons_ip2.cli.utils.SIPBuilderUtils;
+import org.roda_project.commons_ip2.validator.EARKSIPValidator;
+import org.roda_project.commons_ip2.validator.reporter.ValidationReportOutputJson;
+
+/**
+ * Throughput of {@code EARKSIPValidator.validate} of a zipped SIP against each
+ * supported E-ARK CSIP version. The report is written to a null stream, so
+ * only its generation is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ValidateBenchmark extends SyntheticSIPState {
+  @Param({"2.0.4", "2.1.0", "2.2.0"})
+  public String version;
+
+  private Path sipZip;
+
+  @Setup(Level.Trial)
+  public void setup() throws Exception {
+    generate("validate-bench");
+    final Path outputDir = Files.createDirectories(workDir.resolve("output"));
+    sipZip = sip.buildSIP(SIPBuilderUtils.getWriteStrategy(WriteStrategyEnum.ZIP, outputDir), "sip");
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    delete();
+  }
+
+  @Benchmark
+  public boolean validate() throws Exception {
+    final ValidationReportOutputJson report = new ValidationReportOutputJson(sipZip, OutputStream.nullOutputStream());
+    return new EARKSIPValidator(report, version).validate(version);
+  }
+}
@@ -31,6 +31,7 @@ import org.roda_project.commons_ip.model.IPRepresentation;
 import org.roda_project.commons_ip.model.ParseException;
 import org.roda_project.commons_ip.model.SIP;
 import org.roda_project.commons_ip.model.impl.ModelUtils;
+import org.roda_project.commons_ip.utils.BuildContext;
 import org.roda_project.commons_ip.utils.IPException;
 import org.roda_project.commons_ip.utils.Utils;
 import org.roda_project.commons_ip.utils.ZIPUtils;
@@ -139,10 +140,10 @@ public class BagitSIP extends SIP {
   @Override
   public Path build(final Path destinationDirectory, final String fileNameWithoutExtension, final boolean onlyManifest)
     throws IPException, InterruptedException {
-    IPConstants.METS_ENCODE_AND_DECODE_HREF = true;
     Path buildDir = ModelUtils.createBuildDir(SIP_TEMP_DIR);
     Path zipPath = getZipPath(destinationDirectory, fileNameWithoutExtension);
 
+    BuildContext context = BuildContext.open(true);
     try {
       Map<String, ZipEntryInfo> zipEntries = getZipEntries();
 
@@ -174,6 +175,7 @@ public class BagitSIP extends SIP {
     } catch (IOException | NoSuchAlgorithmException e) {
       throw new IPException("Could not make bag in place", e);
     } finally {
+      context.close();
       ModelUtils.deleteBuildDir(buildDir);
     }
 
@@ -232,12 +234,12 @@ public class BagitSIP extends SIP {
   }
 
   private static SIP parseBagit(final Path source, final Path destinationDirectory) throws ParseException {
-    IPConstants.METS_ENCODE_AND_DECODE_HREF = true;
     SIP sip = new BagitSIP();
 
     Path sipPath = BagitUtils.extractBagitIPIfInZipFormat(source, destinationDirectory);
     sip.setBasePath(sipPath);
 
+    BuildContext context = BuildContext.open(true);
     try (BagVerifier verifier = new BagVerifier()) {
       BagReader reader = new BagReader();
       Bag bag = reader.read(sipPath);
@@ -306,6 +308,8 @@ public class BagitSIP extends SIP {
       | UnsupportedAlgorithmException | CorruptChecksumException | MaliciousPathException
       | MissingPayloadDirectoryException e) {
       throw new ParseException("Error validating bagit SIP", e);
+    } finally {
+      context.close();
     }
   }
 
@@ -24,6 +24,7 @@ import org.roda_project.commons_ip.model.MetsWrapper;
 import org.roda_project.commons_ip.model.ParseException;
 import org.roda_project.commons_ip.model.SIP;
 import org.roda_project.commons_ip.model.impl.ModelUtils;
+import org.roda_project.commons_ip.utils.BuildContext;
 import org.roda_project.commons_ip.utils.IPException;
 import org.roda_project.commons_ip.utils.METSUtils;
 import org.roda_project.commons_ip.utils.ZIPUtils;
@@ -117,9 +118,9 @@ public class EARKSIP extends SIP {
   @Override
   public Path build(final Path destinationDirectory, final String fileNameWithoutExtension, final boolean onlyManifest)
     throws IPException, InterruptedException {
-    IPConstants.METS_ENCODE_AND_DECODE_HREF = true;
     Path buildDir = ModelUtils.createBuildDir(SIP_TEMP_DIR);
     Path zipPath = getZipPath(destinationDirectory, fileNameWithoutExtension);
+    BuildContext context = BuildContext.open(true);
     try {
       Map<String, ZipEntryInfo> zipEntries = getZipEntries();
 
@@ -147,6 +148,7 @@ public class EARKSIP extends SIP {
       ModelUtils.cleanUpUponInterrupt(LOGGER, zipPath);
       throw e;
     } finally {
+      context.close();
       ModelUtils.deleteBuildDir(buildDir);
     }
   }
@@ -203,8 +205,8 @@ public class EARKSIP extends SIP {
   }
 
   private static SIP parseEARKSIP(final Path source, final Path destinationDirectory) throws ParseException {
+    BuildContext context = BuildContext.open(true);
     try {
-      IPConstants.METS_ENCODE_AND_DECODE_HREF = true;
       SIP sip = new EARKSIP();
 
       Path sipPath = ZIPUtils.extractIPIfInZipFormat(source, destinationDirectory);
@@ -231,6 +233,8 @@ public class EARKSIP extends SIP {
       return sip;
     } catch (final IPException e) {
       throw new ParseException("Error parsing E-ARK SIP", e);
+    } finally {
+      context.close();
     }
   }
 
@@ -26,6 +26,7 @@ import org.roda_project.commons_ip.model.IPContentType;
 import org.roda_project.commons_ip.model.MetsWrapper;
 import org.roda_project.commons_ip.model.SIP;
 import org.roda_project.commons_ip.model.impl.ModelUtils;
+import org.roda_project.commons_ip.utils.BuildContext;
 import org.roda_project.commons_ip.utils.IPException;
 import org.roda_project.commons_ip.utils.METSZipEntryInfo;
 import org.roda_project.commons_ip.utils.ZIPUtils;
@@ -122,9 +123,9 @@ public class HungarianSIP extends SIP {
   @Override
   public Path build(final Path destinationDirectory, final String fileNameWithoutExtension, final boolean onlyManifest)
     throws IPException, InterruptedException {
-    IPConstants.METS_ENCODE_AND_DECODE_HREF = false;
     Path buildDir = ModelUtils.createBuildDir(SIP_TEMP_DIR);
     Path zipPath = getZipPath(destinationDirectory, fileNameWithoutExtension);
+    BuildContext context = BuildContext.open(false);
     try {
       Map<String, ZipEntryInfo> zipEntries = getZipEntries();
 
@@ -145,6 +146,7 @@ public class HungarianSIP extends SIP {
       ModelUtils.cleanUpUponInterrupt(LOGGER, zipPath);
       throw e;
     } finally {
+      context.close();
       ModelUtils.deleteBuildDir(buildDir);
     }
   }
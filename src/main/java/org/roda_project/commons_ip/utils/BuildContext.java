@@ -0,0 +1,87 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE file at the root of the source
+ * tree and available online at
+ *
+ * https://github.com/keeps/commons-ip
+ */
+package org.roda_project.commons_ip.utils;
+
+/**
+ * State of the build (or parse) of an IP running in the current thread, so IPs
+ * of different formats can be built concurrently in the same JVM.
+ *
+ * <p>
+ * A build opens a context when it starts and closes it when it ends, restoring
+ * the context of the enclosing build, if any. Out of any build, the global
+ * {@code METS_ENCODE_AND_DECODE_HREF} flags of the {@code IPConstants} are
+ * used, as before.
+ * </p>
+ */
+public final class BuildContext implements AutoCloseable {
+  private static final ThreadLocal<BuildContext> CURRENT = new ThreadLocal<>();
+
+  private final boolean encodeAndDecodeHref;
+  private final BuildContext enclosing;
+  private boolean closed;
+
+  private BuildContext(final boolean encodeAndDecodeHref, final BuildContext enclosing) {
+    this.encodeAndDecodeHref = encodeAndDecodeHref;
+    this.enclosing = enclosing;
+  }
+
+  /**
+   * Opens a context in the current thread.
+   *
+   * @param encodeAndDecodeHref
+   *          whether the METS {@code xlink:href}s are encoded and decoded, see
+   *          {@code METSUtils.encodeHref} and {@code METSUtils.decodeHref}
+   * @return the {@link BuildContext}, to be closed by the build.
+   */
+  public static BuildContext open(final boolean encodeAndDecodeHref) {
+    final BuildContext context = new BuildContext(encodeAndDecodeHref, CURRENT.get());
+    CURRENT.set(context);
+    return context;
+  }
+
+  /**
+   * Get the context of the build running in the current thread.
+   *
+   * @return the {@link BuildContext} or {@code null} if no build is running.
+   */
+  public static BuildContext current() {
+    return CURRENT.get();
+  }
+
+  /**
+   * Check if the METS {@code xlink:href}s are encoded and decoded in the current
+   * thread.
+   *
+   * @param globalValue
+   *          the value used out of any build
+   * @return the value of the running build or {@code globalValue}.
+   */
+  public static boolean isEncodeAndDecodeHref(final boolean globalValue) {
+    final BuildContext context = CURRENT.get();
+    return context != null ? context.encodeAndDecodeHref : globalValue;
+  }
+
+  public boolean getEncodeAndDecodeHref() {
+    return encodeAndDecodeHref;
+  }
+
+  @Override
+  public void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    if (CURRENT.get() == this) {
+      if (enclosing != null) {
+        CURRENT.set(enclosing);
+      } else {
+        CURRENT.remove();
+      }
+    }
+  }
+}
@@ -0,0 +1,387 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE file at the root of the source
+ * tree and available online at
+ *
+ * https://github.com/keeps/commons-ip
+ */
+package org.roda_project.commons_ip.utils;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Supplier;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParser;
+import javax.xml.parsers.SAXParserFactory;
+import javax.xml.transform.sax.SAXSource;
+import javax.xml.transform.stream.StreamSource;
+import javax.xml.validation.Schema;
+import javax.xml.validation.SchemaFactory;
+
+import org.glassfish.jaxb.runtime.v2.JAXBContextFactory;
+import org.w3c.dom.ls.LSResourceResolver;
+import org.xml.sax.Attributes;
+import org.xml.sax.ContentHandler;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.XMLFilterImpl;
+
+import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.JAXBException;
+import jakarta.xml.bind.Marshaller;
+import jakarta.xml.bind.Unmarshaller;
+
+/**
+ * Thread-safe marshaller/unmarshaller of a METS version.
+ *
+ * <p>
+ * Creating a {@link JAXBContext} and compiling the METS schema (and the schemas
+ * it imports) is far more expensive than the (un)marshalling of a typical METS
+ * file, so a codec holds a single context and a single compiled {@link Schema},
+ * which are both thread-safe, and pools the {@link Marshaller}s and
+ * {@link Unmarshaller}s created from them, which are not. Use one codec per METS
+ * version, see {@code METSUtils.getCodec()}.
+ * </p>
+ *
+ * @param <T>
+ *          the METS root element class
+ */
+public final class METSCodec<T> {
+  private final Class<T> metsClass;
+  private final String schemaResource;
+  private final Supplier<LSResourceResolver> resourceResolver;
+
+  private volatile JAXBContext context;
+  private volatile Schema schema;
+
+  private final Queue<Unmarshaller> validatingUnmarshallers = new ConcurrentLinkedQueue<>();
+  private final Queue<Marshaller> marshallers = new ConcurrentLinkedQueue<>();
+  private final Queue<SAXParser> parsers = new ConcurrentLinkedQueue<>();
+  private final SAXParserFactory parserFactory;
+
+  /**
+   * Creates a codec. The context and the schema are only created when first
+   * needed.
+   *
+   * @param metsClass
+   *          the METS root element class
+   * @param schemaResource
+   *          the classpath location of the METS schema
+   * @param resourceResolver
+   *          supplier of the resolver of the schemas imported by the METS schema
+   */
+  public METSCodec(final Class<T> metsClass, final String schemaResource,
+    final Supplier<LSResourceResolver> resourceResolver) {
+    this.metsClass = metsClass;
+    this.schemaResource = schemaResource;
+    this.resourceResolver = resourceResolver;
+    this.parserFactory = SAXParserFactory.newInstance();
+    this.parserFactory.setNamespaceAware(true);
+    try {
+      this.parserFactory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+    } catch (ParserConfigurationException | SAXException e) {
+      // the parser doesn't support secure processing, nothing else to do
+    }
+  }
+
+  /**
+   * Get the shared {@link JAXBContext}.
+   *
+   * @return the {@link JAXBContext}
+   * @throws JAXBException
+   *           if the context can't be created
+   */
+  public JAXBContext getContext() throws JAXBException {
+    JAXBContext result = context;
+    if (result == null) {
+      synchronized (this) {
+        result = context;
+        if (result == null) {
+          result = new JAXBContextFactory().createContext(new Class[] {metsClass}, null);
+          context = result;
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Get the shared compiled METS {@link Schema}.
+   *
+   * @return the {@link Schema}
+   * @throws SAXException
+   *           if the schema can't be compiled
+   */
+  public Schema getSchema() throws SAXException {
+    Schema result = schema;
+    if (result == null) {
+      synchronized (this) {
+        result = schema;
+        if (result == null) {
+          final SchemaFactory factory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
+          factory.setResourceResolver(resourceResolver.get());
+          try (InputStream schemaStream = METSCodec.class.getResourceAsStream(schemaResource)) {
+            result = factory.newSchema(new StreamSource(schemaStream));
+          } catch (IOException e) {
+            throw new SAXException("Unable to read schema " + schemaResource, e);
+          }
+          schema = result;
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Unmarshals and validates against the METS schema.
+   *
+   * @param stream
+   *          the {@link InputStream} of the METS file, it is not closed
+   * @return the METS object
+   * @throws JAXBException
+   *           if some unmarshalling or validation error occurs
+   * @throws SAXException
+   *           if the schema can't be compiled
+   */
+  public T unmarshal(final InputStream stream) throws JAXBException, SAXException {
+    Unmarshaller unmarshaller = validatingUnmarshallers.poll();
+    if (unmarshaller == null) {
+      unmarshaller = getContext().createUnmarshaller();
+      unmarshaller.setSchema(getSchema());
+    }
+    final T mets = metsClass.cast(unmarshaller.unmarshal(stream));
+    validatingUnmarshallers.offer(unmarshaller);
+    return mets;
+  }
+
+  /**
+   * Unmarshals and validates against the METS schema, forwarding the SAX events
+   * of the document to an observer in the same pass, so that whatever the
+   * observer collects doesn't require parsing the METS again.
+   *
+   * @param stream
+   *          the {@link InputStream} of the METS file, it is not closed
+   * @param observer
+   *          the {@link ContentHandler} notified of the start and end of the
+   *          document, of every element and of character data
+   * @return the METS object
+   * @throws JAXBException
+   *           if some unmarshalling or validation error occurs
+   * @throws SAXException
+   *           if the schema can't be compiled or the parser can't be created
+   */
+  public T unmarshal(final InputStream stream, final ContentHandler observer) throws JAXBException, SAXException {
+    SAXParser parser = parsers.poll();
+    if (parser == null) {
+      try {
+        parser = parserFactory.newSAXParser();
+      } catch (ParserConfigurationException e) {
+        throw new SAXException("Unable to create the METS parser", e);
+      }
+    }
+    Unmarshaller unmarshaller = validatingUnmarshallers.poll();
+    if (unmarshaller == null) {
+      unmarshaller = getContext().createUnmarshaller();
+      unmarshaller.setSchema(getSchema());
+    }
+    final T mets = metsClass
+      .cast(unmarshaller.unmarshal(new SAXSource(new ObservingFilter(parser.getXMLReader(), observer),
+        new InputSource(stream))));
+    validatingUnmarshallers.offer(unmarshaller);
+    parser.reset();
+    parsers.offer(parser);
+    return mets;
+  }
+
+  /**
+   * Unmarshals and validates against the METS schema.
+   *
+   * @param metsFile
+   *          the {@link Path} of the METS file
+   * @return the METS object
+   * @throws JAXBException
+   *           if some unmarshalling or validation error occurs
+   * @throws SAXException
+   *           if the schema can't be compiled
+   * @throws IOException
+   *           if the file can't be read
+   */
+  public T unmarshal(final Path metsFile) throws JAXBException, SAXException, IOException {
+    try (InputStream stream = new BufferedInputStream(Files.newInputStream(metsFile.toAbsolutePath()))) {
+      return unmarshal(stream);
+    }
+  }
+
+  /**
+   * Marshals with formatted output.
+   *
+   * @param mets
+   *          the METS object
+   * @param outputStream
+   *          the {@link OutputStream}, it is not closed
+   * @param schemaLocation
+   *          the value of {@code xsi:schemaLocation}
+   * @throws JAXBException
+   *           if some marshalling error occurs
+   */
+  public void marshal(final T mets, final OutputStream outputStream, final String schemaLocation)
+    throws JAXBException {
+    Marshaller marshaller = marshallers.poll();
+    if (marshaller == null) {
+      marshaller = getContext().createMarshaller();
+      marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+    }
+    marshaller.setProperty(Marshaller.JAXB_SCHEMA_LOCATION, schemaLocation);
+    marshaller.marshal(mets, outputStream);
+    marshallers.offer(marshaller);
+  }
+
+  /**
+   * Passes the SAX events through to the unmarshaller while also notifying an
+   * observer.
+   *
+   * <p>
+   * The values of the attributes in {@link #CANONICAL_ATTRIBUTES}, which repeat
+   * for most of the elements of large METS files (e.g. the {@code MIMETYPE} and
+   * {@code CHECKSUMTYPE} of every file), are replaced by a canonical instance per
+   * document, so the unmarshalled objects share them.
+   * </p>
+   */
+  private static final class ObservingFilter extends XMLFilterImpl {
+    private static final Set<String> CANONICAL_ATTRIBUTES = Set.of("MIMETYPE", "CHECKSUMTYPE", "LOCTYPE",
+      "OTHERLOCTYPE", "USE", "MDTYPE", "OTHERMDTYPE", "TYPE", "OTHERTYPE", "type", "ROLE", "OTHERROLE",
+      "CONTENTINFORMATIONTYPE", "OTHERCONTENTINFORMATIONTYPE");
+
+    private final ContentHandler observer;
+    private final Map<String, String> canonicalValues = new HashMap<>();
+
+    private ObservingFilter(final XMLReader parent, final ContentHandler observer) {
+      super(parent);
+      this.observer = observer;
+    }
+
+    @Override
+    public void startDocument() throws SAXException {
+      observer.startDocument();
+      super.startDocument();
+    }
+
+    @Override
+    public void endDocument() throws SAXException {
+      observer.endDocument();
+      super.endDocument();
+    }
+
+    @Override
+    public void startElement(final String uri, final String localName, final String qName, final Attributes atts)
+      throws SAXException {
+      final Attributes canonical = new CanonicalAttributes(atts, canonicalValues);
+      observer.startElement(uri, localName, qName, canonical);
+      super.startElement(uri, localName, qName, canonical);
+    }
+
+    @Override
+    public void endElement(final String uri, final String localName, final String qName) throws SAXException {
+      observer.endElement(uri, localName, qName);
+      super.endElement(uri, localName, qName);
+    }
+
+    @Override
+    public void characters(final char[] ch, final int start, final int length) throws SAXException {
+      observer.characters(ch, start, length);
+      super.characters(ch, start, length);
+    }
+  }
+
+  /**
+   * View of the {@link Attributes} of an element returning the canonical
+   * instance of the values of the {@link ObservingFilter#CANONICAL_ATTRIBUTES}.
+   */
+  private static final class CanonicalAttributes implements Attributes {
+    private final Attributes attributes;
+    private final Map<String, String> canonicalValues;
+
+    private CanonicalAttributes(final Attributes attributes, final Map<String, String> canonicalValues) {
+      this.attributes = attributes;
+      this.canonicalValues = canonicalValues;
+    }
+
+    @Override
+    public int getLength() {
+      return attributes.getLength();
+    }
+
+    @Override
+    public String getURI(final int index) {
+      return attributes.getURI(index);
+    }
+
+    @Override
+    public String getLocalName(final int index) {
+      return attributes.getLocalName(index);
+    }
+
+    @Override
+    public String getQName(final int index) {
+      return attributes.getQName(index);
+    }
+
+    @Override
+    public String getType(final int index) {
+      return attributes.getType(index);
+    }
+
+    @Override
+    public String getValue(final int index) {
+      final String value = attributes.getValue(index);
+      if (value != null && ObservingFilter.CANONICAL_ATTRIBUTES.contains(attributes.getLocalName(index))) {
+        return canonicalValues.computeIfAbsent(value, v -> v);
+      }
+      return value;
+    }
+
+    @Override
+    public int getIndex(final String uri, final String localName) {
+      return attributes.getIndex(uri, localName);
+    }
+
+    @Override
+    public int getIndex(final String qName) {
+      return attributes.getIndex(qName);
+    }
+
+    @Override
+    public String getType(final String uri, final String localName) {
+      return attributes.getType(uri, localName);
+    }
+
+    @Override
+    public String getType(final String qName) {
+      return attributes.getType(qName);
+    }
+
+    @Override
+    public String getValue(final String uri, final String localName) {
+      final int index = attributes.getIndex(uri, localName);
+      return index < 0 ? null : getValue(index);
+    }
+
+    @Override
+    public String getValue(final String qName) {
+      final int index = attributes.getIndex(qName);
+      return index < 0 ? null : getValue(index);
+    }
+  }
+}
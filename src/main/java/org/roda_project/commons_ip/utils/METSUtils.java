@@ -8,7 +8,6 @@
 package org.roda_project.commons_ip.utils;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
@@ -17,12 +16,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Map;
 
-import javax.xml.XMLConstants;
 import javax.xml.datatype.DatatypeConfigurationException;
-import javax.xml.transform.Source;
-import javax.xml.transform.stream.StreamSource;
-import javax.xml.validation.Schema;
-import javax.xml.validation.SchemaFactory;
 
 import org.roda_project.commons_ip.mets_v1_11.beans.FileType;
 import org.roda_project.commons_ip.mets_v1_11.beans.FileType.FLocat;
@@ -36,10 +30,7 @@ import org.roda_project.commons_ip.utils.METSEnums.LocType;
 import org.slf4j.Logger;
 import org.xml.sax.SAXException;
 
-import jakarta.xml.bind.JAXBContext;
 import jakarta.xml.bind.JAXBException;
-import jakarta.xml.bind.Marshaller;
-import jakarta.xml.bind.Unmarshaller;
 
 public final class METSUtils {
 
@@ -47,34 +38,38 @@ public final class METSUtils {
     // do nothing
   }
 
+  private static final METSCodec<Mets> CODEC = new METSCodec<>(Mets.class, "/schemas/mets1_11.xsd",
+    ResourceResolver::new);
+
+  /**
+   * Get the shared {@link METSCodec} of METS 1.11.
+   *
+   * @return the {@link METSCodec}
+   */
+  public static METSCodec<Mets> getCodec() {
+    return CODEC;
+  }
+
   public static Mets instantiateMETSFromFile(Path metsFile) throws JAXBException, SAXException {
-    JAXBContext jaxbContext = JAXBContext.newInstance(Mets.class);
-    Unmarshaller jaxbUnmarshaller = jaxbContext.createUnmarshaller();
-    SchemaFactory factory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
-    factory.setResourceResolver(new ResourceResolver());
-    InputStream metsSchemaInputStream = METSUtils.class.getResourceAsStream("/schemas/mets1_11.xsd");
-    Source metsSchemaSource = new StreamSource(metsSchemaInputStream);
-    Schema schema = factory.newSchema(metsSchemaSource);
-    jaxbUnmarshaller.setSchema(schema);
-    return (Mets) jaxbUnmarshaller.unmarshal(metsFile.toFile());
+    try {
+      return CODEC.unmarshal(metsFile);
+    } catch (IOException e) {
+      throw new JAXBException(e.getMessage(), e);
+    }
   }
 
   public static Path marshallMETS(Mets mets, Path tempMETSFile, boolean rootMETS)
     throws JAXBException, IOException, IPException {
-    JAXBContext context = JAXBContext.newInstance(Mets.class);
-    Marshaller m = context.createMarshaller();
-    m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
-
+    final String schemaLocation;
     if (rootMETS) {
-      m.setProperty(Marshaller.JAXB_SCHEMA_LOCATION,
-        "http://www.loc.gov/METS/ schemas/IP.xsd http://www.w3.org/1999/xlink schemas/xlink.xsd");
+      schemaLocation = "http://www.loc.gov/METS/ schemas/IP.xsd http://www.w3.org/1999/xlink schemas/xlink.xsd";
     } else {
-      m.setProperty(Marshaller.JAXB_SCHEMA_LOCATION,
-        "http://www.loc.gov/METS/ ../../schemas/IP.xsd http://www.w3.org/1999/xlink ../../schemas/xlink.xsd");
+      schemaLocation = "http://www.loc.gov/METS/ ../../schemas/IP.xsd"
+        + " http://www.w3.org/1999/xlink ../../schemas/xlink.xsd";
     }
 
     try (OutputStream metsOutputStream = Files.newOutputStream(tempMETSFile)) {
-      m.marshal(mets, metsOutputStream);
+      CODEC.marshal(mets, metsOutputStream, schemaLocation);
     }
 
     return tempMETSFile;
@@ -187,11 +182,12 @@ public final class METSUtils {
    * 20170511 hsilva: a global variable called
    * {@link IPConstants.METS_ENCODE_AND_DECODE_HREF} is used to enable/disable the
    * effective decode (done this way to avoid lots of changes in the methods that
-   * use this method)
+   * use this method), unless the current thread is running a build, which uses
+   * the value of its {@link BuildContext}
    * </p>
    */
   public static String decodeHref(String value) {
-    if (IPConstants.METS_ENCODE_AND_DECODE_HREF) {
+    if (BuildContext.isEncodeAndDecodeHref(IPConstants.METS_ENCODE_AND_DECODE_HREF)) {
       try {
         value = URLDecoder.decode(value, "UTF-8");
       } catch (NullPointerException | UnsupportedEncodingException e) {
@@ -208,12 +204,13 @@ public final class METSUtils {
    * 20170511 hsilva: a global variable called
    * {@link IPConstants.METS_ENCODE_AND_DECODE_HREF} is used to enable/disable the
    * effective encode (done this way to avoid lots of changes in the methods that
-   * use this method). This method is not multi-thread safe when using different
-   * SIP formats.
+   * use this method), unless the current thread is running a build, which uses
+   * the value of its {@link BuildContext}, so builds of different SIP formats can
+   * run concurrently.
    * </p>
    */
   public static String encodeHref(String value) {
-    if (IPConstants.METS_ENCODE_AND_DECODE_HREF) {
+    if (BuildContext.isEncodeAndDecodeHref(IPConstants.METS_ENCODE_AND_DECODE_HREF)) {
       value = escapeSpecialCharacters(value);
     }
     return value;
@@ -7,6 +7,9 @@
  */
 package org.roda_project.commons_ip.utils;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 public interface ZipEntryInfo {
@@ -15,6 +18,18 @@ public interface ZipEntryInfo {
 
   Path getFilePath();
 
+  /**
+   * Opens the content of the entry, by default the content of
+   * {@link #getFilePath()}.
+   *
+   * @return the {@link InputStream}, to be closed by the caller
+   * @throws IOException
+   *           if the content can't be read
+   */
+  default InputStream getInputStream() throws IOException {
+    return Files.newInputStream(getFilePath());
+  }
+
   void prepareEntryForZipping() throws IPException;
 
   String getChecksum();
@@ -25,4 +40,18 @@ public interface ZipEntryInfo {
 
   void setChecksumAlgorithm(String checksumAlgorithm);
 
+  /**
+   * Sets the checksum of the entry and its algorithm, also in the METS element
+   * describing the entry, if any.
+   *
+   * @param checksum
+   *          the checksum
+   * @param checksumAlgorithm
+   *          the checksum algorithm
+   */
+  default void setChecksum(String checksum, String checksumAlgorithm) {
+    setChecksum(checksum);
+    setChecksumAlgorithm(checksumAlgorithm);
+  }
+
 }
@@ -11,12 +11,15 @@ import org.roda_project.commons_ip2.cli.model.args.MetadataGroup;
 import org.roda_project.commons_ip2.cli.model.args.RepresentationGroup;
 import org.roda_project.commons_ip2.cli.model.enums.CSIPVersion;
 import org.roda_project.commons_ip2.cli.model.enums.ChecksumAlgorithm;
+import org.roda_project.commons_ip2.cli.model.enums.CompressionPolicyEnum;
 import org.roda_project.commons_ip2.cli.model.enums.WriteStrategyEnum;
 import org.roda_project.commons_ip2.cli.model.exception.CLIException;
 import org.roda_project.commons_ip2.cli.model.exception.InvalidPathException;
 import org.roda_project.commons_ip2.cli.model.exception.SIPBuilderException;
 import org.roda_project.commons_ip2.cli.utils.SIPBuilder;
+import org.roda_project.commons_ip2.cli.utils.SIPBuilderUtils;
 import org.roda_project.commons_ip2.cli.utils.CLI.CreateCommandUtils;
+import org.roda_project.commons_ip2.utils.CompressionPolicy;
 import org.roda_project.commons_ip2.utils.LogSystem;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -77,6 +80,9 @@ public class Create implements Callable<Integer> {
   @CommandLine.Option(names = {"-s", "--strategy"}, description = "Write strategy to be used (possible values: ${COMPLETION-CANDIDATES})")
   WriteStrategyEnum strategy = WriteStrategyEnum.ZIP;
 
+  @CommandLine.Option(names = {"--compression"}, description = "Compression policy of the zip entries (possible values: ${COMPLETION-CANDIDATES})")
+  CompressionPolicyEnum compression = CompressionPolicyEnum.DEFLATE;
+
   @Override
   public Integer call() throws CLIException, InvalidPathException, SIPBuilderException, InterruptedException {
     if (!CreateCommandUtils.validateRepresentationDataPaths(representationListArgs)) {
@@ -104,13 +110,22 @@ public class Create implements Callable<Integer> {
     LogSystem.logOperatingSystemInfo();
     LOGGER.debug("command executed: {}", commandLineString);
 
+    final CompressionPolicy compressionPolicy = SIPBuilderUtils.getCompressionPolicy(compression);
     final Path sipPath = new SIPBuilder().setMetadataArgs(metadataListArgs).setOverride(overrideSchema)
       .setRepresentationArgs(representationListArgs).setTargetOnly(targetOnly).setSipId(sipId).setAncestors(ancestors)
       .setDocumentation(documentation).setSoftwareVersion(getClass().getPackage().getImplementationVersion())
       .setPath(path).setSubmitterAgentId(submitterAgentId).setSubmitterAgentName(submitterAgentName)
-      .setChecksum(checksumAlgorithm).setVersion(version).setWriteStrategy(strategy).build();
-
-    new CommandLine(this).getOut().printf("E-ARK SIP created at '%s'%n", sipPath.normalize().toAbsolutePath());
+      .setChecksum(checksumAlgorithm).setVersion(version).setWriteStrategy(strategy)
+      .setCompressionPolicy(compressionPolicy).build();
+
+    cmd.getOut().printf("E-ARK SIP created at '%s'%n", sipPath.normalize().toAbsolutePath());
+    if (strategy == WriteStrategyEnum.ZIP) {
+      for (CompressionPolicy.Statistics statistics : compressionPolicy.getStatistics().values()) {
+        if (statistics.getEntries() > 0) {
+          cmd.getOut().printf("%s%n", statistics);
+        }
+      }
+    }
 
     return EXIT_CODE_OK;
   }
@@ -5,8 +5,16 @@ import java.io.OutputStream;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import javax.xml.parsers.ParserConfigurationException;
 
@@ -16,8 +24,10 @@ import org.roda_project.commons_ip2.cli.model.exception.CLIException;
 import org.roda_project.commons_ip2.cli.model.exception.ValidationException;
 import org.roda_project.commons_ip2.cli.utils.CLI.ValidateCommandUtils;
 import org.roda_project.commons_ip2.utils.LogSystem;
+import org.roda_project.commons_ip2.utils.Utils;
 import org.roda_project.commons_ip2.validator.EARKPyIPValidator;
 import org.roda_project.commons_ip2.validator.EARKSIPValidator;
+import org.roda_project.commons_ip2.validator.ValidatorComponents;
 import org.roda_project.commons_ip2.validator.observer.ProgressValidationLoggerObserver;
 import org.roda_project.commons_ip2.validator.reporter.ValidationReportOutputJSONPyIP;
 import org.roda_project.commons_ip2.validator.reporter.ValidationReportOutputJson;
@@ -60,41 +70,116 @@ public class Validate implements Callable<Integer> {
   @CommandLine.Option(names = {"--specification-version"}, description = "E-ARK CSIP version")
   String version = "2.2.0";
 
+  @CommandLine.Option(names = {"-t",
+    "--threads"}, paramLabel = "<n>", description = "Number of packages validated concurrently")
+  int threads = 1;
+
+  @CommandLine.Option(names = {
+    "--virtual-threads"}, description = "Validate each package in its own virtual thread (requires Java 21 or later)")
+  boolean virtualThreads;
+
+  @CommandLine.Option(names = {"--extra-checksums"}, split = ",", paramLabel = "<algorithm>",
+    description = "Extra checksum algorithms (e.g. SHA-512,MD5) computed while verifying the checksums and written to the report")
+  Set<String> extraChecksumAlgorithms = new TreeSet<>();
+
+  /**
+   * Components not in use by any ongoing validation, so that each worker reuses
+   * them instead of building them again for every package.
+   */
+  private final Queue<ValidatorComponents> idleComponents = new ConcurrentLinkedQueue<>();
+
   @Override
   public Integer call() throws ValidationException, CLIException {
+    LogSystem.logOperatingSystemInfo();
+    final long start = System.currentTimeMillis();
+    final List<Path> paths = new ArrayList<>(sipPaths.size());
     for (String sip : sipPaths) {
+      paths.add(Paths.get(sip));
+    }
+    final List<Path> reportPaths = ValidateCommandUtils.obtainReportPaths(paths, reportPathDir);
+    int valid = 0;
+    if (threads < 2 && !virtualThreads) {
+      for (int i = 0; i < paths.size(); i++) {
+        if (validateSip(paths.get(i), reportPaths.get(i))) {
+          valid++;
+        }
+      }
+    } else {
+      final ExecutorService executor = createExecutor();
       try {
-        handleSipValidation(sip, reportPathDir, reportType, verbose);
-      } catch (IOException e) {
-        throw new ValidationException("Unable to create necessary files to start validation");
-      } catch (ParserConfigurationException | SAXException | NoSuchAlgorithmException e) {
-        throw new ValidationException("Failed to validate");
+        final List<Future<Boolean>> futures = new ArrayList<>(paths.size());
+        for (int i = 0; i < paths.size(); i++) {
+          final Path sipPath = paths.get(i);
+          final Path reportPath = reportPaths.get(i);
+          futures.add(executor.submit(() -> validateSip(sipPath, reportPath)));
+        }
+        for (Future<Boolean> future : futures) {
+          if (await(future)) {
+            valid++;
+          }
+        }
+      } finally {
+        executor.shutdownNow();
       }
     }
 
+    if (sipPaths.size() > 1) {
+      spec.commandLine().getOut().printf("Validated %d packages in %d ms: %d valid, %d invalid%n", sipPaths.size(),
+        System.currentTimeMillis() - start, valid, sipPaths.size() - valid);
+    }
     return ExitCodes.EXIT_CODE_OK;
   }
 
-  private void handleSipValidation(final String sip, final String reportPathDir, final ReportTypeEnums.ReportType reportType,
-    final boolean verbose)
-    throws IOException, ParserConfigurationException, SAXException, CLIException, NoSuchAlgorithmException {
-    final Path sipPath = Paths.get(sip);
+  private boolean validateSip(final Path sipPath, final Path reportPath) throws ValidationException, CLIException {
+    try {
+      return handleSipValidation(sipPath, reportPath, reportType, verbose);
+    } catch (IOException e) {
+      throw new ValidationException("Unable to create necessary files to start validation");
+    } catch (ParserConfigurationException | SAXException | NoSuchAlgorithmException e) {
+      throw new ValidationException("Failed to validate");
+    }
+  }
+
+  private static boolean await(final Future<Boolean> future) throws ValidationException, CLIException {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ValidationException("Interrupted while validating");
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof ValidationException cause) {
+        throw cause;
+      } else if (e.getCause() instanceof CLIException cause) {
+        throw cause;
+      }
+      throw new ValidationException("Failed to validate");
+    }
+  }
+
+  private ExecutorService createExecutor() {
+    return Utils.newExecutor("package-validator", threads, virtualThreads);
+  }
 
-    Path reportPath = ValidateCommandUtils.obtainReportPath(sipPath, reportPathDir);
+  private boolean handleSipValidation(final Path sipPath, final Path reportPath,
+    final ReportTypeEnums.ReportType reportType, final boolean verbose)
+    throws IOException, ParserConfigurationException, SAXException, CLIException, NoSuchAlgorithmException {
     CommandLine cmd = spec.commandLine();
     String commandLineString = String.join(" ", cmd.getParseResult().originalArgs());
 
-    LogSystem.logOperatingSystemInfo();
     LOGGER.debug("command executed: {}", commandLineString);
+    boolean valid = false;
     if (reportType.equals(COMMONS_IP)) {
       final OutputStream outputStream = ValidateCommandUtils.createReportOutputStream(reportPath);
       if (outputStream != null) {
         final ValidationReportOutputJson jsonReporter = new ValidationReportOutputJson(sipPath, outputStream);
-        final EARKSIPValidator earksipValidator = new EARKSIPValidator(jsonReporter, version);
-        if (verbose) {
-          earksipValidator.addObserver(new ProgressValidationLoggerObserver());
+        final ValidatorComponents components = acquireComponents();
+        try {
+          final EARKSIPValidator validator = new EARKSIPValidator(jsonReporter, components);
+          validator.setExtraChecksumAlgorithms(extraChecksumAlgorithms);
+          valid = validator.validate(version);
+        } finally {
+          idleComponents.offer(components);
         }
-        earksipValidator.validate(version);
       }
     } else if (reportType.equals(PYIP)) {
       final ValidationReportOutputJSONPyIP jsonReporter = new ValidationReportOutputJSONPyIP(reportPath, sipPath);
@@ -102,11 +187,23 @@ public class Validate implements Callable<Integer> {
       if (verbose) {
         earkPyIPValidator.addObserver(new ProgressValidationLoggerObserver());
       }
-      earkPyIPValidator.validate();
+      valid = earkPyIPValidator.validate();
     } else {
       throw new CLIException("Unexpected value: " + reportType);
     }
-    new CommandLine(this).getOut().printf("E-ARK SIP validation report at '%s'%n",
+    spec.commandLine().getOut().printf("E-ARK SIP validation report at '%s'%n",
       reportPath.normalize().toAbsolutePath());
+    return valid;
+  }
+
+  private ValidatorComponents acquireComponents() throws IOException, ParserConfigurationException, SAXException {
+    ValidatorComponents components = idleComponents.poll();
+    if (components == null) {
+      components = ValidatorComponents.forVersion(version);
+      if (verbose) {
+        components.addObserver(new ProgressValidationLoggerObserver());
+      }
+    }
+    return components;
   }
 }
@@ -0,0 +1,19 @@
+package org.roda_project.commons_ip2.cli.model.enums;
+
+/**
+ * Compression policies of the zip write strategy.
+ */
+public enum CompressionPolicyEnum {
+  DEFLATE("Deflate"), ADAPTIVE("Adaptive"), STORE("Store");
+
+  private final String type;
+
+  CompressionPolicyEnum(String type) {
+    this.type = type;
+  }
+
+  @Override
+  public String toString() {
+    return type;
+  }
+}
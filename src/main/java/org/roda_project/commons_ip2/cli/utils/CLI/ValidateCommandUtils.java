@@ -12,6 +12,10 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 /**
  * @author Miguel Guimarães <mguimaraes@keep.pt>
@@ -35,6 +39,34 @@ public final class ValidateCommandUtils {
     return reportPath;
   }
 
+  /**
+   * Obtains the report path of each IP, see
+   * {@link #obtainReportPath(Path, String)}. The reports of IPs with the same
+   * file name get a counter in their name, so IPs validated concurrently never
+   * write the same report.
+   *
+   * @param sipPaths
+   *          the {@link List} of IP paths
+   * @param reportPathDir
+   *          the directory of the reports
+   * @return the {@link List} of report paths, in the same order as the IPs.
+   */
+  public static List<Path> obtainReportPaths(final List<Path> sipPaths, final String reportPathDir) {
+    final List<Path> reportPaths = new ArrayList<>(sipPaths.size());
+    final Set<Path> usedPaths = new HashSet<>();
+    for (Path sipPath : sipPaths) {
+      final Path firstPath = obtainReportPath(sipPath, reportPathDir);
+      final String name = firstPath.getFileName().toString();
+      final String prefix = name.substring(0, name.length() - ".json".length());
+      Path reportPath = firstPath;
+      for (int counter = 2; !usedPaths.add(reportPath.normalize().toAbsolutePath()); counter++) {
+        reportPath = firstPath.resolveSibling(prefix + "_" + counter + ".json");
+      }
+      reportPaths.add(reportPath);
+    }
+    return reportPaths;
+  }
+
   public static OutputStream createReportOutputStream(final Path reportPath) throws IOException {
     final Path outputFile = createReportFile(reportPath);
     OutputStream outputStream = null;
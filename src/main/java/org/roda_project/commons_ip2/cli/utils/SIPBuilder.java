@@ -19,6 +19,7 @@ import org.roda_project.commons_ip2.model.IPContentType;
 import org.roda_project.commons_ip2.model.SIP;
 import org.roda_project.commons_ip2.model.impl.eark.EARKSIP;
 import org.roda_project.commons_ip2.model.impl.eark.out.writers.strategy.WriteStrategy;
+import org.roda_project.commons_ip2.utils.CompressionPolicy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -44,6 +45,7 @@ public class SIPBuilder {
   private boolean overrideSchema;
 
   private WriteStrategyEnum writeStrategyEnum;
+  private CompressionPolicy compressionPolicy;
 
   public SIPBuilder() {
     // Empty Constructor
@@ -119,6 +121,11 @@ public class SIPBuilder {
     return this;
   }
 
+  public SIPBuilder setCompressionPolicy(CompressionPolicy compressionPolicy) {
+    this.compressionPolicy = compressionPolicy;
+    return this;
+  }
+
   public Path build() throws SIPBuilderException, InterruptedException {
     final SIP sip = new EARKSIP(SIPBuilderUtils.getOrGenerateID(this.sipId), IPContentType.getMIXED(),
       IPContentInformationType.getMIXED(), version.toString());
@@ -176,7 +183,8 @@ public class SIPBuilder {
     }
 
     try {
-      WriteStrategy writeStrategy = SIPBuilderUtils.getWriteStrategy(writeStrategyEnum, buildPath);
+      WriteStrategy writeStrategy = SIPBuilderUtils.getWriteStrategy(writeStrategyEnum, buildPath,
+        compressionPolicy);
       return sip.build(writeStrategy);
     } catch (IPException e) {
       LOGGER.debug("Unable to create the E-ARK SIP", e);
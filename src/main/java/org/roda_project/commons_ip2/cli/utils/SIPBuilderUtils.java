@@ -10,10 +10,12 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Stream;
+import java.util.zip.Deflater;
 
 import org.roda_project.commons_ip.utils.IPException;
 import org.roda_project.commons_ip2.cli.model.args.MetadataGroup;
 import org.roda_project.commons_ip2.cli.model.args.RepresentationGroup;
+import org.roda_project.commons_ip2.cli.model.enums.CompressionPolicyEnum;
 import org.roda_project.commons_ip2.cli.model.enums.WriteStrategyEnum;
 import org.roda_project.commons_ip2.model.IPContentType;
 import org.roda_project.commons_ip2.model.IPDescriptiveMetadata;
@@ -24,6 +26,8 @@ import org.roda_project.commons_ip2.model.SIP;
 import org.roda_project.commons_ip2.model.impl.eark.out.writers.factory.FolderWriteStrategyFactory;
 import org.roda_project.commons_ip2.model.impl.eark.out.writers.factory.ZipWriteStrategyFactory;
 import org.roda_project.commons_ip2.model.impl.eark.out.writers.strategy.WriteStrategy;
+import org.roda_project.commons_ip2.model.impl.eark.out.writers.strategy.ZipWriteStrategy;
+import org.roda_project.commons_ip2.utils.CompressionPolicy;
 import org.roda_project.commons_ip2.utils.Utils;
 
 /**
@@ -207,9 +211,15 @@ public class SIPBuilderUtils {
   }
 
   public static WriteStrategy getWriteStrategy(WriteStrategyEnum writeStrategyEnum, Path buildPath) {
+    return getWriteStrategy(writeStrategyEnum, buildPath, null);
+  }
+
+  public static WriteStrategy getWriteStrategy(WriteStrategyEnum writeStrategyEnum, Path buildPath,
+    CompressionPolicy compressionPolicy) {
     switch (writeStrategyEnum) {
       case ZIP -> {
-        ZipWriteStrategyFactory zipWriteStrategyFactory = new ZipWriteStrategyFactory();
+        ZipWriteStrategyFactory zipWriteStrategyFactory = compressionPolicy == null ? new ZipWriteStrategyFactory()
+          : new ZipWriteStrategyFactory(Integer.getInteger(ZipWriteStrategy.THREADS_PROPERTY, 1), compressionPolicy);
         return zipWriteStrategyFactory.create(buildPath);
       }
       case FOLDER -> {
@@ -222,6 +232,20 @@ public class SIPBuilderUtils {
     }
   }
 
+  public static CompressionPolicy getCompressionPolicy(CompressionPolicyEnum compressionPolicyEnum) {
+    switch (compressionPolicyEnum) {
+      case ADAPTIVE -> {
+        return CompressionPolicy.adaptive();
+      }
+      case STORE -> {
+        return CompressionPolicy.store();
+      }
+      default -> {
+        return CompressionPolicy.deflate(Deflater.DEFAULT_COMPRESSION);
+      }
+    }
+  }
+
   private SIPBuilderUtils() {
   }
 }
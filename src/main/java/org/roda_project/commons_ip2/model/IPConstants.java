@@ -111,8 +111,8 @@ public final class IPConstants {
   public static final String HUNGARIAN_METADATA_FILE = HEADER_FOLDER + "/" + METADATA_FILE;
   public static final String HUNGARIAN_DOCUMENTATION_TAG = "documentation";
 
-  // FIXME 20190625 hsilva: this "fix" might introduce strange behaviors in
-  // multi-threaded/multi-package type processing
+  // only used out of builds, each build setting its own value in the
+  // BuildContext of the thread running it
   public static boolean METS_ENCODE_AND_DECODE_HREF = true;
 
   // XML SChemas
@@ -12,7 +12,9 @@ import java.io.ObjectInputStream;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 public class IPFile implements IPFileInterface {
   private static final long serialVersionUID = -8653651803476080935L;
@@ -24,6 +26,7 @@ public class IPFile implements IPFileInterface {
   private String checksum = "";
   private String checksumAlgorithm = "";
   private List<String> relatedTags;
+  private Map<String, String> extraChecksums = new LinkedHashMap<>();
 
   public IPFile() {
     super();
@@ -118,6 +121,21 @@ public class IPFile implements IPFileInterface {
     return this;
   }
 
+  /**
+   * Get the checksums computed, while parsing, with the extra checksum
+   * algorithms of the IP, in the same read as the METS declared checksum.
+   *
+   * @return {@link Map} of checksum per algorithm
+   */
+  public Map<String, String> getExtraChecksums() {
+    return extraChecksums;
+  }
+
+  public IPFileInterface setExtraChecksums(Map<String, String> extraChecksums) {
+    this.extraChecksums = extraChecksums;
+    return this;
+  }
+
   public List<String> getRelatedTags() {
     return relatedTags;
   }
@@ -130,12 +148,16 @@ public class IPFile implements IPFileInterface {
   @Override
   public String toString() {
     return "IPFile [path=" + path + ", renameTo=" + renameTo + ", relativeFolders=" + relativeFolders + ", checksum="
-      + checksum + ", checksumAlgorithm=" + checksumAlgorithm + ", relatedTags=" + relatedTags + "]";
+      + checksum + ", checksumAlgorithm=" + checksumAlgorithm + ", extraChecksums=" + extraChecksums + ", relatedTags="
+      + relatedTags + "]";
   }
 
   private void readObject(ObjectInputStream inputStream) throws IOException, ClassNotFoundException {
     inputStream.defaultReadObject();
     this.path = Paths.get(this.pathString);
+    if (this.extraChecksums == null) {
+      this.extraChecksums = new LinkedHashMap<>();
+    }
   }
 
 }
@@ -13,6 +13,7 @@ import org.roda_project.commons_ip2.mets_v1_12.beans.DivType;
 import org.roda_project.commons_ip2.mets_v1_12.beans.FileGrpType;
 import org.roda_project.commons_ip2.mets_v1_12.beans.MdSecType;
 import org.roda_project.commons_ip2.mets_v1_12.beans.Mets;
+import org.roda_project.commons_ip2.utils.METSFileRecords;
 
 public class MetsWrapper {
 
@@ -33,6 +34,7 @@ public class MetsWrapper {
   private FileGrpType submissionFileGroup;
   private FileGrpType documentationFileGroup;
   private FileGrpType dataFileGroup;
+  private METSFileRecords dataFileRecords;
 
   private MdSecType mainDmdSec;
   private MdSecType documentationDmdSec;
@@ -115,6 +117,21 @@ public class MetsWrapper {
     this.dataFileGroup = dataFileGroup;
   }
 
+  /**
+   * Get the records of the data files, kept instead of {@code FileType}s of the
+   * data file group.
+   *
+   * @return the {@link METSFileRecords} or {@code null} if the data files are
+   *         {@code FileType}s.
+   */
+  public METSFileRecords getDataFileRecords() {
+    return dataFileRecords;
+  }
+
+  public void setDataFileRecords(METSFileRecords dataFileRecords) {
+    this.dataFileRecords = dataFileRecords;
+  }
+
   public FileGrpType getMainFileGroup() {
     return mainFileGroup;
   }
@@ -0,0 +1,163 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE file at the root of the source
+ * tree and available online at
+ *
+ * https://github.com/keeps/commons-ip
+ */
+package org.roda_project.commons_ip2.model.impl;
+
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.roda_project.commons_ip.utils.IPException;
+import org.roda_project.commons_ip2.model.IPInterface;
+import org.roda_project.commons_ip2.model.impl.eark.out.writers.strategy.WriteStrategy;
+
+/**
+ * Builds whole packages (E-ARK SIPs and AIPs, BagIt and Hungarian SIPs)
+ * concurrently on a fixed thread pool.
+ *
+ * <p>
+ * Each package is built in a single thread of the pool, the state of the build
+ * (the METS {@code xlink:href} encoding policy, the METS file groups and the
+ * temporary directory) being kept by the build itself, see
+ * {@link org.roda_project.commons_ip.utils.BuildContext}. The pool size is given
+ * by the {@value #THREADS_PROPERTY} system property (defaults to the number of
+ * available processors) and at most {@value #QUEUED_BUILDS_PER_THREAD} builds per
+ * thread wait for a thread, {@code submit} blocking until there's room for the
+ * build. An IP must not be submitted again before its previous build ends.
+ * </p>
+ */
+public class IPBuildService implements AutoCloseable {
+  /**
+   * System property with the number of packages built concurrently.
+   */
+  public static final String THREADS_PROPERTY = "ipBuildThreads";
+
+  private static final int QUEUED_BUILDS_PER_THREAD = 4;
+
+  /**
+   * The build of a package.
+   */
+  @FunctionalInterface
+  public interface Build {
+    /**
+     * Builds the package.
+     *
+     * @return the {@link Path} to the package.
+     * @throws IPException
+     *           if some error occurs.
+     * @throws InterruptedException
+     *           if the build is interrupted.
+     */
+    Path build() throws IPException, InterruptedException;
+  }
+
+  private final ExecutorService executor;
+  private final Semaphore permits;
+
+  /**
+   * Creates an {@link IPBuildService} configured from the system properties.
+   */
+  public IPBuildService() {
+    this(Integer.getInteger(THREADS_PROPERTY, Runtime.getRuntime().availableProcessors()));
+  }
+
+  /**
+   * Creates an {@link IPBuildService}.
+   *
+   * @param threads
+   *          number of packages built concurrently
+   */
+  public IPBuildService(final int threads) {
+    final int poolSize = Math.max(1, threads);
+    final AtomicInteger count = new AtomicInteger();
+    this.executor = Executors.newFixedThreadPool(poolSize, r -> {
+      final Thread thread = new Thread(r, "ip-build-" + count.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+    this.permits = new Semaphore(poolSize * (1 + QUEUED_BUILDS_PER_THREAD));
+  }
+
+  /**
+   * Submits the build of a package, waiting while the pool is full.
+   *
+   * @param build
+   *          the {@link Build}
+   * @return the {@link Future} {@link Path} to the package.
+   * @throws InterruptedException
+   *           if interrupted while waiting.
+   */
+  public Future<Path> submit(final Build build) throws InterruptedException {
+    permits.acquire();
+    try {
+      return executor.submit(() -> {
+        try {
+          return build.build();
+        } finally {
+          permits.release();
+        }
+      });
+    } catch (RuntimeException e) {
+      permits.release();
+      throw e;
+    }
+  }
+
+  /**
+   * Submits the build of an E-ARK SIP or AIP.
+   *
+   * @param ip
+   *          the {@link IPInterface}
+   * @param writeStrategy
+   *          the {@link WriteStrategy}
+   * @return the {@link Future} {@link Path} to the package.
+   * @throws InterruptedException
+   *           if interrupted while waiting.
+   */
+  public Future<Path> submit(final IPInterface ip, final WriteStrategy writeStrategy) throws InterruptedException {
+    return submit(() -> ip.build(writeStrategy));
+  }
+
+  /**
+   * Submits the build of an IP of the first version of the library, e.g. a BagIt
+   * or a Hungarian SIP.
+   *
+   * @param ip
+   *          the {@link org.roda_project.commons_ip.model.IPInterface}
+   * @param destinationDirectory
+   *          the {@link Path} to the directory where the package is created
+   * @return the {@link Future} {@link Path} to the package.
+   * @throws InterruptedException
+   *           if interrupted while waiting.
+   */
+  public Future<Path> submit(final org.roda_project.commons_ip.model.IPInterface ip,
+    final Path destinationDirectory) throws InterruptedException {
+    return submit(() -> ip.build(destinationDirectory));
+  }
+
+  /**
+   * Waits for the submitted builds and stops the threads. If interrupted while
+   * waiting, the builds still running are interrupted and the interrupt status
+   * of the thread is restored.
+   */
+  @Override
+  public void close() {
+    executor.shutdown();
+    try {
+      if (!executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS)) {
+        executor.shutdownNow();
+      }
+    } catch (InterruptedException e) {
+      executor.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -26,8 +26,6 @@ import org.roda_project.commons_ip2.model.impl.AIPWrap;
 import org.roda_project.commons_ip2.model.impl.BasicAIP;
 import org.roda_project.commons_ip2.model.impl.ModelUtils;
 import org.roda_project.commons_ip2.model.impl.eark.out.writers.strategy.WriteStrategy;
-import org.roda_project.commons_ip2.utils.METSFileTypeZipEntryInfo;
-import org.roda_project.commons_ip2.utils.METSMdRefZipEntryInfo;
 import org.roda_project.commons_ip2.utils.METSUtils;
 import org.roda_project.commons_ip2.utils.METSZipEntryInfo;
 import org.roda_project.commons_ip2.utils.ZIPUtils;
@@ -43,7 +41,11 @@ public class EARKAIP extends AIPWrap {
   private static final Logger LOGGER = LoggerFactory.getLogger(EARKAIP.class);
   private static final String TEMP_DIR = "EARKAIP";
 
-  private final EARKMETSCreator metsCreator;
+  /**
+   * Version of the METS files, a new {@link EARKMETSCreator} being created for
+   * each build or parse so they can run concurrently.
+   */
+  private final String metsVersion;
 
   /**
    * Constructor.
@@ -59,8 +61,7 @@ public class EARKAIP extends AIPWrap {
     else {
       setProfile(IPConstants.AIP_SPEC_PROFILE);
     }
-    METSGeneratorFactory factory = new METSGeneratorFactory();
-    metsCreator = factory.getGenerator(version);
+    metsVersion = version;
   }
 
   public AIP parse(final Path source, String version) throws ParseException {
@@ -79,6 +80,40 @@ public class EARKAIP extends AIPWrap {
     return parseEARKAIP(source, destinationDirectory, version);
   }
 
+  /**
+   * Parses an AIP reading the METS files, metadata and data files directly from
+   * the zip archive, without extracting it. The paths of the resulting
+   * {@link org.roda_project.commons_ip2.model.IPFile}s point into the archive
+   * and are only usable while its file system is open.
+   *
+   * <p>
+   * The zip file system is left open when this method returns and the caller
+   * owns it: it must be closed, once the AIP is no longer used, with
+   * {@code ZIPUtils.closeIPInZipFormat(aip.getBasePath())}, typically in a
+   * {@code finally} block, otherwise the archive stays open (and locked, on
+   * Windows). It is only closed by this method if the parsing fails. For an AIP
+   * in folder format there's no file system to close and the call does nothing.
+   * </p>
+   *
+   * @param source
+   *          the AIP, in zip or folder format
+   * @param version
+   *          the E-ARK version
+   * @return the {@link AIP}, whose base path is in the zip file system to close
+   *         with {@link ZIPUtils#closeIPInZipFormat(Path)}
+   * @throws ParseException
+   *           if some error occurs
+   */
+  public AIP parseWithoutExtraction(final Path source, String version) throws ParseException {
+    final Path aipPath = ZIPUtils.openIPInZipFormat(source);
+    try {
+      return parseEARKAIPFromPath(aipPath, version);
+    } catch (ParseException | RuntimeException e) {
+      ZIPUtils.closeIPInZipFormat(aipPath);
+      throw e;
+    }
+  }
+
   private AIP parseEARKAIP(final Path source, final Path destinationDirectory, String version) throws ParseException {
     Path aipPath = ZIPUtils.extractIPIfInZipFormat(source, destinationDirectory);
     return parseEARKAIPFromPath(aipPath, version);
@@ -89,7 +124,7 @@ public class EARKAIP extends AIPWrap {
       final AIP aip = new EARKAIP(new BasicAIP(), version);
       aip.setBasePath(aipPath);
 
-      EARKUtils metsUtils = new EARKUtils(this.metsCreator);
+      EARKUtils metsUtils = new EARKUtils(newMetsCreator());
 
       final MetsWrapper metsWrapper = metsUtils.processMainMets(aip, aipPath);
 
@@ -148,11 +183,13 @@ public class EARKAIP extends AIPWrap {
     final Path buildDir = ModelUtils.createBuildDir(TEMP_DIR);
     Path zipPath = null;
 
+    final EARKMETSCreator metsCreator = newMetsCreator();
     EARKUtils utils = new EARKUtils(metsCreator);
 
     try {
       final Map<String, ZipEntryInfo> zipEntries = getZipEntries();
       zipPath = getDirPath(writeStrategy.getDestinationPath(), fileNameWithoutExtension, false);
+      utils.harvestFileBasicInformation(this, getSubmissions());
 
       boolean isMetadataOther = (this.getOtherMetadata() != null && !this.getOtherMetadata().isEmpty());
       boolean isMetadata = ((this.getDescriptiveMetadata() != null && !this.getDescriptiveMetadata().isEmpty())
@@ -177,6 +214,8 @@ public class EARKAIP extends AIPWrap {
       utils.addSubmissionsToZipAndMETS(zipEntries, mainMETSWrapper, getSubmissions());
 
       METSUtils.addMainMETSToZip(zipEntries, mainMETSWrapper, buildDir);
+      // the METS files are generated, the harvested information isn't needed while writing
+      utils.clearFileBasicInformation();
 
       writeToPath(zipEntries, zipPath, onlyManifest);
 
@@ -185,10 +224,15 @@ public class EARKAIP extends AIPWrap {
       ModelUtils.cleanUpUponInterrupt(LOGGER, zipPath);
       throw e;
     } finally {
+      utils.clearFileBasicInformation();
       ModelUtils.deleteBuildDir(buildDir);
     }
   }
 
+  private EARKMETSCreator newMetsCreator() {
+    return new METSGeneratorFactory().getGenerator(metsVersion);
+  }
+
   private Path getDirPath(final Path targetPath, final String name, final boolean deleteExisting) throws IPException {
     final Path path;
     if (name != null) {
@@ -220,6 +264,9 @@ public class EARKAIP extends AIPWrap {
         LOGGER.debug("Writing file {}", zipEntryInfo.getFilePath());
         final Path outputPath = Paths.get(path.toString(), zipEntryInfo.getName());
         writeFileToPath(zipEntryInfo, outputPath, onlyMets);
+        if (zipEntryInfo instanceof METSZipEntryInfo metsEntry) {
+          metsEntry.discardContent();
+        }
       }
     } catch (final IOException | NoSuchAlgorithmException e) {
       LOGGER.debug("Error in write method", e);
@@ -233,7 +280,7 @@ public class EARKAIP extends AIPWrap {
     OutputStream os = null;
     try {
 
-      is = Files.newInputStream(zipEntryInfo.getFilePath());
+      is = zipEntryInfo.getInputStream();
 
       if (!onlyMets || zipEntryInfo instanceof METSZipEntryInfo) {
         Files.createDirectories(outputPath.getParent());
@@ -255,23 +302,10 @@ public class EARKAIP extends AIPWrap {
         }
       } while (numRead != -1);
 
-      setChecksum(zipEntryInfo, DatatypeConverter.printHexBinary(complete.digest()), IPConstants.CHECKSUM_ALGORITHM);
+      zipEntryInfo.setChecksum(DatatypeConverter.printHexBinary(complete.digest()), IPConstants.CHECKSUM_ALGORITHM);
     } finally {
       IOUtils.closeQuietly(is);
       IOUtils.closeQuietly(os);
     }
   }
-
-  private void setChecksum(final ZipEntryInfo zipEntryInfo, final String checksum, final String checksumType)
-    throws IOException, NoSuchAlgorithmException {
-    zipEntryInfo.setChecksum(checksum);
-    zipEntryInfo.setChecksumAlgorithm(checksumType);
-    if (zipEntryInfo instanceof METSFileTypeZipEntryInfo f) {
-      f.getMetsFileType().setCHECKSUM(checksum);
-      f.getMetsFileType().setCHECKSUMTYPE(checksumType);
-    } else if (zipEntryInfo instanceof METSMdRefZipEntryInfo f) {
-      f.getMetsMdRef().setCHECKSUM(checksum);
-      f.getMetsMdRef().setCHECKSUMTYPE(checksumType);
-    }
-  }
 }
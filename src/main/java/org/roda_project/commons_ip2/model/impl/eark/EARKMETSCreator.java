@@ -1,9 +1,10 @@
 package org.roda_project.commons_ip2.model.impl.eark;
 
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -43,6 +44,8 @@ import org.roda_project.commons_ip2.model.IPRepresentation;
 import org.roda_project.commons_ip2.model.MetsWrapper;
 import org.roda_project.commons_ip2.model.ValidationEntry;
 import org.roda_project.commons_ip2.model.impl.ModelUtils;
+import org.roda_project.commons_ip2.utils.FileBasicInformation;
+import org.roda_project.commons_ip2.utils.METSFileRecords;
 import org.roda_project.commons_ip2.utils.METSUtils;
 import org.roda_project.commons_ip2.utils.StructMapDiv;
 import org.roda_project.commons_ip2.utils.Tree;
@@ -57,6 +60,40 @@ import jakarta.xml.bind.JAXBException;
 public abstract class EARKMETSCreator {
   private static final Logger LOGGER = LoggerFactory.getLogger(EARKMETSCreator.class);
   private final Map<String, MetsType.FileSec.FileGrp> dataFileGrp = new HashMap<>();
+  private Map<Path, FileBasicInformation> harvestedFiles = Collections.emptyMap();
+
+  /**
+   * Harvests, concurrently, the mimetype and size of the files to be added to
+   * the METS files of the IP being built, so adding them doesn't probe them one
+   * at a time. All the files share the same creation date.
+   *
+   * @param files
+   *          the {@link Path}s to the files
+   * @throws IPException
+   *           if some file can't be probed.
+   * @throws InterruptedException
+   *           if interrupted while harvesting.
+   */
+  protected void harvestFileBasicInformation(final Collection<Path> files) throws IPException, InterruptedException {
+    harvestedFiles = FileBasicInformation.harvest(files, null);
+  }
+
+  /**
+   * Discards the information harvested by
+   * {@link #harvestFileBasicInformation(Collection)}.
+   */
+  protected void clearFileBasicInformation() {
+    harvestedFiles = Collections.emptyMap();
+  }
+
+  private void setFileBasicInformation(final Path path, final FileType file) throws IPException, InterruptedException {
+    final FileBasicInformation information = harvestedFiles.get(path);
+    if (information != null) {
+      information.setIn(file);
+    } else {
+      METSUtils.setFileBasicInformation(LOGGER, path, file);
+    }
+  }
 
   public MetsWrapper generateMetsSiard(final String id, final String label, final String profile, final boolean mainMets,
                                   final Optional<List<String>> ancestors, final Path metsPath, final IPHeader ipHeader, final String type,
@@ -344,8 +381,8 @@ public abstract class EARKMETSCreator {
   protected void addMETSToZip(final Map<String, ZipEntryInfo> zipEntries, final MetsWrapper metsWrapper,
     final String metsPath, final Path buildDir, final boolean mainMets, final FileType fileType)
     throws JAXBException, IOException, IPException {
-    final Path temp = Files.createTempFile(buildDir, IPConstants.METS_FILE_NAME, IPConstants.METS_FILE_EXTENSION);
-    ZIPUtils.addMETSFileToZip(zipEntries, temp, metsPath, metsWrapper.getMets(), mainMets, fileType);
+    ZIPUtils.addMETSToZip(zipEntries, metsPath, metsWrapper.getMets(), metsWrapper.getDataFileRecords(), mainMets,
+      fileType, buildDir);
   }
 
   protected MetsType.MetsHdr.Agent createMETSAgent(final IPAgent ipAgent) {
@@ -563,7 +600,7 @@ public abstract class EARKMETSCreator {
     file.setID(Utils.generateRandomAndPrefixedFileID());
 
     // set mimetype, date creation, etc.
-    METSUtils.setFileBasicInformation(LOGGER, dataFile, file);
+    setFileBasicInformation(dataFile, file);
 
     // add to file section
     final FileType.FLocat fileLocation = METSUtils.createFileLocation(dataFilePath);
@@ -579,13 +616,42 @@ public abstract class EARKMETSCreator {
     return file;
   }
 
+  /**
+   * Adds a data file to the {@link METSFileRecords} of a representation METS,
+   * see {@link MetsWrapper#getDataFileRecords()}.
+   *
+   * @return the index of the record of the file.
+   */
+  protected int addDataFileRecordToMETS(final MetsWrapper representationMETS, final String dataFilePath,
+    final Path dataFile) throws IPException, InterruptedException {
+    final METSFileRecords records = representationMETS.getDataFileRecords();
+    // set mimetype, date creation, etc.
+    final FileType information = new FileType();
+    setFileBasicInformation(dataFile, information);
+
+    // add to file section
+    if (records.size() == 0) {
+      representationMETS.getDataFileGroup().getFile().add(records.getPlaceholder());
+    }
+    final int record = records.add(METSUtils.encodeHref(dataFilePath), information.getMIMETYPE(),
+      information.getSIZE(), information.getCREATED());
+
+    // add to struct map
+    if (representationMETS.getDataDiv().getFptr().isEmpty()) {
+      final DivType.Fptr fptr = new DivType.Fptr();
+      fptr.setFILEID(representationMETS.getDataFileGroup());
+      representationMETS.getDataDiv().getFptr().add(fptr);
+    }
+    return record;
+  }
+
   protected FileType addSchemaFileToMETS(final MetsWrapper metsWrapper, final String schemaFilePath,
     final Path schemaFile) throws IPException, InterruptedException {
     final FileType file = new FileType();
     file.setID(Utils.generateRandomAndPrefixedFileID());
 
     // set mimetype, date creation, etc.
-    METSUtils.setFileBasicInformation(LOGGER, schemaFile, file);
+    setFileBasicInformation(schemaFile, file);
 
     // add to file section
     final FileType.FLocat fileLocation = METSUtils.createFileLocation(schemaFilePath);
@@ -609,7 +675,7 @@ public abstract class EARKMETSCreator {
     file.setID(Utils.generateRandomAndPrefixedFileID());
 
     // set mimetype, date creation, etc.
-    METSUtils.setFileBasicInformation(LOGGER, submissionFile, file);
+    setFileBasicInformation(submissionFile, file);
 
     // add to file section
     final FileType.FLocat fileLocation = METSUtils.createFileLocation(submissionFilePath);
@@ -629,7 +695,7 @@ public abstract class EARKMETSCreator {
     file.setID(Utils.generateRandomAndPrefixedFileID());
 
     // set mimetype, date creation, etc.
-    METSUtils.setFileBasicInformation(LOGGER, documentationFile, file);
+    setFileBasicInformation(documentationFile, file);
 
     // add to file section
     final FileType.FLocat fileLocation = METSUtils.createFileLocation(documentationFilePath);
@@ -961,7 +1027,8 @@ public abstract class EARKMETSCreator {
   }
 
   /**
-   * Recursive method to add Nodes in the {@link Tree}.
+   * Adds the Nodes of the file relative folders in the {@link Tree}, setting the
+   * file location in the last one.
    *
    * @param divTree
    *          {@link Tree} of {@link StructMapDiv}.
@@ -972,19 +1039,21 @@ public abstract class EARKMETSCreator {
    */
   protected void addNodes(final Tree<StructMapDiv> divTree, final String fileLocation,
     List<String> fileRelativeFolders) {
-    if (fileRelativeFolders == null || fileRelativeFolders.isEmpty()) {
-      if (fileLocation != null) {
-        divTree.getRoot().setFileLocation(fileLocation);
-      }
-    } else {
-      if (fileRelativeFolders.get(0) != null) {
-        Tree<StructMapDiv> childNode = divTree.addChild(new StructMapDiv(fileRelativeFolders.get(0)),
-          divTree.getRoot());
-        List<String> newRelativeFolders = new ArrayList<>(fileRelativeFolders);
-        newRelativeFolders.remove(0);
-        addNodes(childNode, fileLocation, newRelativeFolders);
+    final List<StructMapDiv> path = new ArrayList<>();
+    boolean complete = true;
+    if (fileRelativeFolders != null) {
+      for (String folder : fileRelativeFolders) {
+        if (folder == null) {
+          complete = false;
+          break;
+        }
+        path.add(new StructMapDiv(folder));
       }
     }
+    final Tree<StructMapDiv> node = divTree.addPath(path);
+    if (complete && fileLocation != null) {
+      node.getRoot().setFileLocation(fileLocation);
+    }
   }
 
   /**
@@ -1012,7 +1081,9 @@ public abstract class EARKMETSCreator {
   }
 
   /**
-   * Adds Data File to the respective {@link MetsType.FileSec.FileGrp}.
+   * Adds Data File to the respective {@link MetsType.FileSec.FileGrp}, looked up
+   * by USE among the file groups of the representation or else in the given
+   * {@link List}.
    *
    * @param fileGrpTypes
    *          {@link List} of {@link FileGrpType}.
@@ -1022,13 +1093,18 @@ public abstract class EARKMETSCreator {
    *          {@link FileType}.
    */
   protected void addDataFileFromShallow(List<FileGrpType> fileGrpTypes, IPFileShallow shallow, FileType file) {
+    final String dataFilePath;
+    if (shallow.getRelativeFolders() == null || shallow.getRelativeFolders().isEmpty()) {
+      dataFilePath = IPConstants.DATA_WITH_FIRST_LETTER_CAPITAL;
+    } else {
+      dataFilePath = IPConstants.DATA_FOLDER + ModelUtils.getFoldersFromList(shallow.getRelativeFolders());
+    }
+    final MetsType.FileSec.FileGrp dataFileGroup = dataFileGrp.get(dataFilePath);
+    if (dataFileGroup != null) {
+      dataFileGroup.getFile().add(file);
+      return;
+    }
     for (FileGrpType fileGrpType : fileGrpTypes) {
-      final String dataFilePath;
-      if (shallow.getRelativeFolders() == null || shallow.getRelativeFolders().isEmpty()) {
-        dataFilePath = IPConstants.DATA_WITH_FIRST_LETTER_CAPITAL;
-      } else {
-        dataFilePath = IPConstants.DATA_FOLDER + ModelUtils.getFoldersFromList(shallow.getRelativeFolders());
-      }
       if (fileGrpType.getUSE().equals(dataFilePath)) {
         fileGrpType.getFile().add(file);
       }
@@ -15,9 +15,11 @@ import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
 
 import org.apache.commons.lang3.StringUtils;
 import org.roda_project.commons_ip.model.ParseException;
+import org.roda_project.commons_ip.utils.BuildContext;
 import org.roda_project.commons_ip.utils.IPEnums;
 import org.roda_project.commons_ip.utils.IPException;
 import org.roda_project.commons_ip.utils.ZipEntryInfo;
@@ -34,8 +36,6 @@ import org.roda_project.commons_ip2.utils.ZIPUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import static org.roda_project.commons_ip2.model.IPConstants.METS_ENCODE_AND_DECODE_HREF;
-
 public class EARKSIP extends SIP {
   private static final Logger LOGGER = LoggerFactory.getLogger(EARKSIP.class);
 
@@ -43,13 +43,18 @@ public class EARKSIP extends SIP {
 
   private static final String DEFAULT_SIP_VERSION = "2.1.0";
 
-  private EARKMETSCreator metsCreator;
+  /**
+   * Version of the METS files, a new {@link EARKMETSCreator} being created for
+   * each build or parse so they can run concurrently.
+   */
+  private final String metsVersion;
+
+  private final Set<String> extraChecksumAlgorithms = new TreeSet<>();
 
   public EARKSIP() {
     super();
     setProfile(IPConstants.SIP_SPEC_PROFILE);
-    METSGeneratorFactory factory = new METSGeneratorFactory();
-    metsCreator = factory.getGenerator(DEFAULT_SIP_VERSION);
+    metsVersion = DEFAULT_SIP_VERSION;
   }
 
   /**
@@ -60,8 +65,7 @@ public class EARKSIP extends SIP {
     super(sipId);
     setProfile(IPConstants.SIP_SPEC_PROFILE);
 
-    METSGeneratorFactory factory = new METSGeneratorFactory();
-    metsCreator = factory.getGenerator(DEFAULT_SIP_VERSION);
+    metsVersion = DEFAULT_SIP_VERSION;
   }
 
   /**
@@ -80,8 +84,7 @@ public class EARKSIP extends SIP {
     else {
       setProfile(IPConstants.SIP_SPEC_PROFILE);
     }
-    METSGeneratorFactory factory = new METSGeneratorFactory();
-    metsCreator = factory.getGenerator(version);
+    metsVersion = version;
   }
 
   /**
@@ -103,14 +106,50 @@ public class EARKSIP extends SIP {
     }
   }
 
+  /**
+   * Parses a SIP reading the METS files, metadata and data files directly from
+   * the zip archive, without extracting it. The paths of the resulting
+   * {@link org.roda_project.commons_ip2.model.IPFile}s point into the archive
+   * and are only usable while its file system is open.
+   *
+   * <p>
+   * The zip file system is left open when this method returns and the caller
+   * owns it: it must be closed, once the SIP is no longer used, with
+   * {@code ZIPUtils.closeIPInZipFormat(sip.getBasePath())}, typically in a
+   * {@code finally} block, otherwise the archive stays open (and locked, on
+   * Windows). It is only closed by this method if the parsing fails. For an SIP
+   * in folder format there's no file system to close and the call does nothing.
+   * </p>
+   *
+   * @param source
+   *          the SIP, in zip or folder format
+   * @return the {@link SIP}, whose base path is in the zip file system to close
+   *         with {@link ZIPUtils#closeIPInZipFormat(Path)}
+   * @throws ParseException
+   *           if some error occurs
+   */
+  public SIP parseWithoutExtraction(Path source) throws ParseException {
+    final Path sipPath = ZIPUtils.openIPInZipFormat(source);
+    try {
+      return parseEARKSIPFromPath(sipPath);
+    } catch (ParseException | RuntimeException e) {
+      ZIPUtils.closeIPInZipFormat(sipPath);
+      throw e;
+    }
+  }
+
   private SIP parseEARKSIP(final Path source, final Path destinationDirectory) throws ParseException {
+    return parseEARKSIPFromPath(ZIPUtils.extractIPIfInZipFormat(source, destinationDirectory));
+  }
+
+  private SIP parseEARKSIPFromPath(final Path sipPath) throws ParseException {
+    BuildContext context = BuildContext.open(true);
     try {
-      METS_ENCODE_AND_DECODE_HREF = true;
-      SIP sip = new EARKSIP();
+      EARKSIP sip = new EARKSIP();
+      sip.setExtraChecksumAlgorithms(getExtraChecksumAlgorithms());
 
-      EARKUtils earkUtils = new EARKUtils(metsCreator);
+      EARKUtils earkUtils = new EARKUtils(newMetsCreator());
 
-      Path sipPath = ZIPUtils.extractIPIfInZipFormat(source, destinationDirectory);
       sip.setBasePath(sipPath);
 
       MetsWrapper metsWrapper = earkUtils.processMainMets(sip, sipPath);
@@ -137,6 +176,8 @@ public class EARKSIP extends SIP {
       return sip;
     } catch (final IPException e) {
       throw new ParseException("Error parsing E-ARK SIP", e);
+    } finally {
+      context.close();
     }
   }
 
@@ -191,15 +232,17 @@ public class EARKSIP extends SIP {
   @Override
   public Path build(WriteStrategy writeStrategy, final String fileNameWithoutExtension, final boolean onlyManifest,
     IPEnums.SipType sipType) throws IPException, InterruptedException {
-    IPConstants.METS_ENCODE_AND_DECODE_HREF = true;
     Path buildDir = ModelUtils.createBuildDir(SIP_TEMP_DIR);
 
+    final EARKMETSCreator metsCreator = newMetsCreator();
     EARKUtils earkUtils = new EARKUtils(metsCreator);
 
+    BuildContext context = BuildContext.open(true);
     try {
       Map<String, ZipEntryInfo> zipEntries = getZipEntries();
       //default metadata need to be added before creating the mets in order to add them in the mets file
       earkUtils.addDefaultSchemas(LOGGER, getSchemas(), buildDir, getOverride());
+      earkUtils.harvestFileBasicInformation(this, null);
 
       boolean isMetadataOther = (this.getOtherMetadata() != null && !this.getOtherMetadata().isEmpty());
       boolean isMetadata = ((this.getDescriptiveMetadata() != null && !this.getDescriptiveMetadata().isEmpty())
@@ -234,6 +277,8 @@ public class EARKSIP extends SIP {
       earkUtils.addSchemasToZipAndMETS(zipEntries, mainMETSWrapper, getSchemas(), null);
       earkUtils.addDocumentationToZipAndMETS(zipEntries, mainMETSWrapper, getDocumentation(), null);
       METSUtils.addMainMETSToZip(zipEntries, mainMETSWrapper, buildDir);
+      // the METS files are generated, the harvested information isn't needed while writing
+      earkUtils.clearFileBasicInformation();
 
       notifySipBuildPackagingStarted(zipEntries.size());
       return writeStrategy.write(zipEntries, this, fileNameWithoutExtension, getId(), true);
@@ -241,13 +286,31 @@ public class EARKSIP extends SIP {
       ModelUtils.cleanUpUponInterrupt(LOGGER, writeStrategy.getDestinationPath());
       throw e;
     } finally {
+      context.close();
+      earkUtils.clearFileBasicInformation();
       ModelUtils.deleteBuildDir(buildDir);
     }
   }
 
+  private EARKMETSCreator newMetsCreator() {
+    return new METSGeneratorFactory().getGenerator(metsVersion);
+  }
+
+  /**
+   * Get the extra checksum algorithms. When building, the METS files are also
+   * hashed with them; when parsing, every file is also hashed with them in the
+   * same read used to verify the METS declared checksum, see
+   * {@link org.roda_project.commons_ip2.model.IPFile#getExtraChecksums()}.
+   */
   @Override
   public Set<String> getExtraChecksumAlgorithms() {
-    return Collections.emptySet();
+    return Collections.unmodifiableSet(extraChecksumAlgorithms);
+  }
+
+  public EARKSIP setExtraChecksumAlgorithms(Set<String> extraChecksumAlgorithms) {
+    this.extraChecksumAlgorithms.clear();
+    this.extraChecksumAlgorithms.addAll(extraChecksumAlgorithms);
+    return this;
   }
 
 }
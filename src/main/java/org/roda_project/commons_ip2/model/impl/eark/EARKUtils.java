@@ -17,6 +17,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -40,6 +41,7 @@ import org.roda_project.commons_ip2.mets_v1_12.beans.Mets;
 import org.roda_project.commons_ip2.mets_v1_12.beans.MetsType.MetsHdr.Agent;
 import org.roda_project.commons_ip2.mets_v1_12.beans.StructMapType;
 import org.roda_project.commons_ip2.model.AIP;
+import org.roda_project.commons_ip2.model.IP;
 import org.roda_project.commons_ip2.model.IPConstants;
 import org.roda_project.commons_ip2.model.IPContentType;
 import org.roda_project.commons_ip2.model.IPDescriptiveMetadata;
@@ -56,6 +58,7 @@ import org.roda_project.commons_ip2.model.RepresentationStatus;
 import org.roda_project.commons_ip2.model.SIP;
 import org.roda_project.commons_ip2.model.ValidationEntry;
 import org.roda_project.commons_ip2.model.impl.ModelUtils;
+import org.roda_project.commons_ip2.utils.METSFileRecords;
 import org.roda_project.commons_ip2.utils.METSUtils;
 import org.roda_project.commons_ip2.utils.Utils;
 import org.roda_project.commons_ip2.utils.ValidationUtils;
@@ -75,6 +78,40 @@ public class EARKUtils {
     this.metsGenerator = metsGenerator;
   }
 
+  /**
+   * Harvests the basic information of all the files of an IP, and of its
+   * representations, before they're added to the METS files.
+   */
+  protected void harvestFileBasicInformation(IPInterface ip, List<IPFileInterface> submissions)
+    throws IPException, InterruptedException {
+    List<Path> files = new ArrayList<>();
+    addFilePaths(files, ip.getSchemas());
+    addFilePaths(files, ip.getDocumentation());
+    addFilePaths(files, submissions);
+    if (ip.getRepresentations() != null) {
+      for (IPRepresentation representation : ip.getRepresentations()) {
+        addFilePaths(files, representation.getData());
+        addFilePaths(files, representation.getSchemas());
+        addFilePaths(files, representation.getDocumentation());
+      }
+    }
+    metsGenerator.harvestFileBasicInformation(files);
+  }
+
+  private static void addFilePaths(List<Path> paths, List<IPFileInterface> files) {
+    if (files != null) {
+      for (IPFileInterface file : files) {
+        if (file instanceof IPFile && file.getPath() != null) {
+          paths.add(file.getPath());
+        }
+      }
+    }
+  }
+
+  protected void clearFileBasicInformation() {
+    metsGenerator.clearFileBasicInformation();
+  }
+
   protected void addDescriptiveMetadataToZipAndMETS(Map<String, ZipEntryInfo> zipEntries, MetsWrapper metsWrapper,
     List<IPDescriptiveMetadata> descriptiveMetadata, String representationId) throws IPException, InterruptedException {
     if (descriptiveMetadata != null && !descriptiveMetadata.isEmpty()) {
@@ -272,6 +309,9 @@ public class EARKUtils {
           addRepresentationDataFilesToZipSiardAndMETS(ip, zipEntries, representationMETSWrapper, representation,
             representationId);
         } else {
+          if (METSFileRecords.isEnabled()) {
+            representationMETSWrapper.setDataFileRecords(new METSFileRecords());
+          }
           addRepresentationDataFilesToZipAndMETS(ip, zipEntries, representationMETSWrapper, representation,
             representationId);
         }
@@ -426,7 +466,17 @@ public class EARKUtils {
           throw new InterruptedException();
         }
 
-        if (file instanceof IPFile) {
+        if (file instanceof IPFile && representationMETSWrapper.getDataFileRecords() != null) {
+          String dataFilePath = IPConstants.DATA_FOLDER + ModelUtils.getFoldersFromList(file.getRelativeFolders())
+            + file.getFileName();
+          int record = metsGenerator.addDataFileRecordToMETS(representationMETSWrapper, dataFilePath,
+            file.getPath());
+
+          dataFilePath = IPConstants.REPRESENTATIONS_FOLDER + representationId + IPConstants.ZIP_PATH_SEPARATOR
+            + dataFilePath;
+          ZIPUtils.addFileRecordToZip(zipEntries, file.getPath(), dataFilePath,
+            representationMETSWrapper.getDataFileRecords(), record);
+        } else if (file instanceof IPFile) {
           String dataFilePath = IPConstants.DATA_FOLDER + ModelUtils.getFoldersFromList(file.getRelativeFolders())
             + file.getFileName();
           FileType fileType = metsGenerator.addDataFileToMETS(representationMETSWrapper, dataFilePath, file.getPath());
@@ -1054,13 +1104,17 @@ public class EARKUtils {
   protected Optional<IPFileInterface> validateFile(IPInterface ip, Path filePath, FileType fileType,
     List<String> fileRelativeFolders) {
     return Utils.validateFile(ip, filePath, fileRelativeFolders, fileType.getCHECKSUM(), fileType.getCHECKSUMTYPE(),
-      fileType.getID());
+      fileType.getID(), getExtraChecksumAlgorithms(ip));
   }
 
   protected Optional<IPFileInterface> validateMetadataFile(IPInterface ip, Path filePath, MdRef mdRef,
     List<String> fileRelativeFolders) {
     return Utils.validateFile(ip, filePath, fileRelativeFolders, mdRef.getCHECKSUM(), mdRef.getCHECKSUMTYPE(),
-      mdRef.getID());
+      mdRef.getID(), getExtraChecksumAlgorithms(ip));
+  }
+
+  private static Set<String> getExtraChecksumAlgorithms(IPInterface ip) {
+    return ip instanceof IP p ? p.getExtraChecksumAlgorithms() : Collections.emptySet();
   }
 
   protected IPInterface processFile(IPInterface ip, DivType div, String folder, Path basePath) {
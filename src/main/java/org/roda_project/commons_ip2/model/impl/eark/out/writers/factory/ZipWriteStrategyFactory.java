@@ -2,13 +2,53 @@ package org.roda_project.commons_ip2.model.impl.eark.out.writers.factory;
 
 import org.roda_project.commons_ip2.model.impl.eark.out.writers.strategy.WriteStrategy;
 import org.roda_project.commons_ip2.model.impl.eark.out.writers.strategy.ZipWriteStrategy;
+import org.roda_project.commons_ip2.utils.CompressionPolicy;
 
 /**
  * @author Miguel Guimarães <mguimaraes@keep.pt>
  */
 public class ZipWriteStrategyFactory extends WriteStrategyFactory {
+  private final Integer threads;
+  private final CompressionPolicy compressionPolicy;
+
+  public ZipWriteStrategyFactory() {
+    this.threads = null;
+    this.compressionPolicy = null;
+  }
+
+  /**
+   * Creates a factory of strategies that deflate and hash the entries of the zip
+   * concurrently.
+   *
+   * @param threads
+   *          number of threads
+   */
+  public ZipWriteStrategyFactory(int threads) {
+    this.threads = threads;
+    this.compressionPolicy = null;
+  }
+
+  /**
+   * Creates a factory of strategies that store or deflate each entry of the zip
+   * as decided by a {@link CompressionPolicy}. The policy is shared by every
+   * created strategy, so its statistics cover all the zips they write.
+   *
+   * @param threads
+   *          number of threads, with a value lower than 2 every entry is written
+   *          by the calling thread
+   * @param compressionPolicy
+   *          the {@link CompressionPolicy}
+   */
+  public ZipWriteStrategyFactory(int threads, CompressionPolicy compressionPolicy) {
+    this.threads = threads;
+    this.compressionPolicy = compressionPolicy;
+  }
+
   @Override
   protected WriteStrategy createWriteStrategy() {
-    return new ZipWriteStrategy();
+    if (compressionPolicy != null) {
+      return new ZipWriteStrategy(threads, compressionPolicy);
+    }
+    return threads == null ? new ZipWriteStrategy() : new ZipWriteStrategy(threads);
   }
 }
@@ -14,8 +14,7 @@ import org.apache.commons.io.IOUtils;
 import org.roda_project.commons_ip.utils.IPException;
 import org.roda_project.commons_ip.utils.ZipEntryInfo;
 import org.roda_project.commons_ip2.model.SIP;
-import org.roda_project.commons_ip2.utils.METSFileTypeZipEntryInfo;
-import org.roda_project.commons_ip2.utils.METSMdRefZipEntryInfo;
+import org.roda_project.commons_ip2.utils.METSZipEntryInfo;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -67,6 +66,9 @@ public class FolderWriteStrategy implements WriteStrategy {
         LOGGER.debug("Writing file {}", zipEntryInfo.getFilePath());
         final Path outputPath = Paths.get(path.toString(), zipEntryInfo.getName());
         writeFileToPath(zipEntryInfo, outputPath, checksumAlgorithm);
+        if (zipEntryInfo instanceof METSZipEntryInfo metsEntry) {
+          metsEntry.discardContent();
+        }
       }
     } catch (final IOException | NoSuchAlgorithmException e) {
       LOGGER.debug("Error in write method", e);
@@ -99,7 +101,7 @@ public class FolderWriteStrategy implements WriteStrategy {
     OutputStream os = null;
     try {
 
-      is = Files.newInputStream(zipEntryInfo.getFilePath());
+      is = zipEntryInfo.getInputStream();
 
       Files.createDirectories(outputPath.getParent());
       os = Files.newOutputStream(outputPath);
@@ -115,22 +117,10 @@ public class FolderWriteStrategy implements WriteStrategy {
         }
       } while (numRead != -1);
 
-      setChecksum(zipEntryInfo, DatatypeConverter.printHexBinary(complete.digest()), checksumAlgorithm);
+      zipEntryInfo.setChecksum(DatatypeConverter.printHexBinary(complete.digest()), checksumAlgorithm);
     } finally {
       IOUtils.closeQuietly(is);
       IOUtils.closeQuietly(os);
     }
   }
-
-  private void setChecksum(final ZipEntryInfo zipEntryInfo, final String checksum, final String checksumType) {
-    zipEntryInfo.setChecksum(checksum);
-    zipEntryInfo.setChecksumAlgorithm(checksumType);
-    if (zipEntryInfo instanceof METSFileTypeZipEntryInfo f) {
-      f.getMetsFileType().setCHECKSUM(checksum);
-      f.getMetsFileType().setCHECKSUMTYPE(checksumType);
-    } else if (zipEntryInfo instanceof METSMdRefZipEntryInfo f) {
-      f.getMetsMdRef().setCHECKSUM(checksum);
-      f.getMetsMdRef().setCHECKSUMTYPE(checksumType);
-    }
-  }
 }
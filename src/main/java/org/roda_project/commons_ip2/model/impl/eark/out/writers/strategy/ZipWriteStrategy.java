@@ -7,18 +7,64 @@ import java.nio.channels.ClosedByInterruptException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Map;
+import java.util.zip.Deflater;
 
 import org.roda_project.commons_ip.utils.IPException;
 import org.roda_project.commons_ip.utils.ZipEntryInfo;
 import org.roda_project.commons_ip2.model.SIP;
+import org.roda_project.commons_ip2.utils.CompressionPolicy;
+import org.roda_project.commons_ip2.utils.ParallelZipWriter;
 import org.roda_project.commons_ip2.utils.ZIPUtils;
 
 /**
  * @author Miguel Guimarães <mguimaraes@keep.pt>
  */
 public class ZipWriteStrategy implements WriteStrategy {
+  /**
+   * System property with the number of threads used to deflate and hash the
+   * entries of the zip.
+   */
+  public static final String THREADS_PROPERTY = "zipWriteThreads";
 
   private Path destinationPath;
+  private final int threads;
+  private final CompressionPolicy compressionPolicy;
+
+  /**
+   * Creates a strategy using the number of threads given by the
+   * {@value #THREADS_PROPERTY} system property (by default, 1).
+   */
+  public ZipWriteStrategy() {
+    this(Integer.getInteger(THREADS_PROPERTY, 1));
+  }
+
+  /**
+   * Creates a strategy.
+   *
+   * @param threads
+   *          number of threads used to deflate and hash the entries of the zip,
+   *          with a value lower than 2 every entry is written by the calling
+   *          thread
+   */
+  public ZipWriteStrategy(int threads) {
+    this(threads, CompressionPolicy.deflate(Deflater.DEFAULT_COMPRESSION));
+  }
+
+  /**
+   * Creates a strategy.
+   *
+   * @param threads
+   *          number of threads used to deflate and hash the entries of the zip,
+   *          with a value lower than 2 every entry is written by the calling
+   *          thread
+   * @param compressionPolicy
+   *          the {@link CompressionPolicy} deciding which entries are stored or
+   *          deflated
+   */
+  public ZipWriteStrategy(int threads, CompressionPolicy compressionPolicy) {
+    this.threads = threads;
+    this.compressionPolicy = compressionPolicy;
+  }
 
   @Override
   public void setup(Path destinationPath) {
@@ -37,7 +83,12 @@ public class ZipWriteStrategy implements WriteStrategy {
     Path zipPath = getZipPath(destinationPath, fileNameWithoutExtension, fallbackName);
 
     try {
-      ZIPUtils.zip(entries, Files.newOutputStream(zipPath), sip, createSipIdFolder, true);
+      if (threads > 1) {
+        ParallelZipWriter.zip(entries, Files.newOutputStream(zipPath), sip, createSipIdFolder, compressionPolicy,
+          threads);
+      } else {
+        ZIPUtils.zip(entries, Files.newOutputStream(zipPath), sip, createSipIdFolder, compressionPolicy);
+      }
     } catch (ClosedByInterruptException e) {
       throw new InterruptedException();
     } catch (IOException e) {
@@ -47,6 +98,10 @@ public class ZipWriteStrategy implements WriteStrategy {
     return zipPath;
   }
 
+  public CompressionPolicy getCompressionPolicy() {
+    return compressionPolicy;
+  }
+
   @Override
   public Path getDestinationPath() {
     return this.destinationPath;
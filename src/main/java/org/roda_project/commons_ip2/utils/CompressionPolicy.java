@@ -0,0 +1,348 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE file at the root of the source
+ * tree and available online at
+ *
+ * https://github.com/keeps/commons-ip
+ */
+package org.roda_project.commons_ip2.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+
+import org.roda_project.commons_ip.utils.ZipEntryInfo;
+
+/**
+ * Decides, per zip entry, whether it is deflated (and with which level) or
+ * stored.
+ *
+ * <p>
+ * Already compressed payloads (images, audio, video, PDF, nested archives)
+ * gain nothing from deflate and cost a lot of CPU, so an adaptive policy stores
+ * the entries whose extension or METS mime type is known to be compressed, and
+ * the entries whose first KB looks random (high Shannon entropy). Every other
+ * entry is deflated. A policy is thread-safe and keeps, per {@link Reason},
+ * the number of entries, bytes written and time spent, see
+ * {@link #getStatistics()}.
+ * </p>
+ */
+public final class CompressionPolicy {
+  /**
+   * Number of bytes sampled to estimate the entropy of a file.
+   */
+  public static final int ENTROPY_SAMPLE_SIZE = 1024;
+  /**
+   * Entropy, in bits per byte, above which an adaptive policy stores a file.
+   */
+  public static final double DEFAULT_ENTROPY_THRESHOLD = 7.5;
+
+  private static final Set<String> COMPRESSED_EXTENSIONS = Set.of("jpg", "jpeg", "jp2", "jpx", "png", "gif", "webp",
+    "heic", "avif", "mp3", "mp4", "m4a", "m4v", "mov", "avi", "mkv", "webm", "ogg", "oga", "ogv", "opus", "flac", "wma",
+    "wmv", "pdf", "zip", "gz", "tgz", "bz2", "xz", "7z", "rar", "jar", "war", "docx", "xlsx", "pptx", "odt", "ods",
+    "odp", "epub");
+  private static final Set<String> COMPRESSED_MIME_TYPES = Set.of("image/jpeg", "image/jp2", "image/jpx", "image/png",
+    "image/gif", "image/webp", "image/heic", "image/avif", "video/*", "audio/mpeg", "audio/mp4", "audio/ogg",
+    "audio/opus", "audio/flac", "audio/x-flac", "application/pdf", "application/zip", "application/gzip",
+    "application/x-gzip", "application/x-bzip2", "application/x-xz", "application/x-7z-compressed",
+    "application/vnd.rar", "application/x-rar-compressed", "application/java-archive", "application/epub+zip",
+    "application/vnd.openxmlformats-officedocument.*", "application/vnd.oasis.opendocument.*");
+
+  private final int deflateLevel;
+  private final Set<String> storedExtensions;
+  private final Set<String> storedMimeTypes;
+  private final double entropyThreshold;
+  private final Map<Reason, Statistics> statistics = new EnumMap<>(Reason.class);
+
+  /**
+   * Creates a policy.
+   *
+   * @param deflateLevel
+   *          the {@link Deflater} level of the deflated entries
+   * @param storedExtensions
+   *          the (case insensitive) file extensions of the stored entries,
+   *          {@code *} matches every extension
+   * @param storedMimeTypes
+   *          the mime types of the stored entries, a mime type ending with
+   *          {@code /*} or {@code .*} matches every mime type starting with it
+   * @param entropyThreshold
+   *          entropy, in bits per byte, of the first
+   *          {@value #ENTROPY_SAMPLE_SIZE} bytes above which an entry is stored,
+   *          a value above 8 disables the entropy sample
+   */
+  public CompressionPolicy(final int deflateLevel, final Set<String> storedExtensions,
+    final Set<String> storedMimeTypes, final double entropyThreshold) {
+    this.deflateLevel = deflateLevel;
+    this.storedExtensions = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+    this.storedExtensions.addAll(storedExtensions);
+    this.storedMimeTypes = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+    this.storedMimeTypes.addAll(storedMimeTypes);
+    this.entropyThreshold = entropyThreshold;
+    for (Reason reason : Reason.values()) {
+      statistics.put(reason, new Statistics(reason));
+    }
+  }
+
+  /**
+   * Creates a policy that deflates every entry, as done before policies existed.
+   *
+   * @param level
+   *          the {@link Deflater} level
+   * @return the {@link CompressionPolicy}
+   */
+  public static CompressionPolicy deflate(final int level) {
+    return new CompressionPolicy(level, Collections.emptySet(), Collections.emptySet(), Double.MAX_VALUE);
+  }
+
+  /**
+   * Creates a policy that stores already compressed entries, detected by
+   * extension, mime type or entropy, and deflates the others with
+   * {@link Deflater#DEFAULT_COMPRESSION}.
+   *
+   * @return the {@link CompressionPolicy}
+   */
+  public static CompressionPolicy adaptive() {
+    return new CompressionPolicy(Deflater.DEFAULT_COMPRESSION, COMPRESSED_EXTENSIONS, COMPRESSED_MIME_TYPES,
+      DEFAULT_ENTROPY_THRESHOLD);
+  }
+
+  /**
+   * Creates a policy that stores every entry.
+   *
+   * @return the {@link CompressionPolicy}
+   */
+  public static CompressionPolicy store() {
+    return new CompressionPolicy(Deflater.DEFAULT_COMPRESSION, Collections.singleton("*"), Collections.emptySet(),
+      Double.MAX_VALUE);
+  }
+
+  /**
+   * Decides how to write an entry. Must be called after
+   * {@link ZipEntryInfo#prepareEntryForZipping()}.
+   *
+   * @param file
+   *          the {@link ZipEntryInfo}
+   * @return the {@link Decision}
+   * @throws IOException
+   *           if the entropy sample can't be read
+   */
+  public Decision decide(final ZipEntryInfo file) throws IOException {
+    if (storedExtensions.contains("*") || storedExtensions.contains(getExtension(file.getName()))) {
+      return new Decision(Reason.STORED_BY_EXTENSION, ZipEntry.STORED, Deflater.NO_COMPRESSION);
+    }
+    if (isStoredMimeType(getMimeType(file))) {
+      return new Decision(Reason.STORED_BY_MIME_TYPE, ZipEntry.STORED, Deflater.NO_COMPRESSION);
+    }
+    if (entropyThreshold <= 8 && sampleEntropy(file) > entropyThreshold) {
+      return new Decision(Reason.STORED_BY_ENTROPY, ZipEntry.STORED, Deflater.NO_COMPRESSION);
+    }
+    return new Decision(Reason.DEFLATED, ZipEntry.DEFLATED, deflateLevel);
+  }
+
+  /**
+   * Records the outcome of a {@link Decision}.
+   *
+   * @param decision
+   *          the {@link Decision}
+   * @param size
+   *          the uncompressed size of the entry
+   * @param compressedSize
+   *          the size of the entry in the zip
+   * @param nanos
+   *          the time spent writing the entry
+   */
+  public void record(final Decision decision, final long size, final long compressedSize, final long nanos) {
+    final Statistics stats = statistics.get(decision.getReason());
+    stats.entries.increment();
+    stats.bytes.add(size);
+    stats.compressedBytes.add(compressedSize);
+    stats.nanos.add(nanos);
+  }
+
+  /**
+   * Get the statistics of every zip written with this policy.
+   *
+   * @return {@link Map} of {@link Statistics} per {@link Reason}
+   */
+  public Map<Reason, Statistics> getStatistics() {
+    return Collections.unmodifiableMap(statistics);
+  }
+
+  private boolean isStoredMimeType(final String mimeType) {
+    if (mimeType == null || storedMimeTypes.isEmpty()) {
+      return false;
+    }
+    if (storedMimeTypes.contains(mimeType)) {
+      return true;
+    }
+    for (String stored : storedMimeTypes) {
+      if (stored.endsWith("*") && mimeType.regionMatches(true, 0, stored, 0, stored.length() - 1)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private double sampleEntropy(final ZipEntryInfo file) throws IOException {
+    final byte[] sample;
+    try (InputStream inputStream = file.getInputStream()) {
+      sample = inputStream.readNBytes(ENTROPY_SAMPLE_SIZE);
+    }
+    if (sample.length < ENTROPY_SAMPLE_SIZE) {
+      // too small for a meaningful estimate, and for storing to pay off
+      return 0;
+    }
+    final int[] counts = new int[256];
+    for (byte b : sample) {
+      counts[b & 0xFF]++;
+    }
+    double entropy = 0;
+    for (int count : counts) {
+      if (count > 0) {
+        final double p = (double) count / sample.length;
+        entropy -= p * Math.log(p) / Math.log(2);
+      }
+    }
+    return entropy;
+  }
+
+  private static String getExtension(final String name) {
+    final int dot = name.lastIndexOf('.');
+    final int slash = Math.max(name.lastIndexOf('/'), name.lastIndexOf('\\'));
+    return dot > slash ? name.substring(dot + 1).toLowerCase(Locale.ROOT) : "";
+  }
+
+  private static String getMimeType(final ZipEntryInfo file) {
+    if (file instanceof METSFileTypeZipEntryInfo f && f.getMetsFileType() != null) {
+      return f.getMetsFileType().getMIMETYPE();
+    } else if (file instanceof METSFileRecordZipEntryInfo f) {
+      return f.getRecordMimetype();
+    } else if (file instanceof METSMdRefZipEntryInfo f && f.getMetsMdRef() != null) {
+      return f.getMetsMdRef().getMIMETYPE();
+    }
+    return null;
+  }
+
+  /**
+   * Why an entry is stored or deflated.
+   */
+  public enum Reason {
+    DEFLATED("Deflated"), STORED_BY_EXTENSION("Stored by extension"), STORED_BY_MIME_TYPE("Stored by mime type"),
+    STORED_BY_ENTROPY("Stored by entropy");
+
+    private final String label;
+
+    Reason(final String label) {
+      this.label = label;
+    }
+
+    @Override
+    public String toString() {
+      return label;
+    }
+  }
+
+  /**
+   * How to write an entry.
+   */
+  public static final class Decision {
+    private final Reason reason;
+    private final int method;
+    private final int level;
+
+    private Decision(final Reason reason, final int method, final int level) {
+      this.reason = reason;
+      this.method = method;
+      this.level = level;
+    }
+
+    public Reason getReason() {
+      return reason;
+    }
+
+    /**
+     * Get the zip method.
+     *
+     * @return {@link ZipEntry#STORED} or {@link ZipEntry#DEFLATED}
+     */
+    public int getMethod() {
+      return method;
+    }
+
+    /**
+     * Get the {@link Deflater} level, only meaningful for deflated entries.
+     *
+     * @return the level
+     */
+    public int getLevel() {
+      return level;
+    }
+
+    public boolean isStored() {
+      return method == ZipEntry.STORED;
+    }
+  }
+
+  /**
+   * Accumulated outcome of the decisions with the same {@link Reason}.
+   */
+  public static final class Statistics {
+    private final Reason reason;
+    private final LongAdder entries = new LongAdder();
+    private final LongAdder bytes = new LongAdder();
+    private final LongAdder compressedBytes = new LongAdder();
+    private final LongAdder nanos = new LongAdder();
+
+    private Statistics(final Reason reason) {
+      this.reason = reason;
+    }
+
+    public Reason getReason() {
+      return reason;
+    }
+
+    public long getEntries() {
+      return entries.sum();
+    }
+
+    public long getBytes() {
+      return bytes.sum();
+    }
+
+    public long getCompressedBytes() {
+      return compressedBytes.sum();
+    }
+
+    /**
+     * Get the bytes saved by compression, negative if the entries grew.
+     *
+     * @return the bytes saved
+     */
+    public long getBytesSaved() {
+      return getBytes() - getCompressedBytes();
+    }
+
+    /**
+     * Get the time spent reading, hashing, compressing and writing the entries.
+     *
+     * @return the time in milliseconds
+     */
+    public long getMillis() {
+      return nanos.sum() / 1_000_000;
+    }
+
+    @Override
+    public String toString() {
+      return String.format("%s: %d entries, %d bytes written as %d (%d saved) in %d ms", reason, getEntries(),
+        getBytes(), getCompressedBytes(), getBytesSaved(), getMillis());
+    }
+  }
+}
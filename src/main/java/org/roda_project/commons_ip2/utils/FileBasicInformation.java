@@ -0,0 +1,181 @@
+package org.roda_project.commons_ip2.utils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import javax.xml.datatype.DatatypeConfigurationException;
+import javax.xml.datatype.XMLGregorianCalendar;
+
+import org.roda_project.commons_ip.utils.IPException;
+import org.roda_project.commons_ip2.mets_v1_12.beans.FileType;
+
+/**
+ * The basic information of a file of an IP, the mimetype, size and creation
+ * date set in its METS {@link FileType}.
+ *
+ * <p>
+ * The information of all the files of an IP is harvested before the METS files
+ * are created, see {@link #harvest(Collection, XMLGregorianCalendar)}, probing
+ * the files concurrently on a thread pool with a {@link MimeTypeDetector} loaded
+ * for the harvest. The pool size is given by the {@value #THREADS_PROPERTY}
+ * system property (defaults to the number of available processors) and, when
+ * running on a JVM that supports them, {@code sipBuildHarvestVirtualThreads=true}
+ * uses one virtual thread per file instead.
+ * </p>
+ */
+public final class FileBasicInformation {
+  /**
+   * System property with the number of threads used to harvest the information
+   * of the files.
+   */
+  public static final String THREADS_PROPERTY = "sipBuildHarvestThreads";
+  /**
+   * System property to use virtual threads to harvest the information of the
+   * files.
+   */
+  public static final String VIRTUAL_THREADS_PROPERTY = "sipBuildHarvestVirtualThreads";
+
+  private final String mimetype;
+  private final long size;
+  private final XMLGregorianCalendar created;
+
+  private FileBasicInformation(final String mimetype, final long size, final XMLGregorianCalendar created) {
+    this.mimetype = mimetype;
+    this.size = size;
+    this.created = created;
+  }
+
+  /**
+   * Reads the basic information of a file, reading its first bytes once to
+   * detect its mimetype.
+   *
+   * @param file
+   *          the {@link Path} to the file
+   * @param created
+   *          the creation date
+   * @param detector
+   *          the {@link MimeTypeDetector}
+   * @return the {@link FileBasicInformation}.
+   * @throws IPException
+   *           if the file can't be probed.
+   */
+  public static FileBasicInformation read(final Path file, final XMLGregorianCalendar created,
+    final MimeTypeDetector detector) throws IPException {
+    final String mimetype;
+    try {
+      final byte[] header = new byte[MimeTypeDetector.HEADER_SIZE];
+      mimetype = METSUtils.getFileMimetype(detector, file, header, METSUtils.readHeader(file, header));
+    } catch (IOException e) {
+      throw new IPException("Error probing content-type (" + file.toString() + ")", e);
+    }
+    try {
+      return new FileBasicInformation(mimetype, Files.size(file), created);
+    } catch (IOException e) {
+      throw new IPException("Error getting file size (" + file.toString() + ")", e);
+    }
+  }
+
+  /**
+   * Harvests the basic information of the given files concurrently, all of them
+   * sharing the same creation date.
+   *
+   * @param files
+   *          the {@link Path}s to the files
+   * @param created
+   *          the creation date, {@code null} to use the current date
+   * @return the {@link FileBasicInformation} by file.
+   * @throws IPException
+   *           if some file can't be probed.
+   * @throws InterruptedException
+   *           if interrupted while waiting for the harvest.
+   */
+  public static Map<Path, FileBasicInformation> harvest(final Collection<Path> files, XMLGregorianCalendar created)
+    throws IPException, InterruptedException {
+    if (created == null) {
+      try {
+        created = Utils.getCurrentCalendar();
+      } catch (DatatypeConfigurationException e) {
+        throw new IPException("Error getting curent calendar", e);
+      }
+    }
+
+    final MimeTypeDetector detector = MimeTypeDetector.load();
+    final Collection<Path> distinctFiles = new LinkedHashSet<>(files);
+    final Map<Path, FileBasicInformation> information = new HashMap<>(
+      Math.max(16, (int) (distinctFiles.size() / 0.75f) + 1));
+    final int threads = Math.max(1, Integer.getInteger(THREADS_PROPERTY, Runtime.getRuntime().availableProcessors()));
+    final boolean virtualThreads = Boolean.getBoolean(VIRTUAL_THREADS_PROPERTY);
+    if (distinctFiles.size() < 2 || (threads < 2 && !virtualThreads)) {
+      for (Path file : distinctFiles) {
+        if (Thread.interrupted()) {
+          throw new InterruptedException();
+        }
+        information.put(file, read(file, created, detector));
+      }
+      return information;
+    }
+
+    final ExecutorService pool = Utils.newExecutor("file-information-harvester", threads, virtualThreads);
+    try {
+      final XMLGregorianCalendar sharedCreated = created;
+      final List<Future<FileBasicInformation>> futures = new ArrayList<>(distinctFiles.size());
+      for (Path file : distinctFiles) {
+        futures.add(pool.submit(() -> read(file, sharedCreated, detector)));
+      }
+      int i = 0;
+      for (Path file : distinctFiles) {
+        // drop each future once awaited, so the list doesn't keep its result
+        information.put(file, await(futures.set(i++, null)));
+      }
+      return information;
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  private static FileBasicInformation await(final Future<FileBasicInformation> future)
+    throws IPException, InterruptedException {
+    try {
+      return future.get();
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof IPException ipException) {
+        throw ipException;
+      }
+      throw new IPException("Error harvesting the file information", e.getCause());
+    }
+  }
+
+  /**
+   * Sets the information in a {@link FileType}.
+   *
+   * @param fileType
+   *          the {@link FileType}
+   */
+  public void setIn(final FileType fileType) {
+    fileType.setMIMETYPE(mimetype);
+    fileType.setCREATED((XMLGregorianCalendar) created.clone());
+    fileType.setSIZE(size);
+  }
+
+  public String getMimetype() {
+    return mimetype;
+  }
+
+  public long getSize() {
+    return size;
+  }
+
+  public XMLGregorianCalendar getCreated() {
+    return (XMLGregorianCalendar) created.clone();
+  }
+}
@@ -1,8 +1,11 @@
 package org.roda_project.commons_ip2.utils;
 
 import java.io.BufferedReader;
+import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -11,27 +14,55 @@ import org.roda_project.commons_ip2.validator.constants.Constants;
 
 /** {@author João Gomes <jgomes@keep.pt>}. */
 public final class IanaMediaTypes {
-  /**
-   * {@link Set} with the IANA Media Types.
-   */
-  private static Set<String> ianaMediaTypesList = null;
 
   private IanaMediaTypes() {
     // do nothing
   }
 
   /**
-   * If {@link Set} with the IANA Media types is null, loads from resource.
-   *
-   * @return {@link Set}.
+   * Loads the IANA Media Types once, the first time they are needed, safely
+   * published to all threads by the class initialization.
    */
-  public static Set<String> getIanaMediaTypesList() {
-    if (ianaMediaTypesList == null) {
-      ianaMediaTypesList = new BufferedReader(new InputStreamReader(
+  private static final class Holder {
+    /**
+     * Immutable {@link List} with the IANA Media Types, in the order of the
+     * resource.
+     */
+    private static final List<String> IANA_MEDIA_TYPES_IN_ORDER = load();
+    /**
+     * Immutable {@link Set} with the IANA Media Types.
+     */
+    private static final Set<String> IANA_MEDIA_TYPES = Set.copyOf(IANA_MEDIA_TYPES_IN_ORDER);
+
+    private static List<String> load() {
+      try (BufferedReader reader = new BufferedReader(new InputStreamReader(
         Objects.requireNonNull(
           IanaMediaTypes.class.getResourceAsStream(Constants.PATH_RESOURCES_CSIP_VOCABULARY_IANA_MEDIA_TYPES)),
-        StandardCharsets.UTF_8)).lines().collect(Collectors.toSet());
+        StandardCharsets.UTF_8))) {
+        return reader.lines().distinct().collect(Collectors.toUnmodifiableList());
+      } catch (IOException e) {
+        throw new UncheckedIOException("Unable to read the IANA media types", e);
+      }
     }
-    return ianaMediaTypesList;
+  }
+
+  /**
+   * Get the {@link Set} with the IANA Media types, loading it from the resource
+   * the first time.
+   *
+   * @return immutable {@link Set}.
+   */
+  public static Set<String> getIanaMediaTypesList() {
+    return Holder.IANA_MEDIA_TYPES;
+  }
+
+  /**
+   * Get the {@link List} with the IANA Media types, in the order they're listed
+   * in the resource.
+   *
+   * @return immutable {@link List}.
+   */
+  public static List<String> getIanaMediaTypesInOrder() {
+    return Holder.IANA_MEDIA_TYPES_IN_ORDER;
   }
 }
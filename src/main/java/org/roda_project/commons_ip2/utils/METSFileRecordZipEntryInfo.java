@@ -0,0 +1,59 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE file at the root of the source
+ * tree and available online at
+ *
+ * https://github.com/keeps/commons-ip
+ */
+package org.roda_project.commons_ip2.utils;
+
+import java.nio.file.Path;
+
+import org.roda_project.commons_ip.utils.FileZipEntryInfo;
+
+/**
+ * A data file to be zipped whose METS information is a record of
+ * {@link METSFileRecords}.
+ */
+public class METSFileRecordZipEntryInfo extends FileZipEntryInfo {
+  private final METSFileRecords records;
+  private final int record;
+
+  public METSFileRecordZipEntryInfo(String name, Path filePath, METSFileRecords records, int record) {
+    super(name, filePath);
+    this.records = records;
+    this.record = record;
+  }
+
+  @Override
+  public void prepareEntryForZipping() {
+    // do nothing
+  }
+
+  public METSFileRecords getRecords() {
+    return records;
+  }
+
+  public int getRecord() {
+    return record;
+  }
+
+  /**
+   * Sets the checksum of the entry and its algorithm, also in the record of the
+   * file.
+   */
+  @Override
+  public void setChecksum(String checksum, String checksumAlgorithm) {
+    super.setChecksum(checksum, checksumAlgorithm);
+    records.setChecksum(record, checksum, checksumAlgorithm);
+  }
+
+  /**
+   * Get the mimetype of the file from its record.
+   *
+   * @return the mimetype
+   */
+  public String getRecordMimetype() {
+    return records.getMimetype(record);
+  }
+}
@@ -0,0 +1,311 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE file at the root of the source
+ * tree and available online at
+ *
+ * https://github.com/keeps/commons-ip
+ */
+package org.roda_project.commons_ip2.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import javax.xml.datatype.XMLGregorianCalendar;
+
+import org.roda_project.commons_ip.utils.METSEnums;
+import org.roda_project.commons_ip2.mets_v1_12.beans.FileType;
+
+import jakarta.xml.bind.DatatypeConverter;
+
+/**
+ * Compact records of the data files of a representation METS, kept instead of
+ * one {@link FileType} (with its {@code FLocat}, calendar and lists) per file.
+ *
+ * <p>
+ * Each record is a row of a few arrays: the {@code ID} as the two halves of its
+ * {@link UUID}, the (already encoded) {@code xlink:href}, the size, the checksum
+ * as the bytes of its digest and indexes of the distinct mimetypes, creation
+ * dates and checksum types. The records are written to the METS by the
+ * {@link METSStreamWriter} in place of the placeholder {@link FileType}
+ * returned by {@link #getPlaceholder()}, producing the same bytes as if they
+ * were {@link FileType}s, see {@link #toFileType(int)}.
+ * </p>
+ *
+ * <p>
+ * The E-ARK builds keep the data files of the representations as records when
+ * the {@value #STREAM_PROPERTY} system property is {@code true}.
+ * </p>
+ */
+public class METSFileRecords {
+  /**
+   * System property to keep the data files of the representations as
+   * {@link METSFileRecords} and stream them into the METS.
+   */
+  public static final String STREAM_PROPERTY = "metsStreamDataFiles";
+
+  private static final int INITIAL_CAPACITY = 64;
+
+  private final FileType placeholder = new FileType();
+
+  private int size;
+  private boolean lineBreaks;
+  private long[] mostSignificantBits = new long[INITIAL_CAPACITY];
+  private long[] leastSignificantBits = new long[INITIAL_CAPACITY];
+  private String[] hrefs = new String[INITIAL_CAPACITY];
+  private long[] sizes = new long[INITIAL_CAPACITY];
+  private byte[][] checksums = new byte[INITIAL_CAPACITY][];
+  private int[] mimetypes = new int[INITIAL_CAPACITY];
+  private int[] createdDates = new int[INITIAL_CAPACITY];
+  private int[] checksumTypes = new int[INITIAL_CAPACITY];
+
+  private final Values<String> mimetypeValues = new Values<>();
+  private final Values<XMLGregorianCalendar> createdValues = new Values<>();
+  private final Values<String> checksumTypeValues = new Values<>();
+
+  /**
+   * Creates empty {@link METSFileRecords}.
+   */
+  public METSFileRecords() {
+    placeholder.setID(Utils.generateRandomAndPrefixedFileID());
+  }
+
+  /**
+   * Whether the data files of the representations are kept as
+   * {@link METSFileRecords}, see {@value #STREAM_PROPERTY}.
+   *
+   * @return {@code true} if the records are enabled.
+   */
+  public static boolean isEnabled() {
+    return Boolean.getBoolean(STREAM_PROPERTY);
+  }
+
+  /**
+   * Get the {@link FileType} to put in the file group, in the place where the
+   * records are written.
+   *
+   * @return the placeholder {@link FileType}.
+   */
+  public FileType getPlaceholder() {
+    return placeholder;
+  }
+
+  /**
+   * Adds the record of a file, with a new {@code ID} and without checksum.
+   *
+   * @param href
+   *          the encoded {@code xlink:href} of the file
+   * @param mimetype
+   *          the mimetype
+   * @param fileSize
+   *          the size
+   * @param created
+   *          the creation date
+   * @return the index of the record.
+   */
+  public synchronized int add(final String href, final String mimetype, final long fileSize,
+    final XMLGregorianCalendar created) {
+    if (size == hrefs.length) {
+      resize(size * 2);
+    }
+    final UUID id = UUID.randomUUID();
+    mostSignificantBits[size] = id.getMostSignificantBits();
+    leastSignificantBits[size] = id.getLeastSignificantBits();
+    hrefs[size] = href;
+    lineBreaks |= href != null && (href.indexOf('\n') >= 0 || href.indexOf('\r') >= 0);
+    sizes[size] = fileSize;
+    mimetypes[size] = mimetypeValues.indexOf(mimetype);
+    createdDates[size] = createdValues.indexOf(created != null ? (XMLGregorianCalendar) created.clone() : null);
+    checksumTypes[size] = -1;
+    return size++;
+  }
+
+  /**
+   * Sets the checksum of a file.
+   *
+   * @param index
+   *          the index of the record
+   * @param checksum
+   *          the checksum, in upper case hexadecimal
+   * @param checksumType
+   *          the checksum algorithm
+   */
+  public synchronized void setChecksum(final int index, final String checksum, final String checksumType) {
+    checkIndex(index);
+    final byte[] digest = checksum == null ? null : DatatypeConverter.parseHexBinary(checksum);
+    if (digest != null && !DatatypeConverter.printHexBinary(digest).equals(checksum)) {
+      throw new IllegalArgumentException("Checksum is not in upper case hexadecimal: " + checksum);
+    }
+    checksums[index] = digest;
+    checksumTypes[index] = checksumTypeValues.indexOf(checksumType);
+  }
+
+  private void resize(final int capacity) {
+    mostSignificantBits = Arrays.copyOf(mostSignificantBits, capacity);
+    leastSignificantBits = Arrays.copyOf(leastSignificantBits, capacity);
+    hrefs = Arrays.copyOf(hrefs, capacity);
+    sizes = Arrays.copyOf(sizes, capacity);
+    checksums = Arrays.copyOf(checksums, capacity);
+    mimetypes = Arrays.copyOf(mimetypes, capacity);
+    createdDates = Arrays.copyOf(createdDates, capacity);
+    checksumTypes = Arrays.copyOf(checksumTypes, capacity);
+  }
+
+  private int checkIndex(final int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException(index);
+    }
+    return index;
+  }
+
+  /**
+   * Get the number of records.
+   *
+   * @return the number of records.
+   */
+  public synchronized int size() {
+    return size;
+  }
+
+  /**
+   * Whether some {@code xlink:href} has line breaks, which the marshaller writes
+   * as character references and the StAX writer as they are.
+   *
+   * @return {@code true} if some {@code xlink:href} has line breaks.
+   */
+  public synchronized boolean hasLineBreaks() {
+    return lineBreaks;
+  }
+
+  /**
+   * Get the {@code ID} of a file.
+   *
+   * @param index
+   *          the index of the record
+   * @return the {@code ID}.
+   */
+  public synchronized String getId(final int index) {
+    checkIndex(index);
+    return METSEnums.FILE_ID_PREFIX
+      + new UUID(mostSignificantBits[index], leastSignificantBits[index]).toString().toUpperCase();
+  }
+
+  /**
+   * Get the {@code xlink:href} of a file.
+   *
+   * @param index
+   *          the index of the record
+   * @return the encoded {@code xlink:href}.
+   */
+  public synchronized String getHref(final int index) {
+    return hrefs[checkIndex(index)];
+  }
+
+  /**
+   * Get the mimetype of a file.
+   *
+   * @param index
+   *          the index of the record
+   * @return the mimetype or {@code null} if not defined.
+   */
+  public synchronized String getMimetype(final int index) {
+    return mimetypeValues.get(mimetypes[checkIndex(index)]);
+  }
+
+  /**
+   * Get the size of a file.
+   *
+   * @param index
+   *          the index of the record
+   * @return the size.
+   */
+  public synchronized long getSize(final int index) {
+    return sizes[checkIndex(index)];
+  }
+
+  /**
+   * Get the creation date of a file.
+   *
+   * @param index
+   *          the index of the record
+   * @return the creation date or {@code null} if not defined.
+   */
+  public synchronized XMLGregorianCalendar getCreated(final int index) {
+    final XMLGregorianCalendar created = createdValues.get(createdDates[checkIndex(index)]);
+    return created != null ? (XMLGregorianCalendar) created.clone() : null;
+  }
+
+  /**
+   * Get the checksum of a file.
+   *
+   * @param index
+   *          the index of the record
+   * @return the checksum, in upper case hexadecimal, or {@code null} if not
+   *         set.
+   */
+  public synchronized String getChecksum(final int index) {
+    final byte[] digest = checksums[checkIndex(index)];
+    return digest != null ? DatatypeConverter.printHexBinary(digest) : null;
+  }
+
+  /**
+   * Get the checksum algorithm of a file.
+   *
+   * @param index
+   *          the index of the record
+   * @return the checksum algorithm or {@code null} if not set.
+   */
+  public synchronized String getChecksumType(final int index) {
+    return checksumTypeValues.get(checksumTypes[checkIndex(index)]);
+  }
+
+  /**
+   * Creates the {@link FileType} of a file, as it would have been added to the
+   * file group.
+   *
+   * @param index
+   *          the index of the record
+   * @return the {@link FileType}.
+   */
+  public FileType toFileType(final int index) {
+    final FileType file = new FileType();
+    file.setID(getId(index));
+    file.setMIMETYPE(getMimetype(index));
+    file.setSIZE(getSize(index));
+    file.setCREATED(getCreated(index));
+    file.setCHECKSUM(getChecksum(index));
+    file.setCHECKSUMTYPE(getChecksumType(index));
+    final FileType.FLocat fileLocation = METSUtils.createShallowFileLocation(getHref(index));
+    file.getFLocat().add(fileLocation);
+    return file;
+  }
+
+  /**
+   * Distinct values shared by the records, referenced by their index, -1 being
+   * {@code null}.
+   */
+  private static final class Values<T> {
+    private final List<T> values = new ArrayList<>();
+    private final Map<T, Integer> indexes = new HashMap<>();
+
+    private int indexOf(final T value) {
+      if (value == null) {
+        return -1;
+      }
+      Integer index = indexes.get(value);
+      if (index == null) {
+        index = values.size();
+        values.add(value);
+        indexes.put(value, index);
+      }
+      return index;
+    }
+
+    private T get(final int index) {
+      return index < 0 ? null : values.get(index);
+    }
+  }
+}
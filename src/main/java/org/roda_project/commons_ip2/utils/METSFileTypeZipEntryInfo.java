@@ -37,4 +37,11 @@ public class METSFileTypeZipEntryInfo extends FileZipEntryInfo {
     this.metsFileType = metsFileType;
   }
 
+  @Override
+  public void setChecksum(String checksum, String checksumAlgorithm) {
+    super.setChecksum(checksum, checksumAlgorithm);
+    metsFileType.setCHECKSUM(checksum);
+    metsFileType.setCHECKSUMTYPE(checksumAlgorithm);
+  }
+
 }
@@ -37,4 +37,11 @@ public class METSMdRefZipEntryInfo extends FileZipEntryInfo {
     this.metsMdRef = metsMdRef;
   }
 
+  @Override
+  public void setChecksum(String checksum, String checksumAlgorithm) {
+    super.setChecksum(checksum, checksumAlgorithm);
+    metsMdRef.setCHECKSUM(checksum);
+    metsMdRef.setCHECKSUMTYPE(checksumAlgorithm);
+  }
+
 }
@@ -0,0 +1,197 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE file at the root of the source
+ * tree and available online at
+ *
+ * https://github.com/keeps/commons-ip
+ */
+package org.roda_project.commons_ip2.utils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.datatype.XMLGregorianCalendar;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+import org.roda_project.commons_ip.utils.METSEnums.LocType;
+import org.roda_project.commons_ip2.mets_v1_12.beans.FileGrpType;
+import org.roda_project.commons_ip2.mets_v1_12.beans.FileType;
+import org.roda_project.commons_ip2.mets_v1_12.beans.Mets;
+import org.roda_project.commons_ip2.model.IPConstants;
+
+import jakarta.xml.bind.JAXBException;
+
+/**
+ * Writes a METS whose data files are kept as {@link METSFileRecords}.
+ *
+ * <p>
+ * The METS itself, holding only the placeholder of the records in its data file
+ * group, is small and is marshalled as usual. Its output is then copied up to
+ * the line of the placeholder, the {@code file} elements of the records are
+ * streamed with StAX, one at a time, and the rest of the output is copied. The
+ * elements are indented and their attributes ordered as the marshaller does, so
+ * the METS has the same bytes it would have if the records were
+ * {@link FileType}s of the group. The records of an {@code xlink:href} with line
+ * breaks, which only happens if the hrefs aren't encoded, are marshalled as
+ * {@link FileType}s instead.
+ * </p>
+ */
+public final class METSStreamWriter {
+  private static final String INDENT = "    ";
+  private static final String LINE_SEPARATOR = "\n";
+
+  private METSStreamWriter() {
+    // do nothing
+  }
+
+  /**
+   * Marshals a METS, writing the data files records in place of their
+   * placeholder.
+   *
+   * @param mets
+   *          the {@link Mets}
+   * @param records
+   *          the {@link METSFileRecords} of the data files, or {@code null} if
+   *          there are none
+   * @param outputStream
+   *          the {@link OutputStream}, it is not closed
+   * @param rootMETS
+   *          if it is the root METS
+   * @throws JAXBException
+   *           if some marshalling error occurs
+   * @throws IOException
+   *           if some I/O error occurs or the placeholder is missing
+   */
+  public static void marshal(final Mets mets, final METSFileRecords records, final OutputStream outputStream,
+    final boolean rootMETS) throws JAXBException, IOException {
+    if (records == null) {
+      METSUtils.getCodec().marshal(mets, outputStream, METSUtils.getSchemaLocation(rootMETS));
+      return;
+    }
+    if (records.hasLineBreaks()) {
+      marshalAsFileTypes(mets, records, outputStream, rootMETS);
+      return;
+    }
+
+    final ByteArrayOutputStream skeleton = new ByteArrayOutputStream();
+    METSUtils.getCodec().marshal(mets, skeleton, METSUtils.getSchemaLocation(rootMETS));
+    final byte[] bytes = skeleton.toByteArray();
+    final byte[] placeholder = ("<file ID=\"" + records.getPlaceholder().getID() + "\"/>")
+      .getBytes(StandardCharsets.UTF_8);
+    final int start = indexOf(bytes, placeholder);
+    if (start < 0) {
+      throw new IOException("The METS has no placeholder of its data files");
+    }
+    int lineStart = start;
+    while (lineStart > 0 && bytes[lineStart - 1] != '\n') {
+      lineStart--;
+    }
+
+    outputStream.write(bytes, 0, lineStart);
+    try {
+      writeRecords(records, new String(bytes, lineStart, start - lineStart, StandardCharsets.UTF_8), outputStream);
+    } catch (XMLStreamException e) {
+      throw new IOException("Error writing the data files of the METS", e);
+    }
+    final int end = start + placeholder.length;
+    outputStream.write(bytes, end, bytes.length - end);
+  }
+
+  /**
+   * Marshals the records as {@link FileType}s of the group of the placeholder,
+   * which is restored afterwards.
+   */
+  private static void marshalAsFileTypes(final Mets mets, final METSFileRecords records,
+    final OutputStream outputStream, final boolean rootMETS) throws JAXBException, IOException {
+    final List<FileType> files = mets.getFileSec() != null
+      ? findFiles(mets.getFileSec().getFileGrp(), records.getPlaceholder())
+      : null;
+    if (files == null) {
+      throw new IOException("The METS has no placeholder of its data files");
+    }
+    final int index = files.indexOf(records.getPlaceholder());
+    final List<FileType> recordFiles = new ArrayList<>(records.size());
+    for (int i = 0; i < records.size(); i++) {
+      recordFiles.add(records.toFileType(i));
+    }
+    files.remove(index);
+    files.addAll(index, recordFiles);
+    try {
+      METSUtils.getCodec().marshal(mets, outputStream, METSUtils.getSchemaLocation(rootMETS));
+    } finally {
+      files.subList(index, index + recordFiles.size()).clear();
+      files.add(index, records.getPlaceholder());
+    }
+  }
+
+  private static List<FileType> findFiles(final List<? extends FileGrpType> fileGroups, final FileType file) {
+    for (FileGrpType fileGroup : fileGroups) {
+      if (fileGroup.getFile().contains(file)) {
+        return fileGroup.getFile();
+      }
+      final List<FileType> files = findFiles(fileGroup.getFileGrp(), file);
+      if (files != null) {
+        return files;
+      }
+    }
+    return null;
+  }
+
+  private static void writeRecords(final METSFileRecords records, final String indent, final OutputStream out)
+    throws XMLStreamException {
+    final XMLStreamWriter writer = XMLOutputFactory.newDefaultFactory().createXMLStreamWriter(out,
+      StandardCharsets.UTF_8.name());
+    final String locationType = LocType.URL.toString();
+    final int size = records.size();
+    for (int i = 0; i < size; i++) {
+      if (i > 0) {
+        writer.writeCharacters(LINE_SEPARATOR);
+      }
+      writer.writeCharacters(indent);
+      writer.writeStartElement("file");
+      writeAttribute(writer, "ID", records.getId(i));
+      writeAttribute(writer, "MIMETYPE", records.getMimetype(i));
+      writeAttribute(writer, "SIZE", Long.toString(records.getSize(i)));
+      final XMLGregorianCalendar created = records.getCreated(i);
+      writeAttribute(writer, "CREATED", created != null ? created.toXMLFormat() : null);
+      writeAttribute(writer, "CHECKSUM", records.getChecksum(i));
+      writeAttribute(writer, "CHECKSUMTYPE", records.getChecksumType(i));
+
+      writer.writeCharacters(LINE_SEPARATOR + indent + INDENT);
+      writer.writeEmptyElement("FLocat");
+      writeAttribute(writer, "LOCTYPE", locationType);
+      writeAttribute(writer, "xlink:type", IPConstants.METS_TYPE_SIMPLE);
+      writeAttribute(writer, "xlink:href", records.getHref(i));
+      writer.writeCharacters(LINE_SEPARATOR + indent);
+      writer.writeEndElement();
+    }
+    writer.flush();
+  }
+
+  private static void writeAttribute(final XMLStreamWriter writer, final String name, final String value)
+    throws XMLStreamException {
+    if (value != null) {
+      writer.writeAttribute(name, value);
+    }
+  }
+
+  private static int indexOf(final byte[] bytes, final byte[] target) {
+    final int last = bytes.length - target.length;
+    for (int i = 0; i <= last; i++) {
+      int j = 0;
+      while (j < target.length && bytes[i + j] == target[j]) {
+        j++;
+      }
+      if (j == target.length) {
+        return i;
+      }
+    }
+    return -1;
+  }
+}
@@ -7,7 +7,6 @@
  */
 package org.roda_project.commons_ip2.utils;
 
-import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -18,14 +17,11 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Map;
 
-import javax.xml.XMLConstants;
 import javax.xml.datatype.DatatypeConfigurationException;
-import javax.xml.transform.Source;
-import javax.xml.transform.stream.StreamSource;
-import javax.xml.validation.Schema;
-import javax.xml.validation.SchemaFactory;
 
+import org.roda_project.commons_ip.utils.BuildContext;
 import org.roda_project.commons_ip.utils.IPException;
+import org.roda_project.commons_ip.utils.METSCodec;
 import org.roda_project.commons_ip.utils.METSEnums.LocType;
 import org.roda_project.commons_ip.utils.ZipEntryInfo;
 import org.roda_project.commons_ip2.mets_v1_12.beans.FileType;
@@ -40,10 +36,7 @@ import org.roda_project.commons_ip2.model.MetsWrapper;
 import org.slf4j.Logger;
 import org.xml.sax.SAXException;
 
-import jakarta.xml.bind.JAXBContext;
 import jakarta.xml.bind.JAXBException;
-import jakarta.xml.bind.Marshaller;
-import jakarta.xml.bind.Unmarshaller;
 
 public final class METSUtils {
 
@@ -51,46 +44,45 @@ public final class METSUtils {
     // do nothing
   }
 
+  private static final METSCodec<Mets> CODEC = new METSCodec<>(Mets.class,
+    IPConstants.SCHEMA_METS_RELATIVE_PATH_FROM_RESOURCES, ResourceResolver::new);
+
+  /**
+   * Get the shared {@link METSCodec} of METS 1.12.
+   *
+   * @return the {@link METSCodec}
+   */
+  public static METSCodec<Mets> getCodec() {
+    return CODEC;
+  }
+
   public static Mets instantiateMETSFromFile(Path metsFile) throws JAXBException, SAXException, IOException {
-    JAXBContext jaxbContext = JAXBContext.newInstance(Mets.class);
-    Unmarshaller jaxbUnmarshaller = jaxbContext.createUnmarshaller();
-    SchemaFactory factory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
-    factory.setResourceResolver(new ResourceResolver());
-    InputStream metsSchemaInputStream = METSUtils.class
-      .getResourceAsStream(IPConstants.SCHEMA_METS_RELATIVE_PATH_FROM_RESOURCES);
-    Source metsSchemaSource = new StreamSource(metsSchemaInputStream);
-    Schema schema = factory.newSchema(metsSchemaSource);
-    jaxbUnmarshaller.setSchema(schema);
-    return (Mets) jaxbUnmarshaller.unmarshal(new BufferedInputStream(Files.newInputStream(metsFile.toAbsolutePath())));
+    return CODEC.unmarshal(metsFile);
   }
 
   public static Path marshallMETS(Mets mets, Path tempMETSFile, boolean rootMETS)
     throws JAXBException, IOException, IPException {
-    JAXBContext context = JAXBContext.newInstance(Mets.class);
-    Marshaller m = context.createMarshaller();
-    m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
-
-    if (rootMETS) {
-      m.setProperty(Marshaller.JAXB_SCHEMA_LOCATION,
-        "http://www.loc.gov/METS/ schemas/" + IPConstants.SCHEMA_METS_FILENAME_WITH_VERSION
-          + " http://www.w3.org/1999/xlink schemas/" + IPConstants.SCHEMA_XLINK_FILENAME
-          + " https://dilcis.eu/XML/METS/CSIPExtensionMETS schemas/" + IPConstants.SCHEMA_EARK_CSIP_FILENAME
-          + " https://dilcis.eu/XML/METS/SIPExtensionMETS schemas/" + IPConstants.SCHEMA_EARK_SIP_FILENAME);
-    } else {
-      m.setProperty(Marshaller.JAXB_SCHEMA_LOCATION,
-        "http://www.loc.gov/METS/ ../../schemas/" + IPConstants.SCHEMA_METS_FILENAME_WITH_VERSION
-          + " http://www.w3.org/1999/xlink ../../schemas/" + IPConstants.SCHEMA_XLINK_FILENAME
-          + " https://dilcis.eu/XML/METS/CSIPExtensionMETS ../../schemas/" + IPConstants.SCHEMA_EARK_CSIP_FILENAME
-          + " https://dilcis.eu/XML/METS/SIPExtensionMETS ../../schemas/" + IPConstants.SCHEMA_EARK_SIP_FILENAME);
-    }
-
     try (OutputStream metsOutputStream = Files.newOutputStream(tempMETSFile)) {
-      m.marshal(mets, metsOutputStream);
+      CODEC.marshal(mets, metsOutputStream, getSchemaLocation(rootMETS));
     }
 
     return tempMETSFile;
   }
 
+  static String getSchemaLocation(boolean rootMETS) {
+    if (rootMETS) {
+      return "http://www.loc.gov/METS/ schemas/" + IPConstants.SCHEMA_METS_FILENAME_WITH_VERSION
+        + " http://www.w3.org/1999/xlink schemas/" + IPConstants.SCHEMA_XLINK_FILENAME
+        + " https://dilcis.eu/XML/METS/CSIPExtensionMETS schemas/" + IPConstants.SCHEMA_EARK_CSIP_FILENAME
+        + " https://dilcis.eu/XML/METS/SIPExtensionMETS schemas/" + IPConstants.SCHEMA_EARK_SIP_FILENAME;
+    } else {
+      return "http://www.loc.gov/METS/ ../../schemas/" + IPConstants.SCHEMA_METS_FILENAME_WITH_VERSION
+        + " http://www.w3.org/1999/xlink ../../schemas/" + IPConstants.SCHEMA_XLINK_FILENAME
+        + " https://dilcis.eu/XML/METS/CSIPExtensionMETS ../../schemas/" + IPConstants.SCHEMA_EARK_CSIP_FILENAME
+        + " https://dilcis.eu/XML/METS/SIPExtensionMETS ../../schemas/" + IPConstants.SCHEMA_EARK_SIP_FILENAME;
+    }
+  }
+
   public static void addMainMETSToZip(Map<String, ZipEntryInfo> zipEntries, MetsWrapper metsWrapper, String metsPath,
     Path buildDir) throws IPException {
     try {
@@ -107,8 +99,7 @@ public final class METSUtils {
 
   public static void addMETSToZip(Map<String, ZipEntryInfo> zipEntries, MetsWrapper metsWrapper, String metsPath,
     Path buildDir, boolean mainMets, FileType fileType) throws JAXBException, IOException, IPException {
-    Path temp = Files.createTempFile(buildDir, IPConstants.METS_FILE_NAME, IPConstants.METS_FILE_EXTENSION);
-    ZIPUtils.addMETSFileToZip(zipEntries, temp, metsPath, metsWrapper.getMets(), mainMets, fileType);
+    ZIPUtils.addMETSToZip(zipEntries, metsPath, metsWrapper.getMets(), mainMets, fileType, buildDir);
   }
 
   public static Agent createMETSAgent(IPAgent ipAgent) {
@@ -167,6 +158,41 @@ public final class METSUtils {
     return mdRef;
   }
 
+  /**
+   * Sets the mimetype (detected from the file name and the first bytes of its
+   * content), creation date and size of a file whose content isn't in the file
+   * system. The file system is never read.
+   *
+   * @param logger
+   *          the {@link Logger}
+   * @param fileName
+   *          the name of the file
+   * @param header
+   *          the first bytes of the content
+   * @param length
+   *          the number of bytes of the header
+   * @param size
+   *          the size of the file
+   * @param fileType
+   *          the {@link FileType}
+   * @throws IPException
+   *           if the creation date can't be set
+   */
+  public static void setFileBasicInformation(Logger logger, String fileName, byte[] header, int length, long size,
+    FileType fileType) throws IPException {
+    logger.debug("Setting mimetype {}", fileName);
+    fileType.setMIMETYPE(getFileMimetype(DetectorHolder.DETECTOR, fileName, header, length));
+    logger.debug("Done setting mimetype");
+
+    try {
+      fileType.setCREATED(Utils.getCurrentCalendar());
+    } catch (DatatypeConfigurationException e) {
+      throw new IPException("Error getting curent calendar (" + fileName + ")", e);
+    }
+
+    fileType.setSIZE(size);
+  }
+
   public static void setFileBasicInformation(Logger logger, Path file, FileType fileType)
     throws IPException, InterruptedException {
     // mimetype info.
@@ -196,15 +222,47 @@ public final class METSUtils {
   }
 
   private static String getFileMimetype(Path file) throws IOException {
-    String probedContentType = Files.probeContentType(file);
-    if (probedContentType == null) {
-      probedContentType = "application/octet-stream";
-    } else {
-      if (!IanaMediaTypes.getIanaMediaTypesList().contains(probedContentType)) {
-        probedContentType = "application/octet-stream";
-      }
+    final byte[] header = new byte[MimeTypeDetector.HEADER_SIZE];
+    return getFileMimetype(DetectorHolder.DETECTOR, file, header, readHeader(file, header));
+  }
+
+  /**
+   * Detects the mimetype of a file with a {@link MimeTypeDetector}, falling back
+   * to {@code application/octet-stream} if it isn't an IANA media type.
+   */
+  static String getFileMimetype(MimeTypeDetector detector, Path file, byte[] header, int length) {
+    final Path fileName = file.getFileName();
+    return getFileMimetype(detector, fileName != null ? fileName.toString() : null, header, length);
+  }
+
+  private static String getFileMimetype(MimeTypeDetector detector, String fileName, byte[] header, int length) {
+    String detectedContentType = detector.detect(fileName, header, length);
+    if (detectedContentType == null || !IanaMediaTypes.getIanaMediaTypesList().contains(detectedContentType)) {
+      detectedContentType = "application/octet-stream";
     }
-    return probedContentType;
+    return detectedContentType;
+  }
+
+  /**
+   * Reads the first bytes of a file, if it exists.
+   *
+   * @return the number of bytes read.
+   */
+  static int readHeader(Path file, byte[] header) throws IOException {
+    if (!Files.isRegularFile(file)) {
+      return 0;
+    }
+    try (InputStream inputStream = Files.newInputStream(file)) {
+      return Math.max(0, inputStream.readNBytes(header, 0, header.length));
+    }
+  }
+
+  /**
+   * The {@link MimeTypeDetector} of the files not harvested by
+   * {@link FileBasicInformation}, shared by all builds.
+   */
+  private static final class DetectorHolder {
+    private static final MimeTypeDetector DETECTOR = MimeTypeDetector.load();
   }
 
   /**
@@ -214,11 +272,12 @@ public final class METSUtils {
    * 20170511 hsilva: a global variable called
    * {@link IPConstants.METS_ENCODE_AND_DECODE_HREF} is used to enable/disable the
    * effective decode (done this way to avoid lots of changes in the methods that
-   * use this method)
+   * use this method), unless the current thread is running a build, which uses
+   * the value of its {@link BuildContext}
    * </p>
    */
   public static String decodeHref(String value) {
-    if (IPConstants.METS_ENCODE_AND_DECODE_HREF) {
+    if (BuildContext.isEncodeAndDecodeHref(IPConstants.METS_ENCODE_AND_DECODE_HREF)) {
       try {
         value = URLDecoder.decode(value, "UTF-8");
       } catch (NullPointerException | UnsupportedEncodingException e) {
@@ -235,12 +294,13 @@ public final class METSUtils {
    * 20170511 hsilva: a global variable called
    * {@link IPConstants.METS_ENCODE_AND_DECODE_HREF} is used to enable/disable the
    * effective encode (done this way to avoid lots of changes in the methods that
-   * use this method). This method is not multi-thread safe when using different
-   * SIP formats.
+   * use this method), unless the current thread is running a build, which uses
+   * the value of its {@link BuildContext}, so builds of different SIP formats can
+   * run concurrently.
    * </p>
    */
   public static String encodeHref(String value) {
-    if (IPConstants.METS_ENCODE_AND_DECODE_HREF) {
+    if (BuildContext.isEncodeAndDecodeHref(IPConstants.METS_ENCODE_AND_DECODE_HREF)) {
       value = escapeSpecialCharacters(value);
     }
     return value;
@@ -9,15 +9,22 @@ package org.roda_project.commons_ip2.utils;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
 
+import org.apache.commons.io.output.DeferredFileOutputStream;
 import org.roda_project.commons_ip.utils.FileZipEntryInfo;
 import org.roda_project.commons_ip.utils.IPException;
 import org.roda_project.commons_ip2.mets_v1_12.beans.FileType;
@@ -26,16 +33,41 @@ import org.roda_project.commons_ip2.model.IPConstants;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import jakarta.xml.bind.DatatypeConverter;
 import jakarta.xml.bind.JAXBException;
 
+/**
+ * A METS file to be zipped.
+ *
+ * <p>
+ * When created with a file path, the METS is marshalled to that file, which is
+ * then read to calculate its checksum and again when zipped. When created
+ * without one, the METS is marshalled in memory (spilling to a temporary file in
+ * the given directory if bigger than {@value #MEMORY_THRESHOLD_PROPERTY}, by
+ * default 16 MiB) while its size, CRC and checksums are calculated, so it is
+ * never re-read from disk.
+ * </p>
+ */
 public class METSZipEntryInfo extends FileZipEntryInfo {
   private static final Logger LOGGER = LoggerFactory.getLogger(METSZipEntryInfo.class);
 
+  /**
+   * System property with the maximum size, in bytes, of a METS kept in memory.
+   */
+  public static final String MEMORY_THRESHOLD_PROPERTY = "metsMemoryThreshold";
+  private static final int DEFAULT_MEMORY_THRESHOLD = 16 * 1024 * 1024;
+
   private Mets mets;
   private boolean rootMETS;
   private Map<String, String> checksums;
   private long size;
   private FileType fileType;
+  private METSFileRecords dataFileRecords;
+
+  private final Path spillDirectory;
+  private final Set<String> checksumAlgorithms = new TreeSet<>();
+  private DeferredFileOutputStream content;
+  private long crc;
 
   public METSZipEntryInfo(String name, Path filePath, Mets mets, boolean rootMETS, FileType fileType) {
     super(name, filePath);
@@ -44,6 +76,104 @@ public class METSZipEntryInfo extends FileZipEntryInfo {
     checksums = new HashMap<>();
     size = 0;
     this.fileType = fileType;
+    this.spillDirectory = null;
+  }
+
+  /**
+   * Creates an entry whose METS is marshalled in memory.
+   *
+   * @param name
+   *          the zip entry name
+   * @param mets
+   *          the {@link Mets}
+   * @param rootMETS
+   *          if it is the root METS
+   * @param fileType
+   *          the {@link FileType} that references this METS from the root
+   *          METS, or {@code null}
+   * @param spillDirectory
+   *          the directory of the temporary file used if the METS is too big to
+   *          be kept in memory
+   */
+  public METSZipEntryInfo(String name, Mets mets, boolean rootMETS, FileType fileType, Path spillDirectory) {
+    super(name, null);
+    this.mets = mets;
+    this.rootMETS = rootMETS;
+    checksums = new HashMap<>();
+    size = 0;
+    this.fileType = fileType;
+    this.spillDirectory = spillDirectory;
+  }
+
+  /**
+   * Sets the records of the data files of the METS, written in place of their
+   * placeholder, see {@link METSStreamWriter}.
+   *
+   * @param dataFileRecords
+   *          the {@link METSFileRecords} or {@code null}
+   */
+  public void setDataFileRecords(METSFileRecords dataFileRecords) {
+    this.dataFileRecords = dataFileRecords;
+  }
+
+  /**
+   * Whether the METS is marshalled in memory instead of to
+   * {@link #getFilePath()}.
+   *
+   * @return {@code true} if there is no file path
+   */
+  public boolean isInMemory() {
+    return getFilePath() == null;
+  }
+
+  /**
+   * Sets the checksum algorithms calculated while marshalling in memory, besides
+   * {@link #getChecksum()}.
+   *
+   * @param checksumAlgorithms
+   *          the checksum algorithms
+   */
+  public void setChecksumAlgorithms(Set<String> checksumAlgorithms) {
+    this.checksumAlgorithms.clear();
+    this.checksumAlgorithms.addAll(checksumAlgorithms);
+  }
+
+  /**
+   * Get the CRC-32 of the METS marshalled in memory.
+   *
+   * @return the CRC-32
+   */
+  public long getCrc() {
+    return crc;
+  }
+
+  @Override
+  public InputStream getInputStream() throws IOException {
+    if (!isInMemory()) {
+      return super.getInputStream();
+    }
+    if (content == null) {
+      throw new IOException("METS " + getName() + " was not prepared for zipping");
+    }
+    return content.toInputStream();
+  }
+
+  /**
+   * Frees the METS marshalled in memory (or its temporary file). It must be
+   * prepared for zipping again before being read.
+   */
+  public void discardContent() {
+    if (content != null) {
+      final Path spillFile = content.getPath();
+      content = null;
+      if (spillFile != null) {
+        try {
+          Files.deleteIfExists(spillFile);
+        } catch (IOException e) {
+          LOGGER.debug("Unable to delete temporary file {}", spillFile, e);
+        }
+      }
+    }
   }
 
   public Map<String, String> getChecksums() {
@@ -64,8 +194,14 @@ public class METSZipEntryInfo extends FileZipEntryInfo {
 
   @Override
   public void prepareEntryForZipping() throws IPException {
+    if (isInMemory()) {
+      marshallInMemory();
+      return;
+    }
     try {
-      METSUtils.marshallMETS(mets, getFilePath(), rootMETS);
+      try (OutputStream metsOutputStream = Files.newOutputStream(getFilePath())) {
+        METSStreamWriter.marshal(mets, dataFileRecords, metsOutputStream, rootMETS);
+      }
       if (!rootMETS && fileType != null) {
         METSUtils.setFileBasicInformation(LOGGER, getFilePath(), fileType);
 
@@ -90,4 +226,53 @@ public class METSZipEntryInfo extends FileZipEntryInfo {
     }
   }
 
+  private void marshallInMemory() throws IPException {
+    discardContent();
+    final Set<String> algorithms = new TreeSet<>(checksumAlgorithms);
+    if (getChecksum() != null) {
+      algorithms.add(getChecksum());
+    }
+
+    try {
+      final Map<String, MessageDigest> digests = new HashMap<>();
+      for (String algorithm : algorithms) {
+        digests.put(algorithm, MessageDigest.getInstance(algorithm));
+      }
+      final CRC32 checksum = new CRC32();
+      final DeferredFileOutputStream deferred = DeferredFileOutputStream.builder()
+        .setThreshold(Integer.getInteger(MEMORY_THRESHOLD_PROPERTY, DEFAULT_MEMORY_THRESHOLD))
+        .setPrefix(IPConstants.METS_FILE_NAME).setSuffix(IPConstants.METS_FILE_EXTENSION)
+        .setDirectory(spillDirectory == null ? null : spillDirectory.toFile()).get();
+      content = deferred;
+      OutputStream out = deferred;
+      for (MessageDigest digest : digests.values()) {
+        out = new DigestOutputStream(out, digest);
+      }
+      try (OutputStream metsOutputStream = new CheckedOutputStream(out, checksum)) {
+        METSStreamWriter.marshal(mets, dataFileRecords, metsOutputStream, rootMETS);
+      }
+
+      size = deferred.getByteCount();
+      crc = checksum.getValue();
+      final Map<String, String> values = new HashMap<>();
+      digests.forEach((algorithm, digest) -> values.put(algorithm, DatatypeConverter.printHexBinary(digest.digest())));
+      checksums = values;
+
+      if (!rootMETS && fileType != null) {
+        final byte[] header = new byte[MimeTypeDetector.HEADER_SIZE];
+        final int length;
+        try (InputStream in = deferred.toInputStream()) {
+          length = in.readNBytes(header, 0, header.length);
+        }
+        final String fileName = getName().substring(getName().lastIndexOf('/') + 1);
+        METSUtils.setFileBasicInformation(LOGGER, fileName, header, length, size, fileType);
+        fileType.setCHECKSUM(values.get(getChecksum()));
+        fileType.setCHECKSUMTYPE(getChecksum());
+      }
+    } catch (JAXBException | IOException | NoSuchAlgorithmException e) {
+      discardContent();
+      throw new IPException("Error marshalling METS", e);
+    }
+  }
+
 }
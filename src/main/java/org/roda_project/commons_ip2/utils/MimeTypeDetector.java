@@ -0,0 +1,68 @@
+package org.roda_project.commons_ip2.utils;
+
+import java.util.Iterator;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+import org.slf4j.LoggerFactory;
+
+/**
+ * Detects the media type of the files added to the METS files of an IP.
+ *
+ * <p>
+ * The detector is given the name of the file and its first
+ * {@value #HEADER_SIZE} bytes, read once per file. Implementations are looked
+ * up with {@link ServiceLoader}, by listing them in
+ * {@code META-INF/services/org.roda_project.commons_ip2.utils.MimeTypeDetector},
+ * the first one found being used, otherwise the built-in
+ * {@link SignatureMimeTypeDetector} is used. A new instance is loaded for the
+ * data files harvested for each IP built, see {@link #load()}, while a single
+ * instance, loaded once, detects the other files of all builds (e.g. metadata
+ * and schemas), so an implementation caching its results must bound the cache.
+ * It's called concurrently, so it must be thread-safe.
+ * </p>
+ *
+ * <p>
+ * A type that isn't an IANA media type, see {@link IanaMediaTypes}, is replaced
+ * by {@code application/octet-stream}.
+ * </p>
+ */
+public interface MimeTypeDetector {
+  /**
+   * Number of bytes of the start of a file given to the detector.
+   */
+  int HEADER_SIZE = 512;
+
+  /**
+   * Detects the media type of a file.
+   *
+   * @param fileName
+   *          the name of the file
+   * @param header
+   *          the first bytes of the file
+   * @param length
+   *          the number of bytes of {@code header} read from the file, at most
+   *          {@value #HEADER_SIZE} and 0 if the file is empty or can't be read
+   * @return the media type or {@code null} if unknown.
+   */
+  String detect(String fileName, byte[] header, int length);
+
+  /**
+   * Loads a new instance of the {@link MimeTypeDetector}.
+   *
+   * @return the first {@link MimeTypeDetector} provided through
+   *         {@link ServiceLoader} or a new {@link SignatureMimeTypeDetector}.
+   */
+  static MimeTypeDetector load() {
+    try {
+      final Iterator<MimeTypeDetector> detectors = ServiceLoader.load(MimeTypeDetector.class).iterator();
+      if (detectors.hasNext()) {
+        return detectors.next();
+      }
+    } catch (ServiceConfigurationError e) {
+      LoggerFactory.getLogger(MimeTypeDetector.class)
+        .warn("Unable to load the media type detector, using the built-in one", e);
+    }
+    return new SignatureMimeTypeDetector();
+  }
+}
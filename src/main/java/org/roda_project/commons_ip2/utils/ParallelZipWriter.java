@@ -0,0 +1,389 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE file at the root of the source
+ * tree and available online at
+ *
+ * https://github.com/keeps/commons-ip
+ */
+package org.roda_project.commons_ip2.utils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+import org.apache.commons.compress.archivers.zip.Zip64Mode;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
+import org.roda_project.commons_ip.utils.IPException;
+import org.roda_project.commons_ip.utils.ZipEntryInfo;
+import org.roda_project.commons_ip2.model.SIP;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jakarta.xml.bind.DatatypeConverter;
+
+/**
+ * Writes the entries of an IP into a zip file deflating and hashing them
+ * concurrently.
+ *
+ * <p>
+ * Each file is read once by a worker thread, which computes its checksums and
+ * CRC and, unless the {@link CompressionPolicy} decides to store it, deflates it
+ * into a buffer (in memory for small files, in a temporary file otherwise). The
+ * calling thread then adds the entries to the zip, in the same order as
+ * {@link ZIPUtils#zip(Map, OutputStream, SIP, boolean, CompressionPolicy)}
+ * would, with ZIP64 records when needed. A METS entry is only marshalled once
+ * every entry before it has been written, so that the checksums of the files it
+ * references are already set.
+ * </p>
+ */
+public final class ParallelZipWriter {
+  private static final Logger LOGGER = LoggerFactory.getLogger(ParallelZipWriter.class);
+
+  /**
+   * Files up to this size are deflated in memory.
+   */
+  private static final long MEMORY_THRESHOLD = 1024L * 1024L;
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private ParallelZipWriter() {
+    // do nothing
+  }
+
+  /**
+   * Writes the entries into a zip.
+   *
+   * @param files
+   *          the entries, in the order they must be written
+   * @param out
+   *          the {@link OutputStream} of the zip, closed at the end
+   * @param sip
+   *          the {@link SIP}
+   * @param createSipIdFolder
+   *          put the entries inside a folder named after the SIP id
+   * @param isCompressed
+   *          deflate the entries or just store them
+   * @param threads
+   *          the number of threads deflating and hashing entries
+   * @throws IOException
+   *           if some I/O error occurs.
+   * @throws InterruptedException
+   *           if the thread is interrupted.
+   * @throws IPException
+   *           if some METS file can't be marshalled.
+   */
+  public static void zip(final Map<String, ZipEntryInfo> files, final OutputStream out, final SIP sip,
+    final boolean createSipIdFolder, final boolean isCompressed, final int threads)
+    throws IOException, InterruptedException, IPException {
+    zip(files, out, sip, createSipIdFolder,
+      CompressionPolicy.deflate(isCompressed ? Deflater.DEFAULT_COMPRESSION : Deflater.NO_COMPRESSION), threads);
+  }
+
+  /**
+   * Writes the entries into a zip, storing or deflating each one as decided by
+   * the given {@link CompressionPolicy}.
+   *
+   * @param files
+   *          the entries, in the order they must be written
+   * @param out
+   *          the {@link OutputStream} of the zip, closed at the end
+   * @param sip
+   *          the {@link SIP}
+   * @param createSipIdFolder
+   *          put the entries inside a folder named after the SIP id
+   * @param compressionPolicy
+   *          the {@link CompressionPolicy}
+   * @param threads
+   *          the number of threads deflating and hashing entries
+   * @throws IOException
+   *           if some I/O error occurs.
+   * @throws InterruptedException
+   *           if the thread is interrupted.
+   * @throws IPException
+   *           if some METS file can't be marshalled.
+   */
+  public static void zip(final Map<String, ZipEntryInfo> files, final OutputStream out, final SIP sip,
+    final boolean createSipIdFolder, final CompressionPolicy compressionPolicy, final int threads)
+    throws IOException, InterruptedException, IPException {
+    final Set<String> nonMetsChecksumAlgorithms = new TreeSet<>();
+    nonMetsChecksumAlgorithms.add(sip.getChecksum());
+    final Set<String> metsChecksumAlgorithms = new TreeSet<>(nonMetsChecksumAlgorithms);
+    metsChecksumAlgorithms.addAll(sip.getExtraChecksumAlgorithms());
+
+    final ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, threads), r -> {
+      final Thread thread = new Thread(r, "zip-writer");
+      thread.setDaemon(true);
+      return thread;
+    });
+    final Deque<Future<DeflatedEntry>> pending = new ArrayDeque<>();
+    final SpillFiles spillFiles = new SpillFiles();
+    final int maxPending = Math.max(1, threads) * 4;
+    int written = 0;
+    try (ZipArchiveOutputStream zos = new ZipArchiveOutputStream(out)) {
+      zos.setUseZip64(Zip64Mode.AsNeeded);
+      for (ZipEntryInfo file : files.values()) {
+        if (Thread.interrupted()) {
+          throw new InterruptedException();
+        }
+
+        file.setChecksum(sip.getChecksum());
+        final String entryName = createSipIdFolder ? sip.getId() + "/" + file.getName() : file.getName();
+        if (file instanceof METSZipEntryInfo metsEntry) {
+          // the METS references the previous entries, so their checksums must
+          // be known before marshalling it
+          while (!pending.isEmpty()) {
+            written = write(zos, await(pending.poll()), sip, compressionPolicy, written);
+          }
+          metsEntry.setChecksumAlgorithms(metsChecksumAlgorithms);
+          file.prepareEntryForZipping();
+          try {
+            written = write(zos, deflate(file, entryName, metsChecksumAlgorithms, compressionPolicy, spillFiles),
+              sip, compressionPolicy, written);
+          } catch (NoSuchAlgorithmException e) {
+            throw new IOException("Error while zipping files", e);
+          }
+        } else {
+          file.prepareEntryForZipping();
+          pending.add(executor.submit(() -> deflate(file, entryName, nonMetsChecksumAlgorithms,
+            compressionPolicy, spillFiles)));
+          if (pending.size() >= maxPending) {
+            written = write(zos, await(pending.poll()), sip, compressionPolicy, written);
+          }
+        }
+      }
+      while (!pending.isEmpty()) {
+        written = write(zos, await(pending.poll()), sip, compressionPolicy, written);
+      }
+    } finally {
+      executor.shutdownNow();
+      // entries deflated but not written, the tasks still running delete their
+      // own spill file when they end
+      spillFiles.close();
+      out.close();
+    }
+  }
+
+  private static DeflatedEntry deflate(final ZipEntryInfo file, final String entryName,
+    final Set<String> checksumAlgorithms, final CompressionPolicy compressionPolicy, final SpillFiles spillFiles)
+    throws IOException, NoSuchAlgorithmException {
+    LOGGER.debug("Zipping file {}", file.getFilePath());
+    final DeflatedEntry entry = new DeflatedEntry(file, entryName, compressionPolicy.decide(file), spillFiles);
+    boolean deflated = false;
+    try {
+      deflate(entry, checksumAlgorithms);
+      deflated = true;
+    } finally {
+      // an entry whose zip was abandoned, e.g. cancelled while being deflated,
+      // won't be written nor discarded by the zip
+      if (!deflated || spillFiles.isClosed()) {
+        entry.discard();
+      }
+    }
+    LOGGER.debug("Done zipping file");
+    return entry;
+  }
+
+  private static void deflate(final DeflatedEntry entry, final Set<String> checksumAlgorithms)
+    throws IOException, NoSuchAlgorithmException {
+    final long start = System.nanoTime();
+    final ZipEntryInfo file = entry.file;
+    final Map<String, MessageDigest> digests = new HashMap<>();
+    final long fileSize;
+    if (file instanceof METSZipEntryInfo metsEntry && metsEntry.isInMemory()) {
+      // checksums were calculated while marshalling
+      entry.checksums.putAll(metsEntry.getChecksums());
+      fileSize = metsEntry.getSize();
+    } else {
+      for (String algorithm : checksumAlgorithms) {
+        digests.put(algorithm, MessageDigest.getInstance(algorithm));
+      }
+      fileSize = Files.size(file.getFilePath());
+    }
+    final CRC32 crc = new CRC32();
+    final OutputStream sink;
+    if (entry.decision.isStored()) {
+      // stored entries are copied from the file itself when written
+      sink = OutputStream.nullOutputStream();
+    } else if (fileSize <= MEMORY_THRESHOLD) {
+      entry.memory = new ByteArrayOutputStream((int) Math.max(32, fileSize / 2));
+      sink = entry.memory;
+    } else {
+      entry.spillFile = entry.spillFiles.create();
+      sink = Files.newOutputStream(entry.spillFile);
+    }
+
+    final Deflater deflater = new Deflater(entry.decision.getLevel(), true);
+    try (DeflaterOutputStream deflaterStream = new DeflaterOutputStream(sink, deflater, BUFFER_SIZE);
+      InputStream inputStream = file.getInputStream()) {
+      final byte[] buffer = new byte[BUFFER_SIZE];
+      int numRead;
+      while ((numRead = inputStream.read(buffer)) != -1) {
+        crc.update(buffer, 0, numRead);
+        for (MessageDigest digest : digests.values()) {
+          digest.update(buffer, 0, numRead);
+        }
+        if (!entry.decision.isStored()) {
+          deflaterStream.write(buffer, 0, numRead);
+        }
+        entry.size += numRead;
+      }
+      deflaterStream.finish();
+      entry.compressedSize = entry.decision.isStored() ? entry.size : deflater.getBytesWritten();
+    } finally {
+      deflater.end();
+    }
+
+    entry.crc = crc.getValue();
+    entry.nanos = System.nanoTime() - start;
+    digests.forEach((algorithm, digest) -> entry.checksums.put(algorithm,
+      DatatypeConverter.printHexBinary(digest.digest())));
+  }
+
+  private static int write(final ZipArchiveOutputStream zos, final DeflatedEntry deflated, final SIP sip,
+    final CompressionPolicy compressionPolicy, final int written) throws IOException {
+    final long start = System.nanoTime();
+    try {
+      final ZipArchiveEntry entry = new ZipArchiveEntry(deflated.entryName);
+      entry.setMethod(deflated.decision.getMethod());
+      entry.setTime(System.currentTimeMillis());
+      entry.setCrc(deflated.crc);
+      entry.setSize(deflated.size);
+      entry.setCompressedSize(deflated.compressedSize);
+      try (InputStream raw = deflated.openRaw()) {
+        zos.addRawArchiveEntry(entry, raw);
+      }
+    } finally {
+      deflated.discard();
+    }
+    compressionPolicy.record(deflated.decision, deflated.size, deflated.compressedSize,
+      deflated.nanos + System.nanoTime() - start);
+
+    final ZipEntryInfo file = deflated.file;
+    if (file instanceof METSZipEntryInfo metsEntry) {
+      metsEntry.setChecksums(deflated.checksums);
+      metsEntry.setSize(deflated.size);
+    }
+    file.setChecksum(deflated.checksums.get(sip.getChecksum()), sip.getChecksum());
+
+    final int current = written + 1;
+    sip.notifySipBuildPackagingCurrentStatus(current);
+    return current;
+  }
+
+  private static DeflatedEntry await(final Future<DeflatedEntry> future) throws IOException, InterruptedException {
+    try {
+      return future.get();
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof IOException cause) {
+        throw cause;
+      }
+      throw new IOException("Error while zipping files", e.getCause());
+    }
+  }
+
+  /**
+   * The temporary files of the entries deflated for a zip, deleted when the zip
+   * ends even if the entries are never written.
+   */
+  private static final class SpillFiles {
+    private final Set<Path> files = new HashSet<>();
+    private boolean closed;
+
+    private synchronized Path create() throws IOException {
+      if (closed) {
+        throw new InterruptedIOException("The zip was abandoned");
+      }
+      final Path spillFile = Files.createTempFile("zip-entry", ".deflated");
+      files.add(spillFile);
+      return spillFile;
+    }
+
+    private synchronized void delete(final Path spillFile) {
+      files.remove(spillFile);
+      try {
+        Files.deleteIfExists(spillFile);
+      } catch (IOException e) {
+        LOGGER.debug("Unable to delete temporary file {}", spillFile, e);
+      }
+    }
+
+    private synchronized boolean isClosed() {
+      return closed;
+    }
+
+    private synchronized void close() {
+      closed = true;
+      for (Path spillFile : new ArrayList<>(files)) {
+        delete(spillFile);
+      }
+    }
+  }
+
+  /**
+   * An entry already deflated (or to be stored) and hashed, waiting to be
+   * written to the zip.
+   */
+  private static final class DeflatedEntry {
+    private final ZipEntryInfo file;
+    private final String entryName;
+    private final CompressionPolicy.Decision decision;
+    private final SpillFiles spillFiles;
+    private final Map<String, String> checksums = new HashMap<>();
+    private ByteArrayOutputStream memory;
+    private Path spillFile;
+    private long size;
+    private long compressedSize;
+    private long crc;
+    private long nanos;
+
+    private DeflatedEntry(final ZipEntryInfo file, final String entryName, final CompressionPolicy.Decision decision,
+      final SpillFiles spillFiles) {
+      this.file = file;
+      this.entryName = entryName;
+      this.decision = decision;
+      this.spillFiles = spillFiles;
+    }
+
+    private InputStream openRaw() throws IOException {
+      if (decision.isStored()) {
+        return file.getInputStream();
+      } else if (spillFile != null) {
+        return Files.newInputStream(spillFile);
+      }
+      return new ByteArrayInputStream(memory.toByteArray());
+    }
+
+    private void discard() {
+      memory = null;
+      if (file instanceof METSZipEntryInfo metsEntry) {
+        metsEntry.discardContent();
+      }
+      if (spillFile != null) {
+        spillFiles.delete(spillFile);
+        spillFile = null;
+      }
+    }
+  }
+}
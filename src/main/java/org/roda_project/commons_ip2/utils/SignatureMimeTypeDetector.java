@@ -0,0 +1,234 @@
+package org.roda_project.commons_ip2.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Built-in {@link MimeTypeDetector}, detecting the media type from the file
+ * extension and from the signature (magic number) at the start of the file,
+ * so the result is the same on every platform.
+ *
+ * <p>
+ * The table of extensions is computed once from the IANA media types: a type
+ * whose subtype is a plain token is mapped from the extension with the same
+ * name (e.g. {@code pdf} to {@code application/pdf}), the first type in the
+ * list winning, and the usual extensions that don't match the subtype are added
+ * on top (e.g. {@code jpg} to {@code image/jpeg}). A specific signature (e.g.
+ * {@code %PDF-}) takes precedence over the extension, while a container
+ * signature (e.g. ZIP or XML) is only used when the extension is unknown.
+ * </p>
+ *
+ * <p>
+ * The results are cached by extension and signature for the lifetime of the
+ * instance, up to {@value #CACHED_RESULTS} of them, as the instance detecting
+ * the files not harvested is shared by all builds.
+ * </p>
+ */
+public class SignatureMimeTypeDetector implements MimeTypeDetector {
+  private static final String DEFAULT_TEXT_TYPE = "text/plain";
+  /**
+   * Maximum number of cached results, the others being detected every time.
+   */
+  private static final int CACHED_RESULTS = 1024;
+
+  /**
+   * A signature at a fixed offset of the file.
+   */
+  private static final class Signature {
+    private final int offset;
+    private final byte[] magic;
+    private final String type;
+    /**
+     * Whether the signature identifies the format, otherwise it identifies a
+     * container of several formats.
+     */
+    private final boolean specific;
+
+    private Signature(final int offset, final String magic, final String type, final boolean specific) {
+      this.offset = offset;
+      this.magic = magic.getBytes(StandardCharsets.ISO_8859_1);
+      this.type = type;
+      this.specific = specific;
+    }
+
+    private boolean matches(final byte[] header, final int length) {
+      if (offset + magic.length > length) {
+        return false;
+      }
+      for (int i = 0; i < magic.length; i++) {
+        if (header[offset + i] != magic[i]) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+
+  /**
+   * The extensions and signatures, computed once from the IANA media types.
+   */
+  private static final class Tables {
+    private static final Map<String, String> EXTENSIONS = loadExtensions();
+    private static final List<Signature> SIGNATURES = loadSignatures();
+
+    private static Map<String, String> loadExtensions() {
+      final Set<String> ianaMediaTypes = IanaMediaTypes.getIanaMediaTypesList();
+      final Map<String, String> extensions = new HashMap<>();
+      for (String type : IanaMediaTypes.getIanaMediaTypesInOrder()) {
+        final String subtype = type.substring(type.indexOf('/') + 1);
+        if (subtype.length() <= 8 && subtype.chars().allMatch(c -> c >= 'a' && c <= 'z' || c >= '0' && c <= '9')) {
+          extensions.putIfAbsent(subtype, type);
+        }
+      }
+      for (Map.Entry<String, String> extension : usualExtensions().entrySet()) {
+        if (ianaMediaTypes.contains(extension.getValue())) {
+          extensions.put(extension.getKey(), extension.getValue());
+        }
+      }
+      return Collections.unmodifiableMap(extensions);
+    }
+
+    private static Map<String, String> usualExtensions() {
+      final Map<String, String> extensions = new LinkedHashMap<>();
+      extensions.put("txt", DEFAULT_TEXT_TYPE);
+      extensions.put("text", DEFAULT_TEXT_TYPE);
+      extensions.put("log", DEFAULT_TEXT_TYPE);
+      extensions.put("md", "text/markdown");
+      extensions.put("htm", "text/html");
+      extensions.put("html", "text/html");
+      extensions.put("js", "text/javascript");
+      extensions.put("xsd", "application/xml");
+      extensions.put("xsl", "application/xslt+xml");
+      extensions.put("xslt", "application/xslt+xml");
+      extensions.put("xhtml", "application/xhtml+xml");
+      extensions.put("dtd", "application/xml-dtd");
+      extensions.put("svg", "image/svg+xml");
+      extensions.put("jpg", "image/jpeg");
+      extensions.put("jpe", "image/jpeg");
+      extensions.put("tif", "image/tiff");
+      extensions.put("jpf", "image/jpx");
+      extensions.put("mp4", "video/mp4");
+      extensions.put("m4a", "audio/mp4");
+      extensions.put("mp3", "audio/mpeg");
+      extensions.put("mpg", "video/mpeg");
+      extensions.put("mov", "video/quicktime");
+      extensions.put("ogg", "audio/ogg");
+      extensions.put("oga", "audio/ogg");
+      extensions.put("ogv", "video/ogg");
+      extensions.put("gz", "application/gzip");
+      extensions.put("tgz", "application/gzip");
+      extensions.put("zst", "application/zstd");
+      extensions.put("epub", "application/epub+zip");
+      extensions.put("doc", "application/msword");
+      extensions.put("xls", "application/vnd.ms-excel");
+      extensions.put("ppt", "application/vnd.ms-powerpoint");
+      extensions.put("docx", "application/vnd.openxmlformats-officedocument.wordprocessingml.document");
+      extensions.put("xlsx", "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
+      extensions.put("pptx", "application/vnd.openxmlformats-officedocument.presentationml.presentation");
+      extensions.put("odt", "application/vnd.oasis.opendocument.text");
+      extensions.put("ods", "application/vnd.oasis.opendocument.spreadsheet");
+      extensions.put("odp", "application/vnd.oasis.opendocument.presentation");
+      extensions.put("sqlite", "application/vnd.sqlite3");
+      extensions.put("gpkg", "application/geopackage+sqlite3");
+      return extensions;
+    }
+
+    private static List<Signature> loadSignatures() {
+      final Set<String> ianaMediaTypes = IanaMediaTypes.getIanaMediaTypesList();
+      final List<Signature> signatures = new ArrayList<>();
+      signatures.add(new Signature(0, "%PDF-", "application/pdf", true));
+      signatures.add(new Signature(0, "\u0089PNG\r\n\u001a\n", "image/png", true));
+      signatures.add(new Signature(0, "\u00ff\u00d8\u00ff", "image/jpeg", true));
+      signatures.add(new Signature(0, "GIF87a", "image/gif", true));
+      signatures.add(new Signature(0, "GIF89a", "image/gif", true));
+      signatures.add(new Signature(0, "II*\u0000", "image/tiff", true));
+      signatures.add(new Signature(0, "MM\u0000*", "image/tiff", true));
+      signatures.add(new Signature(0, "BM", "image/bmp", false));
+      signatures.add(new Signature(0, "\u0000\u0000\u0000\u000cjP  \r\n\u0087\n", "image/jp2", true));
+      signatures.add(new Signature(0, "{\\rtf", "application/rtf", true));
+      signatures.add(new Signature(0, "\u001f\u008b", "application/gzip", true));
+      signatures.add(new Signature(0, "(\u00b5/\u00fd", "application/zstd", true));
+      signatures.add(new Signature(0, "SQLite format 3\u0000", "application/vnd.sqlite3", false));
+      signatures.add(new Signature(0, "ID3", "audio/mpeg", true));
+      signatures.add(new Signature(0, "OggS", "application/ogg", false));
+      signatures.add(new Signature(0, "PK\u0003\u0004", "application/zip", false));
+      signatures.add(new Signature(0, "<?xml", "application/xml", false));
+      signatures.add(new Signature(0, "\u00ef\u00bb\u00bf<?xml", "application/xml", false));
+      signatures.removeIf(signature -> !ianaMediaTypes.contains(signature.type));
+      return Collections.unmodifiableList(signatures);
+    }
+  }
+
+  private final Map<String, String> cache = new ConcurrentHashMap<>();
+
+  @Override
+  public String detect(final String fileName, final byte[] header, final int length) {
+    final String extension = getExtension(fileName);
+    final Signature signature = sniff(header, length);
+    final boolean text = signature == null && isText(header, length);
+    final String key = extension + '\u0000' + (signature != null ? Tables.SIGNATURES.indexOf(signature) : text);
+    final String cached = cache.get(key);
+    if (cached != null) {
+      return cached;
+    }
+    final String type = detect(extension, signature, text);
+    if (type != null && cache.size() < CACHED_RESULTS) {
+      cache.putIfAbsent(key, type);
+    }
+    return type;
+  }
+
+  private static String detect(final String extension, final Signature signature, final boolean text) {
+    if (signature != null && signature.specific) {
+      return signature.type;
+    }
+    final String type = Tables.EXTENSIONS.get(extension);
+    if (type != null) {
+      return type;
+    } else if (signature != null) {
+      return signature.type;
+    } else if (text) {
+      return DEFAULT_TEXT_TYPE;
+    }
+    return null;
+  }
+
+  private static String getExtension(final String fileName) {
+    final int dot = fileName != null ? fileName.lastIndexOf('.') : -1;
+    return dot >= 0 ? fileName.substring(dot + 1).toLowerCase(Locale.ROOT) : "";
+  }
+
+  private static Signature sniff(final byte[] header, final int length) {
+    for (Signature signature : Tables.SIGNATURES) {
+      if (signature.matches(header, length)) {
+        return signature;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Checks if the header looks like text, i.e. it isn't empty and has no control
+   * characters other than whitespace.
+   */
+  private static boolean isText(final byte[] header, final int length) {
+    if (length == 0) {
+      return false;
+    }
+    for (int i = 0; i < length; i++) {
+      final int b = header[i] & 0xff;
+      if (b < 0x20 && b != '\t' && b != '\n' && b != '\r' && b != '\f' || b == 0x7f) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
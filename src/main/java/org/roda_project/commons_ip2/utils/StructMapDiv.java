@@ -57,4 +57,14 @@ public class StructMapDiv {
     final StructMapDiv structMapDiv = (StructMapDiv) obj;
     return label.equals(structMapDiv.label);
   }
+
+  /**
+   * Hash code method to this Class, consistent with {@link #equals(Object)}.
+   *
+   * @return the hash code of the label.
+   */
+  @Override
+  public int hashCode() {
+    return label.hashCode();
+  }
 }
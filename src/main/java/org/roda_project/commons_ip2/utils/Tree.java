@@ -1,10 +1,19 @@
 package org.roda_project.commons_ip2.utils;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * {@author João Gomes <jgomes@keep.pt>}.
+ *
+ * <p>
+ * The children of a node are kept in insertion order and indexed by their root,
+ * so adding a child or looking it up takes constant time however many siblings
+ * it has. The roots must implement {@link Object#hashCode()} consistently with
+ * {@link Object#equals(Object)}.
+ * </p>
  * 
  * @param <T>
  *          generic object.
@@ -27,6 +36,11 @@ public class Tree<T> {
    * children nodes {@link ArrayList}.
    */
   private ArrayList<Tree<T>> childs;
+  /**
+   * children nodes by their root, the first one if there are several equal
+   * roots.
+   */
+  private final Map<T, Tree<T>> childsByRoot;
 
   /**
    * Constructor of new Tree.
@@ -37,6 +51,7 @@ public class Tree<T> {
   public Tree(final T root) {
     this.root = root;
     this.childs = new ArrayList<>();
+    this.childsByRoot = new HashMap<>();
   }
 
   /**
@@ -46,18 +61,33 @@ public class Tree<T> {
    *          {@link T}
    */
   public Tree<T> addChild(final T child, final T parentNode) {
-    final Tree<T> childTree;
-    if (!checkIfExistChild(child, parentNode)) {
+    Tree<T> childTree = getChild(child, parentNode);
+    if (childTree == null) {
       childTree = new Tree<>(child);
       childTree.parent = this;
       this.childs.add(childTree);
-
-    } else {
-      childTree = getChild(child, parentNode);
+      this.childsByRoot.putIfAbsent(child, childTree);
     }
     return childTree;
   }
 
+  /**
+   * Add a path of descendants to the Tree, each one a child of the previous one,
+   * reusing the existing nodes.
+   *
+   * @param path
+   *          the roots of the descendants, from the child of this node down
+   * @return the {@link Tree<T>} of the last descendant, or this node if the path
+   *         is empty.
+   */
+  public Tree<T> addPath(final Iterable<T> path) {
+    Tree<T> node = this;
+    for (T descendant : path) {
+      node = node.addChild(descendant, node.getRoot());
+    }
+    return node;
+  }
+
   /**
    * Get the root of this tree.
    * 
@@ -110,14 +140,7 @@ public class Tree<T> {
    * @return a flag if exist or not.
    */
   public boolean checkIfExistChild(final T child, final T parentNode) {
-    boolean exist = false;
-    for (Tree<T> children : childs) {
-      if (children.getRoot().equals(child) && root.equals(parentNode)) {
-        exist = true;
-        break;
-      }
-    }
-    return exist;
+    return getChild(child, parentNode) != null;
   }
 
   /**
@@ -128,11 +151,9 @@ public class Tree<T> {
    * @return {@link Tree<T>}.
    */
   public Tree<T> getChild(final T child, final T parentNode) {
-    for (Tree<T> children : childs) {
-      if (children.getRoot().equals(child) && root.equals(parentNode)) {
-        return children;
-      }
+    if (!root.equals(parentNode)) {
+      return null;
     }
-    return null;
+    return childsByRoot.get(child);
   }
 }
@@ -10,22 +10,37 @@ package org.roda_project.commons_ip2.utils;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.ByteBuffer;
 import java.nio.channels.ClosedByInterruptException;
+import java.nio.channels.FileChannel;
 import java.nio.file.DirectoryNotEmptyException;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.xml.datatype.DatatypeConfigurationException;
 import javax.xml.datatype.DatatypeFactory;
@@ -52,9 +67,59 @@ public final class Utils {
 
   private static final String SYSTEM_OS = System.getProperty("os.name").toLowerCase();
 
+  private static final int CHECKSUM_BUFFER_SIZE = 64 * 1024;
+  /**
+   * Direct buffers used to read files, so most files are read with a single
+   * system call. At most 64 are kept for reuse, further concurrent reads using
+   * heap buffers instead of reserving more direct memory.
+   */
+  private static final ChecksumBuffers CHECKSUM_BUFFERS = new ChecksumBuffers(1024 * 1024, 64);
+  /**
+   * Files from this size on are read with the larger buffers, if one is free,
+   * so fewer system calls are made for them.
+   */
+  private static final long CHECKSUM_LARGE_FILE_SIZE = 64L * 1024 * 1024;
+  private static final ChecksumBuffers CHECKSUM_LARGE_BUFFERS = new ChecksumBuffers(8 * 1024 * 1024, 8);
+
   private Utils() {
   }
 
+  /**
+   * Lazily creates the {@link DatatypeFactory}, its lookup of the implementation
+   * being much more expensive than creating a calendar with it.
+   */
+  private static final class DatatypeFactoryHolder {
+    private static final DatatypeFactory FACTORY;
+    private static final DatatypeConfigurationException FAILURE;
+
+    static {
+      DatatypeFactory factory = null;
+      DatatypeConfigurationException failure = null;
+      try {
+        factory = DatatypeFactory.newInstance();
+      } catch (DatatypeConfigurationException e) {
+        failure = e;
+      }
+      FACTORY = factory;
+      FAILURE = failure;
+    }
+  }
+
+  /**
+   * Get the shared {@link DatatypeFactory}.
+   *
+   * @return the {@link DatatypeFactory}.
+   * @throws DatatypeConfigurationException
+   *           if no implementation of {@link DatatypeFactory} is available.
+   */
+  public static DatatypeFactory getDatatypeFactory() throws DatatypeConfigurationException {
+    if (DatatypeFactoryHolder.FACTORY == null) {
+      throw new DatatypeConfigurationException(DatatypeFactoryHolder.FAILURE.getMessage(),
+        DatatypeFactoryHolder.FAILURE);
+    }
+    return DatatypeFactoryHolder.FACTORY;
+  }
+
   public static boolean systemIsWindows() {
     return SYSTEM_OS.contains("win");
   }
@@ -63,7 +128,7 @@ public final class Utils {
     Optional<XMLGregorianCalendar> res = Optional.empty();
     try {
       GregorianCalendar c = new GregorianCalendar();
-      Optional.of(DatatypeFactory.newInstance().newXMLGregorianCalendar(c));
+      Optional.of(getDatatypeFactory().newXMLGregorianCalendar(c));
     } catch (DatatypeConfigurationException e) {
       // do nothing & return empty
     }
@@ -73,7 +138,7 @@ public final class Utils {
   public static XMLGregorianCalendar getCurrentCalendar() throws DatatypeConfigurationException {
     GregorianCalendar gcal = new GregorianCalendar();
     gcal.setTime(new Date());
-    return DatatypeFactory.newInstance().newXMLGregorianCalendar(gcal);
+    return getDatatypeFactory().newXMLGregorianCalendar(gcal);
   }
 
   public static String generateRandomAndPrefixedUUID() {
@@ -161,18 +226,178 @@ public final class Utils {
    */
   public static String calculateChecksum(InputStream is, String algorithm)
     throws NoSuchAlgorithmException, IOException {
-    MessageDigest digester = MessageDigest.getInstance(algorithm);
+    return calculateChecksums(is, Collections.singleton(algorithm)).get(algorithm);
+  }
+
+  /**
+   * Calculates the checksums of several algorithms reading the inputstream only
+   * once, closing it in the end.
+   *
+   * @return {@link Map} of checksum per algorithm, in the iteration order of the
+   *         algorithms
+   */
+  public static Map<String, String> calculateChecksums(InputStream is, Set<String> algorithms)
+    throws NoSuchAlgorithmException, IOException {
+    Map<String, MessageDigest> digesters = new LinkedHashMap<>();
+    for (String algorithm : algorithms) {
+      digesters.put(algorithm, MessageDigest.getInstance(algorithm));
+    }
     try {
-      byte[] block = new byte[4096];
+      byte[] block = new byte[CHECKSUM_BUFFER_SIZE];
       int length;
       while ((length = is.read(block)) > 0) {
-        digester.update(block, 0, length);
+        for (MessageDigest digester : digesters.values()) {
+          digester.update(block, 0, length);
+        }
       }
     } finally {
       is.close();
     }
 
-    return DatatypeConverter.printHexBinary(digester.digest());
+    Map<String, String> checksums = new LinkedHashMap<>();
+    for (Map.Entry<String, MessageDigest> digester : digesters.entrySet()) {
+      checksums.put(digester.getKey(), DatatypeConverter.printHexBinary(digester.getValue().digest()));
+    }
+    return checksums;
+  }
+
+  /**
+   * Calculates the checksum of a file, see {@link #calculateChecksums(Path, Set)}.
+   */
+  public static String calculateChecksum(Path file, String algorithm) throws NoSuchAlgorithmException, IOException {
+    return calculateChecksums(file, Collections.singleton(algorithm)).get(algorithm);
+  }
+
+  /**
+   * Calculates the checksums of several algorithms reading the file only once.
+   *
+   * <p>
+   * The file is read through a {@link FileChannel} into a reused direct buffer
+   * large enough to take most files in one read, each read asking only for the
+   * size of the file up to the size of the buffer, which is larger for large
+   * files. Files aren't memory-mapped: a
+   * mapping is only released when its buffer is garbage collected, keeping the
+   * file locked on Windows and its pages mapped meanwhile, and a file truncated
+   * while mapped makes the digest fail with an {@link InternalError}.
+   * </p>
+   *
+   * @return {@link Map} of checksum per algorithm, in the iteration order of the
+   *         algorithms
+   */
+  public static Map<String, String> calculateChecksums(Path file, Set<String> algorithms)
+    throws NoSuchAlgorithmException, IOException {
+    Map<String, MessageDigest> digesters = new LinkedHashMap<>();
+    for (String algorithm : algorithms) {
+      digesters.put(algorithm, MessageDigest.getInstance(algorithm));
+    }
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      long size = channel.size();
+      ByteBuffer buffer = acquireChecksumBuffer(size);
+      try {
+        int readSize = (int) Math.max(1, Math.min(size, buffer.capacity()));
+        buffer.limit(readSize);
+        while (channel.read(buffer) >= 0) {
+          buffer.flip();
+          updateDigesters(digesters.values(), buffer);
+          buffer.clear().limit(readSize);
+        }
+      } finally {
+        releaseChecksumBuffer(buffer);
+      }
+    }
+
+    Map<String, String> checksums = new LinkedHashMap<>();
+    for (Map.Entry<String, MessageDigest> digester : digesters.entrySet()) {
+      checksums.put(digester.getKey(), DatatypeConverter.printHexBinary(digester.getValue().digest()));
+    }
+    return checksums;
+  }
+
+  private static void updateDigesters(Collection<MessageDigest> digesters, ByteBuffer buffer) {
+    int start = buffer.position();
+    for (MessageDigest digester : digesters) {
+      buffer.position(start);
+      digester.update(buffer);
+    }
+  }
+
+  private static ByteBuffer acquireChecksumBuffer(long fileSize) {
+    ByteBuffer buffer = fileSize >= CHECKSUM_LARGE_FILE_SIZE ? CHECKSUM_LARGE_BUFFERS.acquire() : null;
+    if (buffer == null) {
+      buffer = CHECKSUM_BUFFERS.acquire();
+    }
+    return buffer != null ? buffer : ByteBuffer.allocate(CHECKSUM_BUFFER_SIZE);
+  }
+
+  private static void releaseChecksumBuffer(ByteBuffer buffer) {
+    if (buffer.isDirect()) {
+      buffer.clear();
+      (buffer.capacity() == CHECKSUM_LARGE_BUFFERS.size ? CHECKSUM_LARGE_BUFFERS : CHECKSUM_BUFFERS).release(buffer);
+    }
+  }
+
+  /**
+   * Direct buffers of a size kept for reuse, up to a maximum number.
+   */
+  private static final class ChecksumBuffers {
+    private final int size;
+    private final int max;
+    private final Queue<ByteBuffer> buffers = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger allocated = new AtomicInteger();
+
+    private ChecksumBuffers(int size, int max) {
+      this.size = size;
+      this.max = max;
+    }
+
+    /**
+     * @return a free buffer or {@code null} if the maximum is in use.
+     */
+    private ByteBuffer acquire() {
+      ByteBuffer buffer = buffers.poll();
+      if (buffer == null) {
+        if (allocated.incrementAndGet() <= max) {
+          buffer = ByteBuffer.allocateDirect(size);
+        } else {
+          allocated.decrementAndGet();
+        }
+      }
+      return buffer;
+    }
+
+    private void release(ByteBuffer buffer) {
+      buffers.offer(buffer);
+    }
+  }
+
+  /**
+   * Creates an executor with a virtual thread per task or, if they aren't
+   * requested or the JVM doesn't support them, with a fixed pool of daemon
+   * threads. The library targets Java 17, so the virtual thread executor is
+   * obtained reflectively.
+   *
+   * @param name
+   *          the name of the threads of the fixed pool
+   * @param threads
+   *          the number of threads of the fixed pool
+   * @param virtualThreads
+   *          use a virtual thread per task if the JVM supports it
+   * @return the {@link ExecutorService}.
+   */
+  public static ExecutorService newExecutor(String name, int threads, boolean virtualThreads) {
+    if (virtualThreads) {
+      try {
+        return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+      } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+        LOGGER.warn("Virtual threads aren't supported by this JVM, using {} {} threads", Math.max(1, threads), name);
+        LOGGER.debug("Unable to create the virtual thread executor", e);
+      }
+    }
+    return Executors.newFixedThreadPool(Math.max(1, threads), r -> {
+      Thread thread = new Thread(r, name);
+      thread.setDaemon(true);
+      return thread;
+    });
   }
 
   public static List<String> getFileRelativeFolders(Path basePath, Path filePath) {
@@ -188,6 +413,17 @@ public final class Utils {
 
   public static Optional<IPFileInterface> validateFile(IPInterface ip, Path filePath, List<String> fileRelativeFolders,
     String metsChecksum, String metsChecksumAlgorithm, String metsElementId) {
+    return validateFile(ip, filePath, fileRelativeFolders, metsChecksum, metsChecksumAlgorithm, metsElementId,
+      Collections.emptySet());
+  }
+
+  /**
+   * Validates a file against the checksum declared in the METS, computing in the
+   * same read the checksums of the extra algorithms, which are set on the
+   * resulting {@link IPFile}.
+   */
+  public static Optional<IPFileInterface> validateFile(IPInterface ip, Path filePath, List<String> fileRelativeFolders,
+    String metsChecksum, String metsChecksumAlgorithm, String metsElementId, Set<String> extraChecksumAlgorithms) {
     boolean calculateChecksum = true;
     Optional<IPFileInterface> file = Optional.empty();
 
@@ -205,10 +441,19 @@ public final class Utils {
 
     if (calculateChecksum) {
       try {
-        String computedChecksum = Utils.calculateChecksum(Files.newInputStream(filePath), metsChecksumAlgorithm);
+        Set<String> algorithms = new LinkedHashSet<>();
+        algorithms.add(metsChecksumAlgorithm);
+        algorithms.addAll(extraChecksumAlgorithms);
+        Map<String, String> checksums = Utils.calculateChecksums(filePath, algorithms);
+        String computedChecksum = checksums.remove(metsChecksumAlgorithm);
         if (computedChecksum.equalsIgnoreCase(metsChecksum)) {
-          file = Optional
-            .of(new IPFile(filePath, fileRelativeFolders).setChecksumAndAlgorithm(metsChecksum, metsChecksumAlgorithm));
+          IPFile ipFile = new IPFile(filePath, fileRelativeFolders);
+          ipFile.setChecksumAndAlgorithm(metsChecksum, metsChecksumAlgorithm);
+          if (extraChecksumAlgorithms.contains(metsChecksumAlgorithm)) {
+            checksums.put(metsChecksumAlgorithm, computedChecksum);
+          }
+          ipFile.setExtraChecksums(checksums);
+          file = Optional.of(ipFile);
         } else {
           ValidationUtils.addIssue(ip.getValidationReport(), ValidationConstants.CHECKSUMS_DIFFER,
             ValidationEntry.LEVEL.ERROR, metsElementId, metsChecksum, metsChecksumAlgorithm, computedChecksum,
@@ -12,8 +12,11 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.ProviderNotFoundException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.HashMap;
@@ -22,6 +25,8 @@ import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
 import java.util.zip.Deflater;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
@@ -62,27 +67,79 @@ public final class ZIPUtils {
       return source;
     }
 
-    Path ipFolderPath = destinationDirectory;
     try {
       ZIPUtils.unzip(source, destinationDirectory);
+      return getIPFolder(destinationDirectory);
+    } catch (IOException e) {
+      throw new ParseException("Error unzipping file", e);
+    }
+  }
+
+  /**
+   * Opens an IP in zip format as a zip {@link FileSystem}, so that the METS
+   * files, metadata and data files can be read directly from the archive
+   * without extracting it. The returned {@link Path} (and every {@link Path}
+   * resolved from it) is only usable while its {@link FileSystem} is open, so
+   * the caller must close it with {@link #closeIPInZipFormat(Path)} when done.
+   * Content can be extracted on demand, e.g. with
+   * {@link Files#copy(Path, Path, java.nio.file.CopyOption...)}. Note that the
+   * zip file system treats a backslash as a path separator, so entries whose name
+   * contains it can't be reached this way.
+   *
+   * @param source
+   *          IP, if it's a folder it is returned as is
+   * @return the {@link Path} of the IP folder inside the archive
+   * @throws ParseException
+   *           if the archive can't be opened
+   */
+  public static Path openIPInZipFormat(final Path source) throws ParseException {
+    if (Files.isDirectory(source)) {
+      return source;
+    }
+
+    Path root = null;
+    try {
+      root = FileSystems.newFileSystem(source, (ClassLoader) null).getPath("/");
+      return getIPFolder(root);
+    } catch (IOException | ProviderNotFoundException e) {
+      closeIPInZipFormat(root);
+      throw new ParseException("Error opening zip file", e);
+    }
+  }
+
+  /**
+   * Closes the zip {@link FileSystem} opened by
+   * {@link #openIPInZipFormat(Path)}. Does nothing if the {@link Path} belongs to
+   * the default file system.
+   *
+   * @param ipPath
+   *          the {@link Path} of the IP or of any file inside it
+   */
+  public static void closeIPInZipFormat(final Path ipPath) {
+    if (ipPath != null && ipPath.getFileSystem() != FileSystems.getDefault()) {
+      try {
+        ipPath.getFileSystem().close();
+      } catch (IOException e) {
+        LOGGER.debug("Error closing zip file system", e);
+      }
+    }
+  }
 
-      // 20161111 hsilva: see if the IP extracted has a folder which contains
-      // the content of the IP (for being compliant with previous way of
-      // creating SIP in ZIP format, this test/adjustment is needed)
-      if (Files.exists(destinationDirectory) && !Files.exists(destinationDirectory.resolve(IPConstants.METS_FILE))) {
-        try (DirectoryStream<Path> directoryStream = Files.newDirectoryStream(destinationDirectory)) {
-          for (Path path : directoryStream) {
-            if (Files.isDirectory(path) && Files.exists(path.resolve(IPConstants.METS_FILE))) {
-              ipFolderPath = path;
-              break;
-            }
+  private static Path getIPFolder(final Path root) throws IOException {
+    Path ipFolderPath = root;
+    // 20161111 hsilva: see if the IP extracted has a folder which contains
+    // the content of the IP (for being compliant with previous way of
+    // creating SIP in ZIP format, this test/adjustment is needed)
+    if (Files.exists(root) && !Files.exists(root.resolve(IPConstants.METS_FILE))) {
+      try (DirectoryStream<Path> directoryStream = Files.newDirectoryStream(root)) {
+        for (Path path : directoryStream) {
+          if (Files.isDirectory(path) && Files.exists(path.resolve(IPConstants.METS_FILE))) {
+            ipFolderPath = path;
+            break;
           }
         }
       }
-    } catch (IOException e) {
-      throw new ParseException("Error unzipping file", e);
     }
-
     return ipFolderPath;
   }
 
@@ -98,12 +155,43 @@ public final class ZIPUtils {
     return zipEntries;
   }
 
+  /**
+   * Adds a data file whose METS information is a record of
+   * {@link METSFileRecords}.
+   */
+  public static Map<String, ZipEntryInfo> addFileRecordToZip(Map<String, ZipEntryInfo> zipEntries, Path filePath,
+    String zipPath, METSFileRecords records, int record) {
+    zipEntries.put(zipPath, new METSFileRecordZipEntryInfo(zipPath, filePath, records, record));
+    return zipEntries;
+  }
+
   public static Map<String, ZipEntryInfo> addMETSFileToZip(Map<String, ZipEntryInfo> zipEntries, Path filePath,
     String zipPath, Mets mets, boolean rootMETS, FileType fileType) throws IPException {
     zipEntries.put(zipPath, new METSZipEntryInfo(zipPath, filePath, mets, rootMETS, fileType));
     return zipEntries;
   }
 
+  /**
+   * Adds a METS file marshalled in memory, see
+   * {@link METSZipEntryInfo#METSZipEntryInfo(String, Mets, boolean, FileType, Path)}.
+   */
+  public static Map<String, ZipEntryInfo> addMETSToZip(Map<String, ZipEntryInfo> zipEntries, String zipPath, Mets mets,
+    boolean rootMETS, FileType fileType, Path spillDirectory) {
+    return addMETSToZip(zipEntries, zipPath, mets, null, rootMETS, fileType, spillDirectory);
+  }
+
+  /**
+   * Adds a METS file marshalled in memory whose data files are kept as
+   * {@link METSFileRecords}, see {@link METSStreamWriter}.
+   */
+  public static Map<String, ZipEntryInfo> addMETSToZip(Map<String, ZipEntryInfo> zipEntries, String zipPath, Mets mets,
+    METSFileRecords dataFileRecords, boolean rootMETS, FileType fileType, Path spillDirectory) {
+    final METSZipEntryInfo entry = new METSZipEntryInfo(zipPath, mets, rootMETS, fileType, spillDirectory);
+    entry.setDataFileRecords(dataFileRecords);
+    zipEntries.put(zipPath, entry);
+    return zipEntries;
+  }
+
   public static void zip(Map<String, ZipEntryInfo> files, OutputStream out, SIP sip, boolean isCompressed)
     throws IOException, InterruptedException, IPException {
     zip(files, out, sip, true, isCompressed);
@@ -111,12 +199,34 @@ public final class ZIPUtils {
 
   public static void zip(Map<String, ZipEntryInfo> files, OutputStream out, SIP sip, boolean createSipIdFolder,
     boolean isCompressed) throws IOException, InterruptedException, IPException {
+    zip(files, out, sip, createSipIdFolder,
+      CompressionPolicy.deflate(isCompressed ? Deflater.DEFAULT_COMPRESSION : Deflater.NO_COMPRESSION));
+  }
+
+  /**
+   * Writes the entries into a zip, storing or deflating each one as decided by
+   * the given {@link CompressionPolicy}.
+   *
+   * @param files
+   *          the entries, in the order they must be written
+   * @param out
+   *          the {@link OutputStream} of the zip, closed at the end
+   * @param sip
+   *          the {@link SIP}
+   * @param createSipIdFolder
+   *          put the entries inside a folder named after the SIP id
+   * @param compressionPolicy
+   *          the {@link CompressionPolicy}
+   * @throws IOException
+   *           if some I/O error occurs.
+   * @throws InterruptedException
+   *           if the thread is interrupted.
+   * @throws IPException
+   *           if some METS file can't be marshalled.
+   */
+  public static void zip(Map<String, ZipEntryInfo> files, OutputStream out, SIP sip, boolean createSipIdFolder,
+    CompressionPolicy compressionPolicy) throws IOException, InterruptedException, IPException {
     ZipOutputStream zos = new ZipOutputStream(out);
-    if (isCompressed) {
-      zos.setLevel(Deflater.DEFAULT_COMPRESSION);
-    } else {
-      zos.setLevel(Deflater.NO_COMPRESSION);
-    }
 
     Set<String> nonMetsChecksumAlgorithms = new TreeSet<>();
     nonMetsChecksumAlgorithms.add(sip.getChecksum());
@@ -131,45 +241,75 @@ public final class ZIPUtils {
       }
 
       file.setChecksum(sip.getChecksum());
+      if (file instanceof METSZipEntryInfo metsEntry) {
+        metsEntry.setChecksumAlgorithms(metsChecksumAlgorithms);
+      }
       file.prepareEntryForZipping();
 
 
       LOGGER.debug("Zipping file {}", file.getFilePath());
+      final long start = System.nanoTime();
+      CompressionPolicy.Decision decision = compressionPolicy.decide(file);
       ZipEntry entry;
       if (createSipIdFolder) {
         entry = new ZipEntry(sip.getId() + "/" + file.getName());
       } else {
         entry = new ZipEntry(file.getName());
       }
+      Set<String> checksumAlgorithms = file instanceof METSZipEntryInfo ? metsChecksumAlgorithms
+        : nonMetsChecksumAlgorithms;
 
-      zos.putNextEntry(entry);
-
-      try (InputStream inputStream = Files.newInputStream(file.getFilePath());) {
+      try {
         Map<String, String> checksums;
-        if (file instanceof METSZipEntryInfo metsEntry) {
-          checksums = calculateChecksums(Optional.of(zos), inputStream, metsChecksumAlgorithms);
+        if (file instanceof METSZipEntryInfo metsEntry && metsEntry.isInMemory()) {
+          // size, CRC and checksums were calculated while marshalling
+          checksums = metsEntry.getChecksums();
+          if (decision.isStored()) {
+            entry.setMethod(ZipEntry.STORED);
+            entry.setSize(metsEntry.getSize());
+            entry.setCompressedSize(metsEntry.getSize());
+            entry.setCrc(metsEntry.getCrc());
+          } else {
+            zos.setLevel(decision.getLevel());
+          }
+          zos.putNextEntry(entry);
+          try (InputStream inputStream = metsEntry.getInputStream()) {
+            inputStream.transferTo(zos);
+          }
+          metsEntry.discardContent();
+        } else if (decision.isStored()) {
+          // a stored entry needs its size and CRC before its data is written
+          CRC32 crc = new CRC32();
+          try (InputStream inputStream = new CheckedInputStream(Files.newInputStream(file.getFilePath()), crc)) {
+            checksums = calculateChecksums(Optional.empty(), inputStream, checksumAlgorithms);
+          }
+          long size = Files.size(file.getFilePath());
+          entry.setMethod(ZipEntry.STORED);
+          entry.setSize(size);
+          entry.setCompressedSize(size);
+          entry.setCrc(crc.getValue());
+          zos.putNextEntry(entry);
+          Files.copy(file.getFilePath(), zos);
+        } else {
+          zos.setLevel(decision.getLevel());
+          zos.putNextEntry(entry);
+          try (InputStream inputStream = Files.newInputStream(file.getFilePath());) {
+            checksums = calculateChecksums(Optional.of(zos), inputStream, checksumAlgorithms);
+          }
+        }
+
+        if (file instanceof METSZipEntryInfo metsEntry && !metsEntry.isInMemory()) {
           metsEntry.setChecksums(checksums);
           metsEntry.setSize(metsEntry.getFilePath().toFile().length());
-        } else {
-          checksums = calculateChecksums(Optional.of(zos), inputStream, nonMetsChecksumAlgorithms);
         }
 
         LOGGER.debug("Done zipping file");
-        String checksum = checksums.get(sip.getChecksum());
-        String checksumType = sip.getChecksum();
-        file.setChecksum(checksum);
-        file.setChecksumAlgorithm(checksumType);
-        if (file instanceof METSFileTypeZipEntryInfo f) {
-          f.getMetsFileType().setCHECKSUM(checksum);
-          f.getMetsFileType().setCHECKSUMTYPE(checksumType);
-        } else if (file instanceof METSMdRefZipEntryInfo f) {
-          f.getMetsMdRef().setCHECKSUM(checksum);
-          f.getMetsMdRef().setCHECKSUMTYPE(checksumType);
-        }
+        file.setChecksum(checksums.get(sip.getChecksum()), sip.getChecksum());
       } catch (NoSuchAlgorithmException e) {
         LOGGER.error("Error while zipping files", e);
       }
       zos.closeEntry();
+      compressionPolicy.record(decision, entry.getSize(), entry.getCompressedSize(), System.nanoTime() - start);
       i++;
 
       sip.notifySipBuildPackagingCurrentStatus(i);
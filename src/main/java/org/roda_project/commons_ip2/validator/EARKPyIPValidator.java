@@ -221,6 +221,8 @@ public class EARKPyIPValidator {
       csipStr0.setSpecification(Constants.VALIDATION_REPORT_HEADER_CSIP_VERSION);
       validationReportOutputJSONPyIP.getResults().put(ConstantsCSIPspec.VALIDATION_REPORT_SPECIFICATION_CSIP0_ID,
         csipStr0);
+    } finally {
+      structureValidatorState.close();
     }
 
     validationReportOutputJSONPyIP
@@ -264,6 +266,7 @@ public class EARKPyIPValidator {
     for (Map.Entry<String, InputStream> entry : subMets.entrySet()) {
       final InstatiateMets instatiateMets = new InstatiateMets(entry.getValue());
       metsValidatorState.setMets(instatiateMets.instatiateMetsFile(entry.getKey()));
+      metsValidatorState.setMetsAttributeIndex(instatiateMets.getMetsAttributeIndex());
       metsValidatorState.setIpType(metsValidatorState.getMets().getMetsHdr().getOAISPACKAGETYPE());
       setupMetsValidatorState(entry.getKey(), isZip, false);
       validateComponents();
@@ -294,6 +297,7 @@ public class EARKPyIPValidator {
     metsValidatorState.setMetsName(ipPath);
     metsValidatorState.setIsRootMets(true);
     metsValidatorState.setMets(metsRoot.instatiateMetsFile(Constants.METS_FILE));
+    metsValidatorState.setMetsAttributeIndex(metsRoot.getMetsAttributeIndex());
     validateComponents();
   }
 
@@ -2,59 +2,47 @@ package org.roda_project.commons_ip2.validator;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.xml.parsers.ParserConfigurationException;
 
 import org.roda_project.commons_ip2.cli.model.exception.UnmarshallerException;
 import org.roda_project.commons_ip2.validator.common.InstatiateMets;
+import org.roda_project.commons_ip2.validator.common.ValidationCache;
 import org.roda_project.commons_ip2.validator.components.MetsValidator;
 import org.roda_project.commons_ip2.validator.components.StructureValidatorImpl;
-import org.roda_project.commons_ip2.validator.components.administritiveMetadataComponent.AdministritiveMetadataComponentValidator204;
-import org.roda_project.commons_ip2.validator.components.administritiveMetadataComponent.AdministritiveMetadataComponentValidator210;
-import org.roda_project.commons_ip2.validator.components.administritiveMetadataComponent.AdministritiveMetadataComponentValidator220;
 import org.roda_project.commons_ip2.validator.components.aipFileSectionComponent.AipFileSectionComponent204;
 import org.roda_project.commons_ip2.validator.components.aipFileSectionComponent.AipFileSectionComponent210;
 import org.roda_project.commons_ip2.validator.components.aipFileSectionComponent.AipFileSectionComponent220;
-import org.roda_project.commons_ip2.validator.components.descriptiveMetadataComponent.DescriptiveMetadataComponentValidator204;
-import org.roda_project.commons_ip2.validator.components.descriptiveMetadataComponent.DescriptiveMetadataComponentValidator210;
-import org.roda_project.commons_ip2.validator.components.descriptiveMetadataComponent.DescriptiveMetadataComponentValidator220;
-import org.roda_project.commons_ip2.validator.components.fileComponent.StructureComponentValidator204;
-import org.roda_project.commons_ip2.validator.components.fileComponent.StructureComponentValidator210;
-import org.roda_project.commons_ip2.validator.components.fileComponent.StructureComponentValidator220;
-import org.roda_project.commons_ip2.validator.components.fileSectionComponent.FileSectionComponentValidator204;
-import org.roda_project.commons_ip2.validator.components.fileSectionComponent.FileSectionComponentValidator210;
-import org.roda_project.commons_ip2.validator.components.fileSectionComponent.FileSectionComponentValidator220;
-import org.roda_project.commons_ip2.validator.components.metsRootComponent.metsHeaderValidator.MetsHeaderComponentValidator204;
-import org.roda_project.commons_ip2.validator.components.metsRootComponent.metsHeaderValidator.MetsHeaderComponentValidator210;
-import org.roda_project.commons_ip2.validator.components.metsRootComponent.metsHeaderValidator.MetsHeaderComponentValidator220;
-import org.roda_project.commons_ip2.validator.components.metsRootComponent.metsValidator.MetsComponentValidator204;
-import org.roda_project.commons_ip2.validator.components.metsRootComponent.metsValidator.MetsComponentValidator210;
-import org.roda_project.commons_ip2.validator.components.metsRootComponent.metsValidator.MetsComponentValidator220;
 import org.roda_project.commons_ip2.validator.components.sipFileSectionComponent.SipFileSectionComponent204;
 import org.roda_project.commons_ip2.validator.components.sipFileSectionComponent.SipFileSectionComponent210;
 import org.roda_project.commons_ip2.validator.components.sipFileSectionComponent.SipFileSectionComponent220;
-import org.roda_project.commons_ip2.validator.components.sipMetsRootComponent.sipMetsComponent.SipMetsComponent204;
-import org.roda_project.commons_ip2.validator.components.sipMetsRootComponent.sipMetsComponent.SipMetsComponent210;
-import org.roda_project.commons_ip2.validator.components.sipMetsRootComponent.sipMetsComponent.SipMetsComponent220;
 import org.roda_project.commons_ip2.validator.components.sipMetsRootComponent.sipMetsHdrComponent.SipMetsHdrComponent204;
 import org.roda_project.commons_ip2.validator.components.sipMetsRootComponent.sipMetsHdrComponent.SipMetsHdrComponent210;
 import org.roda_project.commons_ip2.validator.components.sipMetsRootComponent.sipMetsHdrComponent.SipMetsHdrComponent220;
-import org.roda_project.commons_ip2.validator.components.structuralMapComponent.StructuralMapComponentValidator204;
-import org.roda_project.commons_ip2.validator.components.structuralMapComponent.StructuralMapComponentValidator210;
-import org.roda_project.commons_ip2.validator.components.structuralMapComponent.StructuralMapComponentValidator220;
 import org.roda_project.commons_ip2.validator.constants.Constants;
 import org.roda_project.commons_ip2.validator.constants.ConstantsCSIPspec;
+import org.roda_project.commons_ip2.validator.constants.RequirementRegistry;
 import org.roda_project.commons_ip2.validator.observer.ValidationObserver;
 import org.roda_project.commons_ip2.validator.reporter.ReporterDetails;
 import org.roda_project.commons_ip2.validator.reporter.ValidationReportOutputJson;
 import org.roda_project.commons_ip2.validator.state.MetsValidatorState;
 import org.roda_project.commons_ip2.validator.state.StructureValidatorState;
 import org.roda_project.commons_ip2.validator.utils.ResultsUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.xml.sax.SAXException;
 import org.xml.sax.SAXParseException;
 
@@ -62,6 +50,7 @@ import org.xml.sax.SAXParseException;
  * {@author João Gomes <jgomes@keep.pt>}.
  */
 public class EARKSIPValidator {
+  private static final Logger LOGGER = LoggerFactory.getLogger(EARKSIPValidator.class);
   /**
    * IP path.
    */
@@ -80,23 +69,26 @@ public class EARKSIPValidator {
    */
   private final StructureValidatorState structureValidatorState;
   /**
-   * List of CSIP components to validate.
+   * The contextual mets state {@link MetsValidatorState}.
    */
-  private final List<MetsValidator> csipComponents = new ArrayList<>();
+  private final MetsValidatorState metsValidatorState;
+
+  private final String version;
   /**
-   * List of SIP components to validate.
+   * The {@link ValidatorComponents}.
    */
-  private final List<MetsValidator> sipComponents = new ArrayList<>();
+  private final ValidatorComponents components;
   /**
-   * List of AIP components to validate.
+   * The {@link ValidationCache} with the outcome of previous validations, if
+   * any.
    */
-  private final List<MetsValidator> aipComponents = new ArrayList<>();
+  private ValidationCache validationCache;
   /**
-   * The contextual mets state {@link MetsValidatorState}.
+   * The {@link ForkJoinPool} validating the components and the representation
+   * METS files concurrently, {@code null} to validate them on the calling
+   * thread.
    */
-  private final MetsValidatorState metsValidatorState;
-
-  private final String version;
+  private ForkJoinPool pool = ValidationPipeline.getPool();
 
   /**
    * Initializes Validation Objects.
@@ -112,40 +104,72 @@ public class EARKSIPValidator {
    */
   public EARKSIPValidator(final ValidationReportOutputJson reportOutputJson, String version)
     throws IOException, ParserConfigurationException, SAXException {
+    this(reportOutputJson, ValidatorComponents.forVersion(version));
+  }
+
+  /**
+   * Initializes Validation Objects reusing already built components.
+   *
+   * @param reportOutputJson
+   *          the {@link ValidationReportOutputJson}
+   * @param components
+   *          the {@link ValidatorComponents}, not used by any other ongoing
+   *          validation
+   */
+  public EARKSIPValidator(final ValidationReportOutputJson reportOutputJson, final ValidatorComponents components) {
 
     this.earksipPath = reportOutputJson.getSipPath().toAbsolutePath().normalize();
 
     this.validationReportOutputJson = reportOutputJson;
 
-    this.version = version;
+    this.version = components.getVersion();
 
     this.structureValidatorState = new StructureValidatorState(
       reportOutputJson.getSipPath().toAbsolutePath().normalize());
-    if (version.equals("2.1.0")) {
-      this.structureComponent = new StructureComponentValidator210();
-    } else if (version.equals("2.0.4")) {
-      this.structureComponent = new StructureComponentValidator204();
-    } else {
-      this.structureComponent = new StructureComponentValidator220();
-    }
+    this.structureComponent = components.getStructureComponent();
     this.metsValidatorState = new MetsValidatorState();
-    setupComponents(version);
+    this.components = components;
+    this.validationCache = ValidationCache.fromSystemProperties();
+    components.reset();
   }
 
   /**
-   * Setup Validation Components.
+   * Set extra checksum algorithms, like
+   * {@link org.roda_project.commons_ip2.model.SIP#getExtraChecksumAlgorithms()},
+   * computed in the same read used to verify the checksums declared in the METS
+   * files and written to the report.
    *
-   * @throws IOException
-   *           if some I/O error occurs.
-   * @throws ParserConfigurationException
-   *           if some error occur.
-   * @throws SAXException
-   *           if some error occur.
+   * @param extraChecksumAlgorithms
+   *          the {@link Set} of algorithms
+   */
+  public void setExtraChecksumAlgorithms(final Set<String> extraChecksumAlgorithms) {
+    structureValidatorState.setExtraChecksumAlgorithms(extraChecksumAlgorithms);
+  }
+
+  /**
+   * Set the {@link ValidationCache}: an IP that didn't change since it was
+   * last validated gets the stored results, otherwise only its files that
+   * changed are read again to verify their checksums. By default the cache set
+   * with the {@value ValidationCache#DIRECTORY_PROPERTY} system property.
+   *
+   * @param validationCache
+   *          the {@link ValidationCache} or {@code null} to disable it
    */
-  private void setupComponents(String version) throws IOException, ParserConfigurationException, SAXException {
-    this.csipComponents.addAll(getComponentsForVersion(version, "csipComponents"));
-    this.sipComponents.addAll(getComponentsForVersion(version, "sipComponents"));
-    this.aipComponents.addAll(getComponentsForVersion(version, "aipComponents"));
+  public void setValidationCache(final ValidationCache validationCache) {
+    this.validationCache = validationCache;
+  }
+
+  /**
+   * Set the {@link ForkJoinPool} validating the components of each METS file and
+   * the representation METS files concurrently. By default the pool sized with
+   * the {@code validationThreads} system property.
+   *
+   * @param pool
+   *          the {@link ForkJoinPool} or {@code null} to validate on the calling
+   *          thread
+   */
+  public void setPool(final ForkJoinPool pool) {
+    this.pool = pool;
   }
 
   /**
@@ -155,9 +179,7 @@ public class EARKSIPValidator {
    *          the {@link ValidationObserver}
    */
   public void addObserver(final ValidationObserver observer) {
-    structureComponent.addObserver(observer);
-    csipComponents.forEach(c -> c.addObserver(observer));
-    sipComponents.forEach(c -> c.addObserver(observer));
+    components.addObserver(observer);
   }
 
   /**
@@ -167,9 +189,7 @@ public class EARKSIPValidator {
    *          the {@link ValidationObserver}
    */
   public void removeObserver(final ValidationObserver observer) {
-    structureComponent.removeObserver(observer);
-    csipComponents.forEach(c -> c.removeObserver(observer));
-    sipComponents.forEach(c -> c.removeObserver(observer));
+    components.removeObserver(observer);
   }
 
   /**
@@ -181,18 +201,50 @@ public class EARKSIPValidator {
    */
   public boolean validate(String version) throws IOException {
     structureComponent.notifyObserversIPValidationStarted();
+    final ValidationCache.Entry cacheEntry = openValidationCache(version);
+    final InputStream previousReport = cacheEntry != null ? cacheEntry.openReport() : null;
+    try {
+      if (previousReport == null) {
+        structureValidatorState.setDigestCache(cacheEntry);
+        validateInformationPackage(version);
+      } else if (cacheEntry.getIpType() != null) {
+        validationReportOutputJson.setIpType(cacheEntry.getIpType());
+      }
+    } finally {
+      structureValidatorState.close();
+    }
+    if (previousReport != null) {
+      try (InputStream in = previousReport) {
+        writePreviousReport(version, in);
+      }
+      setLastValidationCache(cacheEntry);
+    } else {
+      writeReport(version, cacheEntry);
+    }
+    return validationReportOutputJson.getErrors() == 0;
+  }
+
+  /**
+   * Validates the structure and the METS files of the Information Package.
+   *
+   * @throws IOException
+   *           if some I/O error occurs.
+   */
+  private void validateInformationPackage(final String version) throws IOException {
     final Map<String, ReporterDetails> structureValidationResults = structureComponent
       .validate(structureValidatorState);
     validationReportOutputJson.getResults().putAll(structureValidationResults);
 
     if (validationReportOutputJson.validFileComponent()) {
-      final Map<String, InputStream> subMets;
+      final List<String> subMets;
       if (structureValidatorState.isZipFileFlag()) {
-        metsValidatorState.setMetsFiles(structureValidatorState.getZipManager().getFiles(earksipPath));
-        subMets = structureValidatorState.getZipManager().getSubMets(earksipPath);
+        metsValidatorState
+          .setMetsFiles(new ConcurrentHashMap<>(structureValidatorState.getZipManager().getFiles(earksipPath)));
+        subMets = structureValidatorState.getZipManager().getSubMetsEntries(earksipPath);
       } else {
-        metsValidatorState.setMetsFiles(structureValidatorState.getFolderManager().getFiles(earksipPath));
-        subMets = structureValidatorState.getFolderManager().getSubMets(earksipPath);
+        metsValidatorState
+          .setMetsFiles(new ConcurrentHashMap<>(structureValidatorState.getFolderManager().getFiles(earksipPath)));
+        subMets = structureValidatorState.getFolderManager().getSubMetsFiles(earksipPath);
       }
 
       if (!subMets.isEmpty()) {
@@ -202,61 +254,192 @@ public class EARKSIPValidator {
 
       if (!validationReportOutputJson.getResults()
         .containsKey(ConstantsCSIPspec.VALIDATION_REPORT_SPECIFICATION_CSIP0_ID)) {
-        final ReporterDetails csipStr0 = new ReporterDetails(Constants.VALIDATION_REPORT_HEADER_CSIP_VERSION + version,
-          "", true, false);
+        final ReporterDetails csipStr0 = new ReporterDetails(
+          Constants.VALIDATION_REPORT_HEADER_CSIP_VERSION + version, "", true, false);
         csipStr0.setSpecification(Constants.VALIDATION_REPORT_HEADER_CSIP_VERSION + version);
         validationReportOutputJson.getResults().put(ConstantsCSIPspec.VALIDATION_REPORT_SPECIFICATION_CSIP0_ID,
           csipStr0);
       }
     }
-    writeReport(version);
-    return validationReportOutputJson.getErrors() == 0;
+  }
+
+  /**
+   * Loads what the {@link ValidationCache} stored for the IP.
+   *
+   * @return the {@link ValidationCache.Entry} or {@code null} if there's no
+   *         cache or the IP can't be read.
+   */
+  private ValidationCache.Entry openValidationCache(final String version) {
+    if (validationCache == null) {
+      return null;
+    }
+    final String options = version + "|" + structureValidatorState.getExtraChecksumAlgorithms() + "|"
+      + Boolean.parseBoolean(System.getProperty("skipChecksumCalculation", "false")) + "|"
+      + validationReportOutputJson.getMaxIssues();
+    try {
+      return validationCache.open(earksipPath, structureValidatorState.getZipManager(), options);
+    } catch (IOException | RuntimeException e) {
+      LOGGER.debug("Unable to fingerprint {}, validating it without the validation cache", earksipPath, e);
+      return null;
+    }
+  }
+
+  /**
+   * Copies the report to the {@link ValidationCache}, if any.
+   *
+   * @return if the report is being copied.
+   */
+  private boolean copyReportToValidationCache(final ValidationCache.Entry cacheEntry) {
+    if (cacheEntry == null) {
+      return false;
+    }
+    try {
+      validationReportOutputJson.copyReportTo(cacheEntry.newReport());
+      return true;
+    } catch (IOException e) {
+      LOGGER.warn("Unable to store the validation of {} in the validation cache", earksipPath, e);
+      return false;
+    }
+  }
+
+  /**
+   * Points the location of the IP to the report given back by the
+   * {@link ValidationCache}.
+   */
+  private void setLastValidationCache(final ValidationCache.Entry cacheEntry) {
+    try {
+      cacheEntry.setLast();
+    } catch (IOException e) {
+      LOGGER.warn("Unable to store the validation of {} in the validation cache", earksipPath, e);
+    }
+  }
+
+  /**
+   * Stores the copy of the report in the {@link ValidationCache}.
+   */
+  private void storeValidationCache(final ValidationCache.Entry cacheEntry, final String ipType) {
+    try {
+      cacheEntry.store(ipType);
+    } catch (IOException e) {
+      LOGGER.warn("Unable to store the validation of {} in the validation cache", earksipPath, e);
+    }
   }
 
   /**
    * Iterates over all components and merge all results from components
    * validations.
    *
+   * @param validatorComponents
+   *          the {@link ValidatorComponents} validating the METS file
+   * @param state
+   *          the {@link MetsValidatorState} of the METS file
+   * @param results
+   *          the {@link Map} with the results to merge into
    * @throws IOException
    *           if some I/O error occurs.
    */
-  private void validateComponents() throws IOException {
-    for (MetsValidator component : csipComponents) {
-      final Map<String, ReporterDetails> componentResults = component.validate(structureValidatorState,
-        metsValidatorState);
-      ResultsUtils.mergeResults(validationReportOutputJson.getResults(), componentResults);
+  private void validateComponents(final ValidatorComponents validatorComponents, final MetsValidatorState state,
+    final Map<String, ReporterDetails> results) throws IOException {
+    final ValidationPipeline pipeline = new ValidationPipeline(RequirementRegistry.getInstance(version), pool);
+    for (MetsValidator component : validatorComponents.getCsipComponents()) {
+      pipeline.add(validatorComponents.getNode(component));
+    }
+    for (MetsValidator component : getIpTypeExtendedComponents(validatorComponents, state)) {
+      pipeline.add(validatorComponents.getNode(component));
     }
-    metsValidatorState.flushEntries();
-    validateIpTypeExtendedComponents();
+    pipeline.run(structureValidatorState, state, results, this::prepareComponent);
+    state.flushEntries();
   }
 
   /**
    * Validate METS files inside representations.
    *
+   * <p>
+   * Each METS file is opened only when it is validated and closed once it is
+   * unmarshalled. With a {@link #setPool(ForkJoinPool) pool} the METS files
+   * are validated concurrently by as many workers as the pool threads, each
+   * with its own {@link ValidatorComponents} and {@link MetsValidatorState},
+   * and their results are merged in the order of the METS files.
+   * </p>
+   *
    * @param subMets
-   *          the {@link Map } with path to sub METS and InputStream of file.
+   *          the {@link List} with the paths to the sub METS.
+   * @param isZip
+   *          flag if the Information Package is in compact format or if it is a
+   *          folder.
+   * @throws IOException
+   *           if some I/O error occurs building the components of a worker.
+   */
+  private void validateSubMets(final List<String> subMets, final boolean isZip) throws IOException {
+    final List<Map<String, ReporterDetails>> subMetsResults = new ArrayList<>();
+    final MetsValidatorState[] states = new MetsValidatorState[subMets.size()];
+    for (int i = 0; i < subMets.size(); i++) {
+      subMetsResults.add(new HashMap<>());
+    }
+    if (pool == null || subMets.size() < 2) {
+      for (int i = 0; i < subMets.size(); i++) {
+        states[i] = validateSubMets(subMets.get(i), isZip, components, subMetsResults.get(i));
+      }
+    } else {
+      final AtomicInteger next = new AtomicInteger();
+      final List<ForkJoinTask<?>> tasks = new ArrayList<>();
+      for (int w = 0; w < Math.min(pool.getParallelism(), subMets.size()); w++) {
+        final ValidatorComponents worker = components.getWorker(w);
+        worker.reset();
+        tasks.add(pool.submit(() -> {
+          for (int i = next.getAndIncrement(); i < subMets.size(); i = next.getAndIncrement()) {
+            states[i] = validateSubMets(subMets.get(i), isZip, worker, subMetsResults.get(i));
+          }
+        }));
+      }
+      tasks.forEach(ForkJoinTask::join);
+    }
+    for (int i = 0; i < subMets.size(); i++) {
+      ResultsUtils.mergeResults(validationReportOutputJson.getResults(), subMetsResults.get(i));
+      if (states[i].getMets() != null) {
+        metsValidatorState.setMets(states[i].getMets());
+        metsValidatorState.setIpType(states[i].getIpType());
+      }
+    }
+  }
+
+  /**
+   * Validate a METS file inside a representation.
+   *
+   * @param key
+   *          the path to the sub METS
    * @param isZip
    *          flag if the Information Package is in compact format or if it is a
    *          folder.
+   * @param validatorComponents
+   *          the {@link ValidatorComponents} of the worker
+   * @param results
+   *          the {@link Map} with the results of the METS file
+   * @return the {@link MetsValidatorState} of the METS file.
    */
-  private void validateSubMets(final Map<String, InputStream> subMets, final boolean isZip) {
-    for (Map.Entry<String, InputStream> entry : subMets.entrySet()) {
-
-      final InstatiateMets instatiateMets = new InstatiateMets(entry.getValue());
-      try {
-        metsValidatorState.setMets(instatiateMets.instatiateMetsFile(entry.getKey()));
-        metsValidatorState.setIpType(metsValidatorState.getMets().getMetsHdr().getOAISPACKAGETYPE());
-        setupMetsValidatorState(entry.getKey(), isZip, false);
-        validateComponents();
-      } catch (IOException | UnmarshallerException e) {
-        final String message = createExceptionMessage(e, entry.getKey());
-        final ReporterDetails csipStr0 = new ReporterDetails(Constants.VALIDATION_REPORT_HEADER_CSIP_VERSION, message,
-          false, false);
-        csipStr0.setSpecification(Constants.VALIDATION_REPORT_HEADER_CSIP_VERSION);
-        ResultsUtils.addResult(validationReportOutputJson.getResults(),
-          ConstantsCSIPspec.VALIDATION_REPORT_SPECIFICATION_CSIP0_ID, csipStr0);
+  private MetsValidatorState validateSubMets(final String key, final boolean isZip,
+    final ValidatorComponents validatorComponents, final Map<String, ReporterDetails> results) {
+    final MetsValidatorState state = new MetsValidatorState();
+    state.setMetsFiles(metsValidatorState.getMetsFiles());
+    try {
+      final InstatiateMets instatiateMets;
+      try (InputStream stream = isZip ? structureValidatorState.getZipManager().getZipInputStream(earksipPath, key)
+        : Files.newInputStream(Paths.get(key))) {
+        instatiateMets = new InstatiateMets(stream);
+        state.setMets(instatiateMets.instatiateMetsFile(key));
       }
+      state.setMetsAttributeIndex(instatiateMets.getMetsAttributeIndex());
+      state.setIpType(state.getMets().getMetsHdr().getOAISPACKAGETYPE());
+      setupMetsValidatorState(state, key, isZip, false);
+      validateComponents(validatorComponents, state, results);
+    } catch (IOException | UnmarshallerException e) {
+      final String message = createExceptionMessage(e, key);
+      final ReporterDetails csipStr0 = new ReporterDetails(Constants.VALIDATION_REPORT_HEADER_CSIP_VERSION, message,
+        false, false);
+      csipStr0.setSpecification(Constants.VALIDATION_REPORT_HEADER_CSIP_VERSION);
+      ResultsUtils.addResult(results, ConstantsCSIPspec.VALIDATION_REPORT_SPECIFICATION_CSIP0_ID, csipStr0);
     }
+    return state;
   }
 
   /**
@@ -319,8 +502,9 @@ public class EARKSIPValidator {
       metsValidatorState.setIsRootMets(true);
 
       metsValidatorState.setMets(metsRoot.instatiateMetsFile(Constants.METS_FILE));
+      metsValidatorState.setMetsAttributeIndex(metsRoot.getMetsAttributeIndex());
       metsValidatorState.setIpType(metsValidatorState.getMets().getMetsHdr().getOAISPACKAGETYPE());
-      validateComponents();
+      validateComponents(components, metsValidatorState, validationReportOutputJson.getResults());
     } catch (IOException | UnmarshallerException e) {
       final String message = createExceptionMessage(e,
         earksipPath.toString() + Constants.SEPARATOR + Constants.METS_FILE);
@@ -335,6 +519,8 @@ public class EARKSIPValidator {
   /**
    * Setup State of METS.
    *
+   * @param state
+   *          the {@link MetsValidatorState}
    * @param key
    *          the METS file path
    * @param isZip
@@ -342,9 +528,10 @@ public class EARKSIPValidator {
    * @param isRootMets
    *          Flag if METS file is root or representation METS
    */
-  private void setupMetsValidatorState(final String key, final boolean isZip, final boolean isRootMets) {
-    this.metsValidatorState.setMetsName(key);
-    this.metsValidatorState.setIsRootMets(isRootMets);
+  private static void setupMetsValidatorState(final MetsValidatorState state, final String key, final boolean isZip,
+    final boolean isRootMets) {
+    state.setMetsName(key);
+    state.setIsRootMets(isRootMets);
     if (isZip) {
       final StringBuilder metsPath = new StringBuilder();
       for (String path : key.split(Constants.SEPARATOR)) {
@@ -352,9 +539,9 @@ public class EARKSIPValidator {
           metsPath.append(path).append("/");
         }
       }
-      this.metsValidatorState.setMetsPath(metsPath.toString());
+      state.setMetsPath(metsPath.toString());
     } else {
-      this.metsValidatorState.setMetsPath(Paths.get(key).getParent().toString());
+      state.setMetsPath(Paths.get(key).getParent().toString());
     }
   }
 
@@ -368,98 +555,74 @@ public class EARKSIPValidator {
   }
 
   /**
-   * Validate SIP specifications or AIP Specifications if the type is SIP or AIP.
-   *
-   * @throws IOException
-   *           if some I/O error occurs.
-   */
-  private void validateIpTypeExtendedComponents() throws IOException {
-    if (metsValidatorState.getIpType() != null && metsValidatorState.getIpType().equals("SIP")) {
-      validateSIPComponents();
-    } else if (metsValidatorState.getIpType() != null && metsValidatorState.getIpType().equals("AIP")) {
-      validateAIPComponets();
-    }
-  }
-
-  /**
-   * Iterate over SIP components and merge the results with CSIP validations.
+   * Get the SIP components or the AIP components if the type of the METS file
+   * is SIP or AIP.
    *
-   * @throws IOException
-   *           if some I/O error occurs.
+   * @param validatorComponents
+   *          the {@link ValidatorComponents}
+   * @param state
+   *          the {@link MetsValidatorState} of the METS file
+   * @return the {@link List} of components.
    */
-  private void validateSIPComponents() throws IOException {
-    aipComponents.clear();
-    for (MetsValidator component : sipComponents) {
-      if (component instanceof SipFileSectionComponent204 component1) {
-        ((SipFileSectionComponent204) component).setIsToValidate(ResultsUtils.isResultValid(
-          validationReportOutputJson.getResults(), ConstantsCSIPspec.VALIDATION_REPORT_SPECIFICATION_CSIP58_ID));
-      }
-      if (component instanceof SipFileSectionComponent210 component1) {
-        ((SipFileSectionComponent210) component).setIsToValidate(ResultsUtils.isResultValid(
-          validationReportOutputJson.getResults(), ConstantsCSIPspec.VALIDATION_REPORT_SPECIFICATION_CSIP58_ID));
-      }
-      if (component instanceof SipFileSectionComponent220 component1) {
-        ((SipFileSectionComponent220) component).setIsToValidate(ResultsUtils.isResultValid(
-          validationReportOutputJson.getResults(), ConstantsCSIPspec.VALIDATION_REPORT_SPECIFICATION_CSIP58_ID));
-      }
-      if (component instanceof SipMetsHdrComponent204) {
-        ((SipMetsHdrComponent204) component).setIsToValidateMetsHdr(ResultsUtils.isResultValid(
-          validationReportOutputJson.getResults(), ConstantsCSIPspec.VALIDATION_REPORT_SPECIFICATION_CSIP117_ID));
-        if (validationReportOutputJson.getResults()
-          .get(ConstantsCSIPspec.VALIDATION_REPORT_SPECIFICATION_CSIP10_ID) != null) {
-          ((SipMetsHdrComponent204) component).setIsToValidateAgents(ResultsUtils.isResultValid(
-            validationReportOutputJson.getResults(), ConstantsCSIPspec.VALIDATION_REPORT_SPECIFICATION_CSIP10_ID));
-        }
-      }
-      if (component instanceof SipMetsHdrComponent210) {
-        ((SipMetsHdrComponent210) component).setIsToValidateMetsHdr(ResultsUtils.isResultValid(
-          validationReportOutputJson.getResults(), ConstantsCSIPspec.VALIDATION_REPORT_SPECIFICATION_CSIP117_ID));
-        if (validationReportOutputJson.getResults()
-          .get(ConstantsCSIPspec.VALIDATION_REPORT_SPECIFICATION_CSIP10_ID) != null) {
-          ((SipMetsHdrComponent210) component).setIsToValidateAgents(ResultsUtils.isResultValid(
-            validationReportOutputJson.getResults(), ConstantsCSIPspec.VALIDATION_REPORT_SPECIFICATION_CSIP10_ID));
-        }
-      }
-      if (component instanceof SipMetsHdrComponent220) {
-        ((SipMetsHdrComponent220) component).setIsToValidateMetsHdr(ResultsUtils.isResultValid(
-          validationReportOutputJson.getResults(), ConstantsCSIPspec.VALIDATION_REPORT_SPECIFICATION_CSIP117_ID));
-        if (validationReportOutputJson.getResults()
-          .get(ConstantsCSIPspec.VALIDATION_REPORT_SPECIFICATION_CSIP10_ID) != null) {
-          ((SipMetsHdrComponent220) component).setIsToValidateAgents(ResultsUtils.isResultValid(
-            validationReportOutputJson.getResults(), ConstantsCSIPspec.VALIDATION_REPORT_SPECIFICATION_CSIP10_ID));
-        }
-      }
-      final Map<String, ReporterDetails> sipComponentResults = component.validate(structureValidatorState,
-        metsValidatorState);
-      ResultsUtils.mergeResults(validationReportOutputJson.getResults(), sipComponentResults);
+  private static List<MetsValidator> getIpTypeExtendedComponents(final ValidatorComponents validatorComponents,
+    final MetsValidatorState state) {
+    if ("SIP".equals(state.getIpType())) {
+      return validatorComponents.getSipComponents();
+    } else if ("AIP".equals(state.getIpType())) {
+      return validatorComponents.getAipComponents();
     }
+    return Collections.emptyList();
   }
 
   /**
-   * Iterate over AIP components and merges the results with CSIP validations
-   * results.
+   * Set which requirements the SIP and AIP components validate, from the
+   * results of the CSIP requirements they depend on.
    *
-   * @throws IOException
-   *           if some I/O error occurs.
+   * @param component
+   *          the {@link MetsValidator}
+   * @param results
+   *          the {@link Map} with the results merged so far
    */
-  private void validateAIPComponets() throws IOException {
-    sipComponents.clear();
-    for (MetsValidator component : aipComponents) {
-      if (component instanceof AipFileSectionComponent204) {
-        ((AipFileSectionComponent204) component).setIsToValidate(ResultsUtils.isResultValid(
-          validationReportOutputJson.getResults(), ConstantsCSIPspec.VALIDATION_REPORT_SPECIFICATION_CSIP58_ID));
+  private void prepareComponent(final MetsValidator component, final Map<String, ReporterDetails> results) {
+    if (component instanceof SipFileSectionComponent204 c) {
+      c.setIsToValidate(
+        ResultsUtils.isResultValid(results, ConstantsCSIPspec.VALIDATION_REPORT_SPECIFICATION_CSIP58_ID));
+    } else if (component instanceof SipFileSectionComponent210 c) {
+      c.setIsToValidate(
+        ResultsUtils.isResultValid(results, ConstantsCSIPspec.VALIDATION_REPORT_SPECIFICATION_CSIP58_ID));
+    } else if (component instanceof SipFileSectionComponent220 c) {
+      c.setIsToValidate(
+        ResultsUtils.isResultValid(results, ConstantsCSIPspec.VALIDATION_REPORT_SPECIFICATION_CSIP58_ID));
+    } else if (component instanceof SipMetsHdrComponent204 c) {
+      c.setIsToValidateMetsHdr(
+        ResultsUtils.isResultValid(results, ConstantsCSIPspec.VALIDATION_REPORT_SPECIFICATION_CSIP117_ID));
+      if (results.get(ConstantsCSIPspec.VALIDATION_REPORT_SPECIFICATION_CSIP10_ID) != null) {
+        c.setIsToValidateAgents(
+          ResultsUtils.isResultValid(results, ConstantsCSIPspec.VALIDATION_REPORT_SPECIFICATION_CSIP10_ID));
       }
-      if (component instanceof AipFileSectionComponent210) {
-        ((AipFileSectionComponent210) component).setIsToValidate(ResultsUtils.isResultValid(
-          validationReportOutputJson.getResults(), ConstantsCSIPspec.VALIDATION_REPORT_SPECIFICATION_CSIP58_ID));
+    } else if (component instanceof SipMetsHdrComponent210 c) {
+      c.setIsToValidateMetsHdr(
+        ResultsUtils.isResultValid(results, ConstantsCSIPspec.VALIDATION_REPORT_SPECIFICATION_CSIP117_ID));
+      if (results.get(ConstantsCSIPspec.VALIDATION_REPORT_SPECIFICATION_CSIP10_ID) != null) {
+        c.setIsToValidateAgents(
+          ResultsUtils.isResultValid(results, ConstantsCSIPspec.VALIDATION_REPORT_SPECIFICATION_CSIP10_ID));
       }
-      if (component instanceof AipFileSectionComponent220) {
-        ((AipFileSectionComponent220) component).setIsToValidate(ResultsUtils.isResultValid(
-          validationReportOutputJson.getResults(), ConstantsCSIPspec.VALIDATION_REPORT_SPECIFICATION_CSIP58_ID));
+    } else if (component instanceof SipMetsHdrComponent220 c) {
+      c.setIsToValidateMetsHdr(
+        ResultsUtils.isResultValid(results, ConstantsCSIPspec.VALIDATION_REPORT_SPECIFICATION_CSIP117_ID));
+      if (results.get(ConstantsCSIPspec.VALIDATION_REPORT_SPECIFICATION_CSIP10_ID) != null) {
+        c.setIsToValidateAgents(
+          ResultsUtils.isResultValid(results, ConstantsCSIPspec.VALIDATION_REPORT_SPECIFICATION_CSIP10_ID));
       }
-      final Map<String, ReporterDetails> aipComponentResults = component.validate(structureValidatorState,
-        metsValidatorState);
-      ResultsUtils.mergeResults(validationReportOutputJson.getResults(), aipComponentResults);
+    } else if (component instanceof AipFileSectionComponent204 c) {
+      c.setIsToValidate(
+        ResultsUtils.isResultValid(results, ConstantsCSIPspec.VALIDATION_REPORT_SPECIFICATION_CSIP58_ID));
+    } else if (component instanceof AipFileSectionComponent210 c) {
+      c.setIsToValidate(
+        ResultsUtils.isResultValid(results, ConstantsCSIPspec.VALIDATION_REPORT_SPECIFICATION_CSIP58_ID));
+    } else if (component instanceof AipFileSectionComponent220 c) {
+      c.setIsToValidate(
+        ResultsUtils.isResultValid(results, ConstantsCSIPspec.VALIDATION_REPORT_SPECIFICATION_CSIP58_ID));
     }
   }
 
@@ -469,68 +632,35 @@ public class EARKSIPValidator {
    * @throws IOException
    *           if some I/O error occurs.
    */
-  private void writeReport(String version) throws IOException {
-    if (metsValidatorState.getMets() != null) {
-      validationReportOutputJson.setIpType(metsValidatorState.getIpType());
+  private void writeReport(String version, final ValidationCache.Entry cacheEntry) throws IOException {
+    final String ipType = metsValidatorState.getMets() != null ? metsValidatorState.getIpType() : null;
+    if (ipType != null) {
+      validationReportOutputJson.setIpType(ipType);
     }
+    final boolean cached = copyReportToValidationCache(cacheEntry);
 
+    validationReportOutputJson.addChecksums(structureValidatorState.getChecksums());
     validationReportOutputJson.init(version);
     validationReportOutputJson.validationResults();
     validationReportOutputJson.writeFinalResult();
     notifyIndicatorsObservers();
     validationReportOutputJson.close();
+    if (cached) {
+      storeValidationCache(cacheEntry, ipType);
+    }
     structureComponent.notifyObserversIPValidationFinished();
   }
 
-  private List<MetsValidator> getComponentsForVersion(String version, String type)
-    throws IOException, ParserConfigurationException, SAXException {
-    List<MetsValidator> values = new ArrayList<>();
-    if (version.equals("2.0.4")) {
-      if (type.equals("csipComponents")) {
-        values.add(new MetsComponentValidator204());
-        values.add(new MetsHeaderComponentValidator204());
-        values.add(new DescriptiveMetadataComponentValidator204());
-        values.add(new AdministritiveMetadataComponentValidator204());
-        values.add(new FileSectionComponentValidator204());
-        values.add(new StructuralMapComponentValidator204());
-      } else if (type.equals("sipComponents")) {
-        values.add(new SipMetsComponent204());
-        values.add(new SipMetsHdrComponent204());
-        values.add(new SipFileSectionComponent204());
-      } else {
-        values.add(new AipFileSectionComponent204());
-      }
-    } else if (version.equals("2.1.0")) {
-      if (type.equals("csipComponents")) {
-        values.add(new MetsComponentValidator210());
-        values.add(new MetsHeaderComponentValidator210());
-        values.add(new DescriptiveMetadataComponentValidator210());
-        values.add(new AdministritiveMetadataComponentValidator210());
-        values.add(new FileSectionComponentValidator210());
-        values.add(new StructuralMapComponentValidator210());
-      } else if (type.equals("sipComponents")) {
-        values.add(new SipMetsComponent210());
-        values.add(new SipMetsHdrComponent210());
-        values.add(new SipFileSectionComponent210());
-      } else {
-        values.add(new AipFileSectionComponent210());
-      }
-    } else {
-      if (type.equals("csipComponents")) {
-        values.add(new MetsComponentValidator220());
-        values.add(new MetsHeaderComponentValidator220());
-        values.add(new DescriptiveMetadataComponentValidator220());
-        values.add(new AdministritiveMetadataComponentValidator220());
-        values.add(new FileSectionComponentValidator220());
-        values.add(new StructuralMapComponentValidator220());
-      } else if (type.equals("sipComponents")) {
-        values.add(new SipMetsComponent220());
-        values.add(new SipMetsHdrComponent220());
-        values.add(new SipFileSectionComponent220());
-      } else {
-        values.add(new AipFileSectionComponent220());
-      }
-    }
-    return values;
+  /**
+   * Write the report of a previous validation of the same IP.
+   *
+   * @throws IOException
+   *           if some I/O error occurs.
+   */
+  private void writePreviousReport(final String version, final InputStream previousReport) throws IOException {
+    validationReportOutputJson.writePreviousReport(version, previousReport);
+    notifyIndicatorsObservers();
+    validationReportOutputJson.close();
+    structureComponent.notifyObserversIPValidationFinished();
   }
 }
@@ -0,0 +1,249 @@
+package org.roda_project.commons_ip2.validator;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+import org.roda_project.commons_ip2.validator.components.MetsValidator;
+import org.roda_project.commons_ip2.validator.constants.Requirement;
+import org.roda_project.commons_ip2.validator.constants.RequirementRegistry;
+import org.roda_project.commons_ip2.validator.reporter.ReporterDetails;
+import org.roda_project.commons_ip2.validator.state.MetsValidatorState;
+import org.roda_project.commons_ip2.validator.state.StructureValidatorState;
+import org.roda_project.commons_ip2.validator.utils.ResultsUtils;
+
+/**
+ * Runs the validation components of a METS file as a DAG.
+ *
+ * <p>
+ * Each {@link Node} declares the ids of the requirements it depends on, either
+ * because it reads their results or because they fill state it reads (e.g. the
+ * METS internal ids checked for uniqueness). A dependency is resolved, through
+ * the {@link RequirementRegistry}, to the last node added before it that
+ * validates the component owning the requirement, and a dependency that no
+ * such node validates is rejected, so an edge is never silently dropped if a
+ * requirement moves to another component. Nodes without pending
+ * dependencies run concurrently on a {@link ForkJoinPool} against the
+ * read-only METS, while their results are merged in the order the nodes were
+ * added, so the results don't depend on the scheduling.
+ * </p>
+ *
+ * <p>
+ * The nodes run on the given pool or, by default, on {@link #getPool()} whose
+ * number of threads is set with the {@value #THREADS_PROPERTY} system property,
+ * by default the number of available processors. With 1 thread the nodes run
+ * one after the other on the calling thread, as they do when the calling
+ * thread is already one of the pool.
+ * </p>
+ */
+final class ValidationPipeline {
+  /**
+   * System property with the number of threads validating components.
+   */
+  static final String THREADS_PROPERTY = "validationThreads";
+
+  /**
+   * Prepares a component before it runs, reading the results merged so far.
+   */
+  @FunctionalInterface
+  interface Preparation {
+    void prepare(MetsValidator component, Map<String, ReporterDetails> results);
+  }
+
+  /**
+   * A validation component, the component of the {@link RequirementRegistry}
+   * it validates and the ids of the requirements it depends on.
+   */
+  static final class Node {
+    private final MetsValidator component;
+    private final String module;
+    private final Set<String> dependencies;
+
+    Node(final MetsValidator component, final String module, final String... dependencies) {
+      this.component = component;
+      this.module = module;
+      this.dependencies = Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(dependencies)));
+    }
+
+    MetsValidator getComponent() {
+      return component;
+    }
+
+    String getModule() {
+      return module;
+    }
+
+    Set<String> getDependencies() {
+      return dependencies;
+    }
+  }
+
+  private static final class PoolHolder {
+    private static final ForkJoinPool POOL = newPool();
+
+    private static ForkJoinPool newPool() {
+      final int threads = Integer.getInteger(THREADS_PROPERTY, Runtime.getRuntime().availableProcessors());
+      return threads > 1 ? new ForkJoinPool(threads) : null;
+    }
+  }
+
+  private final RequirementRegistry registry;
+  private final ForkJoinPool pool;
+  private final List<Node> nodes = new ArrayList<>();
+  private final List<int[]> predecessors = new ArrayList<>();
+
+  /**
+   * Creates an empty pipeline.
+   *
+   * @param registry
+   *          the {@link RequirementRegistry} to resolve the dependencies
+   */
+  ValidationPipeline(final RequirementRegistry registry) {
+    this(registry, getPool());
+  }
+
+  /**
+   * Creates an empty pipeline running on the given pool.
+   *
+   * @param registry
+   *          the {@link RequirementRegistry} to resolve the dependencies
+   * @param pool
+   *          the {@link ForkJoinPool} or {@code null} to run the nodes on the
+   *          calling thread
+   */
+  ValidationPipeline(final RequirementRegistry registry, final ForkJoinPool pool) {
+    this.registry = registry;
+    this.pool = pool;
+  }
+
+  /**
+   * Get the {@link ForkJoinPool} validating components.
+   *
+   * @return the {@link ForkJoinPool} or {@code null} if the components are
+   *         validated on the calling thread.
+   */
+  static ForkJoinPool getPool() {
+    return PoolHolder.POOL;
+  }
+
+  /**
+   * Adds a node, after the nodes its dependencies resolve to.
+   *
+   * @param node
+   *          the {@link Node}
+   * @return this {@link ValidationPipeline}
+   * @throws IllegalArgumentException
+   *           if a dependency is unknown or no node added before validates it.
+   */
+  ValidationPipeline add(final Node node) {
+    final Set<Integer> resolved = new LinkedHashSet<>();
+    for (String dependency : node.getDependencies()) {
+      final Requirement requirement = registry.get(dependency);
+      if (requirement == null) {
+        throw new IllegalArgumentException("Unknown requirement " + dependency);
+      }
+      int predecessor = -1;
+      for (int i = nodes.size() - 1; i >= 0 && predecessor < 0; i--) {
+        if (nodes.get(i).getModule().equals(requirement.getComponent())) {
+          predecessor = i;
+        }
+      }
+      if (predecessor < 0) {
+        throw new IllegalArgumentException("Requirement " + dependency + " of " + node.getModule()
+          + " isn't validated by any previous component, " + requirement.getComponent() + " was expected");
+      }
+      resolved.add(predecessor);
+    }
+    nodes.add(node);
+    predecessors.add(resolved.stream().mapToInt(Integer::intValue).toArray());
+    return this;
+  }
+
+  /**
+   * Validates all the nodes and merges their results.
+   *
+   * @param structureValidatorState
+   *          the {@link StructureValidatorState}
+   * @param metsValidatorState
+   *          the {@link MetsValidatorState}
+   * @param results
+   *          the {@link Map} with the results to merge into
+   * @param preparation
+   *          the {@link Preparation} of each component
+   * @throws IOException
+   *           if some I/O error occurs.
+   */
+  void run(final StructureValidatorState structureValidatorState, final MetsValidatorState metsValidatorState,
+    final Map<String, ReporterDetails> results, final Preparation preparation) throws IOException {
+    if (pool == null || nodes.size() < 2 || isPoolThread(pool)) {
+      for (Node node : nodes) {
+        preparation.prepare(node.getComponent(), results);
+        ResultsUtils.mergeResults(results, node.getComponent().validate(structureValidatorState, metsValidatorState));
+      }
+      return;
+    }
+
+    final List<CompletableFuture<?>> all = new ArrayList<>();
+    final List<CompletableFuture<Void>> merged = new ArrayList<>();
+    for (int i = 0; i < nodes.size(); i++) {
+      final MetsValidator component = nodes.get(i).getComponent();
+      final CompletableFuture<?>[] ready = Arrays.stream(predecessors.get(i)).mapToObj(merged::get)
+        .toArray(CompletableFuture<?>[]::new);
+      final CompletableFuture<Map<String, ReporterDetails>> validated = CompletableFuture.allOf(ready)
+        .thenApplyAsync(v -> {
+          synchronized (results) {
+            preparation.prepare(component, results);
+          }
+          try {
+            return component.validate(structureValidatorState, metsValidatorState);
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        }, pool);
+      final CompletableFuture<Void> previous = i == 0 ? CompletableFuture.completedFuture(null) : merged.get(i - 1);
+      merged.add(validated.thenAcceptBoth(previous, (componentResults, v) -> {
+        synchronized (results) {
+          ResultsUtils.mergeResults(results, componentResults);
+        }
+      }));
+      all.add(validated);
+    }
+    all.addAll(merged);
+
+    try {
+      CompletableFuture.allOf(all.toArray(new CompletableFuture<?>[0])).join();
+    } catch (CompletionException e) {
+      Throwable cause = e.getCause();
+      while (cause instanceof CompletionException && cause.getCause() != null) {
+        cause = cause.getCause();
+      }
+      if (cause instanceof UncheckedIOException unchecked) {
+        throw unchecked.getCause();
+      } else if (cause instanceof RuntimeException runtime) {
+        throw runtime;
+      } else if (cause instanceof Error error) {
+        throw error;
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Check if the calling thread already belongs to the pool, e.g. validating a
+   * representation METS concurrently with the others, in which case the
+   * components run on it instead of blocking it.
+   */
+  private static boolean isPoolThread(final ForkJoinPool pool) {
+    return Thread.currentThread() instanceof ForkJoinWorkerThread worker && worker.getPool() == pool;
+  }
+}
@@ -0,0 +1,344 @@
+package org.roda_project.commons_ip2.validator;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.roda_project.commons_ip2.validator.components.MetsValidator;
+import org.roda_project.commons_ip2.validator.components.StructureValidatorImpl;
+import org.roda_project.commons_ip2.validator.components.administritiveMetadataComponent.AdministritiveMetadataComponentValidator204;
+import org.roda_project.commons_ip2.validator.components.administritiveMetadataComponent.AdministritiveMetadataComponentValidator210;
+import org.roda_project.commons_ip2.validator.components.administritiveMetadataComponent.AdministritiveMetadataComponentValidator220;
+import org.roda_project.commons_ip2.validator.components.aipFileSectionComponent.AipFileSectionComponent204;
+import org.roda_project.commons_ip2.validator.components.aipFileSectionComponent.AipFileSectionComponent210;
+import org.roda_project.commons_ip2.validator.components.aipFileSectionComponent.AipFileSectionComponent220;
+import org.roda_project.commons_ip2.validator.components.descriptiveMetadataComponent.DescriptiveMetadataComponentValidator204;
+import org.roda_project.commons_ip2.validator.components.descriptiveMetadataComponent.DescriptiveMetadataComponentValidator210;
+import org.roda_project.commons_ip2.validator.components.descriptiveMetadataComponent.DescriptiveMetadataComponentValidator220;
+import org.roda_project.commons_ip2.validator.components.fileComponent.StructureComponentValidator204;
+import org.roda_project.commons_ip2.validator.components.fileComponent.StructureComponentValidator210;
+import org.roda_project.commons_ip2.validator.components.fileComponent.StructureComponentValidator220;
+import org.roda_project.commons_ip2.validator.components.fileSectionComponent.FileSectionComponentValidator204;
+import org.roda_project.commons_ip2.validator.components.fileSectionComponent.FileSectionComponentValidator210;
+import org.roda_project.commons_ip2.validator.components.fileSectionComponent.FileSectionComponentValidator220;
+import org.roda_project.commons_ip2.validator.components.metsRootComponent.metsHeaderValidator.MetsHeaderComponentValidator204;
+import org.roda_project.commons_ip2.validator.components.metsRootComponent.metsHeaderValidator.MetsHeaderComponentValidator210;
+import org.roda_project.commons_ip2.validator.components.metsRootComponent.metsHeaderValidator.MetsHeaderComponentValidator220;
+import org.roda_project.commons_ip2.validator.components.metsRootComponent.metsValidator.MetsComponentValidator204;
+import org.roda_project.commons_ip2.validator.components.metsRootComponent.metsValidator.MetsComponentValidator210;
+import org.roda_project.commons_ip2.validator.components.metsRootComponent.metsValidator.MetsComponentValidator220;
+import org.roda_project.commons_ip2.validator.components.sipFileSectionComponent.SipFileSectionComponent204;
+import org.roda_project.commons_ip2.validator.components.sipFileSectionComponent.SipFileSectionComponent210;
+import org.roda_project.commons_ip2.validator.components.sipFileSectionComponent.SipFileSectionComponent220;
+import org.roda_project.commons_ip2.validator.components.sipMetsRootComponent.sipMetsComponent.SipMetsComponent204;
+import org.roda_project.commons_ip2.validator.components.sipMetsRootComponent.sipMetsComponent.SipMetsComponent210;
+import org.roda_project.commons_ip2.validator.components.sipMetsRootComponent.sipMetsComponent.SipMetsComponent220;
+import org.roda_project.commons_ip2.validator.components.sipMetsRootComponent.sipMetsHdrComponent.SipMetsHdrComponent204;
+import org.roda_project.commons_ip2.validator.components.sipMetsRootComponent.sipMetsHdrComponent.SipMetsHdrComponent210;
+import org.roda_project.commons_ip2.validator.components.sipMetsRootComponent.sipMetsHdrComponent.SipMetsHdrComponent220;
+import org.roda_project.commons_ip2.validator.components.structuralMapComponent.StructuralMapComponentValidator204;
+import org.roda_project.commons_ip2.validator.components.structuralMapComponent.StructuralMapComponentValidator210;
+import org.roda_project.commons_ip2.validator.components.structuralMapComponent.StructuralMapComponentValidator220;
+import org.roda_project.commons_ip2.validator.constants.Constants;
+import org.roda_project.commons_ip2.validator.constants.ConstantsCSIPspec;
+import org.roda_project.commons_ip2.validator.observer.ValidationObserver;
+import org.xml.sax.SAXException;
+
+/**
+ * The validation components of a E-ARK CSIP version.
+ *
+ * <p>
+ * Building the components parses the controlled vocabularies they check
+ * against, so when validating many packages the same {@link ValidatorComponents}
+ * should be given to each {@link EARKSIPValidator}. Components keep state while
+ * validating a package, so an instance can be reused by one validation after
+ * the other (e.g. one instance per worker thread) but must not be used by
+ * concurrent validations.
+ * </p>
+ */
+public final class ValidatorComponents {
+  private final String version;
+  /**
+   * {@link StructureValidatorImpl}.
+   */
+  private final StructureValidatorImpl structureComponent;
+  /**
+   * List of CSIP components to validate.
+   */
+  private final List<MetsValidator> csipComponents;
+  /**
+   * List of SIP components to validate.
+   */
+  private final List<MetsValidator> sipComponents;
+  /**
+   * List of AIP components to validate.
+   */
+  private final List<MetsValidator> aipComponents;
+  /**
+   * {@link Map} with the {@link ValidationPipeline.Node} of each component.
+   */
+  private final Map<MetsValidator, ValidationPipeline.Node> nodes = new IdentityHashMap<>();
+  /**
+   * List of {@link ValidationObserver} added to the components.
+   */
+  private final List<ValidationObserver> observers = new ArrayList<>();
+  /**
+   * List of {@link ValidatorComponents} validating representation METS files
+   * concurrently with this one, built on demand.
+   */
+  private final List<ValidatorComponents> workers = new ArrayList<>();
+
+  private ValidatorComponents(final String version) throws IOException, ParserConfigurationException, SAXException {
+    this.version = version;
+    if (version.equals("2.1.0")) {
+      this.structureComponent = new StructureComponentValidator210();
+    } else if (version.equals("2.0.4")) {
+      this.structureComponent = new StructureComponentValidator204();
+    } else {
+      this.structureComponent = new StructureComponentValidator220();
+    }
+    this.csipComponents = Collections.unmodifiableList(getComponentsForVersion(version, "csipComponents"));
+    this.sipComponents = Collections.unmodifiableList(getComponentsForVersion(version, "sipComponents"));
+    this.aipComponents = Collections.unmodifiableList(getComponentsForVersion(version, "aipComponents"));
+  }
+
+  /**
+   * Builds the components of the given E-ARK CSIP version.
+   *
+   * @param version
+   *          the E-ARK CSIP version
+   * @return the {@link ValidatorComponents}
+   * @throws IOException
+   *           if some I/O error occurs.
+   * @throws ParserConfigurationException
+   *           if some error occurs.
+   * @throws SAXException
+   *           if some error occurs.
+   */
+  public static ValidatorComponents forVersion(final String version)
+    throws IOException, ParserConfigurationException, SAXException {
+    return new ValidatorComponents(version);
+  }
+
+  public String getVersion() {
+    return version;
+  }
+
+  public StructureValidatorImpl getStructureComponent() {
+    return structureComponent;
+  }
+
+  public List<MetsValidator> getCsipComponents() {
+    return csipComponents;
+  }
+
+  public List<MetsValidator> getSipComponents() {
+    return sipComponents;
+  }
+
+  public List<MetsValidator> getAipComponents() {
+    return aipComponents;
+  }
+
+  /**
+   * Get the {@link ValidationPipeline.Node} of a component, with the
+   * requirements it depends on.
+   *
+   * @param component
+   *          the {@link MetsValidator}
+   * @return the {@link ValidationPipeline.Node}
+   */
+  ValidationPipeline.Node getNode(final MetsValidator component) {
+    return nodes.get(component);
+  }
+
+  /**
+   * Add {@link ValidationObserver} to the lists of observers.
+   *
+   * @param observer
+   *          the {@link ValidationObserver}
+   */
+  public synchronized void addObserver(final ValidationObserver observer) {
+    observers.add(observer);
+    structureComponent.addObserver(observer);
+    csipComponents.forEach(c -> c.addObserver(observer));
+    sipComponents.forEach(c -> c.addObserver(observer));
+    workers.forEach(w -> w.addObserver(observer));
+  }
+
+  /**
+   * Remove {@link ValidationObserver} from the lists of observers.
+   *
+   * @param observer
+   *          the {@link ValidationObserver}
+   */
+  public synchronized void removeObserver(final ValidationObserver observer) {
+    observers.remove(observer);
+    structureComponent.removeObserver(observer);
+    csipComponents.forEach(c -> c.removeObserver(observer));
+    sipComponents.forEach(c -> c.removeObserver(observer));
+    workers.forEach(w -> w.removeObserver(observer));
+  }
+
+  /**
+   * Get the components of a worker validating representation METS files
+   * concurrently with the others, each worker with its own components as they
+   * keep the state of the METS file being validated.
+   *
+   * @param index
+   *          the index of the worker, 0 being this instance
+   * @return the {@link ValidatorComponents}
+   * @throws IOException
+   *           if some I/O error occurs building the components.
+   */
+  synchronized ValidatorComponents getWorker(final int index) throws IOException {
+    if (index == 0) {
+      return this;
+    }
+    while (workers.size() < index) {
+      final ValidatorComponents worker;
+      try {
+        worker = forVersion(version);
+      } catch (ParserConfigurationException | SAXException e) {
+        throw new IOException("Unable to build the validation components", e);
+      }
+      observers.forEach(worker::addObserver);
+      workers.add(worker);
+    }
+    return workers.get(index - 1);
+  }
+
+  /**
+   * Restores the flags that the validation of a package sets on the SIP and AIP
+   * components, so that the outcome doesn't depend on the previously validated
+   * package.
+   */
+  void reset() {
+    for (MetsValidator component : sipComponents) {
+      if (component instanceof SipFileSectionComponent204 c) {
+        c.setIsToValidate(true);
+      } else if (component instanceof SipFileSectionComponent210 c) {
+        c.setIsToValidate(true);
+      } else if (component instanceof SipFileSectionComponent220 c) {
+        c.setIsToValidate(true);
+      } else if (component instanceof SipMetsHdrComponent204 c) {
+        c.setIsToValidateMetsHdr(true);
+        c.setIsToValidateAgents(true);
+      } else if (component instanceof SipMetsHdrComponent210 c) {
+        c.setIsToValidateMetsHdr(true);
+        c.setIsToValidateAgents(true);
+      } else if (component instanceof SipMetsHdrComponent220 c) {
+        c.setIsToValidateMetsHdr(true);
+        c.setIsToValidateAgents(true);
+      }
+    }
+    for (MetsValidator component : aipComponents) {
+      if (component instanceof AipFileSectionComponent204 c) {
+        c.setIsToValidate(true);
+      } else if (component instanceof AipFileSectionComponent210 c) {
+        c.setIsToValidate(true);
+      } else if (component instanceof AipFileSectionComponent220 c) {
+        c.setIsToValidate(true);
+      }
+    }
+  }
+
+  /**
+   * Adds a component and declares the requirements it depends on: the results
+   * read by the SIP and AIP components and, for the dmdSec, amdSec, fileSec
+   * and structMap components, the requirements collecting the METS internal
+   * ids checked for uniqueness by the following ones.
+   */
+  private void declare(final List<MetsValidator> values, final MetsValidator component, final String module,
+    final String... dependencies) {
+    values.add(component);
+    nodes.put(component, new ValidationPipeline.Node(component, module, dependencies));
+  }
+
+  private List<MetsValidator> getComponentsForVersion(final String version, final String type)
+    throws IOException, ParserConfigurationException, SAXException {
+    List<MetsValidator> values = new ArrayList<>();
+    if (version.equals("2.0.4")) {
+      if (type.equals("csipComponents")) {
+        declare(values, new MetsComponentValidator204(), Constants.CSIP_MODULE_NAME_1);
+        declare(values, new MetsHeaderComponentValidator204(), Constants.CSIP_MODULE_NAME_2);
+        declare(values, new DescriptiveMetadataComponentValidator204(), Constants.CSIP_MODULE_NAME_3);
+        declare(values, new AdministritiveMetadataComponentValidator204(), Constants.CSIP_MODULE_NAME_4,
+          ConstantsCSIPspec.VALIDATION_REPORT_SPECIFICATION_CSIP18_ID);
+        declare(values, new FileSectionComponentValidator204(), Constants.CSIP_MODULE_NAME_5,
+          ConstantsCSIPspec.VALIDATION_REPORT_SPECIFICATION_CSIP33_ID,
+          ConstantsCSIPspec.VALIDATION_REPORT_SPECIFICATION_CSIP46_ID);
+        declare(values, new StructuralMapComponentValidator204(), Constants.CSIP_MODULE_NAME_6,
+          ConstantsCSIPspec.VALIDATION_REPORT_SPECIFICATION_CSIP59_ID,
+          ConstantsCSIPspec.VALIDATION_REPORT_SPECIFICATION_CSIP65_ID,
+          ConstantsCSIPspec.VALIDATION_REPORT_SPECIFICATION_CSIP67_ID);
+      } else if (type.equals("sipComponents")) {
+        declare(values, new SipMetsComponent204(), Constants.SIP_MODULE_NAME_1);
+        declare(values, new SipMetsHdrComponent204(), Constants.SIP_MODULE_NAME_2,
+          ConstantsCSIPspec.VALIDATION_REPORT_SPECIFICATION_CSIP10_ID,
+          ConstantsCSIPspec.VALIDATION_REPORT_SPECIFICATION_CSIP117_ID);
+        declare(values, new SipFileSectionComponent204(), Constants.SIP_MODULE_NAME_3,
+          ConstantsCSIPspec.VALIDATION_REPORT_SPECIFICATION_CSIP58_ID);
+      } else {
+        declare(values, new AipFileSectionComponent204(), Constants.AIP_MODULE_NAME_2,
+          ConstantsCSIPspec.VALIDATION_REPORT_SPECIFICATION_CSIP58_ID);
+      }
+    } else if (version.equals("2.1.0")) {
+      if (type.equals("csipComponents")) {
+        declare(values, new MetsComponentValidator210(), Constants.CSIP_MODULE_NAME_1);
+        declare(values, new MetsHeaderComponentValidator210(), Constants.CSIP_MODULE_NAME_2);
+        declare(values, new DescriptiveMetadataComponentValidator210(), Constants.CSIP_MODULE_NAME_3);
+        declare(values, new AdministritiveMetadataComponentValidator210(), Constants.CSIP_MODULE_NAME_4,
+          ConstantsCSIPspec.VALIDATION_REPORT_SPECIFICATION_CSIP18_ID);
+        declare(values, new FileSectionComponentValidator210(), Constants.CSIP_MODULE_NAME_5,
+          ConstantsCSIPspec.VALIDATION_REPORT_SPECIFICATION_CSIP33_ID,
+          ConstantsCSIPspec.VALIDATION_REPORT_SPECIFICATION_CSIP46_ID);
+        declare(values, new StructuralMapComponentValidator210(), Constants.CSIP_MODULE_NAME_6,
+          ConstantsCSIPspec.VALIDATION_REPORT_SPECIFICATION_CSIP59_ID,
+          ConstantsCSIPspec.VALIDATION_REPORT_SPECIFICATION_CSIP65_ID,
+          ConstantsCSIPspec.VALIDATION_REPORT_SPECIFICATION_CSIP67_ID);
+      } else if (type.equals("sipComponents")) {
+        declare(values, new SipMetsComponent210(), Constants.SIP_MODULE_NAME_1);
+        declare(values, new SipMetsHdrComponent210(), Constants.SIP_MODULE_NAME_2,
+          ConstantsCSIPspec.VALIDATION_REPORT_SPECIFICATION_CSIP10_ID,
+          ConstantsCSIPspec.VALIDATION_REPORT_SPECIFICATION_CSIP117_ID);
+        declare(values, new SipFileSectionComponent210(), Constants.SIP_MODULE_NAME_3,
+          ConstantsCSIPspec.VALIDATION_REPORT_SPECIFICATION_CSIP58_ID);
+      } else {
+        declare(values, new AipFileSectionComponent210(), Constants.AIP_MODULE_NAME_2,
+          ConstantsCSIPspec.VALIDATION_REPORT_SPECIFICATION_CSIP58_ID);
+      }
+    } else {
+      if (type.equals("csipComponents")) {
+        declare(values, new MetsComponentValidator220(), Constants.CSIP_MODULE_NAME_1);
+        declare(values, new MetsHeaderComponentValidator220(), Constants.CSIP_MODULE_NAME_2);
+        declare(values, new DescriptiveMetadataComponentValidator220(), Constants.CSIP_MODULE_NAME_3);
+        declare(values, new AdministritiveMetadataComponentValidator220(), Constants.CSIP_MODULE_NAME_4,
+          ConstantsCSIPspec.VALIDATION_REPORT_SPECIFICATION_CSIP18_ID);
+        declare(values, new FileSectionComponentValidator220(), Constants.CSIP_MODULE_NAME_5,
+          ConstantsCSIPspec.VALIDATION_REPORT_SPECIFICATION_CSIP33_ID,
+          ConstantsCSIPspec.VALIDATION_REPORT_SPECIFICATION_CSIP46_ID);
+        declare(values, new StructuralMapComponentValidator220(), Constants.CSIP_MODULE_NAME_6,
+          ConstantsCSIPspec.VALIDATION_REPORT_SPECIFICATION_CSIP59_ID,
+          ConstantsCSIPspec.VALIDATION_REPORT_SPECIFICATION_CSIP65_ID,
+          ConstantsCSIPspec.VALIDATION_REPORT_SPECIFICATION_CSIP67_ID);
+      } else if (type.equals("sipComponents")) {
+        declare(values, new SipMetsComponent220(), Constants.SIP_MODULE_NAME_1);
+        declare(values, new SipMetsHdrComponent220(), Constants.SIP_MODULE_NAME_2,
+          ConstantsCSIPspec.VALIDATION_REPORT_SPECIFICATION_CSIP10_ID,
+          ConstantsCSIPspec.VALIDATION_REPORT_SPECIFICATION_CSIP117_ID);
+        declare(values, new SipFileSectionComponent220(), Constants.SIP_MODULE_NAME_3,
+          ConstantsCSIPspec.VALIDATION_REPORT_SPECIFICATION_CSIP58_ID);
+      } else {
+        declare(values, new AipFileSectionComponent220(), Constants.AIP_MODULE_NAME_2,
+          ConstantsCSIPspec.VALIDATION_REPORT_SPECIFICATION_CSIP58_ID);
+      }
+    }
+    return values;
+  }
+}
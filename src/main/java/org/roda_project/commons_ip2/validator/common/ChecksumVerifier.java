@@ -0,0 +1,565 @@
+package org.roda_project.commons_ip2.validator.common;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import jakarta.xml.bind.DatatypeConverter;
+
+import org.roda_project.commons_ip2.utils.Utils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Verifies the checksums declared in a METS file against the content of the
+ * referenced files.
+ *
+ * <p>
+ * Each distinct file is read exactly once, computing every requested algorithm
+ * in the same pass, and files are verified concurrently on a thread pool. The
+ * pool size is given by the {@code checksumVerificationThreads} system property
+ * (defaults to the number of available processors) and, when running on a JVM
+ * that supports them, {@code checksumVerificationVirtualThreads=true} uses one
+ * virtual thread per file instead, which suits IPs in folder format stored on
+ * high-latency or parallel filesystems. All mismatches are reported, not only
+ * the first one, and so are the files that couldn't be read, see
+ * {@link Result#getFailures()}.
+ * </p>
+ *
+ * <p>
+ * A verifier is thread safe and is meant to be shared, so its pool isn't
+ * multiplied by concurrent validations, see {@link #getShared()}.
+ * </p>
+ */
+public class ChecksumVerifier implements AutoCloseable {
+  private static final Logger LOGGER = LoggerFactory.getLogger(ChecksumVerifier.class);
+
+  /**
+   * System property with the number of threads used to verify checksums.
+   */
+  public static final String THREADS_PROPERTY = "checksumVerificationThreads";
+  /**
+   * System property to use virtual threads to verify checksums.
+   */
+  public static final String VIRTUAL_THREADS_PROPERTY = "checksumVerificationVirtualThreads";
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private final int threads;
+  private final boolean virtualThreads;
+  private ExecutorService executor;
+
+  private final AtomicLong totalBytes = new AtomicLong();
+  private final AtomicInteger totalFiles = new AtomicInteger();
+  private final AtomicLong totalNanos = new AtomicLong();
+
+  /**
+   * Get the {@link ChecksumVerifier} configured from the system properties and
+   * shared by all the validations of the JVM. Its threads are daemon threads,
+   * so it doesn't need to be closed.
+   *
+   * @return the shared {@link ChecksumVerifier}
+   */
+  public static ChecksumVerifier getShared() {
+    return SharedHolder.INSTANCE;
+  }
+
+  private static final class SharedHolder {
+    private static final ChecksumVerifier INSTANCE = new ChecksumVerifier();
+  }
+
+  /**
+   * Creates a {@link ChecksumVerifier} configured from the system properties.
+   */
+  public ChecksumVerifier() {
+    this(Integer.getInteger(THREADS_PROPERTY, Runtime.getRuntime().availableProcessors()),
+      Boolean.parseBoolean(System.getProperty(VIRTUAL_THREADS_PROPERTY, "false")));
+  }
+
+  /**
+   * Creates a {@link ChecksumVerifier}.
+   *
+   * @param threads
+   *          number of platform threads, a value lower than 2 verifies the files
+   *          in the calling thread
+   * @param virtualThreads
+   *          use a virtual thread per file if the JVM supports it
+   */
+  public ChecksumVerifier(final int threads, final boolean virtualThreads) {
+    this.threads = Math.max(1, threads);
+    this.virtualThreads = virtualThreads;
+  }
+
+  /**
+   * Verifies the given requests.
+   *
+   * @param source
+   *          the {@link Source} of the files content
+   * @param requests
+   *          the {@link List} of {@link Request}
+   * @return the {@link Result} of the verification
+   * @throws IOException
+   *           if the verification is interrupted.
+   */
+  public Result verify(final Source source, final List<Request> requests)
+    throws IOException {
+    return verify(source, requests, Collections.emptySet());
+  }
+
+  /**
+   * Verifies the given requests, also computing, in the same read of each file,
+   * the checksums of the extra algorithms, see {@link Result#getChecksums()}.
+   *
+   * @param source
+   *          the {@link Source} of the files content
+   * @param requests
+   *          the {@link List} of {@link Request}
+   * @param extraAlgorithms
+   *          the extra checksum algorithms
+   * @return the {@link Result} of the verification
+   * @throws IOException
+   *           if the verification is interrupted.
+   */
+  public Result verify(final Source source, final List<Request> requests, final Set<String> extraAlgorithms)
+    throws IOException {
+    return verify(source, requests, extraAlgorithms, null);
+  }
+
+  /**
+   * Verifies the given requests like {@link #verify(Source, List, Set)}, but
+   * files whose digests are known to the {@link DigestCache} aren't read again,
+   * and the digests of the files read are given to it.
+   *
+   * @param source
+   *          the {@link Source} of the files content
+   * @param requests
+   *          the {@link List} of {@link Request}
+   * @param extraAlgorithms
+   *          the extra checksum algorithms
+   * @param cache
+   *          the {@link DigestCache} or {@code null}
+   * @return the {@link Result} of the verification
+   * @throws IOException
+   *           if the verification is interrupted.
+   */
+  public Result verify(final Source source, final List<Request> requests, final Set<String> extraAlgorithms,
+    final DigestCache cache) throws IOException {
+    final long start = System.nanoTime();
+    final Map<String, List<Request>> requestsByFile = new LinkedHashMap<>();
+    for (Request request : requests) {
+      requestsByFile.computeIfAbsent(request.getFile(), k -> new ArrayList<>()).add(request);
+    }
+
+    final List<FileOutcome> outcomes = new ArrayList<>(requestsByFile.size());
+    if (requestsByFile.size() < 2 || (threads < 2 && !virtualThreads)) {
+      for (Map.Entry<String, List<Request>> entry : requestsByFile.entrySet()) {
+        outcomes.add(verifyFile(source, entry.getKey(), entry.getValue(), extraAlgorithms, cache));
+      }
+    } else {
+      final List<Future<FileOutcome>> futures = new ArrayList<>(requestsByFile.size());
+      final ExecutorService pool = getExecutor();
+      for (Map.Entry<String, List<Request>> entry : requestsByFile.entrySet()) {
+        futures.add(pool.submit(() -> verifyFile(source, entry.getKey(), entry.getValue(), extraAlgorithms, cache)));
+      }
+      for (Future<FileOutcome> future : futures) {
+        outcomes.add(await(future));
+      }
+    }
+
+    final List<Mismatch> mismatches = new ArrayList<>();
+    final Map<String, Exception> failures = new LinkedHashMap<>();
+    final Map<String, Map<String, String>> checksums = new LinkedHashMap<>();
+    long bytes = 0;
+    for (FileOutcome outcome : outcomes) {
+      bytes += outcome.bytes;
+      if (outcome.failure != null) {
+        failures.put(outcome.file, outcome.failure);
+        continue;
+      }
+      mismatches.addAll(outcome.mismatches);
+      if (!outcome.checksums.isEmpty()) {
+        checksums.put(outcome.file, outcome.checksums);
+      }
+    }
+
+    final long elapsed = System.nanoTime() - start;
+    totalBytes.addAndGet(bytes);
+    totalFiles.addAndGet(outcomes.size());
+    totalNanos.addAndGet(elapsed);
+    final Result result = new Result(mismatches, failures, checksums, outcomes.size(), bytes, elapsed);
+    LOGGER.debug("Verified checksums of {} files ({} bytes) in {} ms: {} bytes/s, {} files/s", result.getFiles(),
+      result.getBytes(), elapsed / 1_000_000, (long) result.getBytesPerSecond(), (long) result.getFilesPerSecond());
+    return result;
+  }
+
+  private static FileOutcome verifyFile(final Source source, final String file, final List<Request> requests,
+    final Set<String> extraAlgorithms, final DigestCache cache) {
+    final FileOutcome outcome = new FileOutcome(file);
+    try {
+      final Set<String> algorithms = new LinkedHashSet<>();
+      for (Request request : requests) {
+        algorithms.add(request.getAlgorithm());
+      }
+      algorithms.addAll(extraAlgorithms);
+      Map<String, String> checksums = cache != null ? cache.get(file) : null;
+      if (checksums == null || !checksums.keySet().containsAll(algorithms)) {
+        final Path path = source.getPath(file);
+        if (path != null) {
+          if (!Files.exists(path)) {
+            return missing(outcome, requests);
+          }
+          outcome.bytes = Files.size(path);
+          checksums = Utils.calculateChecksums(path, algorithms);
+        } else {
+          final Map<String, MessageDigest> digests = new LinkedHashMap<>();
+          for (String algorithm : algorithms) {
+            digests.put(algorithm, MessageDigest.getInstance(algorithm));
+          }
+          final InputStream stream = source.open(file);
+          if (stream == null) {
+            return missing(outcome, requests);
+          }
+          try (InputStream in = stream) {
+            final byte[] buffer = new byte[BUFFER_SIZE];
+            int numOfBytesRead;
+            while ((numOfBytesRead = in.read(buffer)) > 0) {
+              for (MessageDigest digest : digests.values()) {
+                digest.update(buffer, 0, numOfBytesRead);
+              }
+              outcome.bytes += numOfBytesRead;
+            }
+          }
+          checksums = new LinkedHashMap<>();
+          for (Map.Entry<String, MessageDigest> digest : digests.entrySet()) {
+            checksums.put(digest.getKey(), DatatypeConverter.printHexBinary(digest.getValue().digest()));
+          }
+        }
+        if (cache != null) {
+          cache.put(file, checksums);
+        }
+      }
+      for (Request request : requests) {
+        final String actual = checksums.get(request.getAlgorithm());
+        if (!request.getChecksum().equalsIgnoreCase(actual)) {
+          outcome.mismatches.add(new Mismatch(request, actual));
+        }
+      }
+      for (String algorithm : extraAlgorithms) {
+        outcome.checksums.put(algorithm, checksums.get(algorithm));
+      }
+    } catch (IOException | NoSuchAlgorithmException | RuntimeException e) {
+      outcome.failure = e;
+    }
+    return outcome;
+  }
+
+  private static FileOutcome missing(final FileOutcome outcome, final List<Request> requests) {
+    for (Request request : requests) {
+      outcome.mismatches.add(new Mismatch(request, null));
+    }
+    return outcome;
+  }
+
+  private static FileOutcome await(final Future<FileOutcome> future) throws IOException {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while verifying checksums", e);
+    } catch (ExecutionException e) {
+      throw new IOException("Failed to verify checksum", e.getCause());
+    }
+  }
+
+  private synchronized ExecutorService getExecutor() {
+    if (executor == null) {
+      executor = Utils.newExecutor("checksum-verifier", threads, virtualThreads);
+    }
+    return executor;
+  }
+
+  /**
+   * Get the number of bytes read by all verifications.
+   *
+   * @return the number of bytes
+   */
+  public long getTotalBytes() {
+    return totalBytes.get();
+  }
+
+  /**
+   * Get the number of files read by all verifications.
+   *
+   * @return the number of files
+   */
+  public int getTotalFiles() {
+    return totalFiles.get();
+  }
+
+  /**
+   * Get the throughput of all verifications in bytes per second.
+   *
+   * @return bytes per second
+   */
+  public double getBytesPerSecond() {
+    return perSecond(totalBytes.get(), totalNanos.get());
+  }
+
+  /**
+   * Get the throughput of all verifications in files per second.
+   *
+   * @return files per second
+   */
+  public double getFilesPerSecond() {
+    return perSecond(totalFiles.get(), totalNanos.get());
+  }
+
+  private static double perSecond(final long amount, final long nanos) {
+    return nanos == 0 ? 0 : amount * 1_000_000_000d / nanos;
+  }
+
+  /** Shuts down the thread pool, if one was created. */
+  @Override
+  public synchronized void close() {
+    if (executor != null) {
+      executor.shutdownNow();
+      executor = null;
+    }
+  }
+
+  /**
+   * Gives access to the content of the files to verify.
+   */
+  @FunctionalInterface
+  public interface Source {
+    /**
+     * Opens the given file.
+     *
+     * @param file
+     *          the file as given in {@link Request#getFile()}
+     * @return the {@link InputStream} or {@code null} if the file doesn't exist
+     * @throws IOException
+     *           if some I/O error occurs.
+     */
+    InputStream open(String file) throws IOException;
+
+    /**
+     * Get the path of the given file in the file system, if it has one, so it is
+     * digested through a {@link java.nio.channels.FileChannel} instead of the
+     * {@link InputStream}, see {@link Utils#calculateChecksums(Path, Set)}.
+     *
+     * @param file
+     *          the file as given in {@link Request#getFile()}
+     * @return the {@link Path} or {@code null} to read the file with
+     *         {@link #open(String)}
+     */
+    default Path getPath(final String file) {
+      return null;
+    }
+  }
+
+  /**
+   * Get a {@link Source} of files in the file system, the files of the requests
+   * being their paths.
+   *
+   * @return the {@link Source}
+   */
+  public static Source fileSystemSource() {
+    return new Source() {
+      @Override
+      public InputStream open(final String file) throws IOException {
+        final Path path = Paths.get(file);
+        return Files.exists(path) ? Files.newInputStream(path) : null;
+      }
+
+      @Override
+      public Path getPath(final String file) {
+        return Paths.get(file);
+      }
+    };
+  }
+
+  /**
+   * Digests of files already read, e.g. by a previous validation of the same
+   * IP, valid while the content of the files doesn't change.
+   */
+  public interface DigestCache {
+    /**
+     * Get the known digests of a file.
+     *
+     * @param file
+     *          the file as given in {@link Request#getFile()}
+     * @return {@link Map} of checksum per algorithm or {@code null} if the file
+     *         changed or was never read
+     */
+    Map<String, String> get(String file);
+
+    /**
+     * Keeps the digests of a file that was just read.
+     *
+     * @param file
+     *          the file as given in {@link Request#getFile()}
+     * @param checksums
+     *          {@link Map} of checksum per algorithm
+     */
+    void put(String file, Map<String, String> checksums);
+  }
+
+  /**
+   * A checksum to verify.
+   */
+  public static final class Request {
+    private final String file;
+    private final String algorithm;
+    private final String checksum;
+
+    /**
+     * Creates a {@link Request}.
+     *
+     * @param file
+     *          the file, as understood by the {@link Source}
+     * @param algorithm
+     *          the checksum algorithm
+     * @param checksum
+     *          the expected checksum
+     */
+    public Request(final String file, final String algorithm, final String checksum) {
+      this.file = file;
+      this.algorithm = algorithm;
+      this.checksum = checksum;
+    }
+
+    public String getFile() {
+      return file;
+    }
+
+    public String getAlgorithm() {
+      return algorithm;
+    }
+
+    public String getChecksum() {
+      return checksum;
+    }
+  }
+
+  /**
+   * A {@link Request} whose checksum doesn't match the file content.
+   */
+  public static final class Mismatch {
+    private final Request request;
+    private final String actualChecksum;
+
+    private Mismatch(final Request request, final String actualChecksum) {
+      this.request = request;
+      this.actualChecksum = actualChecksum;
+    }
+
+    public Request getRequest() {
+      return request;
+    }
+
+    /**
+     * Get the checksum calculated from the file content.
+     *
+     * @return the checksum or {@code null} if the file doesn't exist
+     */
+    public String getActualChecksum() {
+      return actualChecksum;
+    }
+  }
+
+  /**
+   * The result of a verification.
+   */
+  public static final class Result {
+    private final List<Mismatch> mismatches;
+    private final Map<String, Exception> failures;
+    private final Map<String, Map<String, String>> checksums;
+    private final int files;
+    private final long bytes;
+    private final long nanos;
+
+    private Result(final List<Mismatch> mismatches, final Map<String, Exception> failures,
+      final Map<String, Map<String, String>> checksums, final int files, final long bytes, final long nanos) {
+      this.mismatches = Collections.unmodifiableList(mismatches);
+      this.failures = Collections.unmodifiableMap(failures);
+      this.checksums = Collections.unmodifiableMap(checksums);
+      this.files = files;
+      this.bytes = bytes;
+      this.nanos = nanos;
+    }
+
+    /**
+     * Get the mismatches, in the same order as the requests.
+     *
+     * @return {@link List} of {@link Mismatch}
+     */
+    public List<Mismatch> getMismatches() {
+      return mismatches;
+    }
+
+    /**
+     * Get the files that couldn't be read or digested, e.g. with an unsupported
+     * checksum algorithm, in the same order as the requests.
+     *
+     * @return {@link Map} of the failure per file
+     */
+    public Map<String, Exception> getFailures() {
+      return failures;
+    }
+
+    /**
+     * Get the checksums computed with the extra algorithms, empty when none was
+     * given.
+     *
+     * @return {@link Map} of checksum per algorithm, per file
+     */
+    public Map<String, Map<String, String>> getChecksums() {
+      return checksums;
+    }
+
+    public int getFiles() {
+      return files;
+    }
+
+    public long getBytes() {
+      return bytes;
+    }
+
+    public double getBytesPerSecond() {
+      return perSecond(bytes, nanos);
+    }
+
+    public double getFilesPerSecond() {
+      return perSecond(files, nanos);
+    }
+  }
+
+  private static final class FileOutcome {
+    private final String file;
+    private final List<Mismatch> mismatches = new ArrayList<>();
+    private final Map<String, String> checksums = new LinkedHashMap<>();
+    private long bytes;
+    private Exception failure;
+
+    private FileOutcome(final String file) {
+      this.file = file;
+    }
+  }
+}
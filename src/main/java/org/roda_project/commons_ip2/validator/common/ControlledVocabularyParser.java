@@ -2,8 +2,13 @@ package org.roda_project.commons_ip2.validator.common;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.parsers.SAXParser;
@@ -14,17 +19,24 @@ import org.xml.sax.SAXException;
 
 /** {@author João Gomes <jgomes@keep.pt>}. */
 public final class ControlledVocabularyParser {
+  /**
+   * The parsed vocabularies per resource, shared by all the validators of the
+   * JVM.
+   */
+  private static final Map<String, List<String>> VOCABULARIES = new ConcurrentHashMap<>();
 
   private ControlledVocabularyParser() {
     // do nothing
   }
 
   /**
-   * Parse tags Term from XML files.
+   * Parse tags Term from XML files. Each resource is parsed only once, the
+   * following calls returning the same immutable {@link List}, whose
+   * {@link List#contains(Object)} is a hash lookup.
    *
    * @param resourcePath
    *          the {@link String} to resource.
-   * @return a {@link List} with all values from Term tag.
+   * @return an immutable {@link List} with all values from Term tag.
    * @throws IOException
    *           if some I/O error occurs.
    * @throws SAXException
@@ -33,13 +45,53 @@ public final class ControlledVocabularyParser {
    *           if some error occurs.
    */
   public static List<String> parse(final String resourcePath)
+    throws IOException, SAXException, ParserConfigurationException {
+    final List<String> vocabulary = VOCABULARIES.get(resourcePath);
+    if (vocabulary != null) {
+      return vocabulary;
+    }
+    final List<String> parsed = new Vocabulary(load(resourcePath));
+    final List<String> previous = VOCABULARIES.putIfAbsent(resourcePath, parsed);
+    return previous != null ? previous : parsed;
+  }
+
+  private static List<String> load(final String resourcePath)
     throws IOException, SAXException, ParserConfigurationException {
     final SAXParserFactory factory = SAXParserFactory.newInstance();
     final List<String> data = new ArrayList<>();
     final SAXParser saxParser = factory.newSAXParser();
     final ControlledVocabularyHandler controlledVocabularyHandler = new ControlledVocabularyHandler("Term", data);
-    final InputStream stream = ControlledVocabularyParser.class.getResourceAsStream(resourcePath);
-    saxParser.parse(stream, controlledVocabularyHandler);
+    try (InputStream stream = ControlledVocabularyParser.class.getResourceAsStream(resourcePath)) {
+      saxParser.parse(stream, controlledVocabularyHandler);
+    }
     return data;
   }
+
+  /**
+   * Immutable terms of a vocabulary, in document order, with a hash lookup.
+   */
+  private static final class Vocabulary extends AbstractList<String> implements RandomAccess {
+    private final String[] terms;
+    private final Set<String> lookup;
+
+    private Vocabulary(final List<String> terms) {
+      this.terms = terms.toArray(new String[0]);
+      this.lookup = Set.copyOf(terms);
+    }
+
+    @Override
+    public String get(final int index) {
+      return terms[index];
+    }
+
+    @Override
+    public int size() {
+      return terms.length;
+    }
+
+    @Override
+    public boolean contains(final Object o) {
+      return o != null && lookup.contains(o);
+    }
+  }
 }
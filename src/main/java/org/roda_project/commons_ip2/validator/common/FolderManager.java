@@ -8,16 +8,15 @@ import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Stream;
 
-import jakarta.xml.bind.DatatypeConverter;
-
+import org.roda_project.commons_ip2.utils.Utils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -28,14 +27,9 @@ public class FolderManager {
    */
   private static final Logger LOGGER = LoggerFactory.getLogger(FolderManager.class);
 
-  /**
-   * {@link File}.
-   */
-  private File folder = null;
-
   public boolean checkIfExistsRootMetsFile(final Path path) {
     boolean found = false;
-    folder = path.toFile();
+    final File folder = path.toFile();
     for (File f : folder.listFiles()) {
       if (f.getName().equals("METS.xml")) {
         found = true;
@@ -45,7 +39,7 @@ public class FolderManager {
   }
 
   public InputStream getMetsRootInputStream(final Path path) throws FileNotFoundException {
-    folder = path.toFile();
+    final File folder = path.toFile();
     String metsPath = null;
     for (File f : folder.listFiles()) {
       if (f.getName().equals("METS.xml")) {
@@ -60,7 +54,7 @@ public class FolderManager {
   }
 
   public InputStream getErmsInputStream(final Path path) throws FileNotFoundException {
-    folder = path.toFile();
+    final File folder = path.toFile();
     String ermsPath = null;
     for (File f : folder.listFiles()) {
       if (f.getName().endsWith("erms.xml")) {
@@ -90,19 +84,10 @@ public class FolderManager {
     if (!Files.exists(path)) {
       valid = false;
     } else {
-      final InputStream stream = new FileInputStream(path.toFile());
-      final MessageDigest messageDigest = MessageDigest.getInstance(alg);
-      final byte[] buffer = new byte[8192];
-      int numOfBytesRead;
-      while ((numOfBytesRead = stream.read(buffer)) > 0) {
-        messageDigest.update(buffer, 0, numOfBytesRead);
-      }
-      final byte[] hash = messageDigest.digest();
-      final String fileChecksum = DatatypeConverter.printHexBinary(hash);
+      final String fileChecksum = Utils.calculateChecksum(path, alg);
       if (!checksum.equalsIgnoreCase(fileChecksum)) {
         valid = false;
       }
-      stream.close();
     }
     return valid;
   }
@@ -156,6 +141,21 @@ public class FolderManager {
 
   public Map<String, InputStream> getSubMets(final Path path) throws FileNotFoundException {
     final HashMap<String, InputStream> subMets = new HashMap<>();
+    for (String file : getSubMetsFiles(path)) {
+      subMets.put(file, new FileInputStream(file));
+    }
+    return subMets;
+  }
+
+  /**
+   * Get the paths of the representation METS files, without opening them.
+   *
+   * @param path
+   *          {@link Path} to the IP
+   * @return the sorted {@link List} of paths
+   */
+  public List<String> getSubMetsFiles(final Path path) {
+    final List<String> subMets = new ArrayList<>();
     final File[] representationsFolder = path.resolve("representations").toFile().listFiles();
     if (representationsFolder != null) {
       for (File representation : representationsFolder) {
@@ -164,14 +164,14 @@ public class FolderManager {
           if (representationFiles != null) {
             for (File file : representationFiles) {
               if (file.getName().equals("METS.xml")) {
-                final InputStream subStream = new FileInputStream(file.getPath());
-                subMets.put(file.getPath(), subStream);
+                subMets.add(file.getPath());
               }
             }
           }
         }
       }
     }
+    Collections.sort(subMets);
     return subMets;
   }
 
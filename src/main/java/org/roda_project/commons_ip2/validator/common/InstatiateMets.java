@@ -2,22 +2,15 @@ package org.roda_project.commons_ip2.validator.common;
 
 import java.io.InputStream;
 
-import javax.xml.XMLConstants;
-import javax.xml.transform.Source;
-import javax.xml.transform.stream.StreamSource;
-import javax.xml.validation.Schema;
-import javax.xml.validation.SchemaFactory;
-
 import org.roda_project.commons_ip2.cli.model.exception.UnmarshallerException;
 import org.roda_project.commons_ip2.mets_v1_12.beans.Mets;
-import org.roda_project.commons_ip2.model.IPConstants;
+import org.roda_project.commons_ip2.mets_v1_12.beans.MetsType;
 import org.roda_project.commons_ip2.utils.METSUtils;
-import org.roda_project.commons_ip2.utils.ResourceResolver;
+import org.roda_project.commons_ip2.validator.handlers.MetsAttributeIndex;
+import org.roda_project.commons_ip2.validator.handlers.MetsFileTable;
 import org.xml.sax.SAXException;
 
-import jakarta.xml.bind.JAXBContext;
 import jakarta.xml.bind.JAXBException;
-import jakarta.xml.bind.Unmarshaller;
 
 /** {@author João Gomes <jgomes@keep.pt>}. */
 public class InstatiateMets {
@@ -25,6 +18,10 @@ public class InstatiateMets {
    * {@link InputStream}.
    */
   private final InputStream stream;
+  /**
+   * {@link MetsAttributeIndex} filled while unmarshalling.
+   */
+  private final MetsAttributeIndex metsAttributeIndex = new MetsAttributeIndex();
 
   /**
    * Constructor that sets the {@link InputStream}.
@@ -37,7 +34,14 @@ public class InstatiateMets {
   }
 
   /**
-   * Creates the {@link Mets} object from METS file.
+   * Creates the {@link Mets} object from METS file, filling the
+   * {@link MetsAttributeIndex} in the same pass.
+   *
+   * <p>
+   * The {@code file} elements of the groups of the file section are dropped
+   * from the {@link Mets}, the validator components reading them from the
+   * {@link MetsFileTable} instead.
+   * </p>
    *
    * @return the {@link Mets} object.
    * @throws UnmarshallerException
@@ -45,20 +49,26 @@ public class InstatiateMets {
    */
   public Mets instatiateMetsFile(String file) throws UnmarshallerException {
     try {
-      org.glassfish.jaxb.runtime.v2.JAXBContextFactory contextFactory = new org.glassfish.jaxb.runtime.v2.JAXBContextFactory();
-      JAXBContext jaxbContext = contextFactory.createContext(new Class[] {Mets.class}, null);
-      final Unmarshaller jaxbUnmarshaller = jaxbContext.createUnmarshaller();
-      final SchemaFactory factory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
-      factory.setResourceResolver(new ResourceResolver());
-      final InputStream metsSchemaInputStream = METSUtils.class
-        .getResourceAsStream(IPConstants.SCHEMA_METS_RELATIVE_PATH_FROM_RESOURCES);
-      final Source metsSchemaSource = new StreamSource(metsSchemaInputStream);
-      final Schema schema = factory.newSchema(metsSchemaSource);
-      jaxbUnmarshaller.setSchema(schema);
-      return (Mets) jaxbUnmarshaller.unmarshal(stream);
+      final Mets mets = METSUtils.getCodec().unmarshal(stream, metsAttributeIndex);
+      if (mets.getFileSec() != null) {
+        for (MetsType.FileSec.FileGrp fileGrp : mets.getFileSec().getFileGrp()) {
+          fileGrp.getFile().clear();
+        }
+      }
+      return mets;
     } catch (JAXBException | SAXException e) {
       throw new UnmarshallerException("An error occured during the unmarshalling process on file " + file + ". "
         + (e.getMessage() != null ? e.getMessage() : e.getCause()));
     }
   }
+
+  /**
+   * Get the {@link MetsAttributeIndex} of the METS file, only complete after
+   * {@link #instatiateMetsFile(String)}.
+   *
+   * @return the {@link MetsAttributeIndex}.
+   */
+  public MetsAttributeIndex getMetsAttributeIndex() {
+    return metsAttributeIndex;
+  }
 }
@@ -0,0 +1,260 @@
+package org.roda_project.commons_ip2.validator.common;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.roda_project.commons_ip2.mets_v1_12.beans.AmdSecType;
+import org.roda_project.commons_ip2.mets_v1_12.beans.DivType;
+import org.roda_project.commons_ip2.mets_v1_12.beans.FileGrpType;
+import org.roda_project.commons_ip2.mets_v1_12.beans.FileType;
+import org.roda_project.commons_ip2.mets_v1_12.beans.MdSecType;
+import org.roda_project.commons_ip2.mets_v1_12.beans.Mets;
+import org.roda_project.commons_ip2.mets_v1_12.beans.MetsType;
+import org.roda_project.commons_ip2.mets_v1_12.beans.StructMapType;
+import org.roda_project.commons_ip2.validator.handlers.MetsFileTable;
+
+/**
+ * Index of the elements of a METS file by {@code ID}, so the requirements
+ * resolving a reference (e.g. an {@code ADMID}, a {@code DMDID} or an
+ * {@code xlink:title} naming a file group) look it up instead of walking the
+ * sections.
+ *
+ * <p>
+ * The index is built once from the unmarshalled {@link Mets} and its
+ * {@link MetsFileTable}, see {@code MetsValidatorState.getMetsIdIndex()}, and
+ * is read-only afterwards. As the METS schema requires the {@code ID}s to be
+ * unique, each {@code ID} maps to a single element. The element of a file of
+ * the {@link MetsFileTable} is its {@link Integer} index in the table, the
+ * files nested in it having no element.
+ * </p>
+ *
+ * <p>
+ * Only the groups directly inside the file section are indexed as
+ * {@link Kind#FILE_GRP}, the groups the requirements referencing a group
+ * consider, the ones nested in other groups being
+ * {@link Kind#NESTED_FILE_GRP}.
+ * </p>
+ */
+public final class MetsIdIndex {
+  /**
+   * Kind of the indexed elements.
+   */
+  public enum Kind {
+    DMD_SEC, AMD_SEC, TECH_MD, RIGHTS_MD, SOURCE_MD, DIGIPROV_MD, MD_REF, FILE_SEC, FILE_GRP, NESTED_FILE_GRP, FILE,
+    STRUCT_MAP, DIV, FPTR, MPTR
+  }
+
+  /**
+   * An indexed element, its {@link Kind} and, for an {@code mdRef}, the
+   * {@link Kind} of the metadata section it belongs to.
+   */
+  private static final class Entry {
+    private final Kind kind;
+    private final Object element;
+    private final Kind section;
+
+    private Entry(final Kind kind, final Object element, final Kind section) {
+      this.kind = kind;
+      this.element = element;
+      this.section = section;
+    }
+  }
+
+  private final Map<String, Entry> entries;
+
+  private MetsIdIndex(final int expectedSize) {
+    this.entries = new HashMap<>(Math.max(16, (int) (expectedSize / 0.75f) + 1));
+  }
+
+  /**
+   * Builds the index of a METS file.
+   *
+   * @param mets
+   *          the {@link Mets}
+   * @param files
+   *          the {@link MetsFileTable} with the files of the groups of the file
+   *          section
+   * @return the {@link MetsIdIndex}.
+   */
+  public static MetsIdIndex build(final Mets mets, final MetsFileTable files) {
+    final MetsIdIndex index = new MetsIdIndex(2 * (files.getFileCount() + files.getNestedFileCount()));
+    for (MdSecType dmdSec : mets.getDmdSec()) {
+      index.addMdSec(Kind.DMD_SEC, dmdSec);
+    }
+    for (AmdSecType amdSec : mets.getAmdSec()) {
+      index.add(amdSec.getID(), Kind.AMD_SEC, amdSec, Kind.AMD_SEC);
+      addMdSecs(index, Kind.TECH_MD, amdSec.getTechMD());
+      addMdSecs(index, Kind.RIGHTS_MD, amdSec.getRightsMD());
+      addMdSecs(index, Kind.SOURCE_MD, amdSec.getSourceMD());
+      addMdSecs(index, Kind.DIGIPROV_MD, amdSec.getDigiprovMD());
+    }
+    final MetsType.FileSec fileSec = mets.getFileSec();
+    if (fileSec != null) {
+      index.add(fileSec.getID(), Kind.FILE_SEC, fileSec, Kind.FILE_SEC);
+      for (MetsType.FileSec.FileGrp fileGrp : fileSec.getFileGrp()) {
+        index.addFileGrp(fileGrp, Kind.FILE_GRP);
+      }
+      for (int i = 0; i < files.getFileCount(); i++) {
+        index.add(files.getId(i), Kind.FILE, i, Kind.FILE);
+      }
+      for (int i = 0; i < files.getNestedFileCount(); i++) {
+        index.add(files.getNestedFileId(i), Kind.FILE, null, Kind.FILE);
+      }
+    }
+    for (StructMapType structMap : mets.getStructMap()) {
+      index.add(structMap.getID(), Kind.STRUCT_MAP, structMap, Kind.STRUCT_MAP);
+      if (structMap.getDiv() != null) {
+        index.addDiv(structMap.getDiv());
+      }
+    }
+    return index;
+  }
+
+  private static void addMdSecs(final MetsIdIndex index, final Kind kind, final List<MdSecType> mdSecs) {
+    for (MdSecType mdSec : mdSecs) {
+      index.addMdSec(kind, mdSec);
+    }
+  }
+
+  private void addMdSec(final Kind kind, final MdSecType mdSec) {
+    add(mdSec.getID(), kind, mdSec, kind);
+    if (mdSec.getMdRef() != null) {
+      add(mdSec.getMdRef().getID(), Kind.MD_REF, mdSec.getMdRef(), kind);
+    }
+  }
+
+  private void addFileGrp(final FileGrpType fileGrp, final Kind kind) {
+    add(fileGrp.getID(), kind, fileGrp, kind);
+    if (kind == Kind.NESTED_FILE_GRP) {
+      for (FileType file : fileGrp.getFile()) {
+        addFile(file);
+      }
+    }
+    for (FileGrpType nested : fileGrp.getFileGrp()) {
+      addFileGrp(nested, Kind.NESTED_FILE_GRP);
+    }
+  }
+
+  private void addFile(final FileType file) {
+    add(file.getID(), Kind.FILE, file, Kind.FILE);
+    for (FileType nested : file.getFile()) {
+      addFile(nested);
+    }
+  }
+
+  private void addDiv(final DivType div) {
+    add(div.getID(), Kind.DIV, div, Kind.DIV);
+    for (DivType.Fptr fptr : div.getFptr()) {
+      add(fptr.getID(), Kind.FPTR, fptr, Kind.FPTR);
+    }
+    for (DivType.Mptr mptr : div.getMptr()) {
+      add(mptr.getID(), Kind.MPTR, mptr, Kind.MPTR);
+    }
+    for (DivType nested : div.getDiv()) {
+      addDiv(nested);
+    }
+  }
+
+  private void add(final String id, final Kind kind, final Object element, final Kind section) {
+    if (id != null) {
+      entries.putIfAbsent(id, new Entry(kind, element, section));
+    }
+  }
+
+  /**
+   * Get the number of indexed elements.
+   *
+   * @return the number of elements.
+   */
+  public int size() {
+    return entries.size();
+  }
+
+  /**
+   * Get the {@link Kind} of the element with an {@code ID}.
+   *
+   * @param id
+   *          the {@code ID}
+   * @return the {@link Kind} or {@code null} if there's no element with the
+   *         {@code ID}.
+   */
+  public Kind getKind(final String id) {
+    final Entry entry = id != null ? entries.get(id) : null;
+    return entry != null ? entry.kind : null;
+  }
+
+  /**
+   * Check if there's an element of a {@link Kind} with an {@code ID}.
+   *
+   * @param id
+   *          the {@code ID}
+   * @param kind
+   *          the {@link Kind}
+   * @return {@code true} if the element with the {@code ID} is of the
+   *         {@link Kind}.
+   */
+  public boolean contains(final String id, final Kind kind) {
+    return getKind(id) == kind;
+  }
+
+  /**
+   * Check if there's an {@code mdRef} with an {@code ID} in a metadata section of
+   * a {@link Kind}.
+   *
+   * @param id
+   *          the {@code ID} of the {@code mdRef}
+   * @param section
+   *          the {@link Kind} of the metadata section, e.g.
+   *          {@link Kind#DMD_SEC}
+   * @return {@code true} if the {@code mdRef} exists in a section of the
+   *         {@link Kind}.
+   */
+  public boolean containsMdRef(final String id, final Kind section) {
+    final Entry entry = id != null ? entries.get(id) : null;
+    return entry != null && entry.kind == Kind.MD_REF && entry.section == section;
+  }
+
+  /**
+   * Get the element of a {@link Kind} with an {@code ID}.
+   *
+   * @param <T>
+   *          the class of the element
+   * @param id
+   *          the {@code ID}
+   * @param kind
+   *          the {@link Kind}
+   * @param elementClass
+   *          the class of the element
+   * @return the element or {@code null} if there's no element of the
+   *         {@link Kind} with the {@code ID}.
+   */
+  public <T> T get(final String id, final Kind kind, final Class<T> elementClass) {
+    final Entry entry = id != null ? entries.get(id) : null;
+    if (entry == null || entry.kind != kind || !elementClass.isInstance(entry.element)) {
+      return null;
+    }
+    return elementClass.cast(entry.element);
+  }
+
+  /**
+   * Get the element with an {@code ID}, whatever its {@link Kind}, e.g. the
+   * metadata section referenced by an {@code ADMID}.
+   *
+   * @param <T>
+   *          the class of the element
+   * @param id
+   *          the {@code ID}
+   * @param elementClass
+   *          the class of the element
+   * @return the element or {@code null} if there's no element of the class with
+   *         the {@code ID}.
+   */
+  public <T> T get(final String id, final Class<T> elementClass) {
+    final Entry entry = id != null ? entries.get(id) : null;
+    if (entry == null || !elementClass.isInstance(entry.element)) {
+      return null;
+    }
+    return elementClass.cast(entry.element);
+  }
+}
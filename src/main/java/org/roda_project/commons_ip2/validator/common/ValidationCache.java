@@ -0,0 +1,533 @@
+package org.roda_project.commons_ip2.validator.common;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import jakarta.xml.bind.DatatypeConverter;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Local store of the outcome of previous validations, so an IP validated again
+ * without changes isn't read again.
+ *
+ * <p>
+ * Each IP is identified by a fingerprint of its content: the name, size and
+ * CRC of every entry of the zip central directory or, for IPs in folder
+ * format, the path, size and modification time of every file plus the digest
+ * of the METS files. When the fingerprint didn't change the report of the
+ * previous validation is given back, streamed with a new header; otherwise the
+ * IP is validated again, reading only the files whose own fingerprint changed
+ * to verify their checksums.
+ * </p>
+ *
+ * <p>
+ * The store is a directory with, per fingerprint, a copy of the report and a
+ * small JSON file with the digests of the files, the IP type and the location
+ * of IPs in folder format. Fingerprints cover the validation options but not
+ * the location of the IP, so a zip file moved or copied to other directory is
+ * found again. The report of an IP in folder format names its files by their
+ * absolute path, so it is only given back for the same location. A small file
+ * per location points to the last fingerprint seen there, whose digests are
+ * reused for the files that didn't change; the fingerprint it pointed to
+ * before is deleted, so the store keeps a report per location at most. It's
+ * enabled with the {@value #DIRECTORY_PROPERTY} system property or
+ * {@code EARKSIPValidator#setValidationCache}. The fingerprints trust the
+ * sizes, CRCs and modification times reported for the files.
+ * </p>
+ */
+public class ValidationCache {
+  private static final Logger LOGGER = LoggerFactory.getLogger(ValidationCache.class);
+
+  /**
+   * System property with the directory of the cache.
+   */
+  public static final String DIRECTORY_PROPERTY = "validationCacheDirectory";
+
+  /**
+   * Version of the stored format, part of every key.
+   */
+  private static final String FORMAT = "3";
+  private static final String STORE_EXTENSION = ".json";
+  private static final String REPORT_EXTENSION = ".report";
+  private static final String LAST_EXTENSION = ".last";
+  private static final String METS_FILE = "METS.xml";
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private static final ObjectMapper MAPPER = new ObjectMapper()
+    .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+  private final Path directory;
+
+  /**
+   * Creates a {@link ValidationCache} stored in the given directory.
+   *
+   * @param directory
+   *          the {@link Path} to the directory, created when needed
+   */
+  public ValidationCache(final Path directory) {
+    this.directory = directory;
+  }
+
+  /**
+   * Creates a {@link ValidationCache} configured from the system properties.
+   *
+   * @return the {@link ValidationCache} or {@code null} if the
+   *         {@value #DIRECTORY_PROPERTY} isn't set.
+   */
+  public static ValidationCache fromSystemProperties() {
+    final String value = System.getProperty(DIRECTORY_PROPERTY);
+    return value == null || value.isEmpty() ? null : new ValidationCache(Paths.get(value));
+  }
+
+  public Path getDirectory() {
+    return directory;
+  }
+
+  /**
+   * Computes the fingerprint of an IP and loads what is stored for it.
+   *
+   * @param ipPath
+   *          the {@link Path} to the IP, a zip file or a folder
+   * @param zipManager
+   *          the {@link ZipManager} reading the IP, if it is a zip file
+   * @param options
+   *          the {@link String} with the options the results depend on, e.g.
+   *          the CSIP version
+   * @return the {@link Entry} of the IP
+   * @throws IOException
+   *           if some I/O error occurs reading the IP.
+   */
+  public Entry open(final Path ipPath, final ZipManager zipManager, final String options) throws IOException {
+    final Path path = ipPath.toAbsolutePath().normalize();
+    final boolean zip = Files.isRegularFile(path);
+    final Map<String, String> files = zip ? fingerprintZip(path, zipManager) : fingerprintFolder(path);
+
+    final MessageDigest digest = sha256();
+    update(digest, FORMAT, options, zip ? "zip" : "folder");
+    for (Map.Entry<String, String> file : files.entrySet()) {
+      update(digest, file.getKey(), file.getValue());
+    }
+    final String fingerprint = DatatypeConverter.printHexBinary(digest.digest());
+
+    final Path last = directory.resolve(hash(FORMAT, options, path.toString()) + LAST_EXTENSION);
+    Stored stored = read(directory.resolve(fingerprint + STORE_EXTENSION));
+    if (stored == null || !zip && !path.toString().equals(stored.location)) {
+      final String lastFingerprint = readLast(last);
+      final Stored previous = lastFingerprint != null
+        ? read(directory.resolve(lastFingerprint + STORE_EXTENSION))
+        : null;
+      if (previous != null) {
+        stored = previous;
+      }
+    }
+    return new Entry(directory, last, path, zip, fingerprint, files, stored != null ? stored : new Stored());
+  }
+
+  private static Stored read(final Path store) {
+    if (!Files.isRegularFile(store)) {
+      return null;
+    }
+    try {
+      return MAPPER.readValue(store.toFile(), Stored.class);
+    } catch (IOException e) {
+      LOGGER.warn("Ignoring the unreadable validation cache {}", store, e);
+      return null;
+    }
+  }
+
+  private static String readLast(final Path last) {
+    if (!Files.isRegularFile(last)) {
+      return null;
+    }
+    try {
+      final String fingerprint = Files.readString(last, StandardCharsets.UTF_8).trim();
+      return fingerprint.matches("[0-9A-F]+") ? fingerprint : null;
+    } catch (IOException e) {
+      LOGGER.warn("Ignoring the unreadable validation cache {}", last, e);
+      return null;
+    }
+  }
+
+  private static void write(final Path file, final Object value) throws IOException {
+    Files.createDirectories(file.getParent());
+    final Path temp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+    try {
+      if (value instanceof String) {
+        Files.writeString(temp, (String) value, StandardCharsets.UTF_8);
+      } else {
+        MAPPER.writeValue(temp.toFile(), value);
+      }
+      move(temp, file);
+    } finally {
+      Files.deleteIfExists(temp);
+    }
+  }
+
+  private static void move(final Path source, final Path target) throws IOException {
+    try {
+      Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (AtomicMoveNotSupportedException e) {
+      Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+
+  private static void delete(final Path directory, final String fingerprint) {
+    for (String extension : new String[] {STORE_EXTENSION, REPORT_EXTENSION}) {
+      final Path file = directory.resolve(fingerprint + extension);
+      try {
+        Files.deleteIfExists(file);
+      } catch (IOException e) {
+        LOGGER.debug("Unable to delete the superseded validation cache {}", file, e);
+      }
+    }
+  }
+
+  private static Map<String, String> fingerprintZip(final Path path, final ZipManager zipManager)
+    throws IOException {
+    final Map<String, String> files = new TreeMap<>();
+    for (ZipArchiveIndex.Node entry : zipManager.getIndex(path).getEntries()) {
+      if (!entry.isDirectory()) {
+        files.put(entry.getEntryName(), entry.getSize() + ":" + Long.toHexString(entry.getCrc()));
+      }
+    }
+    return files;
+  }
+
+  private static Map<String, String> fingerprintFolder(final Path path) throws IOException {
+    final Map<String, String> files = new TreeMap<>();
+    try (Stream<Path> walk = Files.walk(path)) {
+      final List<Path> paths = new ArrayList<>();
+      walk.forEach(paths::add);
+      for (Path file : paths) {
+        final BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        if (attributes.isRegularFile()) {
+          String fingerprint = attributes.size() + ":" + attributes.lastModifiedTime().toMillis();
+          if (METS_FILE.equals(file.getFileName().toString())) {
+            fingerprint += ":" + digest(file);
+          }
+          files.put(relativize(path, file), fingerprint);
+        }
+      }
+    }
+    return files;
+  }
+
+  private static String relativize(final Path base, final Path file) {
+    return base.relativize(file).toString().replace('\\', '/');
+  }
+
+  private static String digest(final Path file) throws IOException {
+    final MessageDigest digest = sha256();
+    try (InputStream in = Files.newInputStream(file)) {
+      final byte[] buffer = new byte[BUFFER_SIZE];
+      int numOfBytesRead;
+      while ((numOfBytesRead = in.read(buffer)) > 0) {
+        digest.update(buffer, 0, numOfBytesRead);
+      }
+    }
+    return DatatypeConverter.printHexBinary(digest.digest());
+  }
+
+  private static String hash(final String... values) {
+    final MessageDigest digest = sha256();
+    update(digest, values);
+    return DatatypeConverter.printHexBinary(digest.digest());
+  }
+
+  private static void update(final MessageDigest digest, final String... values) {
+    for (String value : values) {
+      digest.update(value.getBytes(StandardCharsets.UTF_8));
+      digest.update((byte) 0);
+    }
+  }
+
+  private static MessageDigest sha256() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 isn't supported", e);
+    }
+  }
+
+  /**
+   * What is stored for an IP, and the digests of its files read while it is
+   * validated again.
+   */
+  public static final class Entry implements ChecksumVerifier.DigestCache {
+    private final Path directory;
+    private final Path last;
+    private final Path ipPath;
+    private final boolean zip;
+    private final String fingerprint;
+    private final Map<String, String> files;
+    private final Stored stored;
+    private final Map<String, Map<String, String>> digests = new ConcurrentHashMap<>();
+    private ReportCopy report;
+
+    private Entry(final Path directory, final Path last, final Path ipPath, final boolean zip,
+      final String fingerprint, final Map<String, String> files, final Stored stored) {
+      this.directory = directory;
+      this.last = last;
+      this.ipPath = ipPath;
+      this.zip = zip;
+      this.fingerprint = fingerprint;
+      this.files = files;
+      this.stored = stored;
+    }
+
+    /**
+     * Check if the IP didn't change since it was stored.
+     *
+     * @return {@code true} if the stored report can be used.
+     */
+    public boolean isUnchanged() {
+      return fingerprint.equals(stored.fingerprint) && stored.report != null
+        && (zip || ipPath.toString().equals(stored.location));
+    }
+
+    /**
+     * Opens the stored report, if the IP didn't change.
+     *
+     * @return the {@link InputStream} of the report or {@code null} if there's
+     *         none.
+     */
+    public InputStream openReport() {
+      if (!isUnchanged()) {
+        return null;
+      }
+      final Path file = directory.resolve(stored.report);
+      try {
+        return Files.newInputStream(file);
+      } catch (NoSuchFileException e) {
+        return null;
+      } catch (IOException e) {
+        LOGGER.warn("Ignoring the unreadable validation cache {}", file, e);
+        return null;
+      }
+    }
+
+    /**
+     * Get the stored IP type, if the IP didn't change.
+     *
+     * @return the {@link String} IP type or {@code null} if the METS file
+     *         couldn't be read.
+     */
+    public String getIpType() {
+      return isUnchanged() ? stored.ipType : null;
+    }
+
+    @Override
+    public Map<String, String> get(final String file) {
+      final String key = getKey(file);
+      if (key == null) {
+        return null;
+      }
+      final Map<String, String> read = digests.get(key);
+      if (read != null) {
+        return read;
+      }
+      final StoredFile storedFile = stored.files != null ? stored.files.get(key) : null;
+      if (storedFile != null && storedFile.fingerprint != null && storedFile.fingerprint.equals(files.get(key))) {
+        return storedFile.digests;
+      }
+      return null;
+    }
+
+    @Override
+    public void put(final String file, final Map<String, String> checksums) {
+      final String key = getKey(file);
+      if (key != null) {
+        digests.put(key, checksums);
+      }
+    }
+
+    private String getKey(final String file) {
+      if (zip) {
+        return files.containsKey(file) ? file : null;
+      }
+      final Path path = Paths.get(file).toAbsolutePath().normalize();
+      if (!path.startsWith(ipPath)) {
+        return null;
+      }
+      final String key = relativize(ipPath, path);
+      return files.containsKey(key) ? key : null;
+    }
+
+    /**
+     * Creates the temporary file where the report of the validation of the IP
+     * is copied while it is written, kept by {@link #store(String)}. Errors
+     * writing the copy don't reach the report, they only prevent storing it.
+     *
+     * @return the {@link OutputStream} of the copy.
+     * @throws IOException
+     *           if some I/O error occurs.
+     */
+    public OutputStream newReport() throws IOException {
+      Files.createDirectories(directory);
+      report = new ReportCopy(Files.createTempFile(directory, fingerprint, ".tmp"));
+      return report;
+    }
+
+    /**
+     * Stores the report copied to {@link #newReport()}, once it is closed, with
+     * the digests of the files read so far, and deletes what was stored for the
+     * previous fingerprint of the same location.
+     *
+     * @param ipType
+     *          the {@link String} IP type or {@code null} if the METS file
+     *          couldn't be read
+     * @throws IOException
+     *           if some I/O error occurs or the report wasn't copied.
+     */
+    public void store(final String ipType) throws IOException {
+      if (report == null) {
+        throw new IOException("The report of " + ipPath + " wasn't copied");
+      }
+      try {
+        if (report.failure != null) {
+          throw new IOException("Unable to copy the report of " + ipPath, report.failure);
+        }
+        move(report.file, directory.resolve(fingerprint + REPORT_EXTENSION));
+      } finally {
+        Files.deleteIfExists(report.file);
+      }
+
+      final Stored updated = new Stored();
+      updated.fingerprint = fingerprint;
+      updated.location = zip ? null : ipPath.toString();
+      updated.ipType = ipType;
+      updated.report = fingerprint + REPORT_EXTENSION;
+      updated.files = new TreeMap<>();
+      for (Map.Entry<String, String> file : files.entrySet()) {
+        final Map<String, String> known = get(zip ? file.getKey() : ipPath.resolve(file.getKey()).toString());
+        if (known != null) {
+          final StoredFile storedFile = new StoredFile();
+          storedFile.fingerprint = file.getValue();
+          storedFile.digests = known;
+          updated.files.put(file.getKey(), storedFile);
+        }
+      }
+
+      write(directory.resolve(fingerprint + STORE_EXTENSION), updated);
+      setLast();
+    }
+
+    /**
+     * Points the location of the IP to the stored report given back for it,
+     * deleting what was stored for the previous fingerprint of the location.
+     *
+     * @throws IOException
+     *           if some I/O error occurs.
+     */
+    public void setLast() throws IOException {
+      final String previous = readLast(last);
+      if (!fingerprint.equals(previous)) {
+        write(last, fingerprint);
+        if (previous != null) {
+          delete(directory, previous);
+        }
+      }
+    }
+  }
+
+  /**
+   * The copy of a report being written, which stops copying at the first error
+   * instead of failing the report.
+   */
+  private static final class ReportCopy extends OutputStream {
+    private final Path file;
+    private OutputStream out;
+    private IOException failure;
+
+    private ReportCopy(final Path file) throws IOException {
+      this.file = file;
+      this.out = new BufferedOutputStream(Files.newOutputStream(file));
+    }
+
+    @Override
+    public void write(final int b) {
+      write(new byte[] {(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(final byte[] b, final int off, final int len) {
+      if (out != null) {
+        try {
+          out.write(b, off, len);
+        } catch (IOException e) {
+          fail(e);
+        }
+      }
+    }
+
+    @Override
+    public void flush() {
+      if (out != null) {
+        try {
+          out.flush();
+        } catch (IOException e) {
+          fail(e);
+        }
+      }
+    }
+
+    @Override
+    public void close() {
+      if (out != null) {
+        try {
+          out.close();
+        } catch (IOException e) {
+          failure = e;
+        }
+        out = null;
+      }
+    }
+
+    private void fail(final IOException e) {
+      failure = e;
+      close();
+    }
+  }
+
+  /**
+   * The JSON stored per IP.
+   */
+  static final class Stored {
+    public String fingerprint;
+    public String location;
+    public String ipType;
+    public String report;
+    public Map<String, StoredFile> files;
+  }
+
+  /**
+   * The stored digests of a file and its fingerprint when they were read.
+   */
+  static final class StoredFile {
+    public String fingerprint;
+    public Map<String, String> digests;
+  }
+}
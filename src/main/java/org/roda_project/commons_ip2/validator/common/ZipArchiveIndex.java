@@ -0,0 +1,242 @@
+package org.roda_project.commons_ip2.validator.common;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * In-memory index of the central directory of an IP in zip format.
+ *
+ * <p>
+ * The index is built once, in a single pass over the central directory, and
+ * keeps every path of the archive in a trie where each node knows if it is a
+ * directory or a file, its uncompressed size and its CRC. Directories that are
+ * only implied by the path of their children (the archive has no explicit entry
+ * for them) are also present in the trie but are not part of
+ * {@link #getEntries()}.
+ * </p>
+ */
+public final class ZipArchiveIndex {
+  /**
+   * Root of the trie, it represents the (unnamed) root of the archive.
+   */
+  private final Node root = new Node(null, "");
+  /**
+   * Explicit entries in central directory order.
+   */
+  private final List<Node> entries;
+  /**
+   * Explicit entries by their exact entry name.
+   */
+  private final Map<String, Node> entriesByName;
+
+  private ZipArchiveIndex(final int expectedEntries) {
+    this.entries = new ArrayList<>(expectedEntries);
+    this.entriesByName = new HashMap<>(Math.max(16, (int) (expectedEntries / 0.75f) + 1));
+  }
+
+  /**
+   * Builds the index of the given {@link ZipFile}.
+   *
+   * @param zipFile
+   *          the {@link ZipFile}
+   * @return the {@link ZipArchiveIndex}
+   */
+  public static ZipArchiveIndex build(final ZipFile zipFile) {
+    final ZipArchiveIndex index = new ZipArchiveIndex(zipFile.size());
+    final Enumeration<? extends ZipEntry> zipEntries = zipFile.entries();
+    while (zipEntries.hasMoreElements()) {
+      index.add(zipEntries.nextElement());
+    }
+    return index;
+  }
+
+  private void add(final ZipEntry zipEntry) {
+    final String name = zipEntry.getName();
+    final String[] segments = name.split("/");
+    Node current = root;
+    for (int i = 0; i < segments.length; i++) {
+      current = current.getOrCreateChild(segments[i]);
+      if (i < segments.length - 1) {
+        current.directory = true;
+      }
+    }
+    current.entryName = name;
+    current.depth = segments.length;
+    current.directory = current.directory || zipEntry.isDirectory();
+    current.explicitDirectory = zipEntry.isDirectory();
+    current.size = zipEntry.getSize();
+    current.crc = zipEntry.getCrc();
+    entries.add(current);
+    entriesByName.put(name, current);
+  }
+
+  /**
+   * Get all the explicit entries of the archive in central directory order.
+   *
+   * @return the {@link List} of {@link Node}
+   */
+  public List<Node> getEntries() {
+    return Collections.unmodifiableList(entries);
+  }
+
+  /**
+   * Get the entry with exactly the given name.
+   *
+   * @param name
+   *          the entry name
+   * @return the {@link Node} or {@code null} if there is no such entry
+   */
+  public Node getEntry(final String name) {
+    return entriesByName.get(name);
+  }
+
+  /**
+   * Get the nodes in the first level of the archive.
+   *
+   * @return {@link Collection} of {@link Node}
+   */
+  public Collection<Node> getRootFolders() {
+    return root.getChildren();
+  }
+
+  /**
+   * Walks down the trie following the given path segments.
+   *
+   * @param segments
+   *          the path segments
+   * @return the {@link Node} or {@code null} if the path does not exist
+   */
+  public Node lookup(final String... segments) {
+    Node current = root;
+    for (String segment : segments) {
+      current = current.getChild(segment);
+      if (current == null) {
+        return null;
+      }
+    }
+    return current;
+  }
+
+  /**
+   * Get the number of explicit entries.
+   *
+   * @return the number of entries
+   */
+  public int size() {
+    return entries.size();
+  }
+
+  /**
+   * Node of the archive trie.
+   */
+  public static final class Node {
+    private final Node parent;
+    private final String name;
+    private Map<String, Node> children;
+    private String entryName;
+    private int depth;
+    private boolean directory;
+    private boolean explicitDirectory;
+    private long size = -1;
+    private long crc = -1;
+
+    private Node(final Node parent, final String name) {
+      this.parent = parent;
+      this.name = name;
+    }
+
+    private Node getOrCreateChild(final String childName) {
+      if (children == null) {
+        children = new LinkedHashMap<>();
+      }
+      return children.computeIfAbsent(childName, k -> new Node(this, k));
+    }
+
+    /**
+     * Get the child with the given name.
+     *
+     * @param childName
+     *          the child name
+     * @return the {@link Node} or {@code null}
+     */
+    public Node getChild(final String childName) {
+      return children == null ? null : children.get(childName);
+    }
+
+    /**
+     * Get the children of this node.
+     *
+     * @return {@link Collection} of {@link Node}
+     */
+    public Collection<Node> getChildren() {
+      return children == null ? Collections.emptyList() : Collections.unmodifiableCollection(children.values());
+    }
+
+    public Node getParent() {
+      return parent;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    /**
+     * Get the name of the zip entry, or {@code null} if this node is a directory
+     * implied by the path of its children.
+     *
+     * @return the entry name
+     */
+    public String getEntryName() {
+      return entryName;
+    }
+
+    /**
+     * Get the number of segments of the entry name, as given by
+     * {@code entryName.split("/").length}.
+     *
+     * @return the depth
+     */
+    public int getDepth() {
+      return depth;
+    }
+
+    /**
+     * Check if the node is a directory, either explicit or implied by its
+     * children.
+     *
+     * @return if it is a directory
+     */
+    public boolean isDirectory() {
+      return directory;
+    }
+
+    /**
+     * Check if the archive has a directory entry for this node.
+     *
+     * @return if it is an explicit directory entry
+     */
+    public boolean isExplicitDirectory() {
+      return explicitDirectory;
+    }
+
+    public boolean hasChildren() {
+      return children != null && !children.isEmpty();
+    }
+
+    public long getSize() {
+      return size;
+    }
+
+    public long getCrc() {
+      return crc;
+    }
+  }
+}
@@ -6,11 +6,13 @@ import java.nio.file.Path;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.regex.Pattern;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
@@ -19,10 +21,46 @@ import jakarta.xml.bind.DatatypeConverter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-/** {@author João Gomes <jgomes@keep.pt>}. */
+/**
+ * {@author João Gomes <jgomes@keep.pt>}.
+ *
+ * <p>
+ * The IP is opened only once: the first query opens the {@link ZipFile} and
+ * builds a {@link ZipArchiveIndex} of its central directory, all the following
+ * queries are answered from that index. The handle is released with
+ * {@link #closeZipFile()}.
+ * </p>
+ */
 public class ZipManager {
   private static final Logger LOGGER = LoggerFactory.getLogger(ZipManager.class);
+  private static final String METS_FILE = "METS.xml";
+  private static final Pattern METS_FILE_PATTERN = Pattern.compile(".*/METS.xml");
+  private static final Pattern SUBMISSION_PATTERN = Pattern.compile(".+/submission/.+");
   private ZipFile zipFile = null;
+  private ZipArchiveIndex zipIndex = null;
+
+  private synchronized ZipFile getZipFile(Path path) throws IOException {
+    if (zipFile == null) {
+      zipFile = new ZipFile(path.toFile());
+    }
+    return zipFile;
+  }
+
+  /**
+   * Get the {@link ZipArchiveIndex} of the IP, building it on the first call.
+   *
+   * @param path
+   *          {@link Path} to the IP
+   * @return the {@link ZipArchiveIndex}
+   * @throws IOException
+   *           if some I/O error occurs
+   */
+  public synchronized ZipArchiveIndex getIndex(Path path) throws IOException {
+    if (zipIndex == null) {
+      zipIndex = ZipArchiveIndex.build(getZipFile(path));
+    }
+    return zipIndex;
+  }
 
   /**
    * Gets {@link InputStream} to the IP in zip format.
@@ -36,15 +74,12 @@ public class ZipManager {
    *           if some I/O error occurs
    */
   public InputStream getZipInputStream(Path path, String entry) throws IOException {
-    if (zipFile == null) {
-      zipFile = new ZipFile(path.toFile());
-    }
-
-    ZipEntry zipArchiveEntry = zipFile.getEntry(entry);
+    ZipFile file = getZipFile(path);
+    ZipEntry zipArchiveEntry = file.getEntry(entry);
     if (zipArchiveEntry == null) {
       return null;
     }
-    return zipFile.getInputStream(zipArchiveEntry);
+    return file.getInputStream(zipArchiveEntry);
   }
 
   /**
@@ -57,26 +92,12 @@ public class ZipManager {
    *           if some I/O error occurs
    */
   public InputStream getMetsRootInputStream(Path path) throws IOException {
-    if (zipFile == null) {
-      zipFile = new ZipFile(path.toFile());
-    }
-
-    Enumeration entries = zipFile.entries();
-    String entry = null;
-    while (entries.hasMoreElements()) {
-      ZipEntry entr = (ZipEntry) entries.nextElement();
-      if (entr.getName().endsWith("/METS.xml")) {
-        if (entr.getName().split("/").length == 2) {
-          entry = entr.getName();
-        }
-      }
-    }
-    if (entry == null) {
+    ZipArchiveIndex.Node rootMets = findRootMets(getIndex(path));
+    if (rootMets == null) {
       LOGGER.debug("METS.xml not Found");
       throw new IOException("METS.xml not Found");
     }
-    ZipEntry zipArchiveEntry = zipFile.getEntry(entry);
-    return zipFile.getInputStream(zipArchiveEntry);
+    return getZipInputStream(path, rootMets.getEntryName());
   }
 
   /**
@@ -89,26 +110,17 @@ public class ZipManager {
    *           if some I/O error occurs
    */
   public InputStream getErmsInputStream(Path path) throws IOException {
-    if (zipFile == null) {
-      zipFile = new ZipFile(path.toFile());
-    }
-
-    Enumeration entries = zipFile.entries();
     String entry = null;
-    while (entries.hasMoreElements()) {
-      ZipEntry entr = (ZipEntry) entries.nextElement();
-      if (entr.getName().endsWith("erms.xml")) {
-        if (entr.getName().split("/").length == 4) {
-          entry = entr.getName();
-        }
+    for (ZipArchiveIndex.Node node : getIndex(path).getEntries()) {
+      if (node.getEntryName().endsWith("erms.xml") && node.getDepth() == 4) {
+        entry = node.getEntryName();
       }
     }
     if (entry == null) {
       LOGGER.debug("ERMS.xml not Found");
       throw new IOException("ERMS.xml not Found");
     }
-    ZipEntry zipArchiveEntry = zipFile.getEntry(entry);
-    return zipFile.getInputStream(zipArchiveEntry);
+    return getZipInputStream(path, entry);
   }
 
   public Enumeration getEntries() {
@@ -126,16 +138,29 @@ public class ZipManager {
    */
   public ZipEntry getZipEntry(Path path, String entry) {
     try {
-      if (zipFile == null) {
-        zipFile = new ZipFile(path.toFile());
-      }
-      return zipFile.getEntry(entry);
+      return getZipFile(path).getEntry(entry);
     } catch (IOException e) {
       LOGGER.debug("Failed to retrieve the entry: {} from {}", entry, path, e);
       return null;
     }
   }
 
+  /**
+   * Finds the METS file in the root folder of the IP, that is, an entry named
+   * {@code <root folder>/METS.xml}. If there is more than one root folder with a
+   * METS file the last one in the archive wins.
+   */
+  private static ZipArchiveIndex.Node findRootMets(ZipArchiveIndex index) {
+    ZipArchiveIndex.Node found = null;
+    for (ZipArchiveIndex.Node rootFolder : index.getRootFolders()) {
+      ZipArchiveIndex.Node mets = rootFolder.getChild(METS_FILE);
+      if (mets != null && mets.getEntryName() != null && !mets.isExplicitDirectory()) {
+        found = mets;
+      }
+    }
+    return found;
+  }
+
   /**
    * Check if exists METS file in root of the IP.
    *
@@ -146,23 +171,12 @@ public class ZipManager {
    *           if some I/O error occurs.
    */
   public boolean checkIfExistsRootMetsFile(Path path) throws IOException {
-    boolean found = false;
-    ZipFile zipFile = new ZipFile(path.toFile());
-    Enumeration entries = zipFile.entries();
-    while (entries.hasMoreElements()) {
-      ZipEntry entry = (ZipEntry) entries.nextElement();
-      if (entry.getName().endsWith("/METS.xml")) {
-        if (entry.getName().split("/").length == 2) {
-          found = true;
-          break;
-        }
-      }
-    }
-    return found;
+    return findRootMets(getIndex(path)) != null;
   }
 
-  /** Closes Zip file. */
-  public void closeZipFile() {
+  /** Closes Zip file and discards its index. */
+  public synchronized void closeZipFile() {
+    zipIndex = null;
     if (zipFile != null) {
       try {
         zipFile.close();
@@ -185,22 +199,12 @@ public class ZipManager {
    *           if some I/O error occurs.
    */
   public boolean checkPathExists(Path path, String filePath) throws IOException {
-    boolean found = false;
-    ZipFile zipFile = new ZipFile(path.toFile());
-    Enumeration entries = zipFile.entries();
-    while (entries.hasMoreElements()) {
-      ZipEntry entry = (ZipEntry) entries.nextElement();
-      if (entry.getName().equals(filePath)) {
-        found = true;
-        break;
-      }
-    }
-    return found;
+    return getIndex(path).getEntry(filePath) != null;
   }
 
   /**
    * Verify if checksum given is equal against the calculation of file checksum.
-   * 
+   *
    * @param path
    *          {@link Path} to the IP
    * @param file
@@ -221,45 +225,39 @@ public class ZipManager {
     if (entry == null) {
       valid = false;
     } else {
-      MessageDigest messageDigest = MessageDigest.getInstance(alg);
-      byte[] buffer = new byte[8192];
-      int numOfBytesRead;
-      while ((numOfBytesRead = entry.read(buffer)) > 0) {
-        messageDigest.update(buffer, 0, numOfBytesRead);
-      }
-      byte[] hash = messageDigest.digest();
-      String fileChecksum = DatatypeConverter.printHexBinary(hash);
-      if (!checksum.equalsIgnoreCase(fileChecksum)) {
-        valid = false;
+      try (InputStream in = entry) {
+        MessageDigest messageDigest = MessageDigest.getInstance(alg);
+        byte[] buffer = new byte[8192];
+        int numOfBytesRead;
+        while ((numOfBytesRead = in.read(buffer)) > 0) {
+          messageDigest.update(buffer, 0, numOfBytesRead);
+        }
+        byte[] hash = messageDigest.digest();
+        String fileChecksum = DatatypeConverter.printHexBinary(hash);
+        if (!checksum.equalsIgnoreCase(fileChecksum)) {
+          valid = false;
+        }
       }
     }
     return valid;
   }
 
   public boolean verifySize(Path path, String file, Long metsSize) {
-    boolean valid = true;
-    ZipEntry entry = getZipEntry(path, file);
-    if (entry == null) {
-      valid = false;
-    } else {
-      if (entry.getSize() != metsSize) {
-        valid = false;
-      }
+    ZipArchiveIndex.Node entry;
+    try {
+      entry = getIndex(path).getEntry(file);
+    } catch (IOException e) {
+      LOGGER.debug("Failed to retrieve the entry: {} from {}", file, path, e);
+      return false;
     }
-    return valid;
+    return entry != null && entry.getSize() == metsSize;
   }
 
   public boolean verifyIfExistsFilesInFolder(Path path, String regex) throws IOException {
-    ZipFile zipFile = new ZipFile(path.toFile());
-    Enumeration entries = zipFile.entries();
-    while (entries.hasMoreElements()) {
-      ZipEntry entry = (ZipEntry) entries.nextElement();
-      if (entry.getName().matches(regex)) {
-        if (entry.getName().split("/").length == 3) {
-          if (!entry.isDirectory()) {
-            return true;
-          }
-        }
+    Pattern pattern = Pattern.compile(regex);
+    for (ZipArchiveIndex.Node entry : getIndex(path).getEntries()) {
+      if (entry.getDepth() == 3 && !entry.isExplicitDirectory() && pattern.matcher(entry.getEntryName()).matches()) {
+        return true;
       }
     }
     return false;
@@ -267,26 +265,12 @@ public class ZipManager {
 
   public int countMetadataFiles(Path path, String regex) throws IOException {
     int count = 0;
-    ZipFile zipFile = new ZipFile(path.toFile());
-    Enumeration entries = zipFile.entries();
-
-    if (regex.contains("descriptive")) {
-      while (entries.hasMoreElements()) {
-        ZipEntry entry = (ZipEntry) entries.nextElement();
-        if (entry.getName().matches(regex)) {
-          if (!entry.isDirectory()) {
-            count++;
-          }
-        }
-      }
-    } else {
-      while (entries.hasMoreElements()) {
-        ZipEntry entry = (ZipEntry) entries.nextElement();
-        if (entry.getName().matches(regex)) {
-          if (!entry.isDirectory() && !entry.toString().contains("descriptive")) {
-            count++;
-          }
-        }
+    Pattern pattern = Pattern.compile(regex);
+    boolean descriptive = regex.contains("descriptive");
+    for (ZipArchiveIndex.Node entry : getIndex(path).getEntries()) {
+      if (!entry.isExplicitDirectory() && (descriptive || !entry.getEntryName().contains("descriptive"))
+        && pattern.matcher(entry.getEntryName()).matches()) {
+        count++;
       }
     }
     return count;
@@ -294,102 +278,85 @@ public class ZipManager {
 
   public HashMap<String, InputStream> getSubMets(Path path) throws IOException {
     HashMap<String, InputStream> subMets = new HashMap<>();
-    ZipFile zipFile = new ZipFile(path.toFile());
-    Enumeration entries = zipFile.entries();
-
-    while (entries.hasMoreElements()) {
-      ZipEntry entry = (ZipEntry) entries.nextElement();
-      if (entry.getName().endsWith("/METS.xml") && entry.getName().split("/").length > 2
-        && entry.getName().split("/").length <= 4 && !entry.getName().matches(".+/submission/.+")) {
-        InputStream stream = zipFile.getInputStream(entry);
-        if (stream != null) {
-          subMets.put(entry.getName(), stream);
-        }
+    for (String entry : getSubMetsEntries(path)) {
+      InputStream stream = getZipInputStream(path, entry);
+      if (stream != null) {
+        subMets.put(entry, stream);
       }
     }
     return subMets;
   }
 
-  public boolean checkSingleRootFolder(Path path) throws IOException {
-    ZipFile zipFile = new ZipFile(path.toFile());
-    Enumeration entries = zipFile.entries();
-
-    Set<String> tmp = new HashSet<>();
-    while (entries.hasMoreElements()) {
-      ZipEntry entry = (ZipEntry) entries.nextElement();
-      String name = entry.getName().split("/")[0];
-      tmp.add(name);
+  /**
+   * Get the entries of the representation METS files, without opening them.
+   *
+   * @param path
+   *          {@link Path} to the IP
+   * @return the sorted {@link List} of entries
+   * @throws IOException
+   *           if some I/O error occurs
+   */
+  public List<String> getSubMetsEntries(Path path) throws IOException {
+    List<String> entries = new ArrayList<>();
+    for (ZipArchiveIndex.Node entry : getIndex(path).getEntries()) {
+      if (isSubMets(entry)) {
+        entries.add(entry.getEntryName());
+      }
     }
-    return tmp.size() == 1;
+    Collections.sort(entries);
+    return entries;
+  }
+
+  private static boolean isSubMets(ZipArchiveIndex.Node entry) {
+    return entry.getDepth() > 2 && entry.getDepth() <= 4 && entry.getEntryName().endsWith("/METS.xml")
+      && !SUBMISSION_PATTERN.matcher(entry.getEntryName()).matches();
+  }
+
+  public boolean checkSingleRootFolder(Path path) throws IOException {
+    return getIndex(path).getRootFolders().size() == 1;
   }
 
   public boolean checkDirectory(Path path, String directoryPath) throws IOException {
-    ZipFile zipFile = new ZipFile(path.toFile());
-    ZipEntry e = zipFile.getEntry(directoryPath);
-    Enumeration entries = zipFile.entries();
-    boolean found = false;
-    if (e == null) {
-      while (entries.hasMoreElements()) {
-        ZipEntry entry = (ZipEntry) entries.nextElement();
-        if (entry.getName().startsWith(directoryPath) && !entry.isDirectory()) {
-          found = true;
-        }
+    ZipArchiveIndex index = getIndex(path);
+    if (getZipFile(path).getEntry(directoryPath) != null) {
+      return true;
+    }
+    for (ZipArchiveIndex.Node entry : index.getEntries()) {
+      if (!entry.isExplicitDirectory() && entry.getEntryName().startsWith(directoryPath)) {
+        return true;
       }
-    } else {
-      found = true;
     }
-    return found;
+    return false;
   }
 
   public boolean checkSubMetsFolder(Path path, String objectId) throws IOException {
-    ZipFile zipFile = new ZipFile(path.toFile());
-    Enumeration entries = zipFile.entries();
-    while (entries.hasMoreElements()) {
-      ZipEntry entry = (ZipEntry) entries.nextElement();
-      String name = entry.getName();
-      if (name.matches(".*/?" + objectId + "/METS.xml")) {
+    Pattern pattern = Pattern.compile(".*/?" + objectId + "/METS.xml");
+    Pattern lowerCasePattern = Pattern.compile(".*/?" + objectId.toLowerCase() + "/METS.xml");
+    for (ZipArchiveIndex.Node entry : getIndex(path).getEntries()) {
+      String name = entry.getEntryName();
+      if (name.endsWith("/METS.xml")
+        && (pattern.matcher(name).matches() || lowerCasePattern.matcher(name).matches())) {
         return true;
-      } else {
-        if (name.matches(".*/?" + objectId.toLowerCase() + "/METS.xml")) {
-          return true;
-        }
       }
     }
     return false;
   }
 
   public boolean checkRootFolderName(Path path, String objectId) throws IOException {
-    if (zipFile == null) {
-      zipFile = new ZipFile(path.toFile());
-    }
-
-    Enumeration entries = zipFile.entries();
-    String entry = null;
-    while (entries.hasMoreElements()) {
-      ZipEntry entr = (ZipEntry) entries.nextElement();
-      if (entr.getName().matches(".*/METS.xml")) {
-        if (entr.getName().split("/").length == 2) {
-          entry = entr.getName();
-        }
-      }
-    }
-    if (entry == null) {
+    ZipArchiveIndex.Node rootMets = findRootMets(getIndex(path));
+    if (rootMets == null) {
       LOGGER.debug("METS.xml not Found");
       throw new IOException("METS.xml not Found");
     }
-    return entry.split("/")[0].equals(objectId);
+    return rootMets.getParent().getName().equals(objectId);
   }
 
   public HashMap<String, Boolean> getMetadataFiles(Path path, String regex) throws IOException {
     HashMap<String, Boolean> metadataFiles = new HashMap<>();
-    ZipFile zipFile = new ZipFile(path.toFile());
-    Enumeration entries = zipFile.entries();
-    while (entries.hasMoreElements()) {
-      ZipEntry entry = (ZipEntry) entries.nextElement();
-      if (entry.getName().matches(regex)) {
-        if (!entry.isDirectory()) {
-          metadataFiles.put(entry.getName(), false);
-        }
+    Pattern pattern = Pattern.compile(regex);
+    for (ZipArchiveIndex.Node entry : getIndex(path).getEntries()) {
+      if (!entry.isExplicitDirectory() && pattern.matcher(entry.getEntryName()).matches()) {
+        metadataFiles.put(entry.getEntryName(), false);
       }
     }
     return metadataFiles;
@@ -397,71 +364,50 @@ public class ZipManager {
 
   public HashMap<String, Boolean> getFiles(Path path) throws IOException {
     HashMap<String, Boolean> metadataFiles = new HashMap<>();
-    ZipFile zipFile = new ZipFile(path.toFile());
-    Enumeration entries = zipFile.entries();
-    while (entries.hasMoreElements()) {
-      ZipEntry entry = (ZipEntry) entries.nextElement();
-      if (!entry.getName().matches(".*/METS.xml") && !entry.getName().contains("/metadata") && !entry.isDirectory()
-        && !entry.getName().contains("/aip.json")) {
-        metadataFiles.put(entry.getName(), false);
+    for (ZipArchiveIndex.Node entry : getIndex(path).getEntries()) {
+      String name = entry.getEntryName();
+      if (!entry.isExplicitDirectory() && !name.contains("/metadata") && !name.contains("/aip.json")
+        && !METS_FILE_PATTERN.matcher(name).matches()) {
+        metadataFiles.put(name, false);
       }
     }
     return metadataFiles;
   }
 
   public boolean checkPathIsDirectory(Path path, String filePath) throws IOException {
-    boolean found = false;
-    ZipFile zipFile = new ZipFile(path.toFile());
-    Enumeration entries = zipFile.entries();
-    while (entries.hasMoreElements()) {
-      ZipEntry entry = (ZipEntry) entries.nextElement();
-      if (entry.getName().matches(".*/?" + filePath + "/")) {
-        if (entry.isDirectory()) {
-          found = true;
-          break;
-        }
+    Pattern pattern = Pattern.compile(".*/?" + filePath + "/");
+    for (ZipArchiveIndex.Node entry : getIndex(path).getEntries()) {
+      if (entry.isExplicitDirectory() && pattern.matcher(entry.getEntryName()).matches()) {
+        return true;
       }
     }
-    return found;
+    return false;
   }
 
   public boolean checkIfExistsFolderInRoot(Path path, String folder) throws IOException {
-    boolean found = false;
-    ZipFile zipFile = new ZipFile(path.toFile());
-    Enumeration entries = zipFile.entries();
-    while (entries.hasMoreElements()) {
-      ZipEntry entry = (ZipEntry) entries.nextElement();
-      if (entry.getName().matches(".*/" + folder + "/.*")) {
-        if (entry.getName().split("/")[1].equals(folder)) {
-          found = true;
-          break;
-        }
+    for (ZipArchiveIndex.Node rootFolder : getIndex(path).getRootFolders()) {
+      ZipArchiveIndex.Node node = rootFolder.getChild(folder);
+      if (node != null && (node.isExplicitDirectory() || node.hasChildren())) {
+        return true;
       }
     }
-    return found;
+    return false;
   }
 
   public boolean checkIfExistsFolderInside(Path path, String folder) throws IOException {
-    boolean found = false;
-    ZipFile zipFile = new ZipFile(path.toFile());
-    Enumeration entries = zipFile.entries();
-    while (entries.hasMoreElements()) {
-      ZipEntry entry = (ZipEntry) entries.nextElement();
-      if (entry.getName().matches(".*/" + folder + "/.*") && entry.getName().split("/").length >= 3) {
-        found = true;
-        break;
+    Pattern pattern = Pattern.compile(".*/" + folder + "/.*");
+    for (ZipArchiveIndex.Node entry : getIndex(path).getEntries()) {
+      if (entry.getDepth() >= 3 && pattern.matcher(entry.getEntryName()).matches()) {
+        return true;
       }
     }
-    return found;
+    return false;
   }
 
   public boolean checkIfExistsFolderInsideRepresentation(Path path, String folder) throws IOException {
-    ZipFile zipFile = new ZipFile(path.toFile());
-    Enumeration entries = zipFile.entries();
-    while (entries.hasMoreElements()) {
-      ZipEntry entry = (ZipEntry) entries.nextElement();
-      if (entry.getName().matches(".*/representations/.*/" + folder + "/.*")
-        && entry.getName().split("/").length >= 4) {
+    Pattern pattern = Pattern.compile(".*/representations/.*/" + folder + "/.*");
+    for (ZipArchiveIndex.Node entry : getIndex(path).getEntries()) {
+      if (entry.getDepth() >= 4 && pattern.matcher(entry.getEntryName()).matches()) {
         return true;
       }
     }
@@ -469,59 +415,39 @@ public class ZipManager {
   }
 
   public boolean checkIfExistsSubMets(Path path) throws IOException {
-    ZipFile zipFile = new ZipFile(path.toFile());
-    Enumeration entries = zipFile.entries();
     int countSubMets = 0;
-    int countRepresentations;
-    List<String> representationsFoldersNames = new ArrayList<>();
-    while (entries.hasMoreElements()) {
-      ZipEntry entry = (ZipEntry) entries.nextElement();
-      if (entry.getName().endsWith("/METS.xml")) {
-        if (entry.getName().split("/").length > 2 && entry.getName().split("/").length <= 4
-          && !entry.getName().matches(".+/submission/.+")) {
+    Set<String> representationsFoldersNames = new LinkedHashSet<>();
+    for (ZipArchiveIndex.Node entry : getIndex(path).getEntries()) {
+      String name = entry.getEntryName();
+      if (name.endsWith("/METS.xml")) {
+        if (isSubMets(entry)) {
           countSubMets++;
         }
-      } else {
-        if (entry.getName().contains("/representations/") && (entry.getName().split("/").length > 3
-          && !entry.isDirectory() && !entry.getName().matches(".+/submission/.+"))) {
-          String representationName = getRepresentationName(entry.getName());
-          if (!representationsFoldersNames.contains(representationName)) {
-            representationsFoldersNames.add(representationName);
-          }
-        }
+      } else if (name.contains("/representations/") && entry.getDepth() > 3 && !entry.isExplicitDirectory()
+        && !SUBMISSION_PATTERN.matcher(name).matches()) {
+        representationsFoldersNames.add(getRepresentationName(name));
       }
     }
-    zipFile.close();
-    countRepresentations = representationsFoldersNames.size();
-    return countSubMets == countRepresentations;
+    return countSubMets == representationsFoldersNames.size();
   }
 
   public List<String> getRepresentationsFoldersNames(Path path) throws IOException {
-    List<String> representationsFoldersNames = new ArrayList<>();
-    ZipFile zipFile = new ZipFile(path.toFile());
-    Enumeration entries = zipFile.entries();
-    while (entries.hasMoreElements()) {
-      ZipEntry entry = (ZipEntry) entries.nextElement();
-      if (entry.getName().contains("/representations/") && entry.getName().split("/").length > 3
-        && !entry.getName().matches(".+/submission/.+")) {
-        String representationName = getRepresentationName(entry.getName());
-        if (!representationsFoldersNames.contains(representationName)) {
-          representationsFoldersNames.add(representationName);
-        }
+    Set<String> representationsFoldersNames = new LinkedHashSet<>();
+    for (ZipArchiveIndex.Node entry : getIndex(path).getEntries()) {
+      String name = entry.getEntryName();
+      if (name.contains("/representations/") && entry.getDepth() > 3 && !SUBMISSION_PATTERN.matcher(name).matches()) {
+        representationsFoldersNames.add(getRepresentationName(name));
       }
     }
-    zipFile.close();
-    return representationsFoldersNames;
+    return new ArrayList<>(representationsFoldersNames);
   }
 
   public int countFilesInsideRepresentations(Path path) throws IOException {
     int count = 0;
-    ZipFile zipFile = new ZipFile(path.toFile());
-    Enumeration entries = zipFile.entries();
-    while (entries.hasMoreElements()) {
-      ZipEntry entry = (ZipEntry) entries.nextElement();
-      if (entry.getName().contains("/representations/") && !entry.getName().matches(".+/submission/.+")
-        && entry.getName().split("/").length == 3 && !entry.getName().endsWith("/")) {
+    for (ZipArchiveIndex.Node entry : getIndex(path).getEntries()) {
+      String name = entry.getEntryName();
+      if (entry.getDepth() == 3 && name.contains("/representations/") && !name.endsWith("/")
+        && !SUBMISSION_PATTERN.matcher(name).matches()) {
         count++;
       }
     }
@@ -535,15 +461,9 @@ public class ZipManager {
     commonFolders.add("schemas");
     commonFolders.add("representations");
     List<String> additionalFolders = new ArrayList<>();
-    ZipFile zipFile = new ZipFile(path.toFile());
-    Enumeration entries = zipFile.entries();
-    while (entries.hasMoreElements()) {
-      ZipEntry entry = (ZipEntry) entries.nextElement();
-      String[] folder = entry.getName().split("/");
-      if (folder.length == 2 && entry.isDirectory()) {
-        if (!commonFolders.contains(folder[1])) {
-          additionalFolders.add(folder[1]);
-        }
+    for (ZipArchiveIndex.Node entry : getIndex(path).getEntries()) {
+      if (entry.getDepth() == 2 && entry.isExplicitDirectory() && !commonFolders.contains(entry.getName())) {
+        additionalFolders.add(entry.getName());
       }
     }
     return additionalFolders;
@@ -559,13 +479,9 @@ public class ZipManager {
 
   public boolean checkIfExistsFolderRepresentation(Path ipPath, String folder, String representation)
     throws IOException {
-    ZipFile zipFile = new ZipFile(ipPath.toFile());
-    Enumeration entries = zipFile.entries();
-    StringBuilder regex = new StringBuilder();
-    regex.append(".+/").append(representation).append("/").append(folder);
-    while (entries.hasMoreElements()) {
-      ZipEntry entry = (ZipEntry) entries.nextElement();
-      if (entry.getName().matches(regex.toString())) {
+    Pattern pattern = Pattern.compile(".+/" + representation + "/" + folder);
+    for (ZipArchiveIndex.Node entry : getIndex(ipPath).getEntries()) {
+      if (pattern.matcher(entry.getEntryName()).matches()) {
         return true;
       }
     }
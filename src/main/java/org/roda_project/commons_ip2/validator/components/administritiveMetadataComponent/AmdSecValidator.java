@@ -1,12 +1,10 @@
 package org.roda_project.commons_ip2.validator.components.administritiveMetadataComponent;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.net.URLDecoder;
 import java.nio.file.Paths;
 import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -14,9 +12,7 @@ import java.util.stream.Collectors;
 import org.roda_project.commons_ip2.mets_v1_12.beans.AmdSecType;
 import org.roda_project.commons_ip2.mets_v1_12.beans.MdSecType;
 import org.roda_project.commons_ip2.utils.IanaMediaTypes;
-import org.roda_project.commons_ip2.validator.common.MetsParser;
 import org.roda_project.commons_ip2.validator.constants.Constants;
-import org.roda_project.commons_ip2.validator.handlers.MetsHandler;
 import org.roda_project.commons_ip2.validator.reporter.ReporterDetails;
 import org.roda_project.commons_ip2.validator.state.MetsValidatorState;
 import org.roda_project.commons_ip2.validator.state.StructureValidatorState;
@@ -343,32 +339,8 @@ public abstract class AmdSecValidator {
    */
   protected ReporterDetails validateCSIP37(final StructureValidatorState structureValidatorState,
     final MetsValidatorState metsValidatorState, final List<AmdSecType> amdSec) throws IOException {
-    final HashMap<String, String> amdSecTypes = new HashMap<>();
-    final MetsHandler amdSecHandler = new MetsHandler("digiprovMD", "mdRef", amdSecTypes);
-    final MetsParser metsParser = new MetsParser();
-    InputStream metsStream = null;
-    if (!amdSec.isEmpty()) {
-      if (structureValidatorState.isZipFileFlag()) {
-        if (metsValidatorState.isRootMets()) {
-          metsStream = structureValidatorState.getZipManager()
-            .getMetsRootInputStream(structureValidatorState.getIpPath());
-        } else {
-          metsStream = structureValidatorState.getZipManager().getZipInputStream(structureValidatorState.getIpPath(),
-            metsValidatorState.getMetsPath() + "METS.xml");
-        }
-      } else {
-        if (metsValidatorState.isRootMets()) {
-          metsStream = structureValidatorState.getFolderManager()
-            .getMetsRootInputStream(structureValidatorState.getIpPath());
-        } else {
-          metsStream = structureValidatorState.getFolderManager()
-            .getInputStream(Paths.get(metsValidatorState.getMetsPath()).resolve("METS.xml"));
-        }
-      }
-    }
-    if (metsStream != null) {
-      metsParser.parse(amdSecHandler, metsStream);
-    }
+    final Map<String, String> amdSecTypes = metsValidatorState.getMetsAttributeIndex()
+      .getXlinkTypes("digiprovMD", "mdRef");
     int numberOfMdRef = 0;
     for (AmdSecType a : amdSec) {
       final List<MdSecType> digiprovMds = a.getDigiprovMD();
@@ -874,32 +846,8 @@ public abstract class AmdSecValidator {
    */
   protected ReporterDetails validateCSIP50(final StructureValidatorState structureValidatorState,
     final MetsValidatorState metsValidatorState, final List<AmdSecType> amdSec) throws IOException {
-    final HashMap<String, String> amdSecTypes = new HashMap<>();
-    final MetsHandler amdSecHandler = new MetsHandler("rightsMD", "mdRef", amdSecTypes);
-    final MetsParser metsParser = new MetsParser();
-    InputStream metsStream = null;
-    if (!amdSec.isEmpty()) {
-      if (structureValidatorState.isZipFileFlag()) {
-        if (metsValidatorState.isRootMets()) {
-          metsStream = structureValidatorState.getZipManager()
-            .getMetsRootInputStream(structureValidatorState.getIpPath());
-        } else {
-          metsStream = structureValidatorState.getZipManager().getZipInputStream(structureValidatorState.getIpPath(),
-            metsValidatorState.getMetsPath() + "METS.xml");
-        }
-      } else {
-        if (metsValidatorState.isRootMets()) {
-          metsStream = structureValidatorState.getFolderManager()
-            .getMetsRootInputStream(structureValidatorState.getIpPath());
-        } else {
-          metsStream = structureValidatorState.getFolderManager()
-            .getInputStream(Paths.get(metsValidatorState.getMetsPath()).resolve("METS.xml"));
-        }
-      }
-    }
-    if (metsStream != null) {
-      metsParser.parse(amdSecHandler, metsStream);
-    }
+    final Map<String, String> amdSecTypes = metsValidatorState.getMetsAttributeIndex()
+      .getXlinkTypes("rightsMD", "mdRef");
     int numberOfMdRef = 0;
     for (AmdSecType a : amdSec) {
       final List<MdSecType> rigthsMD = a.getRightsMD();
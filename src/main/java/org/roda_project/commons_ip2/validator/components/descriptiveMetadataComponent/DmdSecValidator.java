@@ -1,13 +1,11 @@
 package org.roda_project.commons_ip2.validator.components.descriptiveMetadataComponent;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.net.URLDecoder;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -18,10 +16,8 @@ import org.roda_project.commons_ip2.mets_v1_12.beans.MdSecType;
 import org.roda_project.commons_ip2.mets_v1_12.beans.Mets;
 import org.roda_project.commons_ip2.utils.IanaMediaTypes;
 import org.roda_project.commons_ip2.validator.common.FolderManager;
-import org.roda_project.commons_ip2.validator.common.MetsParser;
 import org.roda_project.commons_ip2.validator.common.ZipManager;
 import org.roda_project.commons_ip2.validator.constants.Constants;
-import org.roda_project.commons_ip2.validator.handlers.MetsHandler;
 import org.roda_project.commons_ip2.validator.reporter.ReporterDetails;
 import org.roda_project.commons_ip2.validator.state.MetsValidatorState;
 import org.roda_project.commons_ip2.validator.state.StructureValidatorState;
@@ -38,7 +34,7 @@ public abstract class DmdSecValidator {
   protected abstract String getCSIPVersion();
   protected abstract String getSIPVersion();
 
-  private HashMap<String, String> dmdSecType;
+  private Map<String, String> dmdSecType;
   /*
    * mets/dmdSec Must be used if descriptive metadata for the package content is
    * available. Each descriptive metadata section ( <dmdSec> ) contains a single
@@ -348,32 +344,7 @@ public abstract class DmdSecValidator {
    */
   protected ReporterDetails validateCSIP23(final StructureValidatorState structureValidatorState,
                                          final MetsValidatorState metsValidatorState, final List<MdSecType> dmdSec) throws IOException {
-    dmdSecType = new HashMap<>();
-    final MetsHandler dmdSecHandler = new MetsHandler("dmdSec", "mdRef", dmdSecType);
-    final MetsParser metsParser = new MetsParser();
-    InputStream metsStream = null;
-    if (!dmdSec.isEmpty()) {
-      if (structureValidatorState.isZipFileFlag()) {
-        if (metsValidatorState.isRootMets()) {
-          metsStream = structureValidatorState.getZipManager()
-            .getMetsRootInputStream(structureValidatorState.getIpPath());
-        } else {
-          metsStream = structureValidatorState.getZipManager().getZipInputStream(structureValidatorState.getIpPath(),
-            metsValidatorState.getMetsPath() + "METS.xml");
-        }
-      } else {
-        if (metsValidatorState.isRootMets()) {
-          metsStream = structureValidatorState.getFolderManager()
-            .getMetsRootInputStream(structureValidatorState.getIpPath());
-        } else {
-          metsStream = structureValidatorState.getFolderManager()
-            .getInputStream(Paths.get(metsValidatorState.getMetsPath()).resolve("METS.xml"));
-        }
-      }
-    }
-    if (metsStream != null) {
-      metsParser.parse(dmdSecHandler, metsStream);
-    }
+    dmdSecType = metsValidatorState.getMetsAttributeIndex().getXlinkTypes("dmdSec", "mdRef");
     int numberOfMdRefs = 0;
     for (MdSecType mdSec : dmdSec) {
       if (mdSec.getMdRef() != null) {
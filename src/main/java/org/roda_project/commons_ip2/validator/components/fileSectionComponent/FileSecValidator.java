@@ -1,26 +1,24 @@
 package org.roda_project.commons_ip2.validator.components.fileSectionComponent;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Paths;
-import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.IntStream;
 
 import javax.xml.namespace.QName;
 
-import org.roda_project.commons_ip2.mets_v1_12.beans.AmdSecType;
-import org.roda_project.commons_ip2.mets_v1_12.beans.FileGrpType;
-import org.roda_project.commons_ip2.mets_v1_12.beans.FileType;
 import org.roda_project.commons_ip2.mets_v1_12.beans.MdSecType;
 import org.roda_project.commons_ip2.mets_v1_12.beans.MetsType;
 import org.roda_project.commons_ip2.utils.IanaMediaTypes;
-import org.roda_project.commons_ip2.validator.common.MetsParser;
+import org.roda_project.commons_ip2.validator.common.ChecksumVerifier;
+import org.roda_project.commons_ip2.validator.common.MetsIdIndex;
 import org.roda_project.commons_ip2.validator.constants.Constants;
-import org.roda_project.commons_ip2.validator.handlers.MetsHandler;
+import org.roda_project.commons_ip2.validator.handlers.MetsFileTable;
 import org.roda_project.commons_ip2.validator.reporter.ReporterDetails;
 import org.roda_project.commons_ip2.validator.state.MetsValidatorState;
 import org.roda_project.commons_ip2.validator.state.StructureValidatorState;
@@ -89,43 +87,41 @@ public abstract class FileSecValidator {
   protected ReporterDetails validateCSIP60(final StructureValidatorState structureValidatorState,
     final MetsValidatorState metsValidatorState) throws IOException {
     final List<MetsType.FileSec.FileGrp> fileGrps = metsValidatorState.getMets().getFileSec().getFileGrp();
+    final MetsFileTable files = metsValidatorState.getMetsAttributeIndex().getFileTable();
     final StringBuilder message = new StringBuilder();
-    for (MetsType.FileSec.FileGrp fileGrp : fileGrps) {
+    for (int g = 0; g < fileGrps.size(); g++) {
+      final MetsType.FileSec.FileGrp fileGrp = fileGrps.get(g);
       if (fileGrp.getUSE() != null && fileGrp.getUSE().equals("Documentation")) {
-        final List<FileType> files = fileGrp.getFile();
-        if (files != null && !files.isEmpty()) {
-          for (FileType file : files) {
-            final List<FileType.FLocat> fLocats = file.getFLocat();
-            if (structureValidatorState.isZipFileFlag()) {
-              for (FileType.FLocat flocat : fLocats) {
-                final String href = URLDecoder.decode(DecoderUtils.normalizePath(flocat.getHref()),
-                  StandardCharsets.UTF_8);
-                final StringBuilder filePath = new StringBuilder();
-                if (metsValidatorState.isRootMets()) {
-                  filePath.append(metsValidatorState.getMets().getOBJID()).append(Constants.SEPARATOR).append(href);
-                } else {
-                  filePath.append(metsValidatorState.getMetsPath()).append(href);
-                }
-                if (!structureValidatorState.getZipManager().checkPathExists(structureValidatorState.getIpPath(),
-                  filePath.toString())) {
-                  message.append("mets/fileSec/fileGrp[@USE=’Documentation’] ").append(filePath)
-                    .append(" doesn't exists (%1$s)");
-                  return new ReporterDetails(getCSIPVersion(), Message.createErrorMessage(message.toString(),
-                    metsValidatorState.getMetsName(), metsValidatorState.isRootMets()), false, false);
-                }
+        for (int i = files.getGroupStart(g); i < files.getGroupEnd(g); i++) {
+          if (structureValidatorState.isZipFileFlag()) {
+            for (int l = 0; l < files.getLocationCount(i); l++) {
+              final String href = URLDecoder.decode(DecoderUtils.normalizePath(files.getLocationHref(i, l)),
+                StandardCharsets.UTF_8);
+              final StringBuilder filePath = new StringBuilder();
+              if (metsValidatorState.isRootMets()) {
+                filePath.append(metsValidatorState.getMets().getOBJID()).append(Constants.SEPARATOR).append(href);
+              } else {
+                filePath.append(metsValidatorState.getMetsPath()).append(href);
               }
-            } else {
-              for (FileType.FLocat flocat : fLocats) {
-                final String filePath = URLDecoder.decode(DecoderUtils.normalizePath(flocat.getHref()),
-                  StandardCharsets.UTF_8);
-                if (!structureValidatorState.getFolderManager()
-                  .checkPathExists(Paths.get(metsValidatorState.getMetsPath()).resolve(filePath))) {
-                  message.append("mets/fileSec/fileGrp[@USE=’Documentation’] ")
-                    .append(Paths.get(metsValidatorState.getMetsPath()).resolve(filePath))
-                    .append(" doesn't exists (in %1$s)");
-                  return new ReporterDetails(getCSIPVersion(), Message.createErrorMessage(message.toString(),
-                    metsValidatorState.getMetsName(), metsValidatorState.isRootMets()), false, false);
-                }
+              if (!structureValidatorState.getZipManager().checkPathExists(structureValidatorState.getIpPath(),
+                filePath.toString())) {
+                message.append("mets/fileSec/fileGrp[@USE=’Documentation’] ").append(filePath)
+                  .append(" doesn't exists (%1$s)");
+                return new ReporterDetails(getCSIPVersion(), Message.createErrorMessage(message.toString(),
+                  metsValidatorState.getMetsName(), metsValidatorState.isRootMets()), false, false);
+              }
+            }
+          } else {
+            for (int l = 0; l < files.getLocationCount(i); l++) {
+              final String filePath = URLDecoder.decode(DecoderUtils.normalizePath(files.getLocationHref(i, l)),
+                StandardCharsets.UTF_8);
+              if (!structureValidatorState.getFolderManager()
+                .checkPathExists(Paths.get(metsValidatorState.getMetsPath()).resolve(filePath))) {
+                message.append("mets/fileSec/fileGrp[@USE=’Documentation’] ")
+                  .append(Paths.get(metsValidatorState.getMetsPath()).resolve(filePath))
+                  .append(" doesn't exists (in %1$s)");
+                return new ReporterDetails(getCSIPVersion(), Message.createErrorMessage(message.toString(),
+                  metsValidatorState.getMetsName(), metsValidatorState.isRootMets()), false, false);
               }
             }
           }
@@ -145,15 +141,16 @@ public abstract class FileSecValidator {
   protected ReporterDetails validateCSIP113(final StructureValidatorState structureValidatorState,
     final MetsValidatorState metsValidatorState) throws IOException {
     final List<MetsType.FileSec.FileGrp> fileGrps = metsValidatorState.getMets().getFileSec().getFileGrp();
+    final MetsFileTable files = metsValidatorState.getMetsAttributeIndex().getFileTable();
     final StringBuilder message = new StringBuilder();
-    for (MetsType.FileSec.FileGrp fileGrp : fileGrps) {
+    for (int g = 0; g < fileGrps.size(); g++) {
+      final MetsType.FileSec.FileGrp fileGrp = fileGrps.get(g);
       if (fileGrp.getUSE() != null && fileGrp.getUSE().equals("Schemas")) {
-        final List<FileType> files = fileGrp.getFile();
-        for (FileType file : files) {
-          final List<FileType.FLocat> fLocats = file.getFLocat();
+        for (int i = files.getGroupStart(g); i < files.getGroupEnd(g); i++) {
           if (structureValidatorState.isZipFileFlag()) {
-            for (FileType.FLocat flocat : fLocats) {
-              final String href = URLDecoder.decode(DecoderUtils.normalizePath(flocat.getHref()), StandardCharsets.UTF_8);
+            for (int l = 0; l < files.getLocationCount(i); l++) {
+              final String href = URLDecoder.decode(DecoderUtils.normalizePath(files.getLocationHref(i, l)),
+                StandardCharsets.UTF_8);
               final StringBuilder filePath = new StringBuilder();
               if (metsValidatorState.isRootMets()) {
                 filePath.append(metsValidatorState.getMets().getOBJID()).append(Constants.SEPARATOR).append(href);
@@ -169,8 +166,9 @@ public abstract class FileSecValidator {
               }
             }
           } else {
-            for (FileType.FLocat flocat : fLocats) {
-              final String filePath = URLDecoder.decode(DecoderUtils.normalizePath(flocat.getHref()), StandardCharsets.UTF_8);
+            for (int l = 0; l < files.getLocationCount(i); l++) {
+              final String filePath = URLDecoder.decode(DecoderUtils.normalizePath(files.getLocationHref(i, l)),
+                StandardCharsets.UTF_8);
               if (!structureValidatorState.getFolderManager()
                 .checkPathExists(Paths.get(metsValidatorState.getMetsPath()).resolve(filePath))) {
                 message.append("mets/fileSec/fileGrp[@USE=’Schemas’] ")
@@ -196,15 +194,16 @@ public abstract class FileSecValidator {
   protected ReporterDetails validateCSIP114(final StructureValidatorState structureValidatorState,
     final MetsValidatorState metsValidatorState) throws IOException {
     final List<MetsType.FileSec.FileGrp> fileGrps = metsValidatorState.getMets().getFileSec().getFileGrp();
+    final MetsFileTable files = metsValidatorState.getMetsAttributeIndex().getFileTable();
     final StringBuilder message = new StringBuilder();
-    for (MetsType.FileSec.FileGrp fileGrp : fileGrps) {
+    for (int g = 0; g < fileGrps.size(); g++) {
+      final MetsType.FileSec.FileGrp fileGrp = fileGrps.get(g);
       if (fileGrp.getUSE() != null && fileGrp.getUSE().matches("Representations/")) {
-        final List<FileType> files = fileGrp.getFile();
-        for (FileType file : files) {
-          final List<FileType.FLocat> fLocats = file.getFLocat();
+        for (int i = files.getGroupStart(g); i < files.getGroupEnd(g); i++) {
           if (structureValidatorState.isZipFileFlag()) {
-            for (FileType.FLocat flocat : fLocats) {
-              final String href = URLDecoder.decode(DecoderUtils.normalizePath(flocat.getHref()), StandardCharsets.UTF_8);
+            for (int l = 0; l < files.getLocationCount(i); l++) {
+              final String href = URLDecoder.decode(DecoderUtils.normalizePath(files.getLocationHref(i, l)),
+                StandardCharsets.UTF_8);
               final StringBuilder filePath = new StringBuilder();
               if (metsValidatorState.isRootMets()) {
                 filePath.append(metsValidatorState.getMets().getOBJID()).append(Constants.SEPARATOR).append(href);
@@ -220,8 +219,9 @@ public abstract class FileSecValidator {
               }
             }
           } else {
-            for (FileType.FLocat flocat : fLocats) {
-              final String filePath = URLDecoder.decode(DecoderUtils.normalizePath(flocat.getHref()), StandardCharsets.UTF_8);
+            for (int l = 0; l < files.getLocationCount(i); l++) {
+              final String filePath = URLDecoder.decode(DecoderUtils.normalizePath(files.getLocationHref(i, l)),
+                StandardCharsets.UTF_8);
               if (!structureValidatorState.getFolderManager()
                 .checkPathExists(Paths.get(metsValidatorState.getMetsPath()).resolve(filePath))) {
                 message.append("mets/fileSec/fileGrp[@USE=’Representations’] ")
@@ -250,25 +250,12 @@ public abstract class FileSecValidator {
    */
   protected ReporterDetails validateCSIP61(final MetsValidatorState metsValidatorState) {
     final List<MetsType.FileSec.FileGrp> fileGrps = metsValidatorState.getMets().getFileSec().getFileGrp();
-    final List<AmdSecType> amdSec = metsValidatorState.getMets().getAmdSec();
+    final MetsIdIndex idIndex = metsValidatorState.getMetsIdIndex();
     for (MetsType.FileSec.FileGrp fileGrp : fileGrps) {
       final QName keyAdmid = new QName(Constants.HTTPS_DILCIS_EU_XML_METS_CSIPEXTENSION_METS, "ADMID", "csip");
       final String admid = fileGrp.getOtherAttributes().get(keyAdmid);
       if (admid != null) {
-        boolean found = false;
-        for (AmdSecType a : amdSec) {
-          final List<MdSecType> digiProv = a.getDigiprovMD();
-          for (MdSecType mdSecType : digiProv) {
-            if (admid.equals(mdSecType.getID())) {
-              found = true;
-              break;
-            }
-          }
-          if (found) {
-            break;
-          }
-        }
-        if (!found) {
+        if (!idIndex.contains(admid, MetsIdIndex.Kind.DIGIPROV_MD)) {
           final StringBuilder message = new StringBuilder();
           message.append("Value ").append(admid).append(
             " in %1$s for mets/fileSec/fileGrp/file/@ADMID " + "doesn't match with any mets/amdSec/digiprovMD/@ID");
@@ -359,16 +346,17 @@ public abstract class FileSecValidator {
   protected ReporterDetails validateCSIP64(final StructureValidatorState structureValidatorState,
     final MetsValidatorState metsValidatorState) throws IOException {
     final List<MetsType.FileSec.FileGrp> fileGrps = metsValidatorState.getMets().getFileSec().getFileGrp();
+    final MetsFileTable files = metsValidatorState.getMetsAttributeIndex().getFileTable();
     final List<String> tmp = new ArrayList<>();
     tmp.add("Schemas");
     tmp.add("Documentation");
     tmp.add("Representations");
     final StringBuilder message = new StringBuilder();
-    for (MetsType.FileSec.FileGrp fileGrp : fileGrps) {
-      final String use = fileGrp.getUSE();
+    for (int g = 0; g < fileGrps.size(); g++) {
+      final String use = fileGrps.get(g).getUSE();
       if (use != null) {
         if (!tmp.contains(use)) {
-          if (fileGrp.getFile().isEmpty()) {
+          if (files.getGroupStart(g) == files.getGroupEnd(g)) {
             if (structureValidatorState.isZipFileFlag()) {
               final String expr;
               if (metsValidatorState.isRootMets()) {
@@ -442,33 +430,23 @@ public abstract class FileSecValidator {
   protected ReporterDetails validateCSIP66(final StructureValidatorState structureValidatorState,
     final MetsValidatorState metsValidatorState) throws IOException {
 
-    final MetsType.FileSec fileSec = metsValidatorState.getMets().getFileSec();
-    final List<MetsType.FileSec.FileGrp> fileGrp = fileSec.getFileGrp();
-    for (MetsType.FileSec.FileGrp grp : fileGrp) {
-      final List<FileType> fileTypes = grp.getFile();
-      if (!fileTypes.isEmpty()) {
-        for (FileType file : fileTypes) {
-          final List<FileType.FLocat> fLocats = file.getFLocat();
-          if (!fLocats.isEmpty()) {
-            for (FileType.FLocat fLocat : fLocats) {
-              final String hrefDecoded = URLDecoder.decode(DecoderUtils.normalizePath(fLocat.getHref()),
-                  StandardCharsets.UTF_8);
-              final StringBuilder filePath = new StringBuilder();
-              if (structureValidatorState.isZipFileFlag()) {
-                if (metsValidatorState.isRootMets()) {
-                  filePath.append(metsValidatorState.getMets().getOBJID()).append(Constants.SEPARATOR)
-                    .append(hrefDecoded);
-                } else {
-                  filePath.append(metsValidatorState.getMetsPath()).append(hrefDecoded);
-                }
-              } else {
-                filePath.append(Paths.get(metsValidatorState.getMetsPath()).resolve(hrefDecoded));
-              }
-              if (metsValidatorState.getMetsFiles().containsKey(filePath.toString())) {
-                metsValidatorState.getMetsFiles().replace(filePath.toString(), true);
-              }
-            }
+    final MetsFileTable files = metsValidatorState.getMetsAttributeIndex().getFileTable();
+    for (int i = 0; i < files.getFileCount(); i++) {
+      for (int l = 0; l < files.getLocationCount(i); l++) {
+        final String hrefDecoded = URLDecoder.decode(DecoderUtils.normalizePath(files.getLocationHref(i, l)),
+          StandardCharsets.UTF_8);
+        final StringBuilder filePath = new StringBuilder();
+        if (structureValidatorState.isZipFileFlag()) {
+          if (metsValidatorState.isRootMets()) {
+            filePath.append(metsValidatorState.getMets().getOBJID()).append(Constants.SEPARATOR).append(hrefDecoded);
+          } else {
+            filePath.append(metsValidatorState.getMetsPath()).append(hrefDecoded);
           }
+        } else {
+          filePath.append(Paths.get(metsValidatorState.getMetsPath()).resolve(hrefDecoded));
+        }
+        if (metsValidatorState.getMetsFiles().containsKey(filePath.toString())) {
+          metsValidatorState.getMetsFiles().replace(filePath.toString(), true);
         }
       }
     }
@@ -486,28 +464,24 @@ public abstract class FileSecValidator {
    * the package.
    */
   protected ReporterDetails validateCSIP67(final MetsValidatorState metsValidatorState) {
-    final MetsType.FileSec fileSec = metsValidatorState.getMets().getFileSec();
-    final List<MetsType.FileSec.FileGrp> fileGrp = fileSec.getFileGrp();
-    for (MetsType.FileSec.FileGrp grp : fileGrp) {
-      final List<FileType> files = grp.getFile();
-      for (FileType file : files) {
-        final String id = file.getID();
-        if (id != null) {
-          if (!metsValidatorState.checkMetsInternalId(id)) {
-            metsValidatorState.addMetsInternalId(id);
-          } else {
-            final StringBuilder message = new StringBuilder();
-            message.append("Value ").append(id)
-              .append(" in %1$s for mets/fileSec/fileGrp/@ID isn't unique in the package");
-            return new ReporterDetails(getCSIPVersion(), Message.createErrorMessage(message.toString(),
-              metsValidatorState.getMetsName(), metsValidatorState.isRootMets()), false, false);
-          }
+    final MetsFileTable files = metsValidatorState.getMetsAttributeIndex().getFileTable();
+    for (int i = 0; i < files.getFileCount(); i++) {
+      final String id = files.getId(i);
+      if (id != null) {
+        if (!metsValidatorState.checkMetsInternalId(id)) {
+          metsValidatorState.addMetsInternalId(id);
         } else {
-          return new ReporterDetails(getCSIPVersion(),
-            Message.createErrorMessage("mets/fileSec/fileGrp/file/@ID in %1$s can't be null",
-              metsValidatorState.getMetsName(), metsValidatorState.isRootMets()),
-            false, false);
+          final StringBuilder message = new StringBuilder();
+          message.append("Value ").append(id)
+            .append(" in %1$s for mets/fileSec/fileGrp/@ID isn't unique in the package");
+          return new ReporterDetails(getCSIPVersion(), Message.createErrorMessage(message.toString(),
+            metsValidatorState.getMetsName(), metsValidatorState.isRootMets()), false, false);
         }
+      } else {
+        return new ReporterDetails(getCSIPVersion(),
+          Message.createErrorMessage("mets/fileSec/fileGrp/file/@ID in %1$s can't be null",
+            metsValidatorState.getMetsName(), metsValidatorState.isRootMets()),
+          false, false);
       }
     }
     return new ReporterDetails();
@@ -518,26 +492,22 @@ public abstract class FileSecValidator {
    * file.See also: IANA media types
    */
   protected ReporterDetails validateCSIP68(final MetsValidatorState metsValidatorState) {
-    final MetsType.FileSec fileSec = metsValidatorState.getMets().getFileSec();
-    final List<MetsType.FileSec.FileGrp> fileGrp = fileSec.getFileGrp();
-    for (MetsType.FileSec.FileGrp grp : fileGrp) {
-      final List<FileType> files = grp.getFile();
-      for (FileType file : files) {
-        final String mimeType = file.getMIMETYPE();
-        if (mimeType != null) {
-          if (!IanaMediaTypes.getIanaMediaTypesList().contains(mimeType)) {
-            final StringBuilder message = new StringBuilder();
-            message.append("Value ").append(mimeType)
-              .append(" in %1$s for mets/fileSec/fileGrp/file/@MIMETYPE value isn't valid");
-            return new ReporterDetails(getCSIPVersion(), Message.createErrorMessage(message.toString(),
-              metsValidatorState.getMetsName(), metsValidatorState.isRootMets()), false, false);
-          }
-        } else {
-          return new ReporterDetails(getCSIPVersion(),
-            Message.createErrorMessage("mets/fileSec/fileGrp/file/@MIMETYPE of file in %1$s can't be null",
-              metsValidatorState.getMetsName(), metsValidatorState.isRootMets()),
-            false, false);
+    final MetsFileTable files = metsValidatorState.getMetsAttributeIndex().getFileTable();
+    for (int i = 0; i < files.getFileCount(); i++) {
+      final String mimeType = files.getMimeType(i);
+      if (mimeType != null) {
+        if (!IanaMediaTypes.getIanaMediaTypesList().contains(mimeType)) {
+          final StringBuilder message = new StringBuilder();
+          message.append("Value ").append(mimeType)
+            .append(" in %1$s for mets/fileSec/fileGrp/file/@MIMETYPE value isn't valid");
+          return new ReporterDetails(getCSIPVersion(), Message.createErrorMessage(message.toString(),
+            metsValidatorState.getMetsName(), metsValidatorState.isRootMets()), false, false);
         }
+      } else {
+        return new ReporterDetails(getCSIPVersion(),
+          Message.createErrorMessage("mets/fileSec/fileGrp/file/@MIMETYPE of file in %1$s can't be null",
+            metsValidatorState.getMetsName(), metsValidatorState.isRootMets()),
+          false, false);
       }
     }
     return new ReporterDetails();
@@ -548,80 +518,68 @@ public abstract class FileSecValidator {
    */
   protected ReporterDetails validateCSIP69(final StructureValidatorState structureValidatorState,
     final MetsValidatorState metsValidatorState) throws IOException {
-    final MetsType.FileSec fileSec = metsValidatorState.getMets().getFileSec();
+    final MetsFileTable files = metsValidatorState.getMetsAttributeIndex().getFileTable();
     final StringBuilder message = new StringBuilder();
-    final List<MetsType.FileSec.FileGrp> fileGrp = fileSec.getFileGrp();
-    for (MetsType.FileSec.FileGrp grp : fileGrp) {
-      final List<FileType> files = grp.getFile();
-      for (FileType file : files) {
-        final List<FileType.FLocat> flocat = file.getFLocat();
-        if (flocat != null) {
-          if (flocat.size() == 1) {
-            final String href = URLDecoder.decode(DecoderUtils.normalizePath(flocat.get(0).getHref()), StandardCharsets.UTF_8);
-            if (href != null) {
-              final Long size = file.getSIZE();
-              if (size != null) {
-                if (structureValidatorState.isZipFileFlag()) {
-                  final StringBuilder filePath = new StringBuilder();
-                  if (metsValidatorState.isRootMets()) {
-                    filePath.append(metsValidatorState.getMets().getOBJID()).append(Constants.SEPARATOR).append(href);
-                  } else {
-                    filePath.append(metsValidatorState.getMetsPath()).append(href);
-                  }
-                  if (!structureValidatorState.getZipManager().verifySize(structureValidatorState.getIpPath(),
-                    filePath.toString(), size)) {
-                    message.append("mets/dmdSec/mdRef/@SIZE ").append(size).append(" in %1$s and size of file (")
-                      .append(filePath).append(") isn't equal");
-                    return new ReporterDetails(getCSIPVersion(), Message.createErrorMessage(message.toString(),
-                      metsValidatorState.getMetsName(), metsValidatorState.isRootMets()), false, false);
-                  }
-                } else {
-                  if (metsValidatorState.isRootMets()) {
-                    if (!structureValidatorState.getFolderManager()
-                      .verifySize(structureValidatorState.getIpPath().resolve(href), size)) {
-                      message.append("mets/dmdSec/mdRef/@SIZE ").append(size).append(" in %1$s and size of file (")
-                        .append(structureValidatorState.getIpPath()
-                          .resolve(structureValidatorState.getIpPath().resolve(href)))
-                        .append(") isn't equal");
-                      return new ReporterDetails(getCSIPVersion(), Message.createErrorMessage(message.toString(),
-                        metsValidatorState.getMetsName(), metsValidatorState.isRootMets()), false, false);
-                    }
-                  } else {
-                    if (!structureValidatorState.getFolderManager()
-                      .verifySize(Paths.get(metsValidatorState.getMetsPath()).resolve(href), size)) {
-                      message.append("mets/dmdSec/mdRef/@SIZE ").append(size).append(" in %1$s and size of file (")
-                        .append(structureValidatorState.getIpPath()
-                          .resolve(Paths.get(metsValidatorState.getMetsPath()).resolve(href)))
-                        .append(") isn't equal");
-                      return new ReporterDetails(getCSIPVersion(), Message.createErrorMessage(message.toString(),
-                        metsValidatorState.getMetsName(), metsValidatorState.isRootMets()), false, false);
-                    }
-                  }
-                }
+    for (int i = 0; i < files.getFileCount(); i++) {
+      if (files.getLocationCount(i) == 1) {
+        final String href = URLDecoder.decode(DecoderUtils.normalizePath(files.getHref(i)), StandardCharsets.UTF_8);
+        if (href != null) {
+          if (files.hasSize(i)) {
+            final long size = files.getSize(i);
+            if (structureValidatorState.isZipFileFlag()) {
+              final StringBuilder filePath = new StringBuilder();
+              if (metsValidatorState.isRootMets()) {
+                filePath.append(metsValidatorState.getMets().getOBJID()).append(Constants.SEPARATOR).append(href);
               } else {
-                return new ReporterDetails(getCSIPVersion(),
-                  Message.createErrorMessage("mets/fileSec/fileGrp/file/@SIZE in %1$s can't be null",
-                    metsValidatorState.getMetsName(), metsValidatorState.isRootMets()),
-                  false, false);
+                filePath.append(metsValidatorState.getMetsPath()).append(href);
+              }
+              if (!structureValidatorState.getZipManager().verifySize(structureValidatorState.getIpPath(),
+                filePath.toString(), size)) {
+                message.append("mets/dmdSec/mdRef/@SIZE ").append(size).append(" in %1$s and size of file (")
+                  .append(filePath).append(") isn't equal");
+                return new ReporterDetails(getCSIPVersion(), Message.createErrorMessage(message.toString(),
+                  metsValidatorState.getMetsName(), metsValidatorState.isRootMets()), false, false);
               }
             } else {
-              return new ReporterDetails(getCSIPVersion(),
-                Message.createErrorMessage("mets/fileSec/fileGrp/file/flocat/@href in %1$s can't be null",
-                  metsValidatorState.getMetsName(), metsValidatorState.isRootMets()),
-                false, false);
+              if (metsValidatorState.isRootMets()) {
+                if (!structureValidatorState.getFolderManager()
+                  .verifySize(structureValidatorState.getIpPath().resolve(href), size)) {
+                  message.append("mets/dmdSec/mdRef/@SIZE ").append(size).append(" in %1$s and size of file (")
+                    .append(structureValidatorState.getIpPath()
+                      .resolve(structureValidatorState.getIpPath().resolve(href)))
+                    .append(") isn't equal");
+                  return new ReporterDetails(getCSIPVersion(), Message.createErrorMessage(message.toString(),
+                    metsValidatorState.getMetsName(), metsValidatorState.isRootMets()), false, false);
+                }
+              } else {
+                if (!structureValidatorState.getFolderManager()
+                  .verifySize(Paths.get(metsValidatorState.getMetsPath()).resolve(href), size)) {
+                  message.append("mets/dmdSec/mdRef/@SIZE ").append(size).append(" in %1$s and size of file (")
+                    .append(structureValidatorState.getIpPath()
+                      .resolve(Paths.get(metsValidatorState.getMetsPath()).resolve(href)))
+                    .append(") isn't equal");
+                  return new ReporterDetails(getCSIPVersion(), Message.createErrorMessage(message.toString(),
+                    metsValidatorState.getMetsName(), metsValidatorState.isRootMets()), false, false);
+                }
+              }
             }
           } else {
             return new ReporterDetails(getCSIPVersion(),
-              Message.createErrorMessage("cannot have more than one mets/fileSec/fileGrp/file/flocat in %1$s",
+              Message.createErrorMessage("mets/fileSec/fileGrp/file/@SIZE in %1$s can't be null",
                 metsValidatorState.getMetsName(), metsValidatorState.isRootMets()),
               false, false);
           }
         } else {
           return new ReporterDetails(getCSIPVersion(),
-            Message.createErrorMessage("mets/fileSec/fileGrp/file/flocat in %1$s can't be null",
+            Message.createErrorMessage("mets/fileSec/fileGrp/file/flocat/@href in %1$s can't be null",
               metsValidatorState.getMetsName(), metsValidatorState.isRootMets()),
             false, false);
         }
+      } else {
+        return new ReporterDetails(getCSIPVersion(),
+          Message.createErrorMessage("cannot have more than one mets/fileSec/fileGrp/file/flocat in %1$s",
+            metsValidatorState.getMetsName(), metsValidatorState.isRootMets()),
+          false, false);
       }
     }
     return new ReporterDetails();
@@ -631,17 +589,13 @@ public abstract class FileSecValidator {
    * mets/fileSec/fileGrp/file/@CREATED Creation date of the referenced file.
    */
   protected ReporterDetails validateCSIP70(final MetsValidatorState metsValidatorState) {
-    final MetsType.FileSec fileSec = metsValidatorState.getMets().getFileSec();
-    final List<MetsType.FileSec.FileGrp> fileGrp = fileSec.getFileGrp();
-    for (MetsType.FileSec.FileGrp grp : fileGrp) {
-      final List<FileType> files = grp.getFile();
-      for (FileType file : files) {
-        if (file.getCREATED() == null) {
-          return new ReporterDetails(getCSIPVersion(),
-            Message.createErrorMessage("mets/fileSec/fileGrp/file/@CREATED in %1$s can't be null",
-              metsValidatorState.getMetsName(), metsValidatorState.isRootMets()),
-            false, false);
-        }
+    final MetsFileTable files = metsValidatorState.getMetsAttributeIndex().getFileTable();
+    for (int i = 0; i < files.getFileCount(); i++) {
+      if (!files.hasCreated(i)) {
+        return new ReporterDetails(getCSIPVersion(),
+          Message.createErrorMessage("mets/fileSec/fileGrp/file/@CREATED in %1$s can't be null",
+            metsValidatorState.getMetsName(), metsValidatorState.isRootMets()),
+          false, false);
       }
     }
     return new ReporterDetails();
@@ -651,7 +605,7 @@ public abstract class FileSecValidator {
    * mets/fileSec/fileGrp/file/@CHECKSUM The checksum of the referenced file.
    */
   protected ReporterDetails validateCSIP71(final StructureValidatorState structureValidatorState,
-    final MetsValidatorState metsValidatorState) throws IOException, NoSuchAlgorithmException {
+    final MetsValidatorState metsValidatorState) throws IOException {
 
     boolean skipCalculationChecksum = Boolean.parseBoolean(System.getProperty("skipChecksumCalculation", "false"));
     if (skipCalculationChecksum) {
@@ -665,72 +619,92 @@ public abstract class FileSecValidator {
     for (CHECKSUMTYPE check : CHECKSUMTYPE.values()) {
       tmp.add(check.toString());
     }
-    final StringBuilder message = new StringBuilder();
-    final MetsType.FileSec fileSec = metsValidatorState.getMets().getFileSec();
-    final List<MetsType.FileSec.FileGrp> fileGrp = fileSec.getFileGrp();
-    for (MetsType.FileSec.FileGrp grp : fileGrp) {
-      final List<FileType> files = grp.getFile();
-      for (FileType file : files) {
-        final String checksumType = file.getCHECKSUMTYPE();
-        if (checksumType == null) {
-          return new ReporterDetails(getCSIPVersion(),
-            Message.createErrorMessage("mets/fileSec/fileGrp/file/@CHECKSUMTYPE in %1$s can't be null",
-              metsValidatorState.getMetsName(), metsValidatorState.isRootMets()),
-            false, false);
+    final List<ChecksumVerifier.Request> requests = new ArrayList<>();
+    final List<String> issues = collectCSIP71Requests(structureValidatorState, metsValidatorState, tmp, requests);
+
+    final ChecksumVerifier.Source source;
+    if (structureValidatorState.isZipFileFlag()) {
+      structureValidatorState.getZipManager().getIndex(structureValidatorState.getIpPath());
+      source = file -> structureValidatorState.getZipManager().getZipInputStream(structureValidatorState.getIpPath(),
+        file);
+    } else {
+      source = ChecksumVerifier.fileSystemSource();
+    }
+    final ChecksumVerifier.Result result = structureValidatorState.getChecksumVerifier().verify(source, requests,
+      structureValidatorState.getExtraChecksumAlgorithms(), structureValidatorState.getDigestCache());
+    structureValidatorState.addChecksums(result.getChecksums());
+    for (ChecksumVerifier.Mismatch mismatch : result.getMismatches()) {
+      final StringBuilder message = new StringBuilder();
+      message.append("mets/fileSec/fileGrp/file/@CHECKSUM ").append(mismatch.getRequest().getChecksum())
+        .append(" in %1$s and checksum of file (").append(mismatch.getRequest().getFile()).append(") isn't equal");
+      issues.add(Message.createErrorMessage(message.toString(), metsValidatorState.getMetsName(),
+        metsValidatorState.isRootMets()));
+    }
+    for (String file : result.getFailures().keySet()) {
+      final StringBuilder message = new StringBuilder();
+      message.append("Checksum of file (").append(file).append(") referenced in %1$s couldn't be calculated");
+      issues.add(Message.createErrorMessage(message.toString(), metsValidatorState.getMetsName(),
+        metsValidatorState.isRootMets()));
+    }
+    if (!issues.isEmpty()) {
+      return new ReporterDetails(getCSIPVersion(), issues, false, false);
+    }
+    return new ReporterDetails();
+  }
+
+  /**
+   * Collects the checksums to verify for CSIP71, skipping the files with
+   * missing or invalid checksum attributes.
+   *
+   * @return the {@link List} of issues of the files with attribute errors.
+   */
+  private List<String> collectCSIP71Requests(final StructureValidatorState structureValidatorState,
+    final MetsValidatorState metsValidatorState, final List<String> checksumTypes,
+    final List<ChecksumVerifier.Request> requests) {
+    final List<String> issues = new ArrayList<>();
+    final MetsFileTable files = metsValidatorState.getMetsAttributeIndex().getFileTable();
+    for (int i = 0; i < files.getFileCount(); i++) {
+      final String checksumType = files.getChecksumType(i);
+      if (checksumType == null) {
+        issues.add(Message.createErrorMessage("mets/fileSec/fileGrp/file/@CHECKSUMTYPE in %1$s can't be null",
+          metsValidatorState.getMetsName(), metsValidatorState.isRootMets()));
+        continue;
+      }
+      if (!checksumTypes.contains(checksumType)) {
+        final StringBuilder message = new StringBuilder();
+        message.append("Value ").append(checksumType)
+          .append(" in %1$s for mets/fileSec/fileGrp/file/@CHECKSUMTYPE isn't valid");
+        issues.add(Message.createErrorMessage(message.toString(), metsValidatorState.getMetsName(),
+          metsValidatorState.isRootMets()));
+        continue;
+      }
+      final String checksum = files.getChecksum(i);
+      if (checksum == null) {
+        issues.add(Message.createErrorMessage("mets/fileSec/fileGrp/file/@CHECKSUM in %1$s can't be null",
+          metsValidatorState.getMetsName(), metsValidatorState.isRootMets()));
+        continue;
+      }
+      final String href = files.getHref(i);
+      if (href == null) {
+        issues.add(Message.createErrorMessage("mets/fileSec/fileGrp/file/flocat/href in %1$s can't be null",
+          metsValidatorState.getMetsName(), metsValidatorState.isRootMets()));
+        continue;
+      }
+      final String filePath = URLDecoder.decode(DecoderUtils.normalizePath(href), StandardCharsets.UTF_8);
+      if (structureValidatorState.isZipFileFlag()) {
+        final StringBuilder finalPath = new StringBuilder();
+        if (!metsValidatorState.isRootMets()) {
+          finalPath.append(metsValidatorState.getMetsPath()).append(filePath);
         } else {
-          if (!tmp.contains(checksumType)) {
-            message.append("Value ").append(checksumType)
-              .append(" in %1$s for mets/fileSec/fileGrp/file/@CHECKSUMTYPE isn't valid");
-            return new ReporterDetails(getCSIPVersion(), Message.createErrorMessage(message.toString(),
-              metsValidatorState.getMetsName(), metsValidatorState.isRootMets()), false, false);
-          } else {
-            final String checksum = file.getCHECKSUM();
-            if (checksum == null) {
-              return new ReporterDetails(getCSIPVersion(),
-                Message.createErrorMessage("mets/fileSec/fileGrp/file/@CHECKSUM in %1$s can't be null",
-                  metsValidatorState.getMetsName(), metsValidatorState.isRootMets()),
-                false, false);
-            } else {
-              final String href = file.getFLocat().get(0).getHref();
-              if (href == null) {
-                return new ReporterDetails(getCSIPVersion(),
-                  Message.createErrorMessage("mets/fileSec/fileGrp/file/flocat/href in %1$s can't be null",
-                    metsValidatorState.getMetsName(), metsValidatorState.isRootMets()),
-                  false, false);
-              } else {
-                final String filePath = URLDecoder.decode(DecoderUtils.normalizePath(href), StandardCharsets.UTF_8);
-                if (structureValidatorState.isZipFileFlag()) {
-                  final StringBuilder finalPath = new StringBuilder();
-                  if (!metsValidatorState.isRootMets()) {
-                    finalPath.append(metsValidatorState.getMetsPath()).append(filePath);
-                  } else {
-                    finalPath.append(metsValidatorState.getMets().getOBJID()).append(Constants.SEPARATOR)
-                      .append(filePath);
-                  }
-                  if (!structureValidatorState.getZipManager().verifyChecksum(structureValidatorState.getIpPath(),
-                    finalPath.toString(), checksumType, checksum)) {
-                    message.append("mets/dmdSec/mdRef/@CHECKSUM ").append(checksum)
-                      .append(" in %1$s and checksum of file (").append(finalPath).append(") isn't equal");
-                    return new ReporterDetails(getCSIPVersion(), Message.createErrorMessage(message.toString(),
-                      metsValidatorState.getMetsName(), metsValidatorState.isRootMets()), false, false);
-                  }
-                } else {
-                  if (!structureValidatorState.getFolderManager().verifyChecksum(
-                    Paths.get(metsValidatorState.getMetsPath()).resolve(filePath), checksumType, checksum)) {
-                    message.append("mets/dmdSec/mdRef/@CHECKSUM ").append(checksum)
-                      .append(" in %1$s and checksum of file (")
-                      .append(Paths.get(metsValidatorState.getMetsPath()).resolve(filePath)).append(") isn't equal");
-                    return new ReporterDetails(getCSIPVersion(), Message.createErrorMessage(message.toString(),
-                      metsValidatorState.getMetsName(), metsValidatorState.isRootMets()), false, false);
-                  }
-                }
-              }
-            }
-          }
+          finalPath.append(metsValidatorState.getMets().getOBJID()).append(Constants.SEPARATOR).append(filePath);
         }
+        requests.add(new ChecksumVerifier.Request(finalPath.toString(), checksumType, checksum));
+      } else {
+        requests.add(new ChecksumVerifier.Request(
+          Paths.get(metsValidatorState.getMetsPath()).resolve(filePath).toString(), checksumType, checksum));
       }
     }
-    return new ReporterDetails();
+    return issues;
   }
 
   /*
@@ -743,26 +717,20 @@ public abstract class FileSecValidator {
     for (CHECKSUMTYPE check : CHECKSUMTYPE.values()) {
       tmp.add(check.toString());
     }
-    final MetsType.FileSec fileSec = metsValidatorState.getMets().getFileSec();
-    final List<MetsType.FileSec.FileGrp> fileGrp = fileSec.getFileGrp();
-    for (MetsType.FileSec.FileGrp grp : fileGrp) {
-      final List<FileType> files = grp.getFile();
-      for (FileType file : files) {
-        final String checksumType = file.getCHECKSUMTYPE();
-        if (checksumType == null) {
-          return new ReporterDetails(getCSIPVersion(),
-            Message.createErrorMessage("mets/fileSec/fileGrp/file/@CHECKSUMTYPE in %1$s can't be null",
-              metsValidatorState.getMetsName(), metsValidatorState.isRootMets()),
-            false, false);
-        } else {
-          if (!tmp.contains(checksumType)) {
-            final StringBuilder message = new StringBuilder();
-            message.append("Value ").append(checksumType)
-              .append(" in %1$s for mets/fileSec/fileGrp/file/@CHECKSUMTYPE isn't valid");
-            return new ReporterDetails(getCSIPVersion(), Message.createErrorMessage(message.toString(),
-              metsValidatorState.getMetsName(), metsValidatorState.isRootMets()), false, false);
-          }
-        }
+    final MetsFileTable files = metsValidatorState.getMetsAttributeIndex().getFileTable();
+    for (int i = 0; i < files.getFileCount(); i++) {
+      final String checksumType = files.getChecksumType(i);
+      if (checksumType == null) {
+        return new ReporterDetails(getCSIPVersion(),
+          Message.createErrorMessage("mets/fileSec/fileGrp/file/@CHECKSUMTYPE in %1$s can't be null",
+            metsValidatorState.getMetsName(), metsValidatorState.isRootMets()),
+          false, false);
+      } else if (!tmp.contains(checksumType)) {
+        final StringBuilder message = new StringBuilder();
+        message.append("Value ").append(checksumType)
+          .append(" in %1$s for mets/fileSec/fileGrp/file/@CHECKSUMTYPE isn't valid");
+        return new ReporterDetails(getCSIPVersion(), Message.createErrorMessage(message.toString(),
+          metsValidatorState.getMetsName(), metsValidatorState.isRootMets()), false, false);
       }
     }
     return new ReporterDetails();
@@ -773,18 +741,13 @@ public abstract class FileSecValidator {
    * by the owner it can be recorded in this attribute.
    */
   protected ReporterDetails validateCSIP73(final MetsValidatorState metsValidatorState) {
-    final MetsType.FileSec fileSec = metsValidatorState.getMets().getFileSec();
-    final List<MetsType.FileSec.FileGrp> fileGrp = fileSec.getFileGrp();
-    for (MetsType.FileSec.FileGrp grp : fileGrp) {
-      final List<FileType> files = grp.getFile();
-      for (FileType file : files) {
-        final String ownerID = file.getOWNERID();
-        if (ownerID != null) {
-          return new ReporterDetails(getCSIPVersion(),
-            Message.createErrorMessage("A owner identifier was defined in %1$s", metsValidatorState.getMetsName(),
-              metsValidatorState.isRootMets()),
-            false, false);
-        }
+    final MetsFileTable files = metsValidatorState.getMetsAttributeIndex().getFileTable();
+    for (int i = 0; i < files.getFileCount(); i++) {
+      if (files.hasOwnerId(i)) {
+        return new ReporterDetails(getCSIPVersion(),
+          Message.createErrorMessage("A owner identifier was defined in %1$s", metsValidatorState.getMetsName(),
+            metsValidatorState.isRootMets()),
+          false, false);
       }
     }
     return new ReporterDetails();
@@ -800,18 +763,14 @@ public abstract class FileSecValidator {
    * @return the result of the validation
    */
   protected ReporterDetails validateCSIP74(final MetsValidatorState metsValidatorState) {
-    final List<MetsType.FileSec.FileGrp> fileGrps = metsValidatorState.getMets().getFileSec().getFileGrp();
-    final List<AmdSecType> amdSec = metsValidatorState.getMets().getAmdSec();
-
-    // Get all identifiers for DigiprovMD
-    final List<String> amdIds = amdSec.stream().map(AmdSecType::getDigiprovMD).flatMap(List::stream)
-      .filter(dp -> dp.getMdRef() != null).map(dp -> dp.getMdRef().getID()).toList();
+    final MetsFileTable files = metsValidatorState.getMetsAttributeIndex().getFileTable();
+    final MetsIdIndex idIndex = metsValidatorState.getMetsIdIndex();
 
-    // Get all file ADMIDs that are NOT in the list of DigiprovMD identifiers
-    final List<String> admidsNotInAmd = fileGrps.stream().map(FileGrpType::getFile).flatMap(List::stream)
-      .map(FileType::getADMID).flatMap(List::stream).filter(MdSecType.class::isInstance).map(MdSecType.class::cast)
+    // Get all file ADMIDs that are NOT DigiprovMD identifiers
+    final List<String> admidsNotInAmd = IntStream.range(0, files.getFileCount()).mapToObj(files::getAdmIds)
+      .flatMap(List::stream).map(admid -> idIndex.get(admid, MdSecType.class)).filter(Objects::nonNull)
       .filter(md -> md.getMdRef() != null).map(md -> md.getMdRef().getID()).distinct()
-      .filter(admid -> !amdIds.contains(admid)).toList();
+      .filter(admid -> !idIndex.containsMdRef(admid, MetsIdIndex.Kind.DIGIPROV_MD)).toList();
 
     // Report only valid if all ADMIDs are in DigiprovMD identifiers
     final ReporterDetails r = new ReporterDetails();
@@ -836,31 +795,24 @@ public abstract class FileSecValidator {
    * per file this attribute refers to the file’s descriptive metadata by ID.
    */
   protected ReporterDetails validateCSIP75(final MetsValidatorState metsValidatorState) {
-    final List<MetsType.FileSec.FileGrp> fileGrps = metsValidatorState.getMets().getFileSec().getFileGrp();
-    final List<MdSecType> dmdSec = metsValidatorState.getMets().getDmdSec();
-    for (MetsType.FileSec.FileGrp fileGrp : fileGrps) {
-      final List<FileType> files = fileGrp.getFile();
-      for (FileType file : files) {
-        final List<Object> dmdids = file.getDMDID();
-        if (dmdids != null && !dmdids.isEmpty()) {
-          boolean found = false;
-          for (Object o : dmdids) {
-            final MdSecType mdSecType = (MdSecType) o;
-            final String dmdid = mdSecType.getMdRef().getID();
-            for (MdSecType md : dmdSec) {
-              final String id = md.getMdRef().getID();
-              if (id != null && dmdid.equals(id)) {
-                found = true;
-                break;
-              }
-            }
-            if (!found) {
-              final StringBuilder message = new StringBuilder();
-              message.append("Value ").append(dmdid).append(
-                " in %1$s for mets/fileSec/fileGrp/file/@DMDID " + "does not match with any mets/dmdSec/mdRef/@ID");
-              return new ReporterDetails(getCSIPVersion(), Message.createErrorMessage(message.toString(),
-                metsValidatorState.getMetsName(), metsValidatorState.isRootMets()), false, false);
-            }
+    final MetsFileTable files = metsValidatorState.getMetsAttributeIndex().getFileTable();
+    final MetsIdIndex idIndex = metsValidatorState.getMetsIdIndex();
+    for (int i = 0; i < files.getFileCount(); i++) {
+      final List<String> dmdids = files.getDmdIds(i);
+      if (!dmdids.isEmpty()) {
+        boolean found = false;
+        for (String id : dmdids) {
+          final MdSecType mdSecType = idIndex.get(id, MdSecType.class);
+          final String dmdid = mdSecType != null && mdSecType.getMdRef() != null ? mdSecType.getMdRef().getID() : id;
+          if (idIndex.containsMdRef(dmdid, MetsIdIndex.Kind.DMD_SEC)) {
+            found = true;
+          }
+          if (!found) {
+            final StringBuilder message = new StringBuilder();
+            message.append("Value ").append(dmdid).append(
+              " in %1$s for mets/fileSec/fileGrp/file/@DMDID " + "does not match with any mets/dmdSec/mdRef/@ID");
+            return new ReporterDetails(getCSIPVersion(), Message.createErrorMessage(message.toString(),
+              metsValidatorState.getMetsName(), metsValidatorState.isRootMets()), false, false);
           }
         }
       }
@@ -876,25 +828,13 @@ public abstract class FileSecValidator {
    * file.
    */
   protected ReporterDetails validateCSIP76(final MetsValidatorState metsValidatorState) {
-    final MetsType.FileSec fileSec = metsValidatorState.getMets().getFileSec();
-    final List<MetsType.FileSec.FileGrp> fileGrp = fileSec.getFileGrp();
-    for (MetsType.FileSec.FileGrp grp : fileGrp) {
-      final List<FileType> files = grp.getFile();
-      for (FileType file : files) {
-        final List<FileType.FLocat> flocat = file.getFLocat();
-        if (flocat == null) {
-          return new ReporterDetails(getCSIPVersion(),
-            Message.createErrorMessage("mets/fileSec/fileGrp/file/FLocat in %1$s can't be null",
-              metsValidatorState.getMetsName(), metsValidatorState.isRootMets()),
-            false, false);
-        } else {
-          if (flocat.size() != 1) {
-            return new ReporterDetails(getCSIPVersion(),
-              Message.createErrorMessage("Can't have more than one mets/fileSec/fileGrp/file/FLocat in %1$s",
-                metsValidatorState.getMetsName(), metsValidatorState.isRootMets()),
-              false, false);
-          }
-        }
+    final MetsFileTable files = metsValidatorState.getMetsAttributeIndex().getFileTable();
+    for (int i = 0; i < files.getFileCount(); i++) {
+      if (files.getLocationCount(i) != 1) {
+        return new ReporterDetails(getCSIPVersion(),
+          Message.createErrorMessage("Can't have more than one mets/fileSec/fileGrp/file/FLocat in %1$s",
+            metsValidatorState.getMetsName(), metsValidatorState.isRootMets()),
+          false, false);
       }
     }
     return new ReporterDetails();
@@ -905,34 +845,22 @@ public abstract class FileSecValidator {
    * used with the value “URL” from the vocabulary in the attribute.
    */
   protected ReporterDetails validateCSIP77(final MetsValidatorState metsValidatorState) {
-    final MetsType.FileSec fileSec = metsValidatorState.getMets().getFileSec();
-    final List<MetsType.FileSec.FileGrp> fileGrp = fileSec.getFileGrp();
-    for (MetsType.FileSec.FileGrp grp : fileGrp) {
-      final List<FileType> files = grp.getFile();
-      for (FileType file : files) {
-        final List<FileType.FLocat> flocat = file.getFLocat();
-        if (flocat == null) {
+    final MetsFileTable files = metsValidatorState.getMetsAttributeIndex().getFileTable();
+    for (int i = 0; i < files.getFileCount(); i++) {
+      for (int l = 0; l < files.getLocationCount(i); l++) {
+        final String loctype = files.getLocationType(i, l);
+        if (loctype == null) {
           return new ReporterDetails(getCSIPVersion(),
-            Message.createErrorMessage("mets/fileSec/fileGrp/file/FLocat in %1$s can't be null",
+            Message.createErrorMessage("mets/fileSec/fileGrp/file/FLocat[@LOCTYPE=’URL’] in %1$s can't be null",
               metsValidatorState.getMetsName(), metsValidatorState.isRootMets()),
             false, false);
         } else {
-          for (FileType.FLocat floc : flocat) {
-            final String loctype = floc.getLOCTYPE();
-            if (loctype == null) {
-              return new ReporterDetails(getCSIPVersion(),
-                Message.createErrorMessage("mets/fileSec/fileGrp/file/FLocat[@LOCTYPE=’URL’] in %1$s can't be null",
-                  metsValidatorState.getMetsName(), metsValidatorState.isRootMets()),
-                false, false);
-            } else {
-              if (!loctype.equals("URL")) {
-                return new ReporterDetails(getCSIPVersion(),
-                  Message.createErrorMessage(
-                    "mets/fileSec/fileGrp/file/" + "FLocat[@LOCTYPE=’URL’] value in %1$s has to be URL ",
-                    metsValidatorState.getMetsName(), metsValidatorState.isRootMets()),
-                  false, false);
-              }
-            }
+          if (!loctype.equals("URL")) {
+            return new ReporterDetails(getCSIPVersion(),
+              Message.createErrorMessage(
+                "mets/fileSec/fileGrp/file/" + "FLocat[@LOCTYPE=’URL’] value in %1$s has to be URL ",
+                metsValidatorState.getMetsName(), metsValidatorState.isRootMets()),
+              false, false);
           }
         }
       }
@@ -946,60 +874,32 @@ public abstract class FileSecValidator {
    */
   protected ReporterDetails validateCSIP78(final StructureValidatorState structureValidatorState,
     final MetsValidatorState metsValidatorState) throws IOException {
-    final MetsType.FileSec fileSec = metsValidatorState.getMets().getFileSec();
-    final List<MetsType.FileSec.FileGrp> fileGrp = fileSec.getFileGrp();
-    final HashMap<String, String> fileSecTypes = new HashMap<>();
-    final MetsHandler fileSecHandler = new MetsHandler("file", "FLocat", fileSecTypes);
-    final MetsParser metsParser = new MetsParser();
-    InputStream metsStream = null;
-    if (!fileGrp.isEmpty()) {
-      if (structureValidatorState.isZipFileFlag()) {
-        if (metsValidatorState.isRootMets()) {
-          metsStream = structureValidatorState.getZipManager()
-            .getMetsRootInputStream(structureValidatorState.getIpPath());
-        } else {
-          metsStream = structureValidatorState.getZipManager().getZipInputStream(structureValidatorState.getIpPath(),
-            metsValidatorState.getMetsPath() + "METS.xml");
-        }
-      } else {
-        if (metsValidatorState.isRootMets()) {
-          metsStream = structureValidatorState.getFolderManager()
-            .getMetsRootInputStream(structureValidatorState.getIpPath());
-        } else {
-          metsStream = structureValidatorState.getFolderManager()
-            .getInputStream(Paths.get(metsValidatorState.getMetsPath()).resolve("METS.xml"));
-        }
-      }
-    }
-    if (metsStream != null) {
-      metsParser.parse(fileSecHandler, metsStream);
-    }
+    final MetsFileTable files = metsValidatorState.getMetsAttributeIndex().getFileTable();
+    final Map<String, String> fileSecTypes = metsValidatorState.getMetsAttributeIndex()
+      .getXlinkTypes("file", "FLocat");
 
-    for (MetsType.FileSec.FileGrp grp : fileGrp) {
-      final List<FileType> files = grp.getFile();
-      for (FileType file : files) {
-        final List<FileType.FLocat> flocat = file.getFLocat();
-        if (flocat.isEmpty()) {
-          return new ReporterDetails(getCSIPVersion(),
-            Message.createErrorMessage("mets/fileSec/fileGrp/file/FLocat in %1$s can't be null",
-              metsValidatorState.getMetsName(), metsValidatorState.isRootMets()),
-            false, false);
-        } else {
-          for (FileType.FLocat floc : flocat) {
-            if (fileSecTypes.get(floc.getHref()) == null) {
+    for (int i = 0; i < files.getFileCount(); i++) {
+      if (files.getLocationCount(i) == 0) {
+        return new ReporterDetails(getCSIPVersion(),
+          Message.createErrorMessage("mets/fileSec/fileGrp/file/FLocat in %1$s can't be null",
+            metsValidatorState.getMetsName(), metsValidatorState.isRootMets()),
+          false, false);
+      } else {
+        for (int l = 0; l < files.getLocationCount(i); l++) {
+          final String type = fileSecTypes.get(files.getLocationHref(i, l));
+          if (type == null) {
+            return new ReporterDetails(getCSIPVersion(),
+              Message.createErrorMessage(
+                "mets/fileSec/fileGrp/file/FLocat[@xlink:type=’simple’] " + "in %1$s can't be null",
+                metsValidatorState.getMetsName(), metsValidatorState.isRootMets()),
+              false, false);
+          } else {
+            if (!type.equals("simple")) {
               return new ReporterDetails(getCSIPVersion(),
                 Message.createErrorMessage(
-                  "mets/fileSec/fileGrp/file/FLocat[@xlink:type=’simple’] " + "in %1$s can't be null",
+                  "mets/fileSec/fileGrp/file/FLocat[@xlink:type=’simple’] " + "value in %1$s has to be simple",
                   metsValidatorState.getMetsName(), metsValidatorState.isRootMets()),
                 false, false);
-            } else {
-              if (!fileSecTypes.get(floc.getHref()).equals("simple")) {
-                return new ReporterDetails(getCSIPVersion(),
-                  Message.createErrorMessage(
-                    "mets/fileSec/fileGrp/file/FLocat[@xlink:type=’simple’] " + "value in %1$s has to be simple",
-                    metsValidatorState.getMetsName(), metsValidatorState.isRootMets()),
-                  false, false);
-              }
             }
           }
         }
@@ -1014,55 +914,43 @@ public abstract class FileSecValidator {
    */
   protected ReporterDetails validateCSIP79(final StructureValidatorState structureValidatorState,
     final MetsValidatorState metsValidatorState) throws IOException {
-    final MetsType.FileSec fileSec = metsValidatorState.getMets().getFileSec();
-    final List<MetsType.FileSec.FileGrp> fileGrp = fileSec.getFileGrp();
+    final MetsFileTable files = metsValidatorState.getMetsAttributeIndex().getFileTable();
     final StringBuilder message = new StringBuilder();
-    for (MetsType.FileSec.FileGrp grp : fileGrp) {
-      final List<FileType> files = grp.getFile();
-      for (FileType file : files) {
-        final List<FileType.FLocat> flocat = file.getFLocat();
-        if (flocat == null) {
-          return new ReporterDetails(getCSIPVersion(),
-            Message.createErrorMessage("mets/fileSec/fileGrp/file/FLocat in %1$s can't be null",
-              metsValidatorState.getMetsName(), metsValidatorState.isRootMets()),
-            false, false);
-        } else {
-          for (FileType.FLocat floc : flocat) {
-            final String href = floc.getHref();
-            if (href != null) {
-              final String hrefDecoded = URLDecoder.decode(DecoderUtils.normalizePath(href), StandardCharsets.UTF_8);
-              if (structureValidatorState.isZipFileFlag()) {
-                final StringBuilder finalPath = new StringBuilder();
-                if (!metsValidatorState.isRootMets()) {
-                  finalPath.append(metsValidatorState.getMetsPath()).append(hrefDecoded);
-                } else {
-                  finalPath.append(metsValidatorState.getMets().getOBJID()).append(Constants.SEPARATOR)
-                    .append(hrefDecoded);
-                }
-                if (!structureValidatorState.getZipManager().checkPathExists(structureValidatorState.getIpPath(),
-                  finalPath.toString())) {
-                  message.append("mets/fileSec/fileGrp/file/@xlink:href ").append(finalPath)
-                    .append(" does not exist (%1$s)");
-                  return new ReporterDetails(getCSIPVersion(), Message.createErrorMessage(message.toString(),
-                    metsValidatorState.getMetsName(), metsValidatorState.isRootMets()), false, false);
-                }
-              } else {
-                if (!structureValidatorState.getFolderManager()
-                  .checkPathExists(Paths.get(metsValidatorState.getMetsPath()).resolve(hrefDecoded))) {
-                  message.append("mets/fileSec/fileGrp/file/@xlink:href ")
-                    .append(Paths.get(metsValidatorState.getMetsPath()).resolve(hrefDecoded))
-                    .append(" does not exist (%1$s)");
-                  return new ReporterDetails(getCSIPVersion(), Message.createErrorMessage(message.toString(),
-                    metsValidatorState.getMetsName(), metsValidatorState.isRootMets()), false, false);
-                }
-              }
+    for (int i = 0; i < files.getFileCount(); i++) {
+      for (int l = 0; l < files.getLocationCount(i); l++) {
+        final String href = files.getLocationHref(i, l);
+        if (href != null) {
+          final String hrefDecoded = URLDecoder.decode(DecoderUtils.normalizePath(href), StandardCharsets.UTF_8);
+          if (structureValidatorState.isZipFileFlag()) {
+            final StringBuilder finalPath = new StringBuilder();
+            if (!metsValidatorState.isRootMets()) {
+              finalPath.append(metsValidatorState.getMetsPath()).append(hrefDecoded);
             } else {
-              return new ReporterDetails(getCSIPVersion(),
-                Message.createErrorMessage("mets/fileSec/fileGrp/file/FLocat/@xlink:href in %1$s can't be null",
-                  metsValidatorState.getMetsName(), metsValidatorState.isRootMets()),
-                false, false);
+              finalPath.append(metsValidatorState.getMets().getOBJID()).append(Constants.SEPARATOR)
+                .append(hrefDecoded);
+            }
+            if (!structureValidatorState.getZipManager().checkPathExists(structureValidatorState.getIpPath(),
+              finalPath.toString())) {
+              message.append("mets/fileSec/fileGrp/file/@xlink:href ").append(finalPath)
+                .append(" does not exist (%1$s)");
+              return new ReporterDetails(getCSIPVersion(), Message.createErrorMessage(message.toString(),
+                metsValidatorState.getMetsName(), metsValidatorState.isRootMets()), false, false);
+            }
+          } else {
+            if (!structureValidatorState.getFolderManager()
+              .checkPathExists(Paths.get(metsValidatorState.getMetsPath()).resolve(hrefDecoded))) {
+              message.append("mets/fileSec/fileGrp/file/@xlink:href ")
+                .append(Paths.get(metsValidatorState.getMetsPath()).resolve(hrefDecoded))
+                .append(" does not exist (%1$s)");
+              return new ReporterDetails(getCSIPVersion(), Message.createErrorMessage(message.toString(),
+                metsValidatorState.getMetsName(), metsValidatorState.isRootMets()), false, false);
             }
           }
+        } else {
+          return new ReporterDetails(getCSIPVersion(),
+            Message.createErrorMessage("mets/fileSec/fileGrp/file/FLocat/@xlink:href in %1$s can't be null",
+              metsValidatorState.getMetsName(), metsValidatorState.isRootMets()),
+            false, false);
         }
       }
     }
@@ -1,14 +1,10 @@
 package org.roda_project.commons_ip2.validator.components.sipFileSectionComponent;
 
-import org.roda_project.commons_ip2.mets_v1_12.beans.FileType;
-import org.roda_project.commons_ip2.mets_v1_12.beans.MetsType;
-import org.roda_project.commons_ip2.validator.constants.Constants;
+import org.roda_project.commons_ip2.validator.handlers.MetsFileTable;
 import org.roda_project.commons_ip2.validator.reporter.ReporterDetails;
 import org.roda_project.commons_ip2.validator.state.MetsValidatorState;
 import org.roda_project.commons_ip2.validator.utils.Message;
 
-import java.util.List;
-
 /**
  * @author Carlos Afonso <cafonso@keep.pt>
  */
@@ -24,17 +20,15 @@ public abstract class SipFileValidator {
    */
 
   protected ReporterDetails validateSIP32(final MetsValidatorState metsValidatorState) {
-    final List<MetsType.FileSec.FileGrp> fileGrps = metsValidatorState.getMets().getFileSec().getFileGrp();
-    for (MetsType.FileSec.FileGrp fileGrp : fileGrps) {
+    final MetsFileTable files = metsValidatorState.getMetsAttributeIndex().getFileTable();
+    for (int g = 0; g < files.getGroupCount(); g++) {
       int count = 0;
-      final List<FileType> files = fileGrp.getFile();
-      for (FileType file : files) {
-        final String fileFormatName = file.getFILEFORMATNAME();
-        if (fileFormatName != null && !fileFormatName.equals("")) {
+      for (int i = files.getGroupStart(g); i < files.getGroupEnd(g); i++) {
+        if (files.hasFileFormatName(i)) {
           count++;
         }
       }
-      if (count != files.size()) {
+      if (count != files.getGroupEnd(g) - files.getGroupStart(g)) {
         return new ReporterDetails(getSIPVersion(),
           Message.createErrorMessage(
             "If the MIMETYPE is not sufficient for the purposes of processing the "
@@ -52,17 +46,15 @@ public abstract class SipFileValidator {
    * Example: “1.0”
    */
   protected ReporterDetails validateSIP33(final MetsValidatorState metsValidatorState) {
-    final List<MetsType.FileSec.FileGrp> fileGrps = metsValidatorState.getMets().getFileSec().getFileGrp();
-    for (MetsType.FileSec.FileGrp fileGrp : fileGrps) {
+    final MetsFileTable files = metsValidatorState.getMetsAttributeIndex().getFileTable();
+    for (int g = 0; g < files.getGroupCount(); g++) {
       int count = 0;
-      final List<FileType> files = fileGrp.getFile();
-      for (FileType file : files) {
-        final String fileFormatVersion = file.getFILEFORMATVERSION();
-        if (fileFormatVersion != null && !fileFormatVersion.equals("")) {
+      for (int i = files.getGroupStart(g); i < files.getGroupEnd(g); i++) {
+        if (files.hasFileFormatVersion(i)) {
           count++;
         }
       }
-      if (count != files.size()) {
+      if (count != files.getGroupEnd(g) - files.getGroupStart(g)) {
         return new ReporterDetails(getSIPVersion(),
           Message.createErrorMessage("You can add @sip:FILEFORMATVERSION attribute in the file element for the %1$s",
             metsValidatorState.getMetsName(), metsValidatorState.isRootMets()),
@@ -78,17 +70,15 @@ public abstract class SipFileValidator {
    * upon in the submission agreement. Example: “PRONOM”
    */
   protected ReporterDetails validateSIP34(final MetsValidatorState metsValidatorState) {
-    final List<MetsType.FileSec.FileGrp> fileGrps = metsValidatorState.getMets().getFileSec().getFileGrp();
-    for (MetsType.FileSec.FileGrp fileGrp : fileGrps) {
+    final MetsFileTable files = metsValidatorState.getMetsAttributeIndex().getFileTable();
+    for (int g = 0; g < files.getGroupCount(); g++) {
       int count = 0;
-      final List<FileType> files = fileGrp.getFile();
-      for (FileType file : files) {
-        final String fileFormatRegistry = file.getFORMATREGISTRY();
-        if (fileFormatRegistry != null && !fileFormatRegistry.equals("")) {
+      for (int i = files.getGroupStart(g); i < files.getGroupEnd(g); i++) {
+        if (files.hasFormatRegistry(i)) {
           count++;
         }
       }
-      if (count != files.size()) {
+      if (count != files.getGroupEnd(g) - files.getGroupStart(g)) {
         return new ReporterDetails(getSIPVersion(),
           Message.createErrorMessage("You can add @sip:FILEFORMATREGISTRY attribute in the file element for the %1$s",
             metsValidatorState.getMetsName(), metsValidatorState.isRootMets()),
@@ -104,17 +94,15 @@ public abstract class SipFileValidator {
    * agreement. Example: “fmt/101”
    */
   protected ReporterDetails validateSIP35(final MetsValidatorState metsValidatorState) {
-    final List<MetsType.FileSec.FileGrp> fileGrps = metsValidatorState.getMets().getFileSec().getFileGrp();
-    for (MetsType.FileSec.FileGrp fileGrp : fileGrps) {
+    final MetsFileTable files = metsValidatorState.getMetsAttributeIndex().getFileTable();
+    for (int g = 0; g < files.getGroupCount(); g++) {
       int count = 0;
-      final List<FileType> files = fileGrp.getFile();
-      for (FileType file : files) {
-        final String fileFormatKey = file.getFORMATREGISTRYKEY();
-        if (fileFormatKey != null && !fileFormatKey.equals("")) {
+      for (int i = files.getGroupStart(g); i < files.getGroupEnd(g); i++) {
+        if (files.hasFormatRegistryKey(i)) {
           count++;
         }
       }
-      if (count != files.size()) {
+      if (count != files.getGroupEnd(g) - files.getGroupStart(g)) {
         return new ReporterDetails(getSIPVersion(),
           Message.createErrorMessage("You can add @sip:FILEFORMATKEY attribute in the file element for the %1$s",
             metsValidatorState.getMetsName(), metsValidatorState.isRootMets()),
@@ -1,12 +1,13 @@
 package org.roda_project.commons_ip2.validator.components.structuralMapComponent;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.net.URLDecoder;
 import java.nio.file.Paths;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.roda_project.commons_ip2.mets_v1_12.beans.AmdSecType;
 import org.roda_project.commons_ip2.mets_v1_12.beans.DivType;
@@ -14,9 +15,9 @@ import org.roda_project.commons_ip2.mets_v1_12.beans.MdSecType;
 import org.roda_project.commons_ip2.mets_v1_12.beans.MetsType;
 import org.roda_project.commons_ip2.mets_v1_12.beans.StructMapType;
 import org.roda_project.commons_ip2.model.IPConstants;
-import org.roda_project.commons_ip2.validator.common.MetsParser;
+import org.roda_project.commons_ip2.validator.common.MetsIdIndex;
 import org.roda_project.commons_ip2.validator.constants.Constants;
-import org.roda_project.commons_ip2.validator.handlers.MetsHandler;
+import org.roda_project.commons_ip2.validator.handlers.MetsFileTable;
 import org.roda_project.commons_ip2.validator.reporter.ReporterDetails;
 import org.roda_project.commons_ip2.validator.state.MetsValidatorState;
 import org.roda_project.commons_ip2.validator.state.StructureValidatorState;
@@ -27,6 +28,11 @@ import org.roda_project.commons_ip2.validator.utils.Message;
  * @author Carlos Afonso <cafonso@keep.pt>
  */
 public abstract class StructMapValidator {
+  /**
+   * Kinds of the metadata sections of an amdSec an {@code ADMID} may refer to.
+   */
+  private static final Set<MetsIdIndex.Kind> AMD_SEC_MD_KINDS = EnumSet.of(MetsIdIndex.Kind.TECH_MD,
+    MetsIdIndex.Kind.RIGHTS_MD, MetsIdIndex.Kind.SOURCE_MD, MetsIdIndex.Kind.DIGIPROV_MD);
 
   protected abstract String getCSIPVersion();
 
@@ -390,20 +396,7 @@ public abstract class StructMapValidator {
    */
   protected ReporterDetails validateCSIP91(final MetsValidatorState metsValidatorState) {
     final List<StructMapType> structMap = metsValidatorState.getMets().getStructMap();
-    final List<AmdSecType> amdSec = metsValidatorState.getMets().getAmdSec();
-    final List<String> amdSecIDs = new ArrayList<>();
-    if (amdSec != null && !amdSec.isEmpty()) {
-      for (AmdSecType amdSecType : amdSec) {
-        final List<MdSecType> allMDS = new ArrayList<>();
-        allMDS.addAll(amdSecType.getDigiprovMD());
-        allMDS.addAll(amdSecType.getRightsMD());
-        allMDS.addAll(amdSecType.getTechMD());
-        allMDS.addAll(amdSecType.getSourceMD());
-        for (MdSecType mdSecType : allMDS) {
-          amdSecIDs.add(mdSecType.getID());
-        }
-      }
-    }
+    final MetsIdIndex idIndex = metsValidatorState.getMetsIdIndex();
     if (structMap != null) {
       for (StructMapType struct : structMap) {
         final DivType div = struct.getDiv();
@@ -420,7 +413,7 @@ public abstract class StructMapValidator {
                   } else {
                     admid = ((MdSecType) o).getID();
                   }
-                  if (!amdSecIDs.contains(admid)) {
+                  if (!AMD_SEC_MD_KINDS.contains(idIndex.getKind(admid))) {
                     final StringBuilder message = new StringBuilder();
                     message.append("mets/structMap[@LABEL='CSIP']/div/div[@LABEL='Metadata']/@ADMID (").append(admid)
                       .append(") doesn't match with any mets/amdSec/digiprovMD/@ID in %1$s");
@@ -449,13 +442,7 @@ public abstract class StructMapValidator {
    */
   protected ReporterDetails validateCSIP92(final MetsValidatorState metsValidatorState) {
     final List<StructMapType> structMap = metsValidatorState.getMets().getStructMap();
-    final List<MdSecType> dmdSec = metsValidatorState.getMets().getDmdSec();
-    final List<String> dmdSecIDs = new ArrayList<>();
-    if (!dmdSec.isEmpty()) {
-      for (MdSecType md : dmdSec) {
-        dmdSecIDs.add(md.getID());
-      }
-    }
+    final MetsIdIndex idIndex = metsValidatorState.getMetsIdIndex();
     if (structMap != null) {
       for (StructMapType struct : structMap) {
         final DivType div = struct.getDiv();
@@ -467,7 +454,7 @@ public abstract class StructMapValidator {
               if (!dmdids.isEmpty()) {
                 for (Object o : dmdids) {
                   final String dmid = ((MdSecType) o).getID();
-                  if (!dmdSecIDs.contains(dmid)) {
+                  if (!idIndex.contains(dmid, MetsIdIndex.Kind.DMD_SEC)) {
                     final StringBuilder message = new StringBuilder();
                     message.append("mets/structMap[@LABEL='CSIP']/div/div[@LABEL='Metadata']/@DMDID (").append(dmid)
                       .append(") not match with any mets/dmdSec/mdRef/@ID in %1$s");
@@ -630,9 +617,11 @@ public abstract class StructMapValidator {
     int structDocumentation = 0;
     if (structMap != null) {
       if (fileGrps != null && !fileGrps.isEmpty()) {
-        for (MetsType.FileSec.FileGrp fileGrp : fileGrps) {
+        final MetsFileTable files = metsValidatorState.getMetsAttributeIndex().getFileTable();
+        for (int g = 0; g < fileGrps.size(); g++) {
+          final MetsType.FileSec.FileGrp fileGrp = fileGrps.get(g);
           if (fileGrp.getUSE() != null && fileGrp.getUSE().equals("Documentation")) {
-            if (!fileGrp.getFile().isEmpty()) {
+            if (files.getGroupStart(g) != files.getGroupEnd(g)) {
               fileGrpDocumentation++;
             }
           }
@@ -671,13 +660,7 @@ public abstract class StructMapValidator {
    */
   protected ReporterDetails validateCSIP116(final MetsValidatorState metsValidatorState) {
     final List<StructMapType> structMap = metsValidatorState.getMets().getStructMap();
-    final MetsType.FileSec fileSec = metsValidatorState.getMets().getFileSec();
-    final List<MetsType.FileSec.FileGrp> fileGrps;
-    if (fileSec != null) {
-      fileGrps = metsValidatorState.getMets().getFileSec().getFileGrp();
-    } else {
-      fileGrps = new ArrayList<>();
-    }
+    final MetsIdIndex idIndex = metsValidatorState.getMetsIdIndex();
     boolean found = false;
     if (structMap != null) {
       for (StructMapType struct : structMap) {
@@ -690,13 +673,10 @@ public abstract class StructMapValidator {
               if (ftprs != null && !ftprs.isEmpty()) {
                 for (DivType.Fptr fptr : ftprs) {
                   final String fileid = ((MetsType.FileSec.FileGrp) fptr.getFILEID()).getID();
-                  for (MetsType.FileSec.FileGrp fileGrp : fileGrps) {
-                    if (fileGrp.getUSE() != null && fileGrp.getUSE().equals("Documentation")) {
-                      final String id = fileGrp.getID();
-                      if (id.equals(fileid)) {
-                        found = true;
-                      }
-                    }
+                  final MetsType.FileSec.FileGrp fileGrp = idIndex.get(fileid, MetsIdIndex.Kind.FILE_GRP,
+                    MetsType.FileSec.FileGrp.class);
+                  if (fileGrp != null && "Documentation".equals(fileGrp.getUSE())) {
+                    found = true;
                   }
                   if (!found) {
                     final StringBuilder message = new StringBuilder();
@@ -859,9 +839,11 @@ public abstract class StructMapValidator {
     int structSchemas = 0;
     if (structMap != null) {
       if (fileGrps != null && !fileGrps.isEmpty()) {
-        for (MetsType.FileSec.FileGrp fileGrp : fileGrps) {
+        final MetsFileTable files = metsValidatorState.getMetsAttributeIndex().getFileTable();
+        for (int g = 0; g < fileGrps.size(); g++) {
+          final MetsType.FileSec.FileGrp fileGrp = fileGrps.get(g);
           if (fileGrp.getUSE() != null && fileGrp.getUSE().equals("Schemas")) {
-            if (!fileGrp.getFile().isEmpty()) {
+            if (files.getGroupStart(g) != files.getGroupEnd(g)) {
               fileGrpSchemas++;
             }
           }
@@ -900,13 +882,7 @@ public abstract class StructMapValidator {
    */
   protected ReporterDetails validateCSIP118(final MetsValidatorState metsValidatorState) {
     final List<StructMapType> structMap = metsValidatorState.getMets().getStructMap();
-    final MetsType.FileSec fileSec = metsValidatorState.getMets().getFileSec();
-    final List<MetsType.FileSec.FileGrp> fileGrps;
-    if (fileSec != null) {
-      fileGrps = metsValidatorState.getMets().getFileSec().getFileGrp();
-    } else {
-      fileGrps = new ArrayList<>();
-    }
+    final MetsIdIndex idIndex = metsValidatorState.getMetsIdIndex();
     boolean found = false;
     if (structMap != null) {
       for (StructMapType struct : structMap) {
@@ -919,13 +895,10 @@ public abstract class StructMapValidator {
               if (ftprs != null && !ftprs.isEmpty()) {
                 for (DivType.Fptr fptr : ftprs) {
                   final String fileid = ((MetsType.FileSec.FileGrp) fptr.getFILEID()).getID();
-                  for (MetsType.FileSec.FileGrp fileGrp : fileGrps) {
-                    if (fileGrp.getUSE() != null && fileGrp.getUSE().equals("Schemas")) {
-                      final String id = fileGrp.getID();
-                      if (id.equals(fileid)) {
-                        found = true;
-                      }
-                    }
+                  final MetsType.FileSec.FileGrp fileGrp = idIndex.get(fileid, MetsIdIndex.Kind.FILE_GRP,
+                    MetsType.FileSec.FileGrp.class);
+                  if (fileGrp != null && "Schemas".equals(fileGrp.getUSE())) {
+                    found = true;
                   }
                   if (!found) {
                     final StringBuilder message = new StringBuilder();
@@ -1146,13 +1119,7 @@ public abstract class StructMapValidator {
    */
   protected ReporterDetails validateCSIP119(final MetsValidatorState metsValidatorState) {
     final List<StructMapType> structMap = metsValidatorState.getMets().getStructMap();
-    final MetsType.FileSec fileSec = metsValidatorState.getMets().getFileSec();
-    final List<MetsType.FileSec.FileGrp> fileGrps;
-    if (fileSec != null) {
-      fileGrps = metsValidatorState.getMets().getFileSec().getFileGrp();
-    } else {
-      fileGrps = new ArrayList<>();
-    }
+    final MetsIdIndex idIndex = metsValidatorState.getMetsIdIndex();
     boolean found = false;
     if (structMap != null) {
       for (StructMapType struct : structMap) {
@@ -1165,13 +1132,10 @@ public abstract class StructMapValidator {
               if (ftprs != null && !ftprs.isEmpty()) {
                 for (DivType.Fptr fptr : ftprs) {
                   final String fileid = ((MetsType.FileSec.FileGrp) fptr.getFILEID()).getID();
-                  for (MetsType.FileSec.FileGrp fileGrp : fileGrps) {
-                    if (fileGrp.getUSE().equals("Representations")) {
-                      final String id = fileGrp.getID();
-                      if (id.equals(fileid)) {
-                        found = true;
-                      }
-                    }
+                  final MetsType.FileSec.FileGrp fileGrp = idIndex.get(fileid, MetsIdIndex.Kind.FILE_GRP,
+                    MetsType.FileSec.FileGrp.class);
+                  if (fileGrp != null && "Representations".equals(fileGrp.getUSE())) {
+                    found = true;
                   }
                   if (!found) {
                     final StringBuilder message = new StringBuilder();
@@ -1348,7 +1312,6 @@ public abstract class StructMapValidator {
    */
   protected ReporterDetails validateCSIP108(final MetsValidatorState metsValidatorState) {
     final List<StructMapType> structMap = metsValidatorState.getMets().getStructMap();
-    final MetsType.FileSec fileSec = metsValidatorState.getMets().getFileSec();
     if (structMap != null) {
       for (StructMapType struct : structMap) {
         final DivType div = struct.getDiv();
@@ -1361,14 +1324,7 @@ public abstract class StructMapValidator {
                 for (DivType.Mptr mptr : mptrs) {
                   final String title = mptr.getTitle();
                   if (title != null) {
-                    final List<MetsType.FileSec.FileGrp> fileGrps = fileSec.getFileGrp();
-                    boolean found = false;
-                    for (MetsType.FileSec.FileGrp fileGrp : fileGrps) {
-                      if (title.equals(fileGrp.getID())) {
-                        found = true;
-                      }
-                    }
-                    if (!found) {
+                    if (!metsValidatorState.getMetsIdIndex().contains(title, MetsIdIndex.Kind.FILE_GRP)) {
                       final StringBuilder message = new StringBuilder();
                       message.append("mets/structMap[@LABEL='CSIP']/div/div/mptr/@xlink:title in %1$s (").append(title)
                         .append(") does not correspond a file group ID");
@@ -1497,32 +1453,8 @@ public abstract class StructMapValidator {
   protected ReporterDetails validateCSIP111(final StructureValidatorState structureValidatorState,
     final MetsValidatorState metsValidatorState) throws IOException {
     final List<StructMapType> structMap = metsValidatorState.getMets().getStructMap();
-    final HashMap<String, String> structMapTypes = new HashMap<>();
-    final MetsHandler fileSecHandler = new MetsHandler("div", "mptr", structMapTypes);
-    final MetsParser metsParser = new MetsParser();
-    InputStream metsStream = null;
-    if (!structMap.isEmpty()) {
-      if (structureValidatorState.isZipFileFlag()) {
-        if (metsValidatorState.isRootMets()) {
-          metsStream = structureValidatorState.getZipManager()
-            .getMetsRootInputStream(structureValidatorState.getIpPath());
-        } else {
-          metsStream = structureValidatorState.getZipManager().getZipInputStream(structureValidatorState.getIpPath(),
-            metsValidatorState.getMetsPath() + "METS.xml");
-        }
-      } else {
-        if (metsValidatorState.isRootMets()) {
-          metsStream = structureValidatorState.getFolderManager()
-            .getMetsRootInputStream(structureValidatorState.getIpPath());
-        } else {
-          metsStream = structureValidatorState.getFolderManager()
-            .getInputStream(Paths.get(metsValidatorState.getMetsPath()).resolve("METS.xml"));
-        }
-      }
-    }
-    if (metsStream != null) {
-      metsParser.parse(fileSecHandler, metsStream);
-    }
+    final Map<String, String> structMapTypes = metsValidatorState.getMetsAttributeIndex()
+      .getXlinkTypes("div", "mptr");
     if (!structMap.isEmpty()) {
       for (StructMapType struct : structMap) {
         final DivType div = struct.getDiv();
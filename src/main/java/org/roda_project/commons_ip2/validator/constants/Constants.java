@@ -240,6 +240,10 @@ public final class Constants {
    * Constant validation report key "notes".
    */
   public static final String VALIDATION_REPORT_SPECIFICATION_KEY_NOTES = "notes";
+  /**
+   * Constant validation report key "checksums".
+   */
+  public static final String VALIDATION_REPORT_SPECIFICATION_KEY_CHECKSUMS = "checksums";
 
   /**
    * Constant validation report key "name".
@@ -2,6 +2,11 @@ package org.roda_project.commons_ip2.validator.constants;
 
 /** {@author João Gomes <jgomes@keep.pt>}. */
 public final class ConstantsAIPspec {
+  /**
+   * The version of the specification the constants belong to.
+   */
+  private static final String VERSION = "2.1.0";
+
   /**
    * Constant specification id "AIP9".
    */
@@ -225,6 +230,10 @@ public final class ConstantsAIPspec {
     // do nothing
   }
 
+  private static Requirement getRequirement(final String id) {
+    return RequirementRegistry.getInstance(VERSION).get(Constants.ID_TYPE_AIP, id);
+  }
+
   /**
    * Get the name of the requirement of given id.
    *
@@ -233,28 +242,8 @@ public final class ConstantsAIPspec {
    * @return the {@link String} name of the requirement.
    */
   public static String getSpecificationName(final String id) {
-    if (VALIDATION_REPORT_SPECIFICATION_AIP9_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_AIP9_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_AIP10_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_AIP10_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_AIP11_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_AIP11_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_AIP12_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_AIP12_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_AIP13_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_AIP13_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_AIP14_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_AIP14_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_AIP15_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_AIP15_NAME;
-    }
-    return NOT_DEFINED;
+    final Requirement requirement = getRequirement(id);
+    return requirement != null ? requirement.getName() : NOT_DEFINED;
   }
 
   /**
@@ -265,28 +254,8 @@ public final class ConstantsAIPspec {
    * @return the {@link String} location of the requirement.
    */
   public static String getSpecificationLocation(final String id) {
-    if (VALIDATION_REPORT_SPECIFICATION_AIP9_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_AIP9_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_AIP10_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_AIP10_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_AIP11_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_AIP11_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_AIP12_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_AIP12_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_AIP13_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_AIP13_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_AIP14_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_AIP14_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_AIP15_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_AIP15_LOCATION;
-    }
-    return NOT_DEFINED;
+    final Requirement requirement = getRequirement(id);
+    return requirement != null ? requirement.getLocation() : NOT_DEFINED;
   }
 
   /**
@@ -297,28 +266,8 @@ public final class ConstantsAIPspec {
    * @return the {@link String} description of the requirement.
    */
   public static String getSpecificationDescription(final String id) {
-    if (VALIDATION_REPORT_SPECIFICATION_AIP9_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_AIP9_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_AIP10_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_AIP10_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_AIP11_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_AIP11_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_AIP12_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_AIP12_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_AIP13_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_AIP13_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_AIP14_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_AIP14_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_AIP15_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_AIP15_DESCRIPTION;
-    }
-    return NOT_DEFINED;
+    final Requirement requirement = getRequirement(id);
+    return requirement != null ? requirement.getDescription() : NOT_DEFINED;
   }
 
   /**
@@ -329,28 +278,8 @@ public final class ConstantsAIPspec {
    * @return the {@link String} cardinality of the requirement.
    */
   public static String getSpecificationCardinality(final String id) {
-    if (VALIDATION_REPORT_SPECIFICATION_AIP9_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_AIP9_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_AIP10_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_AIP10_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_AIP11_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_AIP11_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_AIP12_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_AIP12_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_AIP13_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_AIP13_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_AIP14_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_AIP14_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_AIP15_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_AIP15_CARDINALITY;
-    }
-    return NOT_DEFINED;
+    final Requirement requirement = getRequirement(id);
+    return requirement != null ? requirement.getCardinality() : NOT_DEFINED;
   }
 
   /**
@@ -361,27 +290,7 @@ public final class ConstantsAIPspec {
    * @return the {@link String} level of the requirement.
    */
   public static String getSpecificationLevel(final String id) {
-    if (VALIDATION_REPORT_SPECIFICATION_AIP9_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_AIP9_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_AIP10_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_AIP10_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_AIP11_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_AIP11_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_AIP12_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_AIP12_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_AIP13_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_AIP13_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_AIP14_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_AIP14_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_AIP15_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_AIP15_LEVEL;
-    }
-    return NOT_DEFINED;
+    final Requirement requirement = getRequirement(id);
+    return requirement != null ? requirement.getLevel() : NOT_DEFINED;
   }
 }
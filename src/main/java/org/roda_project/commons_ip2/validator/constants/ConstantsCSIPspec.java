@@ -2,6 +2,11 @@ package org.roda_project.commons_ip2.validator.constants;
 
 /** {@author João Gomes <jgomes@keep.pt>}. */
 public final class ConstantsCSIPspec {
+  /**
+   * The version of the specification the constants belong to.
+   */
+  private static final String VERSION = "2.1.0";
+
   private ConstantsCSIPspec() {
     // do nothing
   }
@@ -4623,6 +4628,10 @@ public final class ConstantsCSIPspec {
    */
   public static final String NOT_DEFINED = "Not Defined";
 
+  private static Requirement getRequirement(final String id) {
+    return RequirementRegistry.getInstance(VERSION).get(Constants.ID_TYPE_CSIP, id);
+  }
+
   /**
    * Get the name of the requirement of given id.
    *
@@ -4631,409 +4640,8 @@ public final class ConstantsCSIPspec {
    * @return the {@link String} name of the requirement.
    */
   public static String getSpecificationName(final String id) {
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP0_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP0_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR1_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR1_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR2_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR2_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR3_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR3_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR4_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR4_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR5_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR5_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR6_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR6_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR7_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR7_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR8_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR8_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR9_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR9_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR10_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR10_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR11_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR11_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR12_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR12_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR13_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR13_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR14_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR14_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR15_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR15_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR16_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR16_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP1_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP1_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP2_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP2_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP3_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP3_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP4_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP4_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP5_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP5_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP6_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP6_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP117_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP117_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP7_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP7_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP8_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP8_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP9_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP9_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP10_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP10_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP11_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP11_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP12_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP12_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP13_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP13_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP14_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP14_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP15_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP15_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP16_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP16_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP17_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP17_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP18_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP18_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP19_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP19_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP20_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP20_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP21_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP21_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP22_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP22_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP23_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP23_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP24_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP24_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP25_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP25_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP26_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP26_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP27_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP27_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP28_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP28_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP29_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP29_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP30_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP30_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP31_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP31_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP32_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP32_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP33_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP33_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP34_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP34_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP35_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP35_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP36_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP36_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP37_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP37_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP38_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP38_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP39_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP39_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP40_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP40_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP41_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP41_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP42_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP42_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP43_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP43_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP44_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP44_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP45_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP45_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP46_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP46_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP47_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP47_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP48_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP48_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP49_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP49_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP50_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP50_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP51_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP51_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP52_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP52_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP53_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP53_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP54_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP54_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP55_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP55_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP56_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP56_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP57_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP57_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP58_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP58_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP59_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP59_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP60_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP60_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP113_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP113_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP114_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP114_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP61_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP61_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP62_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP62_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP63_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP63_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP64_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP64_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP65_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP65_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP66_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP66_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP67_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP67_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP68_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP68_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP69_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP69_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP70_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP70_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP71_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP71_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP72_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP72_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP73_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP73_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP74_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP74_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP75_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP75_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP76_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP76_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP77_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP77_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP78_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP78_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP79_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP79_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP80_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP80_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP81_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP81_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP82_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP82_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP83_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP83_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP84_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP84_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP85_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP85_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP86_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP86_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP88_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP88_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP89_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP89_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP90_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP90_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP91_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP91_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP92_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP92_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP93_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP93_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP94_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP94_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP95_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP95_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP96_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP96_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP116_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP116_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP97_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP97_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP98_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP98_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP99_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP99_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP100_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP100_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP118_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP118_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP101_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP101_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP102_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP102_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP103_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP103_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP104_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP104_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP119_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP119_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP105_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP105_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP106_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP106_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP107_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP107_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP108_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP108_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP109_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP109_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP110_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP110_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP111_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP111_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP112_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP112_NAME;
-    }
-    return NOT_DEFINED;
+    final Requirement requirement = getRequirement(id);
+    return requirement != null ? requirement.getName() : NOT_DEFINED;
   }
 
   /**
@@ -5044,409 +4652,8 @@ public final class ConstantsCSIPspec {
    * @return the {@link String} location of the requirement.
    */
   public static String getSpecificationLocation(final String id) {
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP0_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP0_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR1_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR1_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR2_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR2_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR3_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR3_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR4_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR4_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR5_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR5_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR6_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR6_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR7_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR7_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR8_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR8_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR9_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR9_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR10_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR10_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR11_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR11_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR12_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR12_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR13_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR13_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR14_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR14_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR15_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR15_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR16_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR16_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP1_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP1_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP2_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP2_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP3_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP3_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP4_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP4_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP5_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP5_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP6_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP6_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP117_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP117_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP7_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP7_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP8_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP8_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP9_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP9_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP10_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP10_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP11_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP11_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP12_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP12_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP13_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP13_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP14_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP14_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP15_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP15_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP16_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP16_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP17_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP17_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP18_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP18_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP19_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP19_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP20_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP20_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP21_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP21_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP22_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP22_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP23_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP23_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP24_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP24_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP25_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP25_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP26_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP26_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP27_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP27_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP28_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP28_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP29_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP29_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP30_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP30_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP31_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP31_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP32_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP32_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP33_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP33_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP34_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP34_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP35_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP35_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP36_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP36_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP37_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP37_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP38_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP38_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP39_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP39_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP40_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP40_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP41_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP41_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP42_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP42_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP43_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP43_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP44_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP44_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP45_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP45_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP46_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP46_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP47_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP47_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP48_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP48_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP49_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP49_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP50_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP50_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP51_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP51_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP52_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP52_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP53_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP53_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP54_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP54_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP55_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP55_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP56_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP56_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP57_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP57_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP58_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP58_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP59_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP59_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP60_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP60_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP113_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP113_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP114_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP114_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP61_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP61_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP62_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP62_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP63_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP63_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP64_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP64_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP65_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP65_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP66_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP66_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP67_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP67_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP68_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP68_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP69_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP69_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP70_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP70_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP71_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP71_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP72_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP72_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP73_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP73_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP74_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP74_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP75_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP75_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP76_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP76_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP77_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP77_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP78_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP78_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP79_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP79_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP80_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP80_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP81_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP81_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP82_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP82_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP83_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP83_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP84_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP84_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP85_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP85_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP86_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP86_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP88_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP88_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP89_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP89_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP90_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP90_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP91_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP91_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP92_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP92_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP93_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP93_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP94_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP94_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP95_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP95_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP96_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP96_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP116_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP116_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP97_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP97_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP98_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP98_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP99_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP99_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP100_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP100_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP118_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP118_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP101_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP101_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP102_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP102_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP103_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP103_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP104_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP104_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP119_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP119_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP105_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP105_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP106_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP106_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP107_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP107_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP108_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP108_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP109_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP109_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP110_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP110_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP111_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP111_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP112_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP112_LOCATION;
-    }
-    return NOT_DEFINED;
+    final Requirement requirement = getRequirement(id);
+    return requirement != null ? requirement.getLocation() : NOT_DEFINED;
   }
 
   /**
@@ -5457,409 +4664,8 @@ public final class ConstantsCSIPspec {
    * @return the {@link String} description of the requirement.
    */
   public static String getSpecificationDescription(final String id) {
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP0_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP0_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR1_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR1_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR2_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR2_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR3_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR3_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR4_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR4_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR5_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR5_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR6_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR6_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR7_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR7_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR8_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR8_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR9_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR9_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR10_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR10_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR11_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR11_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR12_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR12_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR13_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR13_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR14_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR14_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR15_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR15_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR16_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR16_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP1_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP1_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP2_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP2_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP3_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP3_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP4_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP4_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP5_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP5_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP6_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP6_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP117_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP117_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP7_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP7_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP8_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP8_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP9_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP9_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP10_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP10_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP11_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP11_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP12_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP12_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP13_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP13_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP14_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP14_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP15_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP15_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP16_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP16_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP17_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP17_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP18_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP18_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP19_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP19_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP20_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP20_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP21_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP21_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP22_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP22_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP23_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP23_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP24_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP24_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP25_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP25_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP26_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP26_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP27_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP27_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP28_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP28_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP29_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP29_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP30_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP30_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP31_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP31_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP32_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP32_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP33_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP33_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP34_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP34_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP35_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP35_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP36_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP36_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP37_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP37_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP38_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP38_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP39_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP39_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP40_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP40_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP41_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP41_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP42_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP42_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP43_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP43_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP44_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP44_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP45_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP45_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP46_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP46_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP47_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP47_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP48_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP48_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP49_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP49_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP50_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP50_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP51_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP51_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP52_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP52_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP53_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP53_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP54_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP54_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP55_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP55_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP56_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP56_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP57_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP57_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP58_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP58_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP59_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP59_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP60_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP60_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP113_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP113_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP114_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP114_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP61_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP61_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP62_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP62_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP63_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP63_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP64_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP64_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP65_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP65_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP66_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP66_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP67_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP67_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP68_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP68_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP69_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP69_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP70_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP70_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP71_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP71_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP72_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP72_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP73_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP73_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP74_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP74_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP75_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP75_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP76_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP76_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP77_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP77_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP78_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP78_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP79_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP79_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP80_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP80_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP81_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP81_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP82_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP82_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP83_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP83_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP84_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP84_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP85_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP85_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP86_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP86_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP88_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP88_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP89_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP89_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP90_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP90_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP91_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP91_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP92_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP92_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP93_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP93_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP94_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP94_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP95_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP95_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP96_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP96_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP116_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP116_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP97_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP97_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP98_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP98_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP99_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP99_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP100_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP100_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP118_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP118_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP101_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP101_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP102_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP102_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP103_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP103_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP104_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP104_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP119_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP119_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP105_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP105_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP106_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP106_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP107_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP107_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP108_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP108_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP109_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP109_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP110_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP110_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP111_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP111_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP112_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP112_DESCRIPTION;
-    }
-    return NOT_DEFINED;
+    final Requirement requirement = getRequirement(id);
+    return requirement != null ? requirement.getDescription() : NOT_DEFINED;
   }
 
   /**
@@ -5870,409 +4676,8 @@ public final class ConstantsCSIPspec {
    * @return the {@link String} cardinality of the requirement.
    */
   public static String getSpecificationCardinality(final String id) {
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP0_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP0_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR1_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR1_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR2_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR2_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR3_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR3_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR4_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR4_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR5_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR5_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR6_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR6_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR7_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR7_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR8_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR8_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR9_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR9_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR10_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR10_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR11_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR11_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR12_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR12_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR13_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR13_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR14_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR14_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR15_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR15_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR16_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR16_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP1_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP1_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP2_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP2_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP3_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP3_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP4_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP4_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP5_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP5_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP6_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP6_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP117_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP117_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP7_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP7_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP8_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP8_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP9_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP9_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP10_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP10_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP11_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP11_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP12_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP12_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP13_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP13_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP14_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP14_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP15_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP15_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP16_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP16_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP17_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP17_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP18_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP18_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP19_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP19_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP20_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP20_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP21_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP21_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP22_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP22_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP23_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP23_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP24_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP24_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP25_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP25_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP26_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP26_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP27_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP27_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP28_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP28_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP29_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP29_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP30_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP30_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP31_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP31_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP32_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP32_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP33_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP33_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP34_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP34_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP35_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP35_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP36_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP36_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP37_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP37_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP38_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP38_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP39_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP39_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP40_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP40_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP41_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP41_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP42_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP42_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP43_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP43_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP44_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP44_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP45_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP45_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP46_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP46_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP47_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP47_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP48_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP48_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP49_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP49_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP50_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP50_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP51_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP51_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP52_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP52_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP53_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP53_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP54_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP54_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP55_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP55_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP56_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP56_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP57_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP57_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP58_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP58_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP59_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP59_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP60_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP60_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP113_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP113_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP114_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP114_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP61_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP61_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP62_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP62_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP63_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP63_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP64_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP64_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP65_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP65_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP66_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP66_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP67_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP67_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP68_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP68_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP69_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP69_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP70_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP70_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP71_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP71_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP72_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP72_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP73_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP73_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP74_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP74_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP75_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP75_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP76_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP76_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP77_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP77_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP78_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP78_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP79_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP79_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP80_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP80_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP81_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP81_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP82_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP82_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP83_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP83_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP84_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP84_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP85_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP85_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP86_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP86_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP88_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP88_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP89_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP89_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP90_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP90_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP91_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP91_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP92_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP92_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP93_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP93_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP94_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP94_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP95_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP95_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP96_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP96_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP116_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP116_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP97_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP97_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP98_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP98_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP99_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP99_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP100_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP100_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP118_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP118_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP101_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP101_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP102_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP102_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP103_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP103_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP104_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP104_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP119_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP119_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP105_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP105_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP106_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP106_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP107_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP107_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP108_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP108_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP109_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP109_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP110_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP110_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP111_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP111_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP112_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP112_CARDINALITY;
-    }
-    return NOT_DEFINED;
+    final Requirement requirement = getRequirement(id);
+    return requirement != null ? requirement.getCardinality() : NOT_DEFINED;
   }
 
   /**
@@ -6283,408 +4688,7 @@ public final class ConstantsCSIPspec {
    * @return the {@link String} level of the requirement.
    */
   public static String getSpecificationLevel(final String id) {
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP0_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP0_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR1_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR1_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR2_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR2_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR3_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR3_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR4_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR4_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR5_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR5_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR6_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR6_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR7_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR7_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR8_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR8_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR9_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR9_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR10_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR10_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR11_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR11_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR12_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR12_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR13_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR13_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR14_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR14_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR15_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR15_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIPSTR16_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIPSTR16_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP1_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP1_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP2_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP2_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP3_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP3_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP4_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP4_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP5_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP5_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP6_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP6_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP117_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP117_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP7_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP7_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP8_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP8_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP9_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP9_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP10_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP10_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP11_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP11_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP12_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP12_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP13_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP13_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP14_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP14_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP15_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP15_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP16_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP16_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP17_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP17_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP18_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP18_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP19_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP19_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP20_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP20_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP21_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP21_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP22_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP22_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP23_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP23_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP24_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP24_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP25_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP25_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP26_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP26_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP27_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP27_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP28_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP28_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP29_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP29_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP30_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP30_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP31_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP31_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP32_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP32_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP33_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP33_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP34_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP34_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP35_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP35_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP36_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP36_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP37_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP37_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP38_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP38_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP39_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP39_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP40_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP40_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP41_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP41_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP42_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP42_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP43_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP43_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP44_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP44_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP45_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP45_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP46_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP46_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP47_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP47_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP48_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP48_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP49_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP49_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP50_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP50_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP51_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP51_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP52_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP52_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP53_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP53_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP54_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP54_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP55_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP55_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP56_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP56_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP57_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP57_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP58_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP58_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP59_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP59_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP60_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP60_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP113_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP113_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP114_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP114_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP61_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP61_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP62_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP62_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP63_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP63_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP64_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP64_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP65_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP65_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP66_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP66_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP67_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP67_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP68_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP68_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP69_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP69_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP70_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP70_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP71_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP71_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP72_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP72_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP73_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP73_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP74_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP74_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP75_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP75_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP76_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP76_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP77_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP77_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP78_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP78_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP79_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP79_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP80_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP80_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP81_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP81_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP82_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP82_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP83_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP83_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP84_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP84_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP85_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP85_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP86_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP86_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP88_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP88_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP89_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP89_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP90_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP90_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP91_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP91_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP92_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP92_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP93_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP93_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP94_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP94_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP95_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP95_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP96_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP96_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP116_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP116_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP97_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP97_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP98_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP98_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP99_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP99_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP100_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP100_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP118_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP118_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP101_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP101_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP102_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP102_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP103_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP103_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP104_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP104_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP119_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP119_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP105_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP105_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP106_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP106_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP107_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP107_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP108_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP108_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP109_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP109_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP110_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP110_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP111_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP111_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_CSIP112_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_CSIP112_LEVEL;
-    }
-    return NOT_DEFINED;
+    final Requirement requirement = getRequirement(id);
+    return requirement != null ? requirement.getLevel() : NOT_DEFINED;
   }
 }
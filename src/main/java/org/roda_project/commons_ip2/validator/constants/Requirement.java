@@ -0,0 +1,122 @@
+package org.roda_project.commons_ip2.validator.constants;
+
+/**
+ * A requirement of the E-ARK CSIP, SIP or AIP specifications, as registered in
+ * the {@link RequirementRegistry}.
+ */
+public final class Requirement {
+  /**
+   * The type of the specification, one of {@link Constants#ID_TYPE_CSIP},
+   * {@link Constants#ID_TYPE_SIP} or {@link Constants#ID_TYPE_AIP}.
+   */
+  private final String type;
+  /**
+   * The id.
+   */
+  private final String id;
+  /**
+   * The name.
+   */
+  private final String name;
+  /**
+   * The location, an XPath in the METS file.
+   */
+  private final String location;
+  /**
+   * The description.
+   */
+  private final String description;
+  /**
+   * The cardinality.
+   */
+  private final String cardinality;
+  /**
+   * The level, MUST, SHOULD or MAY.
+   */
+  private final String level;
+  /**
+   * The name of the component validating the requirement.
+   */
+  private final String component;
+  /**
+   * The weight of the requirement when sorting the report.
+   */
+  private final int weight;
+
+  /**
+   * Constructor of {@link Requirement}.
+   *
+   * @param type
+   *          the {@link String} type of the specification
+   * @param id
+   *          the {@link String} id
+   * @param name
+   *          the {@link String} name
+   * @param location
+   *          the {@link String} location
+   * @param description
+   *          the {@link String} description
+   * @param cardinality
+   *          the {@link String} cardinality
+   * @param level
+   *          the {@link String} level
+   * @param component
+   *          the {@link String} name of the component
+   * @param weight
+   *          the weight when sorting the report
+   */
+  Requirement(final String type, final String id, final String name, final String location,
+    final String description, final String cardinality, final String level, final String component,
+    final int weight) {
+    this.type = type;
+    this.id = id;
+    this.name = name;
+    this.location = location;
+    this.description = description;
+    this.cardinality = cardinality;
+    this.level = level;
+    this.component = component;
+    this.weight = weight;
+  }
+
+  public String getType() {
+    return type;
+  }
+
+  public String getId() {
+    return id;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public String getLocation() {
+    return location;
+  }
+
+  public String getDescription() {
+    return description;
+  }
+
+  public String getCardinality() {
+    return cardinality;
+  }
+
+  public String getLevel() {
+    return level;
+  }
+
+  public String getComponent() {
+    return component;
+  }
+
+  public int getWeight() {
+    return weight;
+  }
+
+  @Override
+  public String toString() {
+    return "Requirement [id=" + id + ", level=" + level + ", location=" + location + ", component=" + component + "]";
+  }
+}
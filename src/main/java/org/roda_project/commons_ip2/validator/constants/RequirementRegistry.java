@@ -0,0 +1,211 @@
+package org.roda_project.commons_ip2.validator.constants;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Registry of the requirements of the E-ARK CSIP, SIP and AIP specifications of
+ * a CSIP version, keyed by requirement id.
+ *
+ * <p>
+ * The registry is built once per version from the
+ * {@code VALIDATION_REPORT_SPECIFICATION_<id>_*} constants of the
+ * {@code ConstantsCSIPspec}, {@code ConstantsSIPspec} and
+ * {@code ConstantsAIPspec} classes of that version, which remain the single
+ * source of the requirements.
+ * </p>
+ */
+public final class RequirementRegistry {
+  /**
+   * The version with its own requirements, all the other versions share the
+   * requirements of {@code constants}.
+   */
+  private static final String VERSION_220 = "2.2.0";
+  /**
+   * The prefix of the constants of the requirements.
+   */
+  private static final String FIELD_PREFIX = "VALIDATION_REPORT_SPECIFICATION_";
+  /**
+   * The suffix of the id constant of a requirement.
+   */
+  private static final String FIELD_ID = "_ID";
+  /**
+   * The prefix of the CSIP structure requirements.
+   */
+  private static final String ID_TYPE_CSIPSTR = "CSIPSTR";
+
+  /**
+   * {@link Map} with the requirements per id.
+   */
+  private final Map<String, Requirement> requirements = new HashMap<>();
+
+  private static final class DefaultHolder {
+    private static final RequirementRegistry INSTANCE = new RequirementRegistry(ConstantsCSIPspec.class,
+      ConstantsSIPspec.class, ConstantsAIPspec.class);
+  }
+
+  private static final class Holder220 {
+    private static final RequirementRegistry INSTANCE = new RequirementRegistry(
+      org.roda_project.commons_ip2.validator.constants220.ConstantsCSIPspec.class,
+      org.roda_project.commons_ip2.validator.constants220.ConstantsSIPspec.class,
+      org.roda_project.commons_ip2.validator.constants220.ConstantsAIPspec.class);
+  }
+
+  private RequirementRegistry(final Class<?> csip, final Class<?> sip, final Class<?> aip) {
+    register(Constants.ID_TYPE_CSIP, csip);
+    register(Constants.ID_TYPE_SIP, sip);
+    register(Constants.ID_TYPE_AIP, aip);
+  }
+
+  /**
+   * Get the registry of a CSIP version.
+   *
+   * @param version
+   *          the {@link String} version, e.g. 2.1.0
+   * @return the {@link RequirementRegistry}.
+   */
+  public static RequirementRegistry getInstance(final String version) {
+    return VERSION_220.equals(version) ? Holder220.INSTANCE : DefaultHolder.INSTANCE;
+  }
+
+  /**
+   * Get the registry of a specification of the validation report.
+   *
+   * @param specification
+   *          the {@link String} specification, e.g. CSIP-2.1.0
+   * @return the {@link RequirementRegistry}.
+   */
+  public static RequirementRegistry forSpecification(final String specification) {
+    if (specification != null && specification.endsWith("-" + VERSION_220)) {
+      return Holder220.INSTANCE;
+    }
+    return DefaultHolder.INSTANCE;
+  }
+
+  /**
+   * Get the weight of a requirement when sorting the report: the structure
+   * requirements first, then the CSIP, SIP and AIP requirements by number.
+   *
+   * @param id
+   *          the {@link String} id of the requirement
+   * @return the weight.
+   */
+  public static int getWeight(final String id) {
+    final Requirement requirement = DefaultHolder.INSTANCE.requirements.get(id);
+    return requirement != null ? requirement.getWeight() : calculateWeight(id);
+  }
+
+  private static int calculateWeight(final String id) {
+    if (id.startsWith(ID_TYPE_CSIPSTR)) {
+      return 1000 + Integer.parseInt(id.substring(ID_TYPE_CSIPSTR.length()));
+    } else if (id.startsWith(Constants.ID_TYPE_CSIP)) {
+      return 2000 + Integer.parseInt(id.substring(Constants.ID_TYPE_CSIP.length()));
+    } else if (id.startsWith(Constants.ID_TYPE_SIP)) {
+      return 4000 + Integer.parseInt(id.substring(Constants.ID_TYPE_SIP.length()));
+    } else if (id.startsWith(Constants.ID_TYPE_AIP)) {
+      return 4000 + Integer.parseInt(id.substring(Constants.ID_TYPE_AIP.length()));
+    }
+    return 9000;
+  }
+
+  private static String getComponent(final String type, final String id, final String location) {
+    if (Constants.ID_TYPE_AIP.equals(type)) {
+      return Constants.AIP_MODULE_NAME_2;
+    }
+    if (location.isEmpty() || id.startsWith(ID_TYPE_CSIPSTR)) {
+      return Constants.CSIP_MODULE_NAME_0;
+    }
+    final String path = location.startsWith("mets/") ? location.substring("mets/".length()) : location;
+    final boolean sip = Constants.ID_TYPE_SIP.equals(type);
+    if (path.startsWith("metsHdr")) {
+      return sip ? Constants.SIP_MODULE_NAME_2 : Constants.CSIP_MODULE_NAME_2;
+    } else if (path.startsWith("fileSec")) {
+      return sip ? Constants.SIP_MODULE_NAME_3 : Constants.CSIP_MODULE_NAME_5;
+    } else if (sip) {
+      return Constants.SIP_MODULE_NAME_1;
+    } else if (path.startsWith("dmdSec")) {
+      return Constants.CSIP_MODULE_NAME_3;
+    } else if (path.startsWith("amdSec")) {
+      return Constants.CSIP_MODULE_NAME_4;
+    } else if (path.startsWith("structMap")) {
+      return Constants.CSIP_MODULE_NAME_6;
+    }
+    return Constants.CSIP_MODULE_NAME_1;
+  }
+
+  private void register(final String type, final Class<?> constants) {
+    for (Field field : constants.getFields()) {
+      final String fieldName = field.getName();
+      if (Modifier.isStatic(field.getModifiers()) && fieldName.startsWith(FIELD_PREFIX)
+        && fieldName.endsWith(FIELD_ID)) {
+        final String prefix = fieldName.substring(0, fieldName.length() - FIELD_ID.length());
+        final String id = getConstant(constants, fieldName);
+        final String location = getConstant(constants, prefix + "_LOCATION");
+        requirements.put(id,
+          new Requirement(type, id, getConstant(constants, prefix + "_NAME"), location,
+            getConstant(constants, prefix + "_DESCRIPTION"), getConstant(constants, prefix + "_CARDINALITY"),
+            getConstant(constants, prefix + "_LEVEL"), getComponent(type, id, location), calculateWeight(id)));
+      }
+    }
+  }
+
+  private static String getConstant(final Class<?> constants, final String name) {
+    try {
+      return (String) constants.getField(name).get(null);
+    } catch (NoSuchFieldException e) {
+      return ConstantsCSIPspec.NOT_DEFINED;
+    } catch (IllegalAccessException e) {
+      throw new IllegalStateException("Unable to read requirement constant " + name, e);
+    }
+  }
+
+  /**
+   * Get a requirement.
+   *
+   * @param id
+   *          the {@link String} id of the requirement
+   * @return the {@link Requirement} or {@code null} if it is not defined.
+   */
+  public Requirement get(final String id) {
+    return requirements.get(id);
+  }
+
+  /**
+   * Get a requirement of a specification.
+   *
+   * @param type
+   *          the {@link String} type of the specification, e.g. CSIP
+   * @param id
+   *          the {@link String} id of the requirement
+   * @return the {@link Requirement} or {@code null} if it is not defined in the
+   *         specification.
+   */
+  public Requirement get(final String type, final String id) {
+    final Requirement requirement = requirements.get(id);
+    return requirement != null && requirement.getType().equals(type) ? requirement : null;
+  }
+
+  /**
+   * Get the level of a requirement.
+   *
+   * @param id
+   *          the {@link String} id of the requirement
+   * @return the {@link String} level or {@code Not Defined}.
+   */
+  public String getLevel(final String id) {
+    final Requirement requirement = requirements.get(id);
+    return requirement != null ? requirement.getLevel() : ConstantsCSIPspec.NOT_DEFINED;
+  }
+
+  /**
+   * Get all the requirements.
+   *
+   * @return an unmodifiable {@link Map} with the requirements per id.
+   */
+  public Map<String, Requirement> getRequirements() {
+    return Collections.unmodifiableMap(requirements);
+  }
+}
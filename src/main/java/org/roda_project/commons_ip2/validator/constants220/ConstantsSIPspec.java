@@ -1,7 +1,15 @@
 package org.roda_project.commons_ip2.validator.constants220;
 
+import org.roda_project.commons_ip2.validator.constants.Requirement;
+import org.roda_project.commons_ip2.validator.constants.RequirementRegistry;
+
 /** {@author João Gomes <jgomes@keep.pt>}. */
 public final class ConstantsSIPspec {
+  /**
+   * The version of the specification the constants belong to.
+   */
+  private static final String VERSION = "2.2.0";
+
   private ConstantsSIPspec() {
     // do nothing
   }
@@ -1192,6 +1200,10 @@ public final class ConstantsSIPspec {
    */
   public static final String NOT_DEFINED = "Not Defined";
 
+  private static Requirement getRequirement(final String id) {
+    return RequirementRegistry.getInstance(VERSION).get(Constants.ID_TYPE_SIP, id);
+  }
+
   /**
    * Get the name of the requirement of given id.
    *
@@ -1200,112 +1212,8 @@ public final class ConstantsSIPspec {
    * @return the {@link String} name of the requirement.
    */
   public static String getSpecificationName(final String id) {
-    if (VALIDATION_REPORT_SPECIFICATION_SIP1_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP1_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP2_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP2_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP3_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP3_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP4_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP4_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP5_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP5_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP6_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP6_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP7_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP7_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP8_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP8_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP9_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP9_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP10_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP10_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP11_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP11_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP12_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP12_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP13_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP13_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP14_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP14_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP15_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP15_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP16_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP16_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP17_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP17_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP18_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP18_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP19_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP19_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP20_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP20_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP21_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP21_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP22_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP22_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP23_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP23_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP24_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP24_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP25_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP25_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP26_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP26_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP27_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP27_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP28_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP28_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP29_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP29_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP30_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP30_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP31_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP31_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP32_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP32_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP33_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP33_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP34_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP34_NAME;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP35_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP35_NAME;
-    }
-    return NOT_DEFINED;
+    final Requirement requirement = getRequirement(id);
+    return requirement != null ? requirement.getName() : NOT_DEFINED;
   }
 
   /**
@@ -1316,112 +1224,8 @@ public final class ConstantsSIPspec {
    * @return the {@link String} location of the requirement.
    */
   public static String getSpecificationLocation(final String id) {
-    if (VALIDATION_REPORT_SPECIFICATION_SIP1_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP1_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP2_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP2_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP3_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP3_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP4_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP4_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP5_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP5_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP6_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP6_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP7_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP7_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP8_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP8_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP9_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP9_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP10_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP10_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP11_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP11_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP12_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP12_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP13_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP13_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP14_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP14_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP15_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP15_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP16_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP16_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP17_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP17_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP18_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP18_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP19_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP19_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP20_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP20_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP21_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP21_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP22_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP22_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP23_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP23_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP24_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP24_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP25_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP25_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP26_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP26_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP27_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP27_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP28_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP28_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP29_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP29_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP30_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP30_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP31_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP31_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP32_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP32_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP33_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP33_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP34_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP34_LOCATION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP35_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP35_LOCATION;
-    }
-    return NOT_DEFINED;
+    final Requirement requirement = getRequirement(id);
+    return requirement != null ? requirement.getLocation() : NOT_DEFINED;
   }
 
   /**
@@ -1432,112 +1236,8 @@ public final class ConstantsSIPspec {
    * @return the {@link String} description of the requirement.
    */
   public static String getSpecificationDescription(final String id) {
-    if (VALIDATION_REPORT_SPECIFICATION_SIP1_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP1_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP2_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP2_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP3_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP3_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP4_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP4_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP5_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP5_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP6_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP6_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP7_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP7_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP8_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP8_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP9_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP9_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP10_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP10_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP11_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP11_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP12_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP12_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP13_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP13_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP14_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP14_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP15_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP15_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP16_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP16_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP17_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP17_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP18_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP18_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP19_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP19_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP20_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP20_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP21_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP21_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP22_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP22_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP23_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP23_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP24_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP24_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP25_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP25_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP26_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP26_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP27_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP27_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP28_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP28_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP29_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP29_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP30_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP30_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP31_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP31_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP32_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP32_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP33_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP33_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP34_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP34_DESCRIPTION;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP35_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP35_DESCRIPTION;
-    }
-    return NOT_DEFINED;
+    final Requirement requirement = getRequirement(id);
+    return requirement != null ? requirement.getDescription() : NOT_DEFINED;
   }
 
   /**
@@ -1548,112 +1248,8 @@ public final class ConstantsSIPspec {
    * @return the {@link String} cardinality of the requirement.
    */
   public static String getSpecificationCardinality(final String id) {
-    if (VALIDATION_REPORT_SPECIFICATION_SIP1_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP1_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP2_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP2_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP3_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP3_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP4_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP4_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP5_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP5_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP6_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP6_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP7_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP7_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP8_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP8_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP9_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP9_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP10_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP10_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP11_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP11_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP12_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP12_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP13_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP13_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP14_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP14_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP15_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP15_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP16_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP16_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP17_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP17_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP18_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP18_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP19_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP19_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP20_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP20_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP21_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP21_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP22_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP22_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP23_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP23_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP24_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP24_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP25_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP25_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP26_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP26_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP27_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP27_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP28_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP28_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP29_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP29_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP30_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP30_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP31_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP31_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP32_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP32_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP33_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP33_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP34_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP34_CARDINALITY;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP35_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP35_CARDINALITY;
-    }
-    return NOT_DEFINED;
+    final Requirement requirement = getRequirement(id);
+    return requirement != null ? requirement.getCardinality() : NOT_DEFINED;
   }
 
   /**
@@ -1664,111 +1260,7 @@ public final class ConstantsSIPspec {
    * @return the {@link String} level of the requirement.
    */
   public static String getSpecificationLevel(final String id) {
-    if (VALIDATION_REPORT_SPECIFICATION_SIP1_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP1_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP2_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP2_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP3_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP3_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP4_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP4_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP5_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP5_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP6_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP6_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP7_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP7_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP8_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP8_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP9_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP9_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP10_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP10_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP11_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP11_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP12_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP12_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP13_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP13_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP14_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP14_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP15_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP15_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP16_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP16_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP17_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP17_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP18_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP18_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP19_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP19_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP20_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP20_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP21_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP21_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP22_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP22_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP23_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP23_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP24_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP24_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP25_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP25_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP26_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP26_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP27_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP27_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP28_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP28_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP29_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP29_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP30_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP30_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP31_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP31_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP32_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP32_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP33_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP33_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP34_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP34_LEVEL;
-    }
-    if (VALIDATION_REPORT_SPECIFICATION_SIP35_ID.equals(id)) {
-      return VALIDATION_REPORT_SPECIFICATION_SIP35_LEVEL;
-    }
-    return NOT_DEFINED;
+    final Requirement requirement = getRequirement(id);
+    return requirement != null ? requirement.getLevel() : NOT_DEFINED;
   }
 }
@@ -0,0 +1,111 @@
+package org.roda_project.commons_ip2.validator.handlers;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.xml.sax.Attributes;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * Index of the {@code xlink:type} attribute of the METS elements checked by the
+ * validator components, keyed by the element ID (or {@code xlink:href} when the
+ * element has no ID), as collected by a {@link MetsHandler} per section.
+ *
+ * <p>
+ * The index is filled while the METS file is unmarshalled, see
+ * {@code InstatiateMets}, so the components query it instead of parsing the
+ * METS file again.
+ * </p>
+ */
+public class MetsAttributeIndex extends DefaultHandler {
+  /**
+   * {@link Map} with the collected types per section and element.
+   */
+  private final Map<String, Map<String, String>> types = new HashMap<>();
+  /**
+   * {@link List} with a {@link MetsHandler} per section and element.
+   */
+  private final List<MetsHandler> handlers = new ArrayList<>();
+  /**
+   * {@link MetsFileTable} filled in the same pass.
+   */
+  private final MetsFileTable fileTable = new MetsFileTable();
+
+  /**
+   * Creates an index of {@code file/FLocat}, {@code div/mptr},
+   * {@code dmdSec/mdRef}, {@code digiprovMD/mdRef} and {@code rightsMD/mdRef}.
+   */
+  public MetsAttributeIndex() {
+    index("file", "FLocat");
+    index("div", "mptr");
+    index("dmdSec", "mdRef");
+    index("digiprovMD", "mdRef");
+    index("rightsMD", "mdRef");
+  }
+
+  private void index(final String section, final String element) {
+    final Map<String, String> data = new HashMap<>();
+    types.put(key(section, element), data);
+    handlers.add(new MetsHandler(section, element, data));
+  }
+
+  private static String key(final String section, final String element) {
+    return section + "/" + element;
+  }
+
+  /**
+   * Get the {@code xlink:type} of the elements inside a section.
+   *
+   * @param section
+   *          the {@link String} with the section
+   * @param element
+   *          the {@link String} with the element
+   * @return {@link Map} with the {@code xlink:type} per ID or
+   *         {@code xlink:href}.
+   */
+  public Map<String, String> getXlinkTypes(final String section, final String element) {
+    final Map<String, String> data = types.get(key(section, element));
+    if (data == null) {
+      throw new IllegalArgumentException("The METS index doesn't include " + key(section, element));
+    }
+    return data;
+  }
+
+  /**
+   * Get the {@link MetsFileTable} with the files of the file section.
+   *
+   * @return the {@link MetsFileTable}.
+   */
+  public MetsFileTable getFileTable() {
+    return fileTable;
+  }
+
+  @Override
+  public void startDocument() {
+    fileTable.startDocument();
+  }
+
+  @Override
+  public void endDocument() {
+    fileTable.endDocument();
+  }
+
+  @Override
+  public void startElement(final String uri, final String localName, final String qName, final Attributes attributes) {
+    for (MetsHandler handler : handlers) {
+      handler.startElement(uri, localName, qName, attributes);
+    }
+    fileTable.startElement(uri, localName, qName, attributes);
+  }
+
+  @Override
+  public void endElement(final String uri, final String localName, final String qName) throws SAXException {
+    for (MetsHandler handler : handlers) {
+      handler.endElement(uri, localName, qName);
+    }
+    fileTable.endElement(uri, localName, qName);
+  }
+}
@@ -0,0 +1,508 @@
+package org.roda_project.commons_ip2.validator.handlers;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.xml.sax.Attributes;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * Read-only projection of the {@code mets/fileSec/fileGrp/file} elements of a
+ * METS file, one column per attribute, so the per-file checks walk a few arrays
+ * instead of navigating the JAXB object graph.
+ *
+ * <p>
+ * Only the files directly inside the groups of the file section are projected,
+ * in document order, with the {@code FLocat} elements of each file. The files
+ * of the group at position {@code g} of {@code getFileSec().getFileGrp()} are
+ * the ones from {@link #getGroupStart(int)} to {@link #getGroupEnd(int)}. The
+ * files nested in a projected file are only recorded by {@code ID}, see
+ * {@link #getNestedFileId(int)}.
+ * </p>
+ *
+ * <p>
+ * The table is filled while the METS file is unmarshalled, see
+ * {@link MetsAttributeIndex}, and replaces the {@code file} elements of the
+ * groups, which {@code InstatiateMets} drops once the METS file is unmarshalled
+ * so the heap used per file is a few references instead of the
+ * {@code FileType} objects.
+ * </p>
+ */
+public class MetsFileTable extends DefaultHandler {
+  private static final String METS = "http://www.loc.gov/METS/";
+  private static final String XLINK = "http://www.w3.org/1999/xlink";
+  private static final String SIP_EXTENSION = "https://DILCIS.eu/XML/METS/SIPExtensionMETS";
+  private static final int INITIAL_CAPACITY = 64;
+
+  private static final byte SIZE = 1;
+  private static final byte CREATED = 1 << 1;
+  private static final byte OWNERID = 1 << 2;
+  private static final byte FILEFORMATNAME = 1 << 3;
+  private static final byte FILEFORMATVERSION = 1 << 4;
+  private static final byte FORMATREGISTRY = 1 << 5;
+  private static final byte FORMATREGISTRYKEY = 1 << 6;
+
+  private int size;
+  private String[] ids = new String[INITIAL_CAPACITY];
+  private String[] mimeTypes = new String[INITIAL_CAPACITY];
+  private long[] sizes = new long[INITIAL_CAPACITY];
+  private String[] checksums = new String[INITIAL_CAPACITY];
+  private String[] checksumTypes = new String[INITIAL_CAPACITY];
+  private String[] admIds = new String[INITIAL_CAPACITY];
+  private String[] dmdIds = new String[INITIAL_CAPACITY];
+  private byte[] flags = new byte[INITIAL_CAPACITY];
+  /**
+   * Index of the first location of each file, the locations of a file ending
+   * where the ones of the next file start.
+   */
+  private int[] locationStarts = new int[INITIAL_CAPACITY];
+
+  private int locationCount;
+  private String[] locationHrefs = new String[INITIAL_CAPACITY];
+  private String[] locationTypes = new String[INITIAL_CAPACITY];
+
+  private int groupCount;
+  /**
+   * Index of the first file of each group, the files of a group ending where the
+   * ones of the next group start.
+   */
+  private int[] groupStarts = new int[INITIAL_CAPACITY];
+
+  private int nestedCount;
+  private String[] nestedIds = new String[0];
+
+  /**
+   * Depth of the current element, the root element being at depth 1.
+   */
+  private int depth;
+  /**
+   * Depth of the {@code fileSec} element, 0 outside of it.
+   */
+  private int fileSecDepth;
+  /**
+   * Depth of the current projected file, 0 outside of it.
+   */
+  private int fileDepth;
+
+  /**
+   * Get the number of files.
+   *
+   * @return the number of files.
+   */
+  public int getFileCount() {
+    return size;
+  }
+
+  /**
+   * Get the number of groups of the file section.
+   *
+   * @return the number of groups.
+   */
+  public int getGroupCount() {
+    return groupCount;
+  }
+
+  /**
+   * Get the index of the first file of a group.
+   *
+   * @param group
+   *          the index of the group in the file section
+   * @return the index of the first file.
+   */
+  public int getGroupStart(final int group) {
+    return groupStarts[checkIndex(group, groupCount)];
+  }
+
+  /**
+   * Get the index after the last file of a group.
+   *
+   * @param group
+   *          the index of the group in the file section
+   * @return the index after the last file, equal to
+   *         {@link #getGroupStart(int)} if the group has no files.
+   */
+  public int getGroupEnd(final int group) {
+    return checkIndex(group, groupCount) + 1 < groupCount ? groupStarts[group + 1] : size;
+  }
+
+  /**
+   * Get the {@code ID} of a file.
+   *
+   * @param index
+   *          the index of the file
+   * @return the {@code ID} or {@code null} if not defined.
+   */
+  public String getId(final int index) {
+    return ids[checkIndex(index, size)];
+  }
+
+  /**
+   * Get the {@code MIMETYPE} of a file.
+   *
+   * @param index
+   *          the index of the file
+   * @return the {@code MIMETYPE} or {@code null} if not defined.
+   */
+  public String getMimeType(final int index) {
+    return mimeTypes[checkIndex(index, size)];
+  }
+
+  /**
+   * Check if a file has a {@code SIZE}.
+   *
+   * @param index
+   *          the index of the file
+   * @return {@code true} if the {@code SIZE} is defined.
+   */
+  public boolean hasSize(final int index) {
+    return hasFlag(index, SIZE);
+  }
+
+  /**
+   * Get the {@code SIZE} of a file.
+   *
+   * @param index
+   *          the index of the file
+   * @return the {@code SIZE} or -1 if not defined.
+   */
+  public long getSize(final int index) {
+    return sizes[checkIndex(index, size)];
+  }
+
+  /**
+   * Check if a file has a {@code CREATED} date.
+   *
+   * @param index
+   *          the index of the file
+   * @return {@code true} if the {@code CREATED} is defined.
+   */
+  public boolean hasCreated(final int index) {
+    return hasFlag(index, CREATED);
+  }
+
+  /**
+   * Check if a file has an {@code OWNERID}.
+   *
+   * @param index
+   *          the index of the file
+   * @return {@code true} if the {@code OWNERID} is defined.
+   */
+  public boolean hasOwnerId(final int index) {
+    return hasFlag(index, OWNERID);
+  }
+
+  /**
+   * Check if a file has a non-empty {@code sip:FILEFORMATNAME}.
+   *
+   * @param index
+   *          the index of the file
+   * @return {@code true} if the {@code sip:FILEFORMATNAME} is defined and not
+   *         empty.
+   */
+  public boolean hasFileFormatName(final int index) {
+    return hasFlag(index, FILEFORMATNAME);
+  }
+
+  /**
+   * Check if a file has a non-empty {@code sip:FILEFORMATVERSION}.
+   *
+   * @param index
+   *          the index of the file
+   * @return {@code true} if the {@code sip:FILEFORMATVERSION} is defined and not
+   *         empty.
+   */
+  public boolean hasFileFormatVersion(final int index) {
+    return hasFlag(index, FILEFORMATVERSION);
+  }
+
+  /**
+   * Check if a file has a non-empty {@code sip:FORMATREGISTRY}.
+   *
+   * @param index
+   *          the index of the file
+   * @return {@code true} if the {@code sip:FORMATREGISTRY} is defined and not
+   *         empty.
+   */
+  public boolean hasFormatRegistry(final int index) {
+    return hasFlag(index, FORMATREGISTRY);
+  }
+
+  /**
+   * Check if a file has a non-empty {@code sip:FORMATREGISTRYKEY}.
+   *
+   * @param index
+   *          the index of the file
+   * @return {@code true} if the {@code sip:FORMATREGISTRYKEY} is defined and not
+   *         empty.
+   */
+  public boolean hasFormatRegistryKey(final int index) {
+    return hasFlag(index, FORMATREGISTRYKEY);
+  }
+
+  /**
+   * Get the {@code CHECKSUM} of a file.
+   *
+   * @param index
+   *          the index of the file
+   * @return the {@code CHECKSUM} or {@code null} if not defined.
+   */
+  public String getChecksum(final int index) {
+    return checksums[checkIndex(index, size)];
+  }
+
+  /**
+   * Get the {@code CHECKSUMTYPE} of a file.
+   *
+   * @param index
+   *          the index of the file
+   * @return the {@code CHECKSUMTYPE} or {@code null} if not defined.
+   */
+  public String getChecksumType(final int index) {
+    return checksumTypes[checkIndex(index, size)];
+  }
+
+  /**
+   * Get the {@code ID}s referenced by the {@code ADMID} of a file.
+   *
+   * @param index
+   *          the index of the file
+   * @return {@link List} with the {@code ID}s, empty if not defined.
+   */
+  public List<String> getAdmIds(final int index) {
+    return splitIds(admIds[checkIndex(index, size)]);
+  }
+
+  /**
+   * Get the {@code ID}s referenced by the {@code DMDID} of a file.
+   *
+   * @param index
+   *          the index of the file
+   * @return {@link List} with the {@code ID}s, empty if not defined.
+   */
+  public List<String> getDmdIds(final int index) {
+    return splitIds(dmdIds[checkIndex(index, size)]);
+  }
+
+  /**
+   * Get the number of {@code FLocat} of a file.
+   *
+   * @param index
+   *          the index of the file
+   * @return the number of {@code FLocat}.
+   */
+  public int getLocationCount(final int index) {
+    return locationEnd(index) - locationStarts[index];
+  }
+
+  /**
+   * Get the {@code xlink:href} of a {@code FLocat} of a file.
+   *
+   * @param index
+   *          the index of the file
+   * @param location
+   *          the index of the {@code FLocat} in the file
+   * @return the {@code xlink:href} or {@code null} if not defined.
+   */
+  public String getLocationHref(final int index, final int location) {
+    return locationHrefs[locationIndex(index, location)];
+  }
+
+  /**
+   * Get the {@code LOCTYPE} of a {@code FLocat} of a file.
+   *
+   * @param index
+   *          the index of the file
+   * @param location
+   *          the index of the {@code FLocat} in the file
+   * @return the {@code LOCTYPE} or {@code null} if not defined.
+   */
+  public String getLocationType(final int index, final int location) {
+    return locationTypes[locationIndex(index, location)];
+  }
+
+  /**
+   * Get the {@code xlink:href} of the first {@code FLocat} of a file.
+   *
+   * @param index
+   *          the index of the file
+   * @return the {@code xlink:href} or {@code null} if the file has no
+   *         {@code FLocat} or it has no {@code xlink:href}.
+   */
+  public String getHref(final int index) {
+    return getLocationCount(index) > 0 ? locationHrefs[locationStarts[index]] : null;
+  }
+
+  /**
+   * Get the number of files nested in the projected files.
+   *
+   * @return the number of nested files.
+   */
+  public int getNestedFileCount() {
+    return nestedCount;
+  }
+
+  /**
+   * Get the {@code ID} of a file nested in a projected file.
+   *
+   * @param index
+   *          the index of the nested file
+   * @return the {@code ID} or {@code null} if not defined.
+   */
+  public String getNestedFileId(final int index) {
+    return nestedIds[checkIndex(index, nestedCount)];
+  }
+
+  private boolean hasFlag(final int index, final byte flag) {
+    return (flags[checkIndex(index, size)] & flag) != 0;
+  }
+
+  private int locationEnd(final int index) {
+    return checkIndex(index, size) + 1 < size ? locationStarts[index + 1] : locationCount;
+  }
+
+  private int locationIndex(final int index, final int location) {
+    return locationStarts[index] + checkIndex(location, getLocationCount(index));
+  }
+
+  private static int checkIndex(final int index, final int length) {
+    if (index < 0 || index >= length) {
+      throw new IndexOutOfBoundsException(index);
+    }
+    return index;
+  }
+
+  private static List<String> splitIds(final String value) {
+    if (value == null || value.isBlank()) {
+      return Collections.emptyList();
+    }
+    return Arrays.asList(value.trim().split("\\s+"));
+  }
+
+  @Override
+  public void startDocument() {
+    size = 0;
+    locationCount = 0;
+    groupCount = 0;
+    nestedCount = 0;
+    depth = 0;
+    fileSecDepth = 0;
+    fileDepth = 0;
+  }
+
+  @Override
+  public void startElement(final String uri, final String localName, final String qName, final Attributes attributes) {
+    depth++;
+    if (fileSecDepth == 0) {
+      if ("fileSec".equals(localName)) {
+        fileSecDepth = depth;
+      }
+    } else if (depth == fileSecDepth + 1 && "fileGrp".equals(localName)) {
+      addGroup();
+    } else if (depth == fileSecDepth + 2 && "file".equals(localName)) {
+      addFile(attributes);
+      fileDepth = depth;
+    } else if (fileDepth != 0 && depth == fileDepth + 1 && "FLocat".equals(localName)) {
+      addLocation(attributes);
+    } else if (fileDepth != 0 && "file".equals(localName) && METS.equals(uri)) {
+      addNestedFile(attributes);
+    }
+  }
+
+  private void addGroup() {
+    if (groupCount == groupStarts.length) {
+      groupStarts = Arrays.copyOf(groupStarts, Math.max(groupCount * 2, INITIAL_CAPACITY));
+    }
+    groupStarts[groupCount++] = size;
+  }
+
+  private void addFile(final Attributes attributes) {
+    if (size == ids.length) {
+      resize(Math.max(size * 2, INITIAL_CAPACITY));
+    }
+    ids[size] = trim(attributes.getValue("ID"));
+    mimeTypes[size] = attributes.getValue("MIMETYPE");
+    final String fileSize = attributes.getValue("SIZE");
+    sizes[size] = fileSize != null ? parseSize(fileSize) : -1;
+    checksums[size] = attributes.getValue("CHECKSUM");
+    checksumTypes[size] = attributes.getValue("CHECKSUMTYPE");
+    admIds[size] = attributes.getValue("ADMID");
+    dmdIds[size] = attributes.getValue("DMDID");
+    byte fileFlags = 0;
+    fileFlags |= fileSize != null ? SIZE : 0;
+    fileFlags |= attributes.getValue("CREATED") != null ? CREATED : 0;
+    fileFlags |= attributes.getValue("OWNERID") != null ? OWNERID : 0;
+    fileFlags |= isNotEmpty(attributes.getValue(SIP_EXTENSION, "FILEFORMATNAME")) ? FILEFORMATNAME : 0;
+    fileFlags |= isNotEmpty(attributes.getValue(SIP_EXTENSION, "FILEFORMATVERSION")) ? FILEFORMATVERSION : 0;
+    fileFlags |= isNotEmpty(attributes.getValue(SIP_EXTENSION, "FORMATREGISTRY")) ? FORMATREGISTRY : 0;
+    fileFlags |= isNotEmpty(attributes.getValue(SIP_EXTENSION, "FORMATREGISTRYKEY")) ? FORMATREGISTRYKEY : 0;
+    flags[size] = fileFlags;
+    locationStarts[size] = locationCount;
+    size++;
+  }
+
+  private void addLocation(final Attributes attributes) {
+    if (locationCount == locationHrefs.length) {
+      final int capacity = Math.max(locationCount * 2, INITIAL_CAPACITY);
+      locationHrefs = Arrays.copyOf(locationHrefs, capacity);
+      locationTypes = Arrays.copyOf(locationTypes, capacity);
+    }
+    locationHrefs[locationCount] = attributes.getValue(XLINK, "href");
+    locationTypes[locationCount] = attributes.getValue("LOCTYPE");
+    locationCount++;
+  }
+
+  private void addNestedFile(final Attributes attributes) {
+    if (nestedCount == nestedIds.length) {
+      nestedIds = Arrays.copyOf(nestedIds, Math.max(nestedCount * 2, INITIAL_CAPACITY));
+    }
+    nestedIds[nestedCount++] = trim(attributes.getValue("ID"));
+  }
+
+  private static String trim(final String value) {
+    return value != null ? value.trim() : null;
+  }
+
+  private static boolean isNotEmpty(final String value) {
+    return value != null && !value.isEmpty();
+  }
+
+  private static long parseSize(final String fileSize) {
+    try {
+      return Long.parseLong(fileSize.trim());
+    } catch (NumberFormatException e) {
+      return -1;
+    }
+  }
+
+  private void resize(final int capacity) {
+    ids = Arrays.copyOf(ids, capacity);
+    mimeTypes = Arrays.copyOf(mimeTypes, capacity);
+    sizes = Arrays.copyOf(sizes, capacity);
+    checksums = Arrays.copyOf(checksums, capacity);
+    checksumTypes = Arrays.copyOf(checksumTypes, capacity);
+    admIds = Arrays.copyOf(admIds, capacity);
+    dmdIds = Arrays.copyOf(dmdIds, capacity);
+    flags = Arrays.copyOf(flags, capacity);
+    locationStarts = Arrays.copyOf(locationStarts, capacity);
+  }
+
+  @Override
+  public void endElement(final String uri, final String localName, final String qName) {
+    if (depth == fileSecDepth) {
+      fileSecDepth = 0;
+    } else if (depth == fileDepth) {
+      fileDepth = 0;
+    }
+    depth--;
+  }
+
+  @Override
+  public void endDocument() {
+    resize(size);
+    locationHrefs = Arrays.copyOf(locationHrefs, locationCount);
+    locationTypes = Arrays.copyOf(locationTypes, locationCount);
+    groupStarts = Arrays.copyOf(groupStarts, groupCount);
+    nestedIds = Arrays.copyOf(nestedIds, nestedCount);
+  }
+}
@@ -0,0 +1,355 @@
+package org.roda_project.commons_ip2.validator.reporter;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.roda_project.commons_ip2.utils.Utils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps the issues of the results of a report out of the heap.
+ *
+ * <p>
+ * The issues of each requirement are appended to their own segment file once
+ * more than {@value #BUFFERED_ISSUES} are buffered, and are read back, in the
+ * same order, when the report is written. Optionally only the first issues of
+ * each requirement are kept, the report telling how many more were found.
+ * </p>
+ *
+ * <p>
+ * Reports use an {@link IssueSpool} when the {@value #SPOOL_PROPERTY} or the
+ * {@value #MAX_ISSUES_PROPERTY} system properties are set, see
+ * {@link #fromSystemProperties()}.
+ * </p>
+ */
+public class IssueSpool implements Closeable {
+  private static final Logger LOGGER = LoggerFactory.getLogger(IssueSpool.class);
+
+  /**
+   * System property to spool the issues to temporary files.
+   */
+  public static final String SPOOL_PROPERTY = "validationReportSpoolIssues";
+  /**
+   * System property with the maximum number of issues reported per requirement.
+   */
+  public static final String MAX_ISSUES_PROPERTY = "validationReportMaxIssues";
+
+  /**
+   * Number of issues of a requirement kept in the heap before appending them to
+   * its segment.
+   */
+  private static final int BUFFERED_ISSUES = 1024;
+
+  /**
+   * The directory of the segments, {@code null} to keep the issues in the heap.
+   */
+  private final Path parent;
+  private final int maxIssues;
+  private Path directory;
+  private int segments;
+
+  /**
+   * Creates an {@link IssueSpool}.
+   *
+   * @param parent
+   *          the {@link Path} to the directory where the segments are created,
+   *          or {@code null} to keep the issues in the heap
+   * @param maxIssues
+   *          the maximum number of issues per requirement, or a negative value
+   *          for no limit
+   */
+  public IssueSpool(final Path parent, final int maxIssues) {
+    this.parent = parent;
+    this.maxIssues = maxIssues < 0 ? Integer.MAX_VALUE : maxIssues;
+  }
+
+  /**
+   * Creates an {@link IssueSpool} configured from the system properties.
+   *
+   * @return the {@link IssueSpool} or {@code null} if none of the properties is
+   *         set.
+   */
+  public static IssueSpool fromSystemProperties() {
+    final boolean spool = Boolean.getBoolean(SPOOL_PROPERTY);
+    final int maxIssues = Integer.getInteger(MAX_ISSUES_PROPERTY, -1);
+    if (!spool && maxIssues < 0) {
+      return null;
+    }
+    return new IssueSpool(spool ? Path.of(System.getProperty("java.io.tmpdir")) : null, maxIssues);
+  }
+
+  /**
+   * Creates a {@link Map} of results, sorted by requirement, whose
+   * {@link ReporterDetails} keep their issues in this spool.
+   *
+   * @return the {@link Map} of results.
+   */
+  public Map<String, ReporterDetails> newResults() {
+    return new SpooledResults();
+  }
+
+  /**
+   * Get the maximum number of issues reported per requirement.
+   *
+   * @return the maximum, {@link Integer#MAX_VALUE} if there's no limit.
+   */
+  public int getMaxIssues() {
+    return maxIssues;
+  }
+
+  private synchronized Path newSegment() throws IOException {
+    if (directory == null) {
+      directory = Files.createTempDirectory(parent, "validation-issues");
+    }
+    return directory.resolve(String.valueOf(segments++));
+  }
+
+  private static void write(final DataOutputStream out, final String issue) throws IOException {
+    if (issue == null) {
+      out.writeInt(-1);
+    } else {
+      final byte[] bytes = issue.getBytes(StandardCharsets.UTF_8);
+      out.writeInt(bytes.length);
+      out.write(bytes);
+    }
+  }
+
+  private static String read(final DataInputStream in) throws IOException {
+    final int length = in.readInt();
+    if (length < 0) {
+      return null;
+    }
+    final byte[] bytes = new byte[length];
+    in.readFully(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  /** Deletes the segments. */
+  @Override
+  public synchronized void close() {
+    if (directory != null) {
+      try {
+        Utils.deletePath(directory);
+      } catch (IOException e) {
+        LOGGER.debug("Unable to delete the issues spooled in {}", directory, e);
+      }
+      directory = null;
+    }
+  }
+
+  /**
+   * Results sorted with the {@link RequirementsComparator}, storing a copy of
+   * each {@link ReporterDetails} put with its issues in a
+   * {@link SpooledIssues}.
+   */
+  private final class SpooledResults extends AbstractMap<String, ReporterDetails> {
+    private final TreeMap<String, ReporterDetails> results = new TreeMap<>(new RequirementsComparator());
+
+    @Override
+    public ReporterDetails put(final String key, final ReporterDetails value) {
+      return results.put(key, new ReporterDetails(value, new SpooledIssues()));
+    }
+
+    @Override
+    public ReporterDetails get(final Object key) {
+      return results.get(key);
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+      return results.containsKey(key);
+    }
+
+    @Override
+    public ReporterDetails remove(final Object key) {
+      return results.remove(key);
+    }
+
+    @Override
+    public int size() {
+      return results.size();
+    }
+
+    @Override
+    public Set<Entry<String, ReporterDetails>> entrySet() {
+      return results.entrySet();
+    }
+  }
+
+  /**
+   * Issues of a requirement of which some were left out, an issue saying how
+   * many being listed last.
+   */
+  private abstract static class LimitedIssues extends AbstractList<String> {
+    protected long omitted;
+
+    /**
+     * Adds the issues of other {@link List}, counting the ones it left out.
+     */
+    @Override
+    public boolean addAll(final Collection<? extends String> issues) {
+      if (issues instanceof LimitedIssues limited && limited.omitted > 0) {
+        for (String issue : limited.subList(0, limited.size() - 1)) {
+          add(issue);
+        }
+        omitted += limited.omitted;
+      } else {
+        for (String issue : issues) {
+          add(issue);
+        }
+      }
+      return !issues.isEmpty();
+    }
+
+    protected String getOmittedIssue() {
+      return omitted + " more issues were found but not reported";
+    }
+  }
+
+  /**
+   * Issues of a requirement, the first ones in its segment and the last ones in
+   * the heap. The issues over the limit are only counted, an issue saying how
+   * many were left out being listed last.
+   */
+  private final class SpooledIssues extends LimitedIssues {
+    private final List<String> buffer = new ArrayList<>();
+    /**
+     * The offset in the segment of each batch of {@value #BUFFERED_ISSUES}
+     * spooled issues.
+     */
+    private final List<Long> batches = new ArrayList<>();
+    private Path segment;
+    private int spooled;
+
+    @Override
+    public boolean add(final String issue) {
+      if (spooled + buffer.size() >= maxIssues) {
+        omitted++;
+        return true;
+      }
+      buffer.add(issue);
+      if (parent != null && buffer.size() >= BUFFERED_ISSUES) {
+        spool();
+      }
+      return true;
+    }
+
+    private void spool() {
+      try {
+        if (segment == null) {
+          segment = newSegment();
+        }
+        batches.add(Files.exists(segment) ? Files.size(segment) : 0L);
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+          Files.newOutputStream(segment, StandardOpenOption.CREATE, StandardOpenOption.APPEND)))) {
+          for (String issue : buffer) {
+            write(out, issue);
+          }
+        }
+        spooled += buffer.size();
+        buffer.clear();
+      } catch (IOException e) {
+        throw new UncheckedIOException("Unable to spool the issues of the report", e);
+      }
+    }
+
+    /**
+     * Reads spooled issues, seeking to the batch of the first one, so at most a
+     * batch is read to get any issue and no file is left open.
+     */
+    private List<String> readSpooled(final int from, final int count) {
+      final List<String> issues = new ArrayList<>(count);
+      try (SeekableByteChannel channel = Files.newByteChannel(segment)) {
+        channel.position(batches.get(from / BUFFERED_ISSUES));
+        final DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+        for (int i = from % BUFFERED_ISSUES; i > 0; i--) {
+          in.skipNBytes(Math.max(in.readInt(), 0));
+        }
+        for (int i = 0; i < count; i++) {
+          issues.add(read(in));
+        }
+        return issues;
+      } catch (EOFException e) {
+        throw new IllegalStateException("Truncated segment of issues " + segment, e);
+      } catch (IOException e) {
+        throw new UncheckedIOException("Unable to read the spooled issues of the report", e);
+      }
+    }
+
+    @Override
+    public int size() {
+      return spooled + buffer.size() + (omitted > 0 ? 1 : 0);
+    }
+
+    @Override
+    public String get(final int index) {
+      if (index < 0 || index >= size()) {
+        throw new IndexOutOfBoundsException(index);
+      }
+      if (index >= spooled) {
+        return index < spooled + buffer.size() ? buffer.get(index - spooled) : getOmittedIssue();
+      }
+      return readSpooled(index, 1).get(0);
+    }
+
+    /**
+     * Iterates over the issues reading the spooled ones a batch at a time, so
+     * it holds no open file if the iteration stops early.
+     */
+    @Override
+    public Iterator<String> iterator() {
+      return new Iterator<>() {
+        private final int total = size();
+        private List<String> batch = new ArrayList<>();
+        private int batchStart;
+        private int next;
+
+        @Override
+        public boolean hasNext() {
+          return next < total;
+        }
+
+        @Override
+        public String next() {
+          if (!hasNext()) {
+            throw new NoSuchElementException();
+          }
+          final int index = next++;
+          if (index < spooled) {
+            if (index >= batchStart + batch.size()) {
+              batchStart = index;
+              batch = readSpooled(index, Math.min(BUFFERED_ISSUES - index % BUFFERED_ISSUES, spooled - index));
+            }
+            return batch.get(index - batchStart);
+          } else if (index < spooled + buffer.size()) {
+            return buffer.get(index - spooled);
+          }
+          return getOmittedIssue();
+        }
+      };
+    }
+  }
+}
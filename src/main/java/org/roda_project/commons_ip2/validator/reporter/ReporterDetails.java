@@ -85,6 +85,24 @@ public class ReporterDetails {
     this(clone.getSpecification(), clone.getIssues(), clone.isValid(), clone.isSkipped());
   }
 
+  /**
+   * Copy Constructor {@link ReporterDetails} keeping the issues in the given
+   * {@link List}.
+   *
+   * @param source
+   *          {@link ReporterDetails}
+   * @param issues
+   *          the empty {@link List} where the issues are kept
+   */
+  ReporterDetails(final ReporterDetails source, final List<String> issues) {
+    this.detail = source.getDetail();
+    this.specification = source.getSpecification();
+    this.valid = source.isValid();
+    this.skipped = source.isSkipped();
+    this.issues = issues;
+    this.issues.addAll(source.getIssues());
+  }
+
   /**
    * Clone this constructor.
    * 
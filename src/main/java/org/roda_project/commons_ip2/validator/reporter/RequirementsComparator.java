@@ -2,6 +2,8 @@ package org.roda_project.commons_ip2.validator.reporter;
 
 import java.util.Comparator;
 
+import org.roda_project.commons_ip2.validator.constants.RequirementRegistry;
+
 /** {@author João Gomes <jgomes@keep.pt>}. */
 public class RequirementsComparator implements Comparator<String> {
   private int compareInt(final int c1, final int c2) {
@@ -16,24 +18,7 @@ public class RequirementsComparator implements Comparator<String> {
   }
 
   private int calculateWeight(final String o) {
-    int c;
-
-    if (o.startsWith("CSIPSTR")) {
-      c = 1000;
-      c += Integer.parseInt(o.substring("CSIPSTR".length()));
-    } else if (o.startsWith("CSIP")) {
-      c = 2000;
-      c += Integer.parseInt(o.substring("CSIP".length()));
-    } else if (o.startsWith("SIP")) {
-      c = 4000;
-      c += Integer.parseInt(o.substring("SIP".length()));
-    } else if (o.startsWith("AIP")) {
-      c = 4000;
-      c += Integer.parseInt(o.substring("AIP".length()));
-    } else {
-      c = 9000;
-    }
-    return c;
+    return RequirementRegistry.getWeight(o);
   }
 
   @Override
@@ -31,7 +31,11 @@ public class ValidationReportOutputJSONPyIP {
   /**
    * The {@link Map} of results.
    */
-  private final Map<String, ReporterDetails> results = new TreeMap<>(new RequirementsComparator());
+  private final Map<String, ReporterDetails> results;
+  /**
+   * {@link IssueSpool} keeping the issues of the results, if any.
+   */
+  private final IssueSpool issueSpool = IssueSpool.fromSystemProperties();
   /**
    * The IP type.
    */
@@ -52,6 +56,7 @@ public class ValidationReportOutputJSONPyIP {
   public ValidationReportOutputJSONPyIP(final Path path, final Path sipPath) {
     this.sipPath = sipPath;
     this.reportPath = path;
+    this.results = issueSpool != null ? issueSpool.newResults() : new TreeMap<>(new RequirementsComparator());
   }
 
   public void setIpType(final String ipType) {
@@ -75,8 +80,14 @@ public class ValidationReportOutputJSONPyIP {
    *           if the Cryptographic algorithm is not available
    */
   public void writeReport() throws IOException, NoSuchAlgorithmException {
-    validationReport = PyIPUtils.createValidationReport(sipPath.getFileName().toString(), ipType,
-      ChecksumAlg.SHA1.toString(), sipPath.toString(), results);
+    try {
+      validationReport = PyIPUtils.createValidationReport(sipPath.getFileName().toString(), ipType,
+        ChecksumAlg.SHA1.toString(), sipPath.toString(), results);
+    } finally {
+      if (issueSpool != null) {
+        issueSpool.close();
+      }
+    }
 
     final ObjectMapper objectMapper = new ObjectMapper();
 
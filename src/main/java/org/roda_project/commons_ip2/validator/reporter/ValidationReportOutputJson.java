@@ -1,22 +1,26 @@
 package org.roda_project.commons_ip2.validator.reporter;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
 
+import org.apache.commons.io.output.TeeOutputStream;
 import org.roda_project.commons_ip2.validator.constants.Constants;
-import org.roda_project.commons_ip2.validator.constants.ConstantsAIPspec;
 import org.roda_project.commons_ip2.validator.constants.ConstantsCSIPspec;
-import org.roda_project.commons_ip2.validator.constants.ConstantsSIPspec;
+import org.roda_project.commons_ip2.validator.constants.Requirement;
+import org.roda_project.commons_ip2.validator.constants.RequirementRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.fasterxml.jackson.core.JsonEncoding;
 import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 /** {@author João Gomes <jgomes@keep.pt>}. */
 public class ValidationReportOutputJson {
@@ -61,11 +65,19 @@ public class ValidationReportOutputJson {
   /**
    * {@link Map} with the results.
    */
-  private Map<String, ReporterDetails> results = new TreeMap<>(new RequirementsComparator());
+  private final Map<String, ReporterDetails> results;
+  /**
+   * {@link IssueSpool} keeping the issues of the results, if any.
+   */
+  private final IssueSpool issueSpool;
   /**
    * {@link String}.
    */
   private String ipType = "";
+  /**
+   * {@link Map} with the checksums of the extra algorithms, per file.
+   */
+  private final Map<String, Map<String, String>> checksums = new TreeMap<>();
 
   /**
    * The public constructor that sets the {@link Path} and the
@@ -77,8 +89,26 @@ public class ValidationReportOutputJson {
    *          {@link OutputStream}.
    */
   public ValidationReportOutputJson(final Path sipPath, final OutputStream outputStream) {
+    this(sipPath, outputStream, IssueSpool.fromSystemProperties());
+  }
+
+  /**
+   * The public constructor that sets the {@link Path}, the {@link OutputStream}
+   * and the {@link IssueSpool} keeping the issues until they are written.
+   *
+   * @param sipPath
+   *          {@link Path}.
+   * @param outputStream
+   *          {@link OutputStream}.
+   * @param issueSpool
+   *          {@link IssueSpool} or {@code null} to keep the issues in the heap.
+   */
+  public ValidationReportOutputJson(final Path sipPath, final OutputStream outputStream,
+    final IssueSpool issueSpool) {
     this.sipPath = sipPath;
     this.outputStream = outputStream;
+    this.issueSpool = issueSpool;
+    this.results = issueSpool != null ? issueSpool.newResults() : new TreeMap<>(new RequirementsComparator());
   }
 
   public int getSuccess() {
@@ -109,10 +139,45 @@ public class ValidationReportOutputJson {
     return results;
   }
 
+  public Map<String, Map<String, String>> getChecksums() {
+    return checksums;
+  }
+
+  /**
+   * Adds checksums computed with the extra algorithms, written after the summary
+   * of the report.
+   *
+   * @param fileChecksums
+   *          {@link Map} of checksum per algorithm, per file
+   */
+  public void addChecksums(final Map<String, Map<String, String>> fileChecksums) {
+    checksums.putAll(fileChecksums);
+  }
+
   public void setIpType(final String ipType) {
     this.ipType = ipType;
   }
 
+  /**
+   * Get the maximum number of issues reported per requirement.
+   *
+   * @return the maximum, {@link Integer#MAX_VALUE} if there's no limit.
+   */
+  public int getMaxIssues() {
+    return issueSpool != null ? issueSpool.getMaxIssues() : Integer.MAX_VALUE;
+  }
+
+  /**
+   * Writes a copy of the report to other {@link OutputStream}, closed with the
+   * report. It must be set before {@link #init(String)}.
+   *
+   * @param copy
+   *          {@link OutputStream}.
+   */
+  public void copyReportTo(final OutputStream copy) {
+    this.outputStream = new TeeOutputStream(this.outputStream, copy);
+  }
+
   /**
    * Initializes the json report.
    *
@@ -176,6 +241,77 @@ public class ValidationReportOutputJson {
     jsonGenerator.writeStartArray();
   }
 
+  /**
+   * Writes the report of a previous validation of the same IP instead of the
+   * results: a new header followed by the results, summary and checksums
+   * streamed from the previous report, whose summary sets the counters.
+   *
+   * @param version
+   *          the CSIP version.
+   * @param previousReport
+   *          {@link InputStream} of the previous report.
+   * @throws IOException
+   *           if some I/O error occurs or the previous report isn't complete.
+   */
+  public void writePreviousReport(final String version, final InputStream previousReport) throws IOException {
+    init(version);
+    boolean results = false;
+    try (JsonParser parser = new JsonFactory().createParser(previousReport)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new IOException("The previous report of " + sipPath + " isn't a report");
+      }
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        final String field = parser.getCurrentName();
+        parser.nextToken();
+        if (Constants.VALIDATION_REPORT_SPECIFICATION_KEY_VALIDATION.equals(field)) {
+          // the validation array was started by init
+          while (parser.nextToken() == JsonToken.START_OBJECT) {
+            jsonGenerator.copyCurrentStructure(parser);
+          }
+          jsonGenerator.writeEndArray();
+          results = true;
+        } else if (!results) {
+          // the header was written by init
+          parser.skipChildren();
+        } else if (Constants.VALIDATION_REPORT_SPECIFICATION_KEY_SUMMARY.equals(field)) {
+          jsonGenerator.writeFieldName(field);
+          copySummary(parser);
+        } else {
+          jsonGenerator.writeFieldName(field);
+          jsonGenerator.copyCurrentStructure(parser);
+        }
+      }
+      if (!results || parser.currentToken() != JsonToken.END_OBJECT) {
+        throw new IOException("The previous report of " + sipPath + " isn't complete");
+      }
+    }
+    jsonGenerator.writeEndObject();
+  }
+
+  private void copySummary(final JsonParser parser) throws IOException {
+    jsonGenerator.writeStartObject();
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      final String field = parser.getCurrentName();
+      jsonGenerator.writeFieldName(field);
+      if (parser.nextToken() == JsonToken.VALUE_NUMBER_INT) {
+        final int value = parser.getIntValue();
+        if (Constants.VALIDATION_REPORT_SPECIFICATION_KEY_SUCCESS.equals(field)) {
+          success = value;
+        } else if (Constants.VALIDATION_REPORT_SPECIFICATION_KEY_WARNINGS.equals(field)) {
+          warnings = value;
+        } else if (Constants.VALIDATION_REPORT_SPECIFICATION_KEY_ERRORS.equals(field)) {
+          errors = value;
+        } else if (Constants.VALIDATION_REPORT_SPECIFICATION_KEY_SKIPPED.equals(field)) {
+          skipped = value;
+        } else if (Constants.VALIDATION_REPORT_SPECIFICATION_KEY_NOTES.equals(field)) {
+          notes = value;
+        }
+      }
+      jsonGenerator.copyCurrentStructure(parser);
+    }
+    jsonGenerator.writeEndObject();
+  }
+
   /**
    * Write the result json object in the json array of the report.
    *
@@ -193,22 +329,12 @@ public class ValidationReportOutputJson {
   public void componentValidationResult(final String specification, final String id, final String status,
     final List<String> issues, final String detail) {
     try {
-      String level = null;
-      if (id.startsWith(Constants.ID_TYPE_CSIP)) {
-        level = ConstantsCSIPspec.getSpecificationLevel(id);
-      } else {
-        if (id.startsWith(Constants.ID_TYPE_SIP)) {
-          level = ConstantsSIPspec.getSpecificationLevel(id);
-        } else {
-          if (id.startsWith(Constants.ID_TYPE_AIP)) {
-            level = ConstantsAIPspec.getSpecificationLevel(id);
-          }
-        }
-      }
+      final Requirement requirement = RequirementRegistry.forSpecification(specification).get(id);
+      final String level = requirement != null ? requirement.getLevel() : ConstantsCSIPspec.NOT_DEFINED;
       jsonGenerator.writeStartObject();
       jsonGenerator.writeStringField(Constants.VALIDATION_REPORT_SPECIFICATION_KEY_SPECIFICATION, specification);
       jsonGenerator.writeStringField(Constants.VALIDATION_REPORT_KEY_ID, id);
-      writeSpecificationDetails(id, specification);
+      writeSpecificationDetails(requirement);
       jsonGenerator.writeFieldName(Constants.VALIDATION_REPORT_SPECIFICATION_KEY_TESTING);
       jsonGenerator.writeStartObject();
       jsonGenerator.writeObjectField(Constants.VALIDATION_REPORT_SPECIFICATION_KEY_TESTING_OUTCOME, status);
@@ -243,6 +369,19 @@ public class ValidationReportOutputJson {
       jsonGenerator.writeNumberField(Constants.VALIDATION_REPORT_SPECIFICATION_KEY_NOTES, notes);
       jsonGenerator.writeStringField(Constants.VALIDATION_REPORT_SPECIFICATION_KEY_RESULT, status);
       jsonGenerator.writeEndObject();
+      if (!checksums.isEmpty()) {
+        jsonGenerator.writeFieldName(Constants.VALIDATION_REPORT_SPECIFICATION_KEY_CHECKSUMS);
+        jsonGenerator.writeStartObject();
+        for (Map.Entry<String, Map<String, String>> file : checksums.entrySet()) {
+          jsonGenerator.writeFieldName(file.getKey());
+          jsonGenerator.writeStartObject();
+          for (Map.Entry<String, String> checksum : file.getValue().entrySet()) {
+            jsonGenerator.writeStringField(checksum.getKey(), checksum.getValue());
+          }
+          jsonGenerator.writeEndObject();
+        }
+        jsonGenerator.writeEndObject();
+      }
       jsonGenerator.writeEndObject();
     } catch (final IOException e) {
       LOGGER.error("Could not finish report!", e);
@@ -255,18 +394,8 @@ public class ValidationReportOutputJson {
       final ReporterDetails details = entry.getValue();
       final List<String> issues = details.getIssues();
       final String detail = details.getDetail();
-      String level = null;
-      if (details.getSpecification().startsWith(Constants.ID_TYPE_CSIP)) {
-        level = ConstantsCSIPspec.getSpecificationLevel(entry.getKey());
-      } else {
-        if (details.getSpecification().startsWith(Constants.ID_TYPE_SIP)) {
-          level = ConstantsSIPspec.getSpecificationLevel(entry.getKey());
-        } else {
-          if (details.getSpecification().startsWith(Constants.ID_TYPE_AIP)) {
-            level = ConstantsAIPspec.getSpecificationLevel(entry.getKey());
-          }
-        }
-      }
+      final String level = RequirementRegistry.forSpecification(details.getSpecification())
+        .getLevel(entry.getKey());
 
       if (details.isSkipped()) {
         componentValidationResult(details.getSpecification(), entry.getKey(),
@@ -302,7 +431,7 @@ public class ValidationReportOutputJson {
     }
   }
 
-  /** Close the {@link JsonGenerator} and {@link OutputStream}. */
+  /** Close the {@link JsonGenerator}, {@link OutputStream} and {@link IssueSpool}. */
   public void close() {
     try {
       if (this.outputStream != null) {
@@ -312,67 +441,23 @@ public class ValidationReportOutputJson {
     } catch (final IOException e) {
       LOGGER.debug("Unable to close validation reporter file", e);
     }
+    if (issueSpool != null) {
+      issueSpool.close();
+    }
   }
 
-  private void writeSpecificationDetails(final String id, final String specification) throws IOException {
-    String name = null;
-    String location = null;
-    String description = null;
-    String cardinality = null;
-    String level = null;
-    if (id.startsWith("CSIP")) {
-      if (specification.equals("CSIP-2.2.0")) {
-        name = org.roda_project.commons_ip2.validator.constants220.ConstantsCSIPspec.getSpecificationName(id);
-        location = org.roda_project.commons_ip2.validator.constants220.ConstantsCSIPspec.getSpecificationLocation(id);
-        description = org.roda_project.commons_ip2.validator.constants220.ConstantsCSIPspec
-          .getSpecificationDescription(id);
-        cardinality = org.roda_project.commons_ip2.validator.constants220.ConstantsCSIPspec
-          .getSpecificationCardinality(id);
-        level = org.roda_project.commons_ip2.validator.constants220.ConstantsCSIPspec.getSpecificationLevel(id);
-      } else {
-        name = ConstantsCSIPspec.getSpecificationName(id);
-        location = ConstantsCSIPspec.getSpecificationLocation(id);
-        description = ConstantsCSIPspec.getSpecificationDescription(id);
-        cardinality = ConstantsCSIPspec.getSpecificationCardinality(id);
-        level = ConstantsCSIPspec.getSpecificationLevel(id);
-      }
-    } else {
-      if (id.startsWith("SIP")) {
-        if (specification.equals("SIP-2.2.0")) {
-          name = org.roda_project.commons_ip2.validator.constants220.ConstantsSIPspec.getSpecificationName(id);
-          location = org.roda_project.commons_ip2.validator.constants220.ConstantsSIPspec.getSpecificationLocation(id);
-          description = org.roda_project.commons_ip2.validator.constants220.ConstantsSIPspec
-            .getSpecificationDescription(id);
-          cardinality = org.roda_project.commons_ip2.validator.constants220.ConstantsSIPspec
-            .getSpecificationCardinality(id);
-          level = org.roda_project.commons_ip2.validator.constants220.ConstantsSIPspec.getSpecificationLevel(id);
-        } else {
-          name = ConstantsSIPspec.getSpecificationName(id);
-          location = ConstantsSIPspec.getSpecificationLocation(id);
-          description = ConstantsSIPspec.getSpecificationDescription(id);
-          cardinality = ConstantsSIPspec.getSpecificationCardinality(id);
-          level = ConstantsSIPspec.getSpecificationLevel(id);
-        }
-      } else {
-        if (id.startsWith("AIP")) {
-          if (specification.equals("AIP-2.2.0")) {
-            name = org.roda_project.commons_ip2.validator.constants220.ConstantsAIPspec.getSpecificationName(id);
-            location = org.roda_project.commons_ip2.validator.constants220.ConstantsAIPspec
-              .getSpecificationLocation(id);
-            description = org.roda_project.commons_ip2.validator.constants220.ConstantsAIPspec
-              .getSpecificationDescription(id);
-            cardinality = org.roda_project.commons_ip2.validator.constants220.ConstantsAIPspec
-              .getSpecificationCardinality(id);
-            level = org.roda_project.commons_ip2.validator.constants220.ConstantsAIPspec.getSpecificationLevel(id);
-          } else {
-            name = ConstantsAIPspec.getSpecificationName(id);
-            location = ConstantsAIPspec.getSpecificationLocation(id);
-            description = ConstantsAIPspec.getSpecificationDescription(id);
-            cardinality = ConstantsAIPspec.getSpecificationCardinality(id);
-            level = ConstantsAIPspec.getSpecificationLevel(id);
-          }
-        }
-      }
+  private void writeSpecificationDetails(final Requirement requirement) throws IOException {
+    String name = ConstantsCSIPspec.NOT_DEFINED;
+    String location = ConstantsCSIPspec.NOT_DEFINED;
+    String description = ConstantsCSIPspec.NOT_DEFINED;
+    String cardinality = ConstantsCSIPspec.NOT_DEFINED;
+    String level = ConstantsCSIPspec.NOT_DEFINED;
+    if (requirement != null) {
+      name = requirement.getName();
+      location = requirement.getLocation();
+      description = requirement.getDescription();
+      cardinality = requirement.getCardinality();
+      level = requirement.getLevel();
     }
 
     jsonGenerator.writeStringField(Constants.VALIDATION_REPORT_SPECIFICATION_KEY_NAME, name);
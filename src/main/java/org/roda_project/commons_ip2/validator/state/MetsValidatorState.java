@@ -1,9 +1,13 @@
 package org.roda_project.commons_ip2.validator.state;
 
-import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 import org.roda_project.commons_ip2.mets_v1_12.beans.Mets;
+import org.roda_project.commons_ip2.validator.common.MetsIdIndex;
+import org.roda_project.commons_ip2.validator.handlers.MetsAttributeIndex;
+import org.roda_project.commons_ip2.validator.handlers.MetsFileTable;
 
 /** {@author João Gomes <jgomes@keep.pt>}. */
 public class MetsValidatorState {
@@ -12,9 +16,17 @@ public class MetsValidatorState {
    */
   private Mets mets = null;
   /**
-   * {@link ArrayList} with the internal ids.
+   * {@link MetsAttributeIndex} of the METS file.
    */
-  private ArrayList<String> metsInternalIds = new ArrayList<>();
+  private MetsAttributeIndex metsAttributeIndex = null;
+  /**
+   * {@link MetsIdIndex} of the METS file, built when first needed.
+   */
+  private MetsIdIndex metsIdIndex = null;
+  /**
+   * {@link Set} with the internal ids.
+   */
+  private final Set<String> metsInternalIds = new HashSet<>();
   /**
    * Mets name.
    */
@@ -51,8 +63,41 @@ public class MetsValidatorState {
    * @param mets
    *          the {@link Mets}
    */
-  public void setMets(final Mets mets) {
+  public synchronized void setMets(final Mets mets) {
     this.mets = mets;
+    this.metsIdIndex = null;
+  }
+
+  /**
+   * Get the {@link MetsIdIndex} of the {@link Mets}, building it the first time.
+   *
+   * @return {@link MetsIdIndex}
+   */
+  public synchronized MetsIdIndex getMetsIdIndex() {
+    if (metsIdIndex == null) {
+      metsIdIndex = MetsIdIndex.build(mets,
+        metsAttributeIndex != null ? metsAttributeIndex.getFileTable() : new MetsFileTable());
+    }
+    return metsIdIndex;
+  }
+
+  /**
+   * Get the {@link MetsAttributeIndex} of the METS file.
+   *
+   * @return {@link MetsAttributeIndex}
+   */
+  public MetsAttributeIndex getMetsAttributeIndex() {
+    return metsAttributeIndex;
+  }
+
+  /**
+   * Set the {@link MetsAttributeIndex} of the METS file.
+   *
+   * @param metsAttributeIndex
+   *          the {@link MetsAttributeIndex}
+   */
+  public void setMetsAttributeIndex(final MetsAttributeIndex metsAttributeIndex) {
+    this.metsAttributeIndex = metsAttributeIndex;
   }
 
   /**
@@ -123,7 +168,7 @@ public class MetsValidatorState {
   }
 
   /**
-   * Check if exists this {@link String} in the list of id's.
+   * Check if exists this {@link String} in the set of id's.
    *
    * @param id
    *          the {@link String}
@@ -134,7 +179,7 @@ public class MetsValidatorState {
   }
 
   /**
-   * Delete all entries from metsInternalIds list
+   * Delete all entries from metsInternalIds set
    */
   public void flushEntries() {
     metsInternalIds.clear();
@@ -1,7 +1,13 @@
 package org.roda_project.commons_ip2.validator.state;
 
 import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 
+import org.roda_project.commons_ip2.validator.common.ChecksumVerifier;
 import org.roda_project.commons_ip2.validator.common.FolderManager;
 import org.roda_project.commons_ip2.validator.common.ZipManager;
 
@@ -15,6 +21,10 @@ public class StructureValidatorState {
    * {@link FolderManager}.
    */
   private FolderManager folderManager;
+  /**
+   * {@link ChecksumVerifier}.
+   */
+  private ChecksumVerifier checksumVerifier;
   /**
    * Flag if is zip file or is a directory.
    */
@@ -23,6 +33,19 @@ public class StructureValidatorState {
    * The IP path.
    */
   private Path ipPath;
+  /**
+   * The extra checksum algorithms computed while verifying the checksums.
+   */
+  private final Set<String> extraChecksumAlgorithms = new TreeSet<>();
+  /**
+   * The checksums of the extra algorithms, per file.
+   */
+  private final Map<String, Map<String, String>> checksums = Collections.synchronizedMap(new TreeMap<>());
+  /**
+   * The {@link ChecksumVerifier.DigestCache} with the digests of the files
+   * already read, if any.
+   */
+  private ChecksumVerifier.DigestCache digestCache;
 
   /**
    * Initialize all objects of structure Component.
@@ -31,8 +54,22 @@ public class StructureValidatorState {
    *          {@link Path}
    */
   public StructureValidatorState(final Path ipPath) {
+    this(ipPath, ChecksumVerifier.getShared());
+  }
+
+  /**
+   * Initialize all objects of structure Component.
+   *
+   * @param ipPath
+   *          {@link Path}
+   * @param checksumVerifier
+   *          the {@link ChecksumVerifier}, shared with other validations and
+   *          not closed by this state
+   */
+  public StructureValidatorState(final Path ipPath, final ChecksumVerifier checksumVerifier) {
     this.zipManager = new ZipManager();
     this.folderManager = new FolderManager();
+    this.checksumVerifier = checksumVerifier;
     this.isZipFileFlag = false;
     this.ipPath = ipPath;
   }
@@ -55,6 +92,15 @@ public class StructureValidatorState {
     return folderManager;
   }
 
+  /**
+   * Get the {@link ChecksumVerifier}.
+   *
+   * @return the {@link ChecksumVerifier}
+   */
+  public ChecksumVerifier getChecksumVerifier() {
+    return checksumVerifier;
+  }
+
   /**
    * Get the value of isZipFileFlag.
    *
@@ -82,4 +128,71 @@ public class StructureValidatorState {
   public Path getIpPath() {
     return ipPath;
   }
+
+  /**
+   * Get the extra checksum algorithms.
+   *
+   * @return {@link Set} of algorithms.
+   */
+  public Set<String> getExtraChecksumAlgorithms() {
+    return Collections.unmodifiableSet(extraChecksumAlgorithms);
+  }
+
+  /**
+   * Set the extra checksum algorithms, computed in the same read used to verify
+   * the checksums declared in the METS files.
+   *
+   * @param extraChecksumAlgorithms
+   *          {@link Set} of algorithms.
+   */
+  public void setExtraChecksumAlgorithms(final Set<String> extraChecksumAlgorithms) {
+    this.extraChecksumAlgorithms.clear();
+    this.extraChecksumAlgorithms.addAll(extraChecksumAlgorithms);
+  }
+
+  /**
+   * Get the checksums of the extra algorithms.
+   *
+   * @return {@link Map} of checksum per algorithm, per file.
+   */
+  public Map<String, Map<String, String>> getChecksums() {
+    return checksums;
+  }
+
+  /**
+   * Adds checksums of the extra algorithms.
+   *
+   * @param fileChecksums
+   *          {@link Map} of checksum per algorithm, per file.
+   */
+  public void addChecksums(final Map<String, Map<String, String>> fileChecksums) {
+    checksums.putAll(fileChecksums);
+  }
+
+  /**
+   * Get the {@link ChecksumVerifier.DigestCache}.
+   *
+   * @return the {@link ChecksumVerifier.DigestCache} or {@code null}.
+   */
+  public ChecksumVerifier.DigestCache getDigestCache() {
+    return digestCache;
+  }
+
+  /**
+   * Set the {@link ChecksumVerifier.DigestCache} with the digests of the files
+   * already read, so only the files that changed are read again.
+   *
+   * @param digestCache
+   *          the {@link ChecksumVerifier.DigestCache} or {@code null}.
+   */
+  public void setDigestCache(final ChecksumVerifier.DigestCache digestCache) {
+    this.digestCache = digestCache;
+  }
+
+  /**
+   * Releases the resources held while validating the IP (the zip file handle).
+   */
+  public void close() {
+    zipManager.closeZipFile();
+  }
 }
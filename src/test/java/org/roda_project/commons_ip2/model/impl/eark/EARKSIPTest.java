@@ -8,34 +8,48 @@
 package org.roda_project.commons_ip2.model.impl.eark;
 
 import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 
 import javax.xml.datatype.DatatypeConfigurationException;
 import javax.xml.parsers.ParserConfigurationException;
 
+import org.apache.commons.io.IOUtils;
 import org.hamcrest.core.Is;
 import org.junit.AfterClass;
 import org.junit.Assert;
 import org.junit.BeforeClass;
 import org.junit.Test;
 import org.roda_project.commons_ip.model.ParseException;
+import org.roda_project.commons_ip.utils.BuildContext;
 import org.roda_project.commons_ip.utils.IPEnums;
 import org.roda_project.commons_ip.utils.IPException;
 import org.roda_project.commons_ip.utils.METSEnums.CreatorType;
 import org.roda_project.commons_ip2.cli.model.enums.WriteStrategyEnum;
 import org.roda_project.commons_ip2.cli.utils.SIPBuilderUtils;
 import org.roda_project.commons_ip2.mets_v1_12.beans.FileType;
+import org.roda_project.commons_ip2.mets_v1_12.beans.Mets;
+import org.roda_project.commons_ip2.mets_v1_12.beans.MetsType;
 import org.roda_project.commons_ip2.model.IPAgent;
 import org.roda_project.commons_ip2.model.IPAgentNoteTypeEnum;
 import org.roda_project.commons_ip2.model.IPConstants;
@@ -52,8 +66,15 @@ import org.roda_project.commons_ip2.model.MetadataType.MetadataTypeEnum;
 import org.roda_project.commons_ip2.model.RepresentationStatus;
 import org.roda_project.commons_ip2.model.SIP;
 import org.roda_project.commons_ip2.model.ValidationEntry.LEVEL;
+import org.roda_project.commons_ip2.model.impl.IPBuildService;
 import org.roda_project.commons_ip2.model.impl.eark.out.writers.factory.WriteStrategyFactory;
+import org.roda_project.commons_ip2.model.impl.eark.out.writers.factory.ZipWriteStrategyFactory;
 import org.roda_project.commons_ip2.model.impl.eark.out.writers.strategy.WriteStrategy;
+import org.roda_project.commons_ip2.utils.CompressionPolicy;
+import org.roda_project.commons_ip2.utils.METSFileRecords;
+import org.roda_project.commons_ip2.utils.METSStreamWriter;
+import org.roda_project.commons_ip2.utils.METSUtils;
+import org.roda_project.commons_ip2.utils.METSZipEntryInfo;
 import org.roda_project.commons_ip2.utils.Utils;
 import org.roda_project.commons_ip2.validator.EARKSIPValidator;
 import org.roda_project.commons_ip2.validator.constants.Constants;
@@ -62,6 +83,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.xml.sax.SAXException;
 
+import jakarta.xml.bind.JAXBException;
+
 /**
  * Unit tests for EARK Information Packages (SIP, AIP and DIP)
  */
@@ -158,6 +181,205 @@ public class EARKSIPTest {
 
   }
 
+  @Test
+  public void buildAndValidateEARKSIPWithMETSSpilledToDisk() throws IPException, ParseException,
+    InterruptedException, IOException, ParserConfigurationException, SAXException, NoSuchAlgorithmException {
+    System.setProperty(METSZipEntryInfo.MEMORY_THRESHOLD_PROPERTY, "1");
+    Path zipSIP;
+    try {
+      zipSIP = createFullEARKSIP_For_Test_Compliance220();
+    } finally {
+      System.clearProperty(METSZipEntryInfo.MEMORY_THRESHOLD_PROPERTY);
+    }
+
+    ValidationReportOutputJson reportOutputJson = new ValidationReportOutputJson(zipSIP,
+      OutputStream.nullOutputStream());
+    Assert.assertTrue(new EARKSIPValidator(reportOutputJson, "2.2.0").validate("2.2.0"));
+  }
+
+  @Test
+  public void buildEARKSIPWithParallelZipWriter() throws IPException, ParseException, InterruptedException,
+    IOException {
+    Path parallelFolder = Files.createDirectories(tempFolder.resolve("parallel"));
+    Path zipSIP = createFullEARKSIP(new ZipWriteStrategyFactory(4).create(parallelFolder));
+
+    List<? extends ZipEntry> entries = readZipEntries(zipSIP);
+    Assert.assertEquals("SIP_1/" + IPConstants.METS_FILE, entries.get(entries.size() - 1).getName());
+    parseAndValidateFullEARKSIP(zipSIP);
+  }
+
+  @Test
+  public void buildEARKSIPsConcurrently() throws IPException, ParseException, InterruptedException,
+    ExecutionException, IOException {
+    List<Future<Path>> zipSIPs = new ArrayList<>();
+    BuildContext context = BuildContext.open(false);
+    try (IPBuildService service = new IPBuildService(3)) {
+      for (int i = 0; i < 6; i++) {
+        Path folder = Files.createDirectories(tempFolder.resolve("concurrent" + i));
+        WriteStrategy writeStrategy = SIPBuilderUtils.getWriteStrategy(WriteStrategyEnum.ZIP, folder);
+        zipSIPs.add(service.submit(() -> createFullEARKSIP(writeStrategy)));
+      }
+      Assert.assertEquals("a b", METSUtils.encodeHref("a b"));
+      for (Future<Path> zipSIP : zipSIPs) {
+        zipSIP.get();
+      }
+    } finally {
+      context.close();
+    }
+    for (Future<Path> zipSIP : zipSIPs) {
+      parseAndValidateFullEARKSIP(zipSIP.get());
+    }
+  }
+
+  @Test
+  public void buildEARKSIPWithAdaptiveCompressionPolicy() throws IPException, ParseException, InterruptedException,
+    IOException {
+    for (int threads : new int[] {1, 4}) {
+      CompressionPolicy compressionPolicy = CompressionPolicy.adaptive();
+      Path folder = Files.createDirectories(tempFolder.resolve("adaptive-" + threads));
+      Path zipSIP = createFullEARKSIP(new ZipWriteStrategyFactory(threads, compressionPolicy).create(folder));
+
+      for (ZipEntry entry : readZipEntries(zipSIP)) {
+        if (entry.getName().endsWith(".pdf")) {
+          Assert.assertEquals(entry.getName(), ZipEntry.STORED, entry.getMethod());
+        } else if (entry.getName().endsWith(".xml")) {
+          Assert.assertEquals(entry.getName(), ZipEntry.DEFLATED, entry.getMethod());
+        }
+      }
+      Map<CompressionPolicy.Reason, CompressionPolicy.Statistics> statistics = compressionPolicy.getStatistics();
+      Assert.assertTrue(statistics.get(CompressionPolicy.Reason.STORED_BY_EXTENSION).getEntries() > 0);
+      Assert.assertTrue(statistics.get(CompressionPolicy.Reason.DEFLATED).getBytesSaved() > 0);
+      parseAndValidateFullEARKSIP(zipSIP);
+    }
+  }
+
+  @Test
+  public void buildEARKSIPWithStreamedDataFiles() throws IPException, ParseException, InterruptedException,
+    IOException, JAXBException, DatatypeConfigurationException, ParserConfigurationException, SAXException,
+    NoSuchAlgorithmException {
+    METSFileRecords records = new METSFileRecords();
+    String[] hrefs = {"data/a.pdf", "data/a&b<c>\"d'.txt", "data/t\tx.txt", "data/\u00E9\u4E2D\uD83D\uDE00.txt"};
+    for (int i = 0; i < hrefs.length; i++) {
+      int record = records.add(hrefs[i], i % 2 == 0 ? "application/pdf" : null, i * 1000L,
+        Utils.getCurrentCalendar());
+      if (i > 0) {
+        records.setChecksum(record, "9E9A436DD2193346", IPConstants.CHECKSUM_ALGORITHM);
+      }
+    }
+    List<FileType> files = new ArrayList<>();
+    for (int i = 0; i < records.size(); i++) {
+      files.add(records.toFileType(i));
+    }
+    ByteArrayOutputStream marshalled = new ByteArrayOutputStream();
+    METSStreamWriter.marshal(createDataFilesMETS(files), null, marshalled, false);
+    ByteArrayOutputStream streamed = new ByteArrayOutputStream();
+    METSStreamWriter.marshal(createDataFilesMETS(List.of(records.getPlaceholder())), records, streamed, false);
+    Assert.assertArrayEquals(marshalled.toByteArray(), streamed.toByteArray());
+
+    System.setProperty(METSFileRecords.STREAM_PROPERTY, "true");
+    Path zipSIP;
+    try {
+      zipSIP = createFullEARKSIP_For_Test_Compliance220();
+    } finally {
+      System.clearProperty(METSFileRecords.STREAM_PROPERTY);
+    }
+    ValidationReportOutputJson reportOutputJson = new ValidationReportOutputJson(zipSIP,
+      OutputStream.nullOutputStream());
+    Assert.assertTrue(new EARKSIPValidator(reportOutputJson, "2.2.0").validate("2.2.0"));
+  }
+
+  @Test
+  public void detectMimetypeOfInMemoryMETSFromItsContent() throws IPException, IOException {
+    // an unrelated file at the entry name, relative to the working directory
+    Path unrelated = Files.createTempFile(Files.createDirectories(Paths.get("target")), "METS", "");
+    try {
+      Files.write(unrelated, "%PDF-1.7".getBytes(StandardCharsets.US_ASCII));
+      FileType fileType = new FileType();
+      METSZipEntryInfo entry = new METSZipEntryInfo("target/" + unrelated.getFileName(),
+        createDataFilesMETS(List.of()), false, fileType, tempFolder);
+      entry.setChecksum(IPConstants.CHECKSUM_ALGORITHM);
+      entry.prepareEntryForZipping();
+      entry.discardContent();
+
+      Assert.assertEquals("application/xml", fileType.getMIMETYPE());
+      Assert.assertEquals(Long.valueOf(entry.getSize()), fileType.getSIZE());
+      Assert.assertEquals(entry.getChecksums().get(IPConstants.CHECKSUM_ALGORITHM), fileType.getCHECKSUM());
+    } finally {
+      Files.delete(unrelated);
+    }
+  }
+
+  @Test
+  public void validateRepresentationsMETSConcurrently() throws IPException, InterruptedException, IOException,
+    ParserConfigurationException, SAXException {
+    List<Path> sips = new ArrayList<>();
+    for (WriteStrategyEnum strategy : WriteStrategyEnum.values()) {
+      Path folder = Files.createDirectories(tempFolder.resolve("representations-" + strategy));
+      sips.add(createEARKSIPWithRepresentations(8).build(SIPBuilderUtils.getWriteStrategy(strategy, folder)));
+    }
+
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      for (Path sip : sips) {
+        Assert.assertEquals(sip.toString(), validateToString(sip, null), validateToString(sip, pool));
+      }
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  private static SIP createEARKSIPWithRepresentations(int representations) throws IPException {
+    SIP sip = new EARKSIP("SIP_REPRESENTATIONS", IPContentType.getMIXED(), IPContentInformationType.getMIXED(),
+      "2.2.0");
+    sip.addCreatorSoftwareAgent("RODA Commons IP", "2.0.0");
+    sip.addDescriptiveMetadata(
+      new IPDescriptiveMetadata(new IPFile(Paths.get("src/test/resources/eark/metadata_descriptive_dc.xml")),
+        new MetadataType(MetadataTypeEnum.DC), null));
+    for (int i = 1; i <= representations; i++) {
+      IPRepresentation representation = new IPRepresentation("representation " + i);
+      representation.addFile(new IPFile(Paths.get("src/test/resources/data/eark.pdf")));
+      representation.addFile(new IPFile(Paths.get("src/test/resources/data/data.txt")));
+      sip.addRepresentation(representation);
+    }
+    return sip;
+  }
+
+  private static String validateToString(Path sip, ForkJoinPool pool)
+    throws IOException, ParserConfigurationException, SAXException {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    EARKSIPValidator validator = new EARKSIPValidator(new ValidationReportOutputJson(sip, outputStream), "2.2.0");
+    validator.setPool(pool);
+    validator.validate("2.2.0");
+    return outputStream.toString(StandardCharsets.UTF_8).replaceFirst("\"date\" : \"[^\"]*\"", "");
+  }
+
+  private static Mets createDataFilesMETS(List<FileType> files) {
+    Mets mets = new Mets();
+    mets.setOBJID("representation");
+    MetsType.FileSec fileSec = new MetsType.FileSec();
+    fileSec.setID("file-section");
+    MetsType.FileSec.FileGrp fileGrp = new MetsType.FileSec.FileGrp();
+    fileGrp.setID("data-files");
+    fileGrp.setUSE(IPConstants.DATA_WITH_FIRST_LETTER_CAPITAL);
+    fileGrp.getFile().addAll(files);
+    fileSec.getFileGrp().add(fileGrp);
+    mets.setFileSec(fileSec);
+    return mets;
+  }
+
+  private static List<? extends ZipEntry> readZipEntries(Path zipSIP) throws IOException {
+    // reading every entry checks its CRC and sizes
+    try (ZipFile zipFile = new ZipFile(zipSIP.toFile())) {
+      List<? extends ZipEntry> entries = Collections.list(zipFile.entries());
+      for (ZipEntry entry : entries) {
+        try (InputStream inputStream = zipFile.getInputStream(entry)) {
+          Assert.assertEquals(entry.getSize(), IOUtils.consume(inputStream));
+        }
+      }
+      return entries;
+    }
+  }
+
   @Test
   public void buildEARKSIPShallow()
     throws IPException, InterruptedException, DatatypeConfigurationException, ParseException, URISyntaxException {
@@ -398,6 +620,10 @@ public class EARKSIPTest {
 
 
   private Path createFullEARKSIP() throws IPException, InterruptedException {
+    return createFullEARKSIP(SIPBuilderUtils.getWriteStrategy(WriteStrategyEnum.ZIP, tempFolder));
+  }
+
+  private Path createFullEARKSIP(WriteStrategy writeStrategy) throws IPException, InterruptedException {
 
     // 1) instantiate E-ARK SIP object
     SIP sip = new EARKSIP("SIP_1", IPContentType.getMIXED(), IPContentInformationType.getMIXED(), "2.1.0");
@@ -496,7 +722,6 @@ public class EARKSIPTest {
     representation2.addFile(representationFile3);
 
     // 2) build SIP, providing an output directory
-    WriteStrategy writeStrategy = SIPBuilderUtils.getWriteStrategy(WriteStrategyEnum.ZIP, tempFolder);
     Path zipSIP = sip.build(writeStrategy);
 
     return zipSIP;
@@ -3,11 +3,19 @@ package org.roda_project.commons_ip2.model.impl.eark;
 import org.junit.Assert;
 import org.junit.Test;
 import org.roda_project.commons_ip.model.ParseException;
+import org.roda_project.commons_ip2.model.IPFile;
 import org.roda_project.commons_ip2.model.IPRepresentation;
 import org.roda_project.commons_ip2.model.SIP;
+import org.roda_project.commons_ip2.utils.Utils;
+import org.roda_project.commons_ip2.utils.ZIPUtils;
 
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.security.NoSuchAlgorithmException;
+import java.util.Set;
 
 public class ParseEARKSIPTest {
 
@@ -29,4 +37,45 @@ public class ParseEARKSIPTest {
     Assert.assertEquals(1, first.getTechnicalMetadata().size());
 
   }
+
+  @Test
+  public void parseEARKSIPWithoutExtractionTest() throws ParseException, IOException {
+    Path earkSIPPath = Paths.get("src/test/resources/6ab98a90-1686-4c74-9855-b2793a6d164d.zip");
+
+    SIP extracted = new EARKSIP().parse(earkSIPPath);
+    SIP sip = new EARKSIP().parseWithoutExtraction(earkSIPPath);
+    try {
+      Assert.assertNotEquals(FileSystems.getDefault(), sip.getBasePath().getFileSystem());
+      Assert.assertEquals(extracted.getValidationReport().isValid(), sip.getValidationReport().isValid());
+      Assert.assertEquals(1, sip.getDescriptiveMetadata().size());
+      Assert.assertEquals(2, sip.getPreservationMetadata().size());
+      Assert.assertEquals(1, sip.getRepresentations().size());
+
+      IPFile file = (IPFile) sip.getRepresentations().get(0).getData().get(0);
+      IPFile extractedFile = (IPFile) extracted.getRepresentations().get(0).getData().get(0);
+      Assert.assertEquals(sip.getBasePath().getFileSystem(), file.getPath().getFileSystem());
+      Assert.assertArrayEquals(Files.readAllBytes(extractedFile.getPath()), Files.readAllBytes(file.getPath()));
+    } finally {
+      ZIPUtils.closeIPInZipFormat(sip.getBasePath());
+    }
+  }
+
+  @Test
+  public void parseEARKSIPWithExtraChecksumAlgorithmsTest()
+    throws ParseException, IOException, NoSuchAlgorithmException {
+    Path earkSIPPath = Paths.get("src/test/resources/6ab98a90-1686-4c74-9855-b2793a6d164d.zip");
+
+    SIP sip = new EARKSIP().setExtraChecksumAlgorithms(Set.of("SHA-512", "MD5")).parse(earkSIPPath);
+
+    Assert.assertEquals(Set.of("SHA-512", "MD5"), sip.getExtraChecksumAlgorithms());
+    IPFile file = (IPFile) sip.getRepresentations().get(0).getData().get(0);
+    Assert.assertEquals(Set.of("SHA-512", "MD5"), file.getExtraChecksums().keySet());
+    Assert.assertEquals(Utils.calculateChecksum(Files.newInputStream(file.getPath()), "SHA-512"),
+      file.getExtraChecksums().get("SHA-512"));
+    Assert.assertEquals(Utils.calculateChecksum(Files.newInputStream(file.getPath()), "MD5"),
+      file.getExtraChecksums().get("MD5"));
+
+    IPFile withoutExtras = (IPFile) new EARKSIP().parse(earkSIPPath).getRepresentations().get(0).getData().get(0);
+    Assert.assertTrue(withoutExtras.getExtraChecksums().isEmpty());
+  }
 }
@@ -0,0 +1,115 @@
+/**
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE file at the root of the source
+ * tree and available online at
+ *
+ * https://github.com/keeps/commons-ip
+ */
+package org.roda_project.commons_ip2.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.roda_project.commons_ip.utils.IPException;
+import org.roda_project.commons_ip2.mets_v1_12.beans.FileType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class UtilsTest {
+  private static final Logger LOGGER = LoggerFactory.getLogger(UtilsTest.class);
+
+  @Test
+  public void calculateChecksumsThroughFileChannel() throws IOException, NoSuchAlgorithmException {
+    Path directory = Files.createTempDirectory("checksums");
+    try {
+      Set<String> algorithms = new LinkedHashSet<>(List.of("MD5", "SHA-256"));
+      for (int size : new int[] {0, 100 * 1024, 3 * 1024 * 1024 + 3, 64 * 1024 * 1024 + 5}) {
+        byte[] content = new byte[size];
+        new Random(size).nextBytes(content);
+        Path file = Files.write(directory.resolve(String.valueOf(size)), content);
+        try (InputStream in = Files.newInputStream(file)) {
+          Assert.assertEquals(Utils.calculateChecksums(in, algorithms), Utils.calculateChecksums(file, algorithms));
+        }
+      }
+    } finally {
+      Utils.deletePath(directory);
+    }
+  }
+
+  @Test
+  public void harvestFileBasicInformation() throws IOException, IPException, InterruptedException {
+    Path directory = Files.createTempDirectory("harvest");
+    try {
+      List<Path> files = new ArrayList<>();
+      for (int i = 0; i < 8; i++) {
+        files.add(Files.write(directory.resolve(i + ".txt"), new byte[i * 10]));
+      }
+      Map<Path, FileBasicInformation> information = FileBasicInformation.harvest(files, null);
+      Assert.assertEquals(files.size(), information.size());
+      for (Path file : files) {
+        FileType fileType = new FileType();
+        information.get(file).setIn(fileType);
+        FileType expected = new FileType();
+        METSUtils.setFileBasicInformation(LOGGER, file, expected);
+        Assert.assertEquals(expected.getMIMETYPE(), fileType.getMIMETYPE());
+        Assert.assertEquals(expected.getSIZE(), fileType.getSIZE());
+        Assert.assertEquals(information.get(files.get(0)).getCreated(), fileType.getCREATED());
+      }
+    } finally {
+      Utils.deletePath(directory);
+    }
+  }
+
+  @Test
+  public void detectMimeTypesFromExtensionAndSignature() {
+    MimeTypeDetector detector = new SignatureMimeTypeDetector();
+    byte[] pdf = "%PDF-1.7".getBytes(StandardCharsets.US_ASCII);
+    byte[] zip = {'P', 'K', 3, 4, 20, 0};
+    byte[] text = "Some text\n".getBytes(StandardCharsets.US_ASCII);
+    byte[] binary = {0, 1, 2, 3};
+
+    Assert.assertEquals("application/pdf", detector.detect("document.pdf", pdf, pdf.length));
+    Assert.assertEquals("application/pdf", detector.detect("document.bin", pdf, pdf.length));
+    Assert.assertEquals("image/jpeg", detector.detect("image.JPG", binary, 0));
+    Assert.assertEquals("application/xml", detector.detect("METS.xml", text, text.length));
+    Assert.assertEquals("application/zip", detector.detect("archive", zip, zip.length));
+    Assert.assertEquals("application/vnd.openxmlformats-officedocument.wordprocessingml.document",
+      detector.detect("document.docx", zip, zip.length));
+    Assert.assertEquals("text/plain", detector.detect("README", text, text.length));
+    Assert.assertNull(detector.detect("data", binary, binary.length));
+    Assert.assertEquals(detector.detect("other.pdf", pdf, pdf.length), detector.detect("other.pdf", pdf, 5));
+
+    for (int i = 0; i < 5000; i++) {
+      Assert.assertEquals("text/plain", detector.detect("file.ext" + i, text, text.length));
+    }
+    Assert.assertEquals("image/jpeg", detector.detect("other.jpeg", binary, 0));
+  }
+
+  @Test
+  public void addPathsToTreeWithManySiblings() {
+    Tree<StructMapDiv> tree = new Tree<>(new StructMapDiv("Data"));
+    for (int i = 0; i < 100_000; i++) {
+      tree.addPath(List.of(new StructMapDiv("folder"), new StructMapDiv("file" + i)));
+    }
+    Tree<StructMapDiv> folder = tree.addPath(List.of(new StructMapDiv("folder")));
+    Assert.assertEquals(1, tree.getChilds().size());
+    Assert.assertEquals(100_000, folder.getChilds().size());
+    Assert.assertEquals("file0", folder.getChilds().get(0).getRoot().getLabel());
+    Assert.assertSame(folder.getChilds().get(99_999),
+      folder.getChild(new StructMapDiv("file99999"), new StructMapDiv("folder")));
+    Assert.assertEquals(2, folder.getChilds().get(99_999).getLevel());
+    Assert.assertSame(tree, tree.addPath(List.of()));
+  }
+}
@@ -1,15 +1,34 @@
 package org.roda_project.commons_ip2_validator;
 
 import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 
 import javax.xml.parsers.ParserConfigurationException;
 
@@ -17,16 +36,44 @@ import org.junit.AfterClass;
 import org.junit.Assert;
 import org.junit.BeforeClass;
 import org.junit.Test;
+import org.roda_project.commons_ip2.cli.Validate;
+import org.roda_project.commons_ip2.mets_v1_12.beans.FileGrpType;
+import org.roda_project.commons_ip2.mets_v1_12.beans.FileType;
+import org.roda_project.commons_ip2.mets_v1_12.beans.MdSecType;
+import org.roda_project.commons_ip2.mets_v1_12.beans.Mets;
+import org.roda_project.commons_ip2.mets_v1_12.beans.MetsType;
+import org.roda_project.commons_ip2.utils.IanaMediaTypes;
+import org.roda_project.commons_ip2.utils.METSUtils;
 import org.roda_project.commons_ip2.utils.Utils;
 import org.roda_project.commons_ip2.validator.EARKSIPValidator;
+import org.roda_project.commons_ip2.validator.common.ChecksumVerifier;
+import org.roda_project.commons_ip2.validator.common.ControlledVocabularyParser;
+import org.roda_project.commons_ip2.validator.common.InstatiateMets;
+import org.roda_project.commons_ip2.validator.common.MetsIdIndex;
+import org.roda_project.commons_ip2.validator.common.ValidationCache;
+import org.roda_project.commons_ip2.validator.common.ZipArchiveIndex;
+import org.roda_project.commons_ip2.validator.common.ZipManager;
 import org.roda_project.commons_ip2.validator.constants.Constants;
+import org.roda_project.commons_ip2.validator.constants.ConstantsCSIPspec;
+import org.roda_project.commons_ip2.validator.constants.Requirement;
+import org.roda_project.commons_ip2.validator.constants.RequirementRegistry;
+import org.roda_project.commons_ip2.validator.handlers.MetsFileTable;
 import org.roda_project.commons_ip2.validator.observer.ProgressValidationLoggerObserver;
 import org.roda_project.commons_ip2.validator.observer.ValidationObserver;
+import org.roda_project.commons_ip2.validator.reporter.IssueSpool;
+import org.roda_project.commons_ip2.validator.reporter.ReporterDetails;
+import org.roda_project.commons_ip2.validator.reporter.RequirementsComparator;
 import org.roda_project.commons_ip2.validator.reporter.ValidationReportOutputJson;
+import org.roda_project.commons_ip2.validator.utils.ResultsUtils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.xml.sax.SAXException;
 
+import picocli.CommandLine;
+
 /**
  * @author João Gomes <jgomes@keep.pt>
  */
@@ -45,6 +92,32 @@ public class ValidatorTest {
     Utils.deletePath(tempFolder);
   }
 
+  /**
+   * Unmarshals the root METS of the 6ab98a90-1686-4c74-9855-b2793a6d164d SIP,
+   * filling its {@link InstatiateMets#getMetsAttributeIndex()} in the same pass,
+   * and again with its files to compare with.
+   */
+  private static final class RootMets {
+    private final InstatiateMets instatiateMets;
+    private final Mets mets;
+    private final Mets metsWithFiles;
+
+    private RootMets() throws Exception {
+      Path sipPath = Paths.get(ValidatorTest.class.getResource("/").toURI())
+        .resolve("6ab98a90-1686-4c74-9855-b2793a6d164d.zip");
+      try (ZipFile zipFile = new ZipFile(sipPath.toFile())) {
+        ZipEntry entry = zipFile.getEntry("6ab98a90-1686-4c74-9855-b2793a6d164d/" + Constants.METS_FILE);
+        try (InputStream stream = zipFile.getInputStream(entry)) {
+          instatiateMets = new InstatiateMets(stream);
+          mets = instatiateMets.instatiateMetsFile(Constants.METS_FILE);
+        }
+        try (InputStream stream = zipFile.getInputStream(entry)) {
+          metsWithFiles = METSUtils.getCodec().unmarshal(stream);
+        }
+      }
+    }
+  }
+
   // /* Simple SIP */
   // @Test
   // public void validateSimpleSipZIP() throws IOException, URISyntaxException,
@@ -131,6 +204,475 @@ public class ValidatorTest {
 
     Assert.assertFalse(validate);
   }
+
+  @Test
+  public void validateWithExtraChecksumAlgorithms()
+    throws IOException, URISyntaxException, ParserConfigurationException, SAXException, NoSuchAlgorithmException {
+    URI resource = getClass().getResource("/").toURI();
+    Path earkSIPath = Paths.get(resource).resolve("6ab98a90-1686-4c74-9855-b2793a6d164d.zip");
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    ValidationReportOutputJson reportOutputJson = new ValidationReportOutputJson(earkSIPath, outputStream);
+    EARKSIPValidator earksipValidator = new EARKSIPValidator(reportOutputJson, "2.2.0");
+    earksipValidator.setExtraChecksumAlgorithms(Set.of("SHA-512"));
+    earksipValidator.validate("2.2.0");
+
+    JsonNode checksums = new ObjectMapper().readTree(outputStream.toString(StandardCharsets.UTF_8))
+      .get(Constants.VALIDATION_REPORT_SPECIFICATION_KEY_CHECKSUMS);
+    Assert.assertNotNull(checksums);
+    Assert.assertFalse(checksums.isEmpty());
+    checksums.fields()
+      .forEachRemaining(file -> Assert.assertEquals(128, file.getValue().get("SHA-512").asText().length()));
+  }
+
+  @Test
+  public void validateWithValidationCache()
+    throws IOException, URISyntaxException, ParserConfigurationException, SAXException, NoSuchAlgorithmException {
+    URI resource = getClass().getResource("/").toURI();
+    Path earkSIPath = Paths.get(resource).resolve("6ab98a90-1686-4c74-9855-b2793a6d164d.zip");
+    ValidationCache cache = new ValidationCache(tempFolder.resolve("validation-cache"));
+    String options = "2.2.0|[]|false|" + Integer.MAX_VALUE;
+    String[] reports = new String[2];
+    for (int i = 0; i < reports.length; i++) {
+      ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+      ValidationReportOutputJson reportOutputJson = new ValidationReportOutputJson(earkSIPath, outputStream, null);
+      EARKSIPValidator earksipValidator = new EARKSIPValidator(reportOutputJson, "2.2.0");
+      earksipValidator.setValidationCache(cache);
+      Assert.assertTrue(earksipValidator.validate("2.2.0"));
+      reports[i] = withoutReportDate(outputStream.toString(StandardCharsets.UTF_8));
+    }
+    Assert.assertEquals(reports[0], reports[1]);
+
+    ZipManager zipManager = new ZipManager();
+    try {
+      ValidationCache.Entry entry = cache.open(earkSIPath, zipManager, options);
+      Assert.assertTrue(entry.isUnchanged());
+      Assert.assertNotNull(
+        entry.get("6ab98a90-1686-4c74-9855-b2793a6d164d/representations/tiff/data/file_example_TIFF_1MB.tiff"));
+    } finally {
+      zipManager.closeZipFile();
+    }
+
+    Path movedSIPath = Files.createDirectories(tempFolder.resolve("moved-sip")).resolve(earkSIPath.getFileName());
+    Files.copy(earkSIPath, movedSIPath);
+    Path sameNameSIPath = Files.createDirectories(tempFolder.resolve("same-name-sip"))
+      .resolve(earkSIPath.getFileName());
+    Files.copy(Paths.get(resource).resolve("Simple-EARK-SIP.zip"), sameNameSIPath);
+    zipManager = new ZipManager();
+    try {
+      Assert.assertTrue(cache.open(movedSIPath, zipManager, options).isUnchanged());
+    } finally {
+      zipManager.closeZipFile();
+    }
+    zipManager = new ZipManager();
+    try {
+      Assert.assertFalse(cache.open(sameNameSIPath, zipManager, options).isUnchanged());
+    } finally {
+      zipManager.closeZipFile();
+    }
+
+    ByteArrayOutputStream sameNameOutputStream = new ByteArrayOutputStream();
+    EARKSIPValidator sameNameValidator = new EARKSIPValidator(
+      new ValidationReportOutputJson(sameNameSIPath, sameNameOutputStream), "2.2.0");
+    sameNameValidator.setValidationCache(cache);
+    sameNameValidator.validate("2.2.0");
+    zipManager = new ZipManager();
+    try {
+      Assert.assertTrue(cache.open(earkSIPath, zipManager, options).isUnchanged());
+    } finally {
+      zipManager.closeZipFile();
+    }
+    Assert.assertEquals(2, listValidationCache(cache, ".report").size());
+
+    // the report of the package replaced at the same location is deleted
+    Files.copy(earkSIPath, sameNameSIPath, StandardCopyOption.REPLACE_EXISTING);
+    EARKSIPValidator replacedValidator = new EARKSIPValidator(
+      new ValidationReportOutputJson(sameNameSIPath, new ByteArrayOutputStream(), null), "2.2.0");
+    replacedValidator.setValidationCache(cache);
+    Assert.assertTrue(replacedValidator.validate("2.2.0"));
+    Assert.assertEquals(1, listValidationCache(cache, ".report").size());
+    Assert.assertEquals(1, listValidationCache(cache, ".json").size());
+  }
+
+  private static List<Path> listValidationCache(final ValidationCache cache, final String extension)
+    throws IOException {
+    try (Stream<Path> files = Files.list(cache.getDirectory())) {
+      return files.filter(file -> file.toString().endsWith(extension)).collect(Collectors.toList());
+    }
+  }
+
+  @Test
+  public void cacheOnlyTheReportedIssues()
+    throws IOException, URISyntaxException, ParserConfigurationException, SAXException, NoSuchAlgorithmException {
+    Path earkSIPath = Paths.get(getClass().getResource("/").toURI()).resolve("Simple-EARK-SIP.zip");
+    ValidationCache cache = new ValidationCache(tempFolder.resolve("limited-validation-cache"));
+    String[] reports = new String[2];
+    for (int i = 0; i < reports.length; i++) {
+      ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+      try (IssueSpool issueSpool = new IssueSpool(null, 1)) {
+        ValidationReportOutputJson reportOutputJson = new ValidationReportOutputJson(earkSIPath, outputStream,
+          issueSpool);
+        EARKSIPValidator earksipValidator = new EARKSIPValidator(reportOutputJson, "2.2.0");
+        earksipValidator.setValidationCache(cache);
+        earksipValidator.validate("2.2.0");
+      }
+      reports[i] = withoutReportDate(outputStream.toString(StandardCharsets.UTF_8));
+    }
+    Assert.assertEquals(reports[0], reports[1]);
+    Assert.assertTrue(reports[0].contains("more issues were found but not reported"));
+
+    ZipManager zipManager = new ZipManager();
+    try {
+      Assert.assertTrue(cache.open(earkSIPath, zipManager, "2.2.0|[]|false|1").isUnchanged());
+    } finally {
+      zipManager.closeZipFile();
+    }
+    for (Path store : listValidationCache(cache, ".json")) {
+      Assert.assertFalse(Files.readString(store).contains("issues"));
+    }
+  }
+
+  @Test
+  public void queryZipArchiveIndexConcurrently() throws Exception {
+    Path sipPath = Paths.get(getClass().getResource("/").toURI()).resolve("6ab98a90-1686-4c74-9855-b2793a6d164d.zip");
+    List<String> names = new ArrayList<>();
+    try (ZipFile zipFile = new ZipFile(sipPath.toFile())) {
+      zipFile.stream().forEach(entry -> names.add(entry.getName()));
+    }
+
+    ZipManager sequentialManager = new ZipManager();
+    List<String> sequential = new ArrayList<>();
+    try {
+      for (String name : names) {
+        sequential.add(describeZipEntry(sequentialManager, sipPath, name));
+      }
+    } finally {
+      sequentialManager.closeZipFile();
+    }
+
+    ZipManager concurrentManager = new ZipManager();
+    ExecutorService pool = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<String>> futures = new ArrayList<>();
+      for (String name : names) {
+        futures.add(pool.submit(() -> describeZipEntry(concurrentManager, sipPath, name)));
+      }
+      List<String> concurrent = new ArrayList<>();
+      for (Future<String> future : futures) {
+        concurrent.add(future.get());
+      }
+      Assert.assertEquals(sequential, concurrent);
+      Assert.assertEquals(names.size(), concurrentManager.getIndex(sipPath).size());
+    } finally {
+      pool.shutdownNow();
+      concurrentManager.closeZipFile();
+    }
+  }
+
+  private static String describeZipEntry(ZipManager zipManager, Path sipPath, String name) throws IOException {
+    ZipArchiveIndex.Node node = zipManager.getIndex(sipPath).getEntry(name);
+    Assert.assertSame(node, zipManager.getIndex(sipPath).lookup(name.split("/")));
+    CRC32 crc = new CRC32();
+    long size = 0;
+    try (InputStream stream = zipManager.getZipInputStream(sipPath, name)) {
+      byte[] buffer = new byte[8192];
+      int read;
+      while ((read = stream.read(buffer)) != -1) {
+        crc.update(buffer, 0, read);
+        size += read;
+      }
+    }
+    Assert.assertEquals(node.getSize(), size);
+    Assert.assertEquals(node.getCrc(), crc.getValue());
+    return name + " " + node.isDirectory() + " " + node.getDepth() + " " + size + " " + crc.getValue() + " "
+      + zipManager.checkPathExists(sipPath, name) + " " + zipManager.verifySize(sipPath, name, size);
+  }
+
+  @Test
+  public void validatePackagesConcurrentlyFromTheCommandLine() throws Exception {
+    Path resources = Paths.get(getClass().getResource("/").toURI());
+    Path simpleSip = resources.resolve("validation").resolve("Simple-EARK-SIP.zip");
+    Path sameNameSip = Files.copy(resources.resolve("6ab98a90-1686-4c74-9855-b2793a6d164d.zip"),
+      Files.createDirectories(tempFolder.resolve("same-name")).resolve(simpleSip.getFileName()));
+    String inputs = String.join(",", resources.resolve("validation").resolve("Full-EARK-SIP.zip").toString(),
+      simpleSip.toString(), resources.resolve("6ab98a90-1686-4c74-9855-b2793a6d164d.zip").toString(),
+      resources.resolve("SIP-S").resolve("shallowFileAndFolder.zip").toString(), sameNameSip.toString());
+    Path sequentialReports = Files.createDirectories(tempFolder.resolve("sequential-reports"));
+    Path concurrentReports = Files.createDirectories(tempFolder.resolve("concurrent-reports"));
+
+    Assert.assertEquals(0, new CommandLine(new Validate()).execute("-i", inputs, "-o", sequentialReports.toString(),
+      "--threads", "1"));
+    Assert.assertEquals(0, new CommandLine(new Validate()).execute("-i", inputs, "-o", concurrentReports.toString(),
+      "--threads", "4"));
+
+    List<Path> reports;
+    try (Stream<Path> files = Files.list(sequentialReports)) {
+      reports = files.sorted().toList();
+    }
+    Assert.assertEquals(5, reports.size());
+    Path simpleReport = reports.get(2);
+    Path sameNameReport = reports.get(3);
+    Assert.assertTrue(simpleReport.getFileName().toString().startsWith(simpleSip.getFileName().toString()));
+    Assert.assertEquals(simpleReport.getFileName().toString().replace(".json", "_2.json"),
+      sameNameReport.getFileName().toString());
+    Assert.assertNotEquals(Files.readString(simpleReport), Files.readString(sameNameReport));
+    for (Path report : reports) {
+      Path concurrentReport = concurrentReports.resolve(report.getFileName());
+      Assert.assertEquals(withoutReportDate(Files.readString(report)),
+        withoutReportDate(Files.readString(concurrentReport)));
+    }
+  }
+
+  private static String withoutReportDate(String report) {
+    return report.replaceFirst("\"date\" : \"[^\"]*\"", "");
+  }
+
+  @Test
+  public void validateComponentsOnAPool() throws Exception {
+    Path resources = Paths.get(getClass().getResource("/").toURI());
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      for (Path sip : List.of(resources.resolve("6ab98a90-1686-4c74-9855-b2793a6d164d.zip"),
+        resources.resolve("validation").resolve("Full-EARK-SIP.zip"))) {
+        for (String version : List.of("2.0.4", "2.1.0", "2.2.0")) {
+          Assert.assertEquals(sip + " " + version, validateToString(sip, version, null),
+            validateToString(sip, version, pool));
+        }
+      }
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  private static String validateToString(Path sip, String version, ForkJoinPool pool)
+    throws IOException, ParserConfigurationException, SAXException {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    ValidationReportOutputJson reportOutputJson = new ValidationReportOutputJson(sip, outputStream);
+    EARKSIPValidator validator = new EARKSIPValidator(reportOutputJson, version);
+    validator.setPool(pool);
+    validator.validate(version);
+    return withoutReportDate(outputStream.toString(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void spoolIssuesOfTheReport() {
+    try (IssueSpool spool = new IssueSpool(tempFolder, 3000)) {
+      Map<String, ReporterDetails> results = spool.newResults();
+      ResultsUtils.addResult(results, "CSIP71", new ReporterDetails("CSIP-2.2.0", "issue 0", false, false));
+      for (int i = 1; i < 5000; i++) {
+        ResultsUtils.addResult(results, "CSIP71", new ReporterDetails("CSIP-2.2.0", "issue " + i, false, false));
+      }
+      List<String> issues = results.get("CSIP71").getIssues();
+      Assert.assertEquals(3001, issues.size());
+      Assert.assertFalse(results.get("CSIP71").isValid());
+      int i = 0;
+      for (String issue : issues) {
+        if (i < 3000) {
+          Assert.assertEquals("issue " + i, issue);
+        } else {
+          Assert.assertEquals("2000 more issues were found but not reported", issue);
+        }
+        i++;
+      }
+      Assert.assertEquals("issue 1500", issues.get(1500));
+      Assert.assertEquals("issue 0", issues.iterator().next());
+    }
+  }
+
+  @Test
+  public void indexMetsAttributesWhileUnmarshalling() throws Exception {
+    RootMets rootMets = new RootMets();
+    InstatiateMets instatiateMets = rootMets.instatiateMets;
+    Mets mets = rootMets.metsWithFiles;
+
+    Map<String, String> fileSecTypes = instatiateMets.getMetsAttributeIndex().getXlinkTypes("file", "FLocat");
+    int flocats = 0;
+    for (MetsType.FileSec.FileGrp grp : mets.getFileSec().getFileGrp()) {
+      for (FileType file : grp.getFile()) {
+        for (FileType.FLocat flocat : file.getFLocat()) {
+          flocats++;
+          Assert.assertEquals(flocat.getType(), fileSecTypes.get(flocat.getHref()));
+        }
+      }
+    }
+    Assert.assertTrue(flocats > 0);
+    Assert.assertEquals(mets.getDmdSec().size(),
+      instatiateMets.getMetsAttributeIndex().getXlinkTypes("dmdSec", "mdRef").size());
+  }
+
+  @Test
+  public void projectFilesWhileUnmarshalling() throws Exception {
+    RootMets rootMets = new RootMets();
+    Mets mets = rootMets.metsWithFiles;
+
+    MetsFileTable files = rootMets.instatiateMets.getMetsAttributeIndex().getFileTable();
+    List<MetsType.FileSec.FileGrp> grps = mets.getFileSec().getFileGrp();
+    Assert.assertEquals(grps.size(), files.getGroupCount());
+    Map<String, String> mimeTypes = new HashMap<>();
+    int index = 0;
+    for (int g = 0; g < grps.size(); g++) {
+      Assert.assertEquals(index, files.getGroupStart(g));
+      for (FileType file : grps.get(g).getFile()) {
+        Assert.assertEquals(file.getID(), files.getId(index));
+        Assert.assertEquals(file.getCHECKSUM(), files.getChecksum(index));
+        Assert.assertEquals(file.getCHECKSUMTYPE(), files.getChecksumType(index));
+        Assert.assertEquals(file.getSIZE() != null, files.hasSize(index));
+        Assert.assertEquals(file.getSIZE().longValue(), files.getSize(index));
+        Assert.assertEquals(file.getCREATED() != null, files.hasCreated(index));
+        Assert.assertEquals(file.getOWNERID() != null, files.hasOwnerId(index));
+        Assert.assertEquals(file.getADMID().size(), files.getAdmIds(index).size());
+        Assert.assertEquals(file.getDMDID().size(), files.getDmdIds(index).size());
+        Assert.assertEquals(file.getFLocat().size(), files.getLocationCount(index));
+        for (int l = 0; l < file.getFLocat().size(); l++) {
+          Assert.assertEquals(file.getFLocat().get(l).getHref(), files.getLocationHref(index, l));
+          Assert.assertEquals(file.getFLocat().get(l).getLOCTYPE(), files.getLocationType(index, l));
+        }
+        Assert.assertEquals(file.getFLocat().get(0).getHref(), files.getHref(index));
+        Assert.assertEquals(file.getMIMETYPE(), files.getMimeType(index));
+        Assert.assertSame(mimeTypes.computeIfAbsent(files.getMimeType(index), m -> m), files.getMimeType(index));
+        index++;
+      }
+      Assert.assertEquals(index, files.getGroupEnd(g));
+    }
+    Assert.assertTrue(index > 1);
+    Assert.assertEquals(index, files.getFileCount());
+    Assert.assertEquals(0, files.getNestedFileCount());
+
+    for (MetsType.FileSec.FileGrp grp : rootMets.mets.getFileSec().getFileGrp()) {
+      Assert.assertTrue(grp.getFile().isEmpty());
+    }
+  }
+
+  @Test
+  public void indexMetsIds() throws Exception {
+    RootMets rootMets = new RootMets();
+    Mets mets = rootMets.mets;
+    MetsFileTable files = rootMets.instatiateMets.getMetsAttributeIndex().getFileTable();
+
+    MetsIdIndex index = MetsIdIndex.build(mets, files);
+    for (MetsType.FileSec.FileGrp grp : mets.getFileSec().getFileGrp()) {
+      Assert.assertSame(grp, index.get(grp.getID(), MetsIdIndex.Kind.FILE_GRP, MetsType.FileSec.FileGrp.class));
+    }
+    for (int i = 0; i < files.getFileCount(); i++) {
+      Assert.assertEquals(Integer.valueOf(i), index.get(files.getId(i), MetsIdIndex.Kind.FILE, Integer.class));
+      Assert.assertNull(index.get(files.getId(i), MetsIdIndex.Kind.FILE_GRP, MetsType.FileSec.FileGrp.class));
+    }
+    for (MdSecType dmdSec : mets.getDmdSec()) {
+      Assert.assertSame(dmdSec, index.get(dmdSec.getID(), MdSecType.class));
+      Assert.assertEquals(MetsIdIndex.Kind.DMD_SEC, index.getKind(dmdSec.getID()));
+      Assert.assertTrue(index.containsMdRef(dmdSec.getMdRef().getID(), MetsIdIndex.Kind.DMD_SEC));
+      Assert.assertFalse(index.containsMdRef(dmdSec.getMdRef().getID(), MetsIdIndex.Kind.DIGIPROV_MD));
+    }
+    Assert.assertFalse(index.contains("unknown-id", MetsIdIndex.Kind.FILE));
+    Assert.assertNull(index.getKind(null));
+  }
+
+  @Test
+  public void indexOnlyTopLevelFileGroupsAsFileGroups() throws Exception {
+    RootMets rootMets = new RootMets();
+    Mets mets = rootMets.mets;
+    MetsType.FileSec.FileGrp parent = mets.getFileSec().getFileGrp().get(0);
+    FileGrpType nested = new FileGrpType();
+    nested.setID("nested-file-group");
+    FileType nestedFile = new FileType();
+    nestedFile.setID("nested-file");
+    nested.getFile().add(nestedFile);
+    parent.getFileGrp().add(nested);
+
+    MetsIdIndex index = MetsIdIndex.build(mets, rootMets.instatiateMets.getMetsAttributeIndex().getFileTable());
+    Assert.assertEquals(MetsIdIndex.Kind.FILE_GRP, index.getKind(parent.getID()));
+    Assert.assertEquals(MetsIdIndex.Kind.NESTED_FILE_GRP, index.getKind(nested.getID()));
+    Assert.assertFalse(index.contains(nested.getID(), MetsIdIndex.Kind.FILE_GRP));
+    Assert.assertSame(nestedFile, index.get(nestedFile.getID(), MetsIdIndex.Kind.FILE, FileType.class));
+  }
+
+  @Test
+  public void shareParsedVocabularies() throws Exception {
+    List<String> statuses = ControlledVocabularyParser.parse(Constants.PATH_RESOURCES_CSIP_VOCABULARY_RECORD_STATUS);
+    Assert.assertSame(statuses,
+      ControlledVocabularyParser.parse(Constants.PATH_RESOURCES_CSIP_VOCABULARY_RECORD_STATUS));
+    Assert.assertFalse(statuses.isEmpty());
+    Assert.assertTrue(statuses.contains(statuses.get(statuses.size() - 1)));
+    Assert.assertFalse(statuses.contains(null));
+    Assert.assertThrows(UnsupportedOperationException.class, () -> statuses.add("NEW"));
+
+    Assert.assertSame(IanaMediaTypes.getIanaMediaTypesList(), IanaMediaTypes.getIanaMediaTypesList());
+    Assert.assertTrue(IanaMediaTypes.getIanaMediaTypesList().contains("application/pdf"));
+  }
+
+  @Test
+  public void verifyAllChecksumMismatches() throws IOException, NoSuchAlgorithmException {
+    Path directory = Files.createTempDirectory("checksums");
+    try (ChecksumVerifier verifier = new ChecksumVerifier(4, false)) {
+      List<ChecksumVerifier.Request> requests = new ArrayList<>();
+      for (int i = 0; i < 20; i++) {
+        byte[] content = ("file " + i).getBytes(StandardCharsets.UTF_8);
+        Path file = Files.write(directory.resolve("file" + i), content);
+        String checksum = Utils.calculateChecksums(file, Set.of("MD5")).get("MD5");
+        requests.add(new ChecksumVerifier.Request(file.toString(), "MD5", i % 5 == 0 ? "00" : checksum));
+      }
+      requests.add(new ChecksumVerifier.Request(directory.resolve("missing").toString(), "MD5", "00"));
+
+      ChecksumVerifier.Result result = verifier.verify(ChecksumVerifier.fileSystemSource(), requests);
+      List<String> files = new ArrayList<>();
+      for (ChecksumVerifier.Mismatch mismatch : result.getMismatches()) {
+        files.add(mismatch.getRequest().getFile());
+      }
+      Assert.assertEquals(List.of(requests.get(0).getFile(), requests.get(5).getFile(), requests.get(10).getFile(),
+        requests.get(15).getFile(), requests.get(20).getFile()), files);
+      Assert.assertNotNull(result.getMismatches().get(0).getActualChecksum());
+      Assert.assertNull(result.getMismatches().get(4).getActualChecksum());
+      Assert.assertTrue(result.getFailures().isEmpty());
+      Assert.assertEquals(21, result.getFiles());
+    } finally {
+      Utils.deletePath(directory);
+    }
+  }
+
+  @Test
+  public void verifyChecksumsWithFailures() throws IOException {
+    ChecksumVerifier.Source source = file -> {
+      if (file.startsWith("unreadable")) {
+        throw new IOException("Cannot read " + file);
+      }
+      return new ByteArrayInputStream(file.getBytes(StandardCharsets.UTF_8));
+    };
+    List<ChecksumVerifier.Request> requests = List.of(new ChecksumVerifier.Request("unreadable1", "MD5", "00"),
+      new ChecksumVerifier.Request("mismatch1", "MD5", "00"), new ChecksumVerifier.Request("unreadable2", "MD5", "00"),
+      new ChecksumVerifier.Request("mismatch2", "MD5", "00"));
+    try (ChecksumVerifier verifier = new ChecksumVerifier(4, false)) {
+      ChecksumVerifier.Result result = verifier.verify(source, requests);
+      Assert.assertEquals(2, result.getMismatches().size());
+      Assert.assertEquals("mismatch2", result.getMismatches().get(1).getRequest().getFile());
+      Assert.assertEquals(List.of("unreadable1", "unreadable2"), new ArrayList<>(result.getFailures().keySet()));
+
+      result = verifier.verify(source, List.of(requests.get(0), requests.get(2),
+        new ChecksumVerifier.Request("unknown", "NO-SUCH-ALGORITHM", "00")));
+      Assert.assertTrue(result.getMismatches().isEmpty());
+      Assert.assertEquals(List.of("unreadable1", "unreadable2", "unknown"),
+        new ArrayList<>(result.getFailures().keySet()));
+      Assert.assertEquals("Cannot read unreadable1", result.getFailures().get("unreadable1").getMessage());
+      Assert.assertTrue(result.getFailures().get("unknown") instanceof NoSuchAlgorithmException);
+    }
+  }
+
+  @Test
+  public void lookupRequirementsInRegistry() {
+    RequirementRegistry registry210 = RequirementRegistry.getInstance("2.1.0");
+    RequirementRegistry registry220 = RequirementRegistry.getInstance("2.2.0");
+    Assert.assertSame(registry220, RequirementRegistry.forSpecification("CSIP-2.2.0"));
+
+    Requirement requirement = registry210.get("CSIP96");
+    Assert.assertEquals(Constants.REQUIREMENT_LEVEL_MUST, requirement.getLevel());
+    Assert.assertEquals(Constants.CSIP_MODULE_NAME_6, requirement.getComponent());
+    Assert.assertEquals(Constants.REQUIREMENT_LEVEL_SHOULD, registry220.getLevel("CSIP96"));
+    Assert.assertEquals(Constants.SIP_MODULE_NAME_2, registry220.get("SIP29").getComponent());
+    Assert.assertEquals(Constants.CSIP_MODULE_NAME_0, registry220.get("CSIPSTR1").getComponent());
+    Assert.assertNull(registry210.get(Constants.ID_TYPE_SIP, "CSIP96"));
+    Assert.assertEquals(ConstantsCSIPspec.NOT_DEFINED, registry210.getLevel("CSIP9999"));
+
+    Assert.assertTrue(new RequirementsComparator().compare("CSIPSTR16", "CSIP1") < 0);
+    Assert.assertTrue(new RequirementsComparator().compare("CSIP2", "CSIP10") < 0);
+  }
   //
   // /* Simple SIP */
   // @Test